@@ -0,0 +1,122 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks;
+
+import com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FieldTransformationBenchmark - {@link FieldTransformationImpl#transform} of a value, per source and target type. The pairs are
+ * the conversions of the values returned by getObject for the common SQL types.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldTransformationBenchmark {
+
+    @Param({"Integer:Integer", "Integer:Long", "Integer:Double", "Integer:String", "Long:Long", "Long:Integer", "Double:Double",
+            "Double:BigDecimal", "BigDecimal:BigDecimal", "BigDecimal:Double", "BigInteger:BigDecimal", "String:String",
+            "String:Integer", "String:BigDecimal", "Boolean:Boolean", "Date:LocalDate", "Timestamp:LocalDateTime", "LocalDate:LocalDateTime"})
+    private String pair;
+
+    private final FieldTransformationImpl<Object> transformation = new FieldTransformationImpl<>();
+
+    private Object value;
+
+    private Class<Object> targetClass;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        String[] types = pair.split(":");
+        value = sourceValue(types[0]);
+        targetClass = (Class<Object>) typeOf(types[1]);
+    }
+
+    @Benchmark
+    public Object transform() {
+        return transformation.transform(value, targetClass);
+    }
+
+    private static Object sourceValue(final String type) {
+        switch (type) {
+            case "Integer":
+                return 12_345;
+            case "Long":
+                return 12_345L;
+            case "Double":
+                return 123.45D;
+            case "BigDecimal":
+                return new BigDecimal("123.45");
+            case "BigInteger":
+                return BigInteger.valueOf(12_345L);
+            case "String":
+                return "12345";
+            case "Boolean":
+                return Boolean.TRUE;
+            case "Date":
+                return Date.valueOf("2020-01-31");
+            case "Timestamp":
+                return Timestamp.valueOf("2020-01-31 10:15:30");
+            case "LocalDate":
+                return LocalDate.of(2020, 1, 31);
+            default:
+                throw new IllegalArgumentException("Unknown source type: " + type);
+        }
+    }
+
+    private static Class<?> typeOf(final String type) {
+        switch (type) {
+            case "Integer":
+                return Integer.class;
+            case "Long":
+                return Long.class;
+            case "Double":
+                return Double.class;
+            case "BigDecimal":
+                return BigDecimal.class;
+            case "String":
+                return String.class;
+            case "Boolean":
+                return Boolean.class;
+            case "LocalDate":
+                return LocalDate.class;
+            case "LocalDateTime":
+                return LocalDateTime.class;
+            default:
+                throw new IllegalArgumentException("Unknown target type: " + type);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks;
+
+import com.americanexpress.span.annotation.Field;
+import com.americanexpress.span.benchmarks.jdbc.StubResultSet;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixtures - Values of the SPAN annotated classes of the benchmarks. Every {@link Field} datamember gets a column or a parameter
+ * of the matching SQL type, so that the handlers take their typed getter path.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param rowType Class of the rows
+     * @param rows    Number of rows
+     * @return ResultSet with a column for every datamember of the row class
+     */
+    public static StubResultSet resultSet(final Class<?> rowType, final int rows) {
+        List<java.lang.reflect.Field> fields = annotatedFields(rowType);
+        String[] labels = new String[fields.size()];
+        int[] sqlTypes = new int[fields.size()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = fields.get(i).getAnnotation(Field.class).name();
+            sqlTypes[i] = sqlType(fields.get(i).getType());
+        }
+        Object[][] values = new Object[rows][fields.size()];
+        for (int row = 0; row < rows; row++) {
+            for (int i = 0; i < labels.length; i++) {
+                values[row][i] = value(fields.get(i).getType(), row + i);
+            }
+        }
+        return new StubResultSet(labels, sqlTypes, values);
+    }
+
+    /**
+     * @param outputType Class of the output parameters
+     * @return Value of every output parameter by name
+     */
+    public static Map<String, Object> outputParameters(final Class<?> outputType) {
+        Map<String, Object> parameters = new HashMap<>();
+        int seed = 0;
+        for (java.lang.reflect.Field field : annotatedFields(outputType)) {
+            parameters.put(field.getAnnotation(Field.class).name(), value(field.getType(), seed++));
+        }
+        return parameters;
+    }
+
+    /**
+     * @param inputType Class of the input parameters
+     * @return Instance with a value in every datamember
+     */
+    public static <T> T input(final Class<T> inputType) {
+        try {
+            T input = inputType.newInstance();
+            int seed = 0;
+            for (java.lang.reflect.Field field : annotatedFields(inputType)) {
+                field.setAccessible(true);
+                field.set(input, value(field.getType(), seed++));
+            }
+            return input;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create the input of " + inputType, e);
+        }
+    }
+
+    /**
+     * @param clazz SPAN annotated class
+     * @return {@link Field} datamembers of the class, in declaration order
+     */
+    public static List<java.lang.reflect.Field> annotatedFields(final Class<?> clazz) {
+        List<java.lang.reflect.Field> fields = new ArrayList<>();
+        for (java.lang.reflect.Field field : clazz.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Field.class)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * @param type Type of a datamember
+     * @param seed Seed of the value, e.g. the row number
+     * @return Value of the type, which differs by seed
+     */
+    public static Object value(final Class<?> type, final int seed) {
+        if (type == Integer.TYPE || type == Integer.class) {
+            return seed;
+        } else if (type == Long.TYPE || type == Long.class) {
+            return seed * 1_000_003L;
+        } else if (type == Float.TYPE || type == Float.class) {
+            return seed / 4F;
+        } else if (type == Double.TYPE || type == Double.class) {
+            return seed / 8D;
+        } else if (type == Boolean.TYPE || type == Boolean.class) {
+            return seed % 2 == 0;
+        } else if (type == String.class) {
+            return "value-" + seed;
+        } else if (type == BigDecimal.class) {
+            return BigDecimal.valueOf(seed, 2);
+        } else if (type == LocalDate.class) {
+            return LocalDate.of(2020, 1, 1).plusDays(seed % 3650);
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.of(2020, 1, 1, 0, 0).plusMinutes(seed);
+        }
+        throw new IllegalArgumentException("No fixture for " + type);
+    }
+
+    /**
+     * @param type Type of a datamember
+     * @return {@link Types} constant of the column or parameter of the type
+     */
+    public static int sqlType(final Class<?> type) {
+        if (type == Integer.TYPE || type == Integer.class) {
+            return Types.INTEGER;
+        } else if (type == Long.TYPE || type == Long.class) {
+            return Types.BIGINT;
+        } else if (type == Float.TYPE || type == Float.class) {
+            return Types.REAL;
+        } else if (type == Double.TYPE || type == Double.class) {
+            return Types.DOUBLE;
+        } else if (type == Boolean.TYPE || type == Boolean.class) {
+            return Types.BOOLEAN;
+        } else if (type == String.class) {
+            return Types.VARCHAR;
+        } else if (type == BigDecimal.class) {
+            return Types.DECIMAL;
+        } else if (type == LocalDate.class) {
+            return Types.DATE;
+        } else if (type == LocalDateTime.class) {
+            return Types.TIMESTAMP;
+        }
+        throw new IllegalArgumentException("No SQL type for " + type);
+    }
+}
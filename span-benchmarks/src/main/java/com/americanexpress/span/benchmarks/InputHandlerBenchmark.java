@@ -0,0 +1,62 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks;
+
+import com.americanexpress.span.benchmarks.jdbc.StubCallableStatement;
+import com.americanexpress.span.benchmarks.model.CallInput;
+import com.americanexpress.span.core.database.handlers.impl.InputHandlerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InputHandlerBenchmark - Transformation and binding of the input parameters by {@link InputHandlerImpl#processSPInputParameters}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class InputHandlerBenchmark {
+
+    private final InputHandlerImpl<CallInput> handler = new InputHandlerImpl<>();
+
+    private CallInput input;
+
+    private StubCallableStatement callableStatement;
+
+    @Setup
+    public void setUp() {
+        input = Fixtures.input(CallInput.class);
+        callableStatement = new StubCallableStatement(Collections.emptyMap());
+    }
+
+    @Benchmark
+    public Map<String, Object> processSPInputParameters() {
+        handler.processSPInputParameters(callableStatement, input);
+        return callableStatement.getInputParameters();
+    }
+}
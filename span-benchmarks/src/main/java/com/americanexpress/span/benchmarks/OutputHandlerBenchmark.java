@@ -0,0 +1,63 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks;
+
+import com.americanexpress.span.benchmarks.jdbc.StubCallableStatement;
+import com.americanexpress.span.benchmarks.model.CallOutput;
+import com.americanexpress.span.core.database.handlers.impl.OutputHandlerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OutputHandlerBenchmark - Registration and reading of the output parameters by {@link OutputHandlerImpl}. The datamembers without a
+ * transformation are read with the typed getter of the SQL type they are registered with.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OutputHandlerBenchmark {
+
+    private final OutputHandlerImpl<CallOutput> handler = new OutputHandlerImpl<>();
+
+    private StubCallableStatement callableStatement;
+
+    @Setup
+    public void setUp() {
+        callableStatement = new StubCallableStatement(Fixtures.outputParameters(CallOutput.class));
+    }
+
+    @Benchmark
+    public int registerOutputParameters() {
+        handler.registerOutputParameters(callableStatement, CallOutput.class);
+        return callableStatement.getRegisteredOutputParameters();
+    }
+
+    @Benchmark
+    public CallOutput processSPOutputParameters() {
+        return handler.processSPOutputParameters(callableStatement, CallOutput.class);
+    }
+}
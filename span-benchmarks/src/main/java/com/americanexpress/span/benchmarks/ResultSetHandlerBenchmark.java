@@ -0,0 +1,77 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks;
+
+import com.americanexpress.span.benchmarks.jdbc.StubResultSet;
+import com.americanexpress.span.benchmarks.model.NarrowRow;
+import com.americanexpress.span.benchmarks.model.WideRow;
+import com.americanexpress.span.core.database.handlers.impl.ResultSetHandlerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultSetHandlerBenchmark - Mapping of a ResultSet to a List of rows by {@link ResultSetHandlerImpl#processResultSet}, per row
+ * count, row width and block size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultSetHandlerBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int rows;
+
+    @Param({"4", "16"})
+    private int columns;
+
+    @Param({"1", "256"})
+    private int blockSize;
+
+    private Class rowType;
+
+    private StubResultSet resultSet;
+
+    private ResultSetHandlerImpl handler;
+
+    @Setup
+    public void setUp() {
+        rowType = columns == 4 ? NarrowRow.class : WideRow.class;
+        resultSet = Fixtures.resultSet(rowType, rows);
+        handler = new ResultSetHandlerImpl(blockSize);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<?> processResultSet(final RowCounter counter) {
+        resultSet.beforeFirst();
+        List<?> list = handler.processResultSet(resultSet, rowType);
+        counter.rows += list.size();
+        return list;
+    }
+}
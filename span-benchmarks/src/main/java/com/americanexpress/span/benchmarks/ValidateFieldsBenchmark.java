@@ -0,0 +1,61 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks;
+
+import com.americanexpress.span.benchmarks.model.CallInput;
+import com.americanexpress.span.benchmarks.model.CallOutput;
+import com.americanexpress.span.benchmarks.model.WideRow;
+import com.americanexpress.span.core.database.SPExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ValidateFieldsBenchmark - {@link SPExecutor#validateFields(Class)}, i.e. the lookup of the cached binding plan done by every call
+ * for its input and output classes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidateFieldsBenchmark {
+
+    @Param({"CallInput", "CallOutput", "WideRow"})
+    private String type;
+
+    private Class<?> clazz;
+
+    @Setup
+    public void setUp() {
+        clazz = "CallInput".equals(type) ? CallInput.class : "CallOutput".equals(type) ? CallOutput.class : WideRow.class;
+    }
+
+    @Benchmark
+    public Class<?> validateFields() {
+        SPExecutor.validateFields(clazz);
+        return clazz;
+    }
+}
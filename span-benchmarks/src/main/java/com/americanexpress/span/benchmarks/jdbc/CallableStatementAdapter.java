@@ -0,0 +1,1106 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.jdbc;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * CallableStatementAdapter - CallableStatement whose every method throws SQLFeatureNotSupportedException. The stubs of the benchmarks override the methods
+ * called by the SPAN handlers, so that a benchmark fails instead of measuring a path it doesn't stub.
+ */
+public abstract class CallableStatementAdapter implements CallableStatement {
+
+    @Override
+    public void registerOutParameter(int param1, int param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("registerOutParameter");
+    }
+
+    @Override
+    public void registerOutParameter(int param1, int param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("registerOutParameter");
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        throw new SQLFeatureNotSupportedException("wasNull");
+    }
+
+    @Override
+    public String getString(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getString");
+    }
+
+    @Override
+    public boolean getBoolean(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBoolean");
+    }
+
+    @Override
+    public byte getByte(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getByte");
+    }
+
+    @Override
+    public short getShort(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getShort");
+    }
+
+    @Override
+    public int getInt(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getInt");
+    }
+
+    @Override
+    public long getLong(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getLong");
+    }
+
+    @Override
+    public float getFloat(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getFloat");
+    }
+
+    @Override
+    public double getDouble(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getDouble");
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int param1, int param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBigDecimal");
+    }
+
+    @Override
+    public byte[] getBytes(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBytes");
+    }
+
+    @Override
+    public Date getDate(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getDate");
+    }
+
+    @Override
+    public Time getTime(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getTime");
+    }
+
+    @Override
+    public Timestamp getTimestamp(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getTimestamp");
+    }
+
+    @Override
+    public Object getObject(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getObject");
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBigDecimal");
+    }
+
+    @Override
+    public Object getObject(int param1, Map<String, Class<?>> param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getObject");
+    }
+
+    @Override
+    public Ref getRef(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getRef");
+    }
+
+    @Override
+    public Blob getBlob(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBlob");
+    }
+
+    @Override
+    public Clob getClob(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getClob");
+    }
+
+    @Override
+    public Array getArray(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getArray");
+    }
+
+    @Override
+    public Date getDate(int param1, Calendar param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getDate");
+    }
+
+    @Override
+    public Time getTime(int param1, Calendar param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getTime");
+    }
+
+    @Override
+    public Timestamp getTimestamp(int param1, Calendar param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getTimestamp");
+    }
+
+    @Override
+    public void registerOutParameter(int param1, int param2, String param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("registerOutParameter");
+    }
+
+    @Override
+    public void registerOutParameter(String param1, int param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("registerOutParameter");
+    }
+
+    @Override
+    public void registerOutParameter(String param1, int param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("registerOutParameter");
+    }
+
+    @Override
+    public void registerOutParameter(String param1, int param2, String param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("registerOutParameter");
+    }
+
+    @Override
+    public URL getURL(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getURL");
+    }
+
+    @Override
+    public void setURL(String param1, URL param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setURL");
+    }
+
+    @Override
+    public void setNull(String param1, int param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNull");
+    }
+
+    @Override
+    public void setBoolean(String param1, boolean param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBoolean");
+    }
+
+    @Override
+    public void setByte(String param1, byte param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setByte");
+    }
+
+    @Override
+    public void setShort(String param1, short param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setShort");
+    }
+
+    @Override
+    public void setInt(String param1, int param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setInt");
+    }
+
+    @Override
+    public void setLong(String param1, long param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setLong");
+    }
+
+    @Override
+    public void setFloat(String param1, float param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setFloat");
+    }
+
+    @Override
+    public void setDouble(String param1, double param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setDouble");
+    }
+
+    @Override
+    public void setBigDecimal(String param1, BigDecimal param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBigDecimal");
+    }
+
+    @Override
+    public void setString(String param1, String param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setString");
+    }
+
+    @Override
+    public void setBytes(String param1, byte[] param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBytes");
+    }
+
+    @Override
+    public void setDate(String param1, Date param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setDate");
+    }
+
+    @Override
+    public void setTime(String param1, Time param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setTime");
+    }
+
+    @Override
+    public void setTimestamp(String param1, Timestamp param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setTimestamp");
+    }
+
+    @Override
+    public void setAsciiStream(String param1, InputStream param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setAsciiStream");
+    }
+
+    @Override
+    public void setBinaryStream(String param1, InputStream param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBinaryStream");
+    }
+
+    @Override
+    public void setObject(String param1, Object param2, int param3, int param4) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setObject");
+    }
+
+    @Override
+    public void setObject(String param1, Object param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setObject");
+    }
+
+    @Override
+    public void setObject(String param1, Object param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setObject");
+    }
+
+    @Override
+    public void setCharacterStream(String param1, Reader param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setCharacterStream");
+    }
+
+    @Override
+    public void setDate(String param1, Date param2, Calendar param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setDate");
+    }
+
+    @Override
+    public void setTime(String param1, Time param2, Calendar param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setTime");
+    }
+
+    @Override
+    public void setTimestamp(String param1, Timestamp param2, Calendar param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setTimestamp");
+    }
+
+    @Override
+    public void setNull(String param1, int param2, String param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNull");
+    }
+
+    @Override
+    public String getString(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getString");
+    }
+
+    @Override
+    public boolean getBoolean(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBoolean");
+    }
+
+    @Override
+    public byte getByte(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getByte");
+    }
+
+    @Override
+    public short getShort(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getShort");
+    }
+
+    @Override
+    public int getInt(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getInt");
+    }
+
+    @Override
+    public long getLong(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getLong");
+    }
+
+    @Override
+    public float getFloat(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getFloat");
+    }
+
+    @Override
+    public double getDouble(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getDouble");
+    }
+
+    @Override
+    public byte[] getBytes(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBytes");
+    }
+
+    @Override
+    public Date getDate(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getDate");
+    }
+
+    @Override
+    public Time getTime(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getTime");
+    }
+
+    @Override
+    public Timestamp getTimestamp(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getTimestamp");
+    }
+
+    @Override
+    public Object getObject(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getObject");
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBigDecimal");
+    }
+
+    @Override
+    public Object getObject(String param1, Map<String, Class<?>> param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getObject");
+    }
+
+    @Override
+    public Ref getRef(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getRef");
+    }
+
+    @Override
+    public Blob getBlob(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBlob");
+    }
+
+    @Override
+    public Clob getClob(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getClob");
+    }
+
+    @Override
+    public Array getArray(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getArray");
+    }
+
+    @Override
+    public Date getDate(String param1, Calendar param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getDate");
+    }
+
+    @Override
+    public Time getTime(String param1, Calendar param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getTime");
+    }
+
+    @Override
+    public Timestamp getTimestamp(String param1, Calendar param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getTimestamp");
+    }
+
+    @Override
+    public URL getURL(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getURL");
+    }
+
+    @Override
+    public RowId getRowId(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getRowId");
+    }
+
+    @Override
+    public RowId getRowId(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getRowId");
+    }
+
+    @Override
+    public void setRowId(String param1, RowId param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setRowId");
+    }
+
+    @Override
+    public void setNString(String param1, String param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNString");
+    }
+
+    @Override
+    public void setNCharacterStream(String param1, Reader param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNCharacterStream");
+    }
+
+    @Override
+    public void setNClob(String param1, NClob param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNClob");
+    }
+
+    @Override
+    public void setClob(String param1, Reader param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setClob");
+    }
+
+    @Override
+    public void setBlob(String param1, InputStream param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBlob");
+    }
+
+    @Override
+    public void setNClob(String param1, Reader param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNClob");
+    }
+
+    @Override
+    public NClob getNClob(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNClob");
+    }
+
+    @Override
+    public NClob getNClob(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNClob");
+    }
+
+    @Override
+    public void setSQLXML(String param1, SQLXML param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setSQLXML");
+    }
+
+    @Override
+    public SQLXML getSQLXML(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getSQLXML");
+    }
+
+    @Override
+    public SQLXML getSQLXML(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getSQLXML");
+    }
+
+    @Override
+    public String getNString(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNString");
+    }
+
+    @Override
+    public String getNString(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNString");
+    }
+
+    @Override
+    public Reader getNCharacterStream(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNCharacterStream");
+    }
+
+    @Override
+    public Reader getNCharacterStream(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNCharacterStream");
+    }
+
+    @Override
+    public Reader getCharacterStream(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getCharacterStream");
+    }
+
+    @Override
+    public Reader getCharacterStream(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getCharacterStream");
+    }
+
+    @Override
+    public void setBlob(String param1, Blob param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBlob");
+    }
+
+    @Override
+    public void setClob(String param1, Clob param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setClob");
+    }
+
+    @Override
+    public void setAsciiStream(String param1, InputStream param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setAsciiStream");
+    }
+
+    @Override
+    public void setBinaryStream(String param1, InputStream param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBinaryStream");
+    }
+
+    @Override
+    public void setCharacterStream(String param1, Reader param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setCharacterStream");
+    }
+
+    @Override
+    public void setAsciiStream(String param1, InputStream param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setAsciiStream");
+    }
+
+    @Override
+    public void setBinaryStream(String param1, InputStream param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBinaryStream");
+    }
+
+    @Override
+    public void setCharacterStream(String param1, Reader param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setCharacterStream");
+    }
+
+    @Override
+    public void setNCharacterStream(String param1, Reader param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNCharacterStream");
+    }
+
+    @Override
+    public void setClob(String param1, Reader param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setClob");
+    }
+
+    @Override
+    public void setBlob(String param1, InputStream param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBlob");
+    }
+
+    @Override
+    public void setNClob(String param1, Reader param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNClob");
+    }
+
+    @Override
+    public <T> T getObject(int param1, Class<T> param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getObject");
+    }
+
+    @Override
+    public <T> T getObject(String param1, Class<T> param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getObject");
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        throw new SQLFeatureNotSupportedException("executeQuery");
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        throw new SQLFeatureNotSupportedException("executeUpdate");
+    }
+
+    @Override
+    public void setNull(int param1, int param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNull");
+    }
+
+    @Override
+    public void setBoolean(int param1, boolean param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBoolean");
+    }
+
+    @Override
+    public void setByte(int param1, byte param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setByte");
+    }
+
+    @Override
+    public void setShort(int param1, short param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setShort");
+    }
+
+    @Override
+    public void setInt(int param1, int param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setInt");
+    }
+
+    @Override
+    public void setLong(int param1, long param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setLong");
+    }
+
+    @Override
+    public void setFloat(int param1, float param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setFloat");
+    }
+
+    @Override
+    public void setDouble(int param1, double param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setDouble");
+    }
+
+    @Override
+    public void setBigDecimal(int param1, BigDecimal param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBigDecimal");
+    }
+
+    @Override
+    public void setString(int param1, String param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setString");
+    }
+
+    @Override
+    public void setBytes(int param1, byte[] param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBytes");
+    }
+
+    @Override
+    public void setDate(int param1, Date param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setDate");
+    }
+
+    @Override
+    public void setTime(int param1, Time param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setTime");
+    }
+
+    @Override
+    public void setTimestamp(int param1, Timestamp param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setTimestamp");
+    }
+
+    @Override
+    public void setAsciiStream(int param1, InputStream param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setAsciiStream");
+    }
+
+    @Override
+    public void setUnicodeStream(int param1, InputStream param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setUnicodeStream");
+    }
+
+    @Override
+    public void setBinaryStream(int param1, InputStream param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBinaryStream");
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        throw new SQLFeatureNotSupportedException("clearParameters");
+    }
+
+    @Override
+    public void setObject(int param1, Object param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setObject");
+    }
+
+    @Override
+    public void setObject(int param1, Object param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setObject");
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        throw new SQLFeatureNotSupportedException("execute");
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        throw new SQLFeatureNotSupportedException("addBatch");
+    }
+
+    @Override
+    public void setCharacterStream(int param1, Reader param2, int param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setCharacterStream");
+    }
+
+    @Override
+    public void setRef(int param1, Ref param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setRef");
+    }
+
+    @Override
+    public void setBlob(int param1, Blob param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBlob");
+    }
+
+    @Override
+    public void setClob(int param1, Clob param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setClob");
+    }
+
+    @Override
+    public void setArray(int param1, Array param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setArray");
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getMetaData");
+    }
+
+    @Override
+    public void setDate(int param1, Date param2, Calendar param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setDate");
+    }
+
+    @Override
+    public void setTime(int param1, Time param2, Calendar param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setTime");
+    }
+
+    @Override
+    public void setTimestamp(int param1, Timestamp param2, Calendar param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setTimestamp");
+    }
+
+    @Override
+    public void setNull(int param1, int param2, String param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNull");
+    }
+
+    @Override
+    public void setURL(int param1, URL param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setURL");
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getParameterMetaData");
+    }
+
+    @Override
+    public void setRowId(int param1, RowId param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setRowId");
+    }
+
+    @Override
+    public void setNString(int param1, String param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNString");
+    }
+
+    @Override
+    public void setNCharacterStream(int param1, Reader param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNCharacterStream");
+    }
+
+    @Override
+    public void setNClob(int param1, NClob param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNClob");
+    }
+
+    @Override
+    public void setClob(int param1, Reader param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setClob");
+    }
+
+    @Override
+    public void setBlob(int param1, InputStream param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBlob");
+    }
+
+    @Override
+    public void setNClob(int param1, Reader param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNClob");
+    }
+
+    @Override
+    public void setSQLXML(int param1, SQLXML param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setSQLXML");
+    }
+
+    @Override
+    public void setObject(int param1, Object param2, int param3, int param4) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setObject");
+    }
+
+    @Override
+    public void setAsciiStream(int param1, InputStream param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setAsciiStream");
+    }
+
+    @Override
+    public void setBinaryStream(int param1, InputStream param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBinaryStream");
+    }
+
+    @Override
+    public void setCharacterStream(int param1, Reader param2, long param3) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setCharacterStream");
+    }
+
+    @Override
+    public void setAsciiStream(int param1, InputStream param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setAsciiStream");
+    }
+
+    @Override
+    public void setBinaryStream(int param1, InputStream param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBinaryStream");
+    }
+
+    @Override
+    public void setCharacterStream(int param1, Reader param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setCharacterStream");
+    }
+
+    @Override
+    public void setNCharacterStream(int param1, Reader param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNCharacterStream");
+    }
+
+    @Override
+    public void setClob(int param1, Reader param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setClob");
+    }
+
+    @Override
+    public void setBlob(int param1, InputStream param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setBlob");
+    }
+
+    @Override
+    public void setNClob(int param1, Reader param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setNClob");
+    }
+
+    @Override
+    public ResultSet executeQuery(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("executeQuery");
+    }
+
+    @Override
+    public int executeUpdate(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("executeUpdate");
+    }
+
+    @Override
+    public void close() throws SQLException {
+        throw new SQLFeatureNotSupportedException("close");
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getMaxFieldSize");
+    }
+
+    @Override
+    public void setMaxFieldSize(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setMaxFieldSize");
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getMaxRows");
+    }
+
+    @Override
+    public void setMaxRows(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setMaxRows");
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setEscapeProcessing");
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getQueryTimeout");
+    }
+
+    @Override
+    public void setQueryTimeout(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setQueryTimeout");
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        throw new SQLFeatureNotSupportedException("cancel");
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getWarnings");
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        throw new SQLFeatureNotSupportedException("clearWarnings");
+    }
+
+    @Override
+    public void setCursorName(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setCursorName");
+    }
+
+    @Override
+    public boolean execute(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("execute");
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getResultSet");
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getUpdateCount");
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getMoreResults");
+    }
+
+    @Override
+    public void setFetchDirection(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setFetchDirection");
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getFetchDirection");
+    }
+
+    @Override
+    public void setFetchSize(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setFetchSize");
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getFetchSize");
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getResultSetConcurrency");
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getResultSetType");
+    }
+
+    @Override
+    public void addBatch(String param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("addBatch");
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        throw new SQLFeatureNotSupportedException("clearBatch");
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        throw new SQLFeatureNotSupportedException("executeBatch");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getConnection");
+    }
+
+    @Override
+    public boolean getMoreResults(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getMoreResults");
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getGeneratedKeys");
+    }
+
+    @Override
+    public int executeUpdate(String param1, int param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("executeUpdate");
+    }
+
+    @Override
+    public int executeUpdate(String param1, int[] param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("executeUpdate");
+    }
+
+    @Override
+    public int executeUpdate(String param1, String[] param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("executeUpdate");
+    }
+
+    @Override
+    public boolean execute(String param1, int param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("execute");
+    }
+
+    @Override
+    public boolean execute(String param1, int[] param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("execute");
+    }
+
+    @Override
+    public boolean execute(String param1, String[] param2) throws SQLException {
+        throw new SQLFeatureNotSupportedException("execute");
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getResultSetHoldability");
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        throw new SQLFeatureNotSupportedException("isClosed");
+    }
+
+    @Override
+    public void setPoolable(boolean param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setPoolable");
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        throw new SQLFeatureNotSupportedException("isPoolable");
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        throw new SQLFeatureNotSupportedException("closeOnCompletion");
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        throw new SQLFeatureNotSupportedException("isCloseOnCompletion");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("unwrap");
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isWrapperFor");
+    }
+}
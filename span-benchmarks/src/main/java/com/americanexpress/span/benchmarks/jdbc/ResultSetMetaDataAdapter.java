@@ -0,0 +1,140 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.jdbc;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * ResultSetMetaDataAdapter - ResultSetMetaData whose every method throws SQLFeatureNotSupportedException. The stubs of the benchmarks override the methods
+ * called by the SPAN handlers, so that a benchmark fails instead of measuring a path it doesn't stub.
+ */
+public abstract class ResultSetMetaDataAdapter implements ResultSetMetaData {
+
+    @Override
+    public int getColumnCount() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getColumnCount");
+    }
+
+    @Override
+    public boolean isAutoIncrement(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isAutoIncrement");
+    }
+
+    @Override
+    public boolean isCaseSensitive(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isCaseSensitive");
+    }
+
+    @Override
+    public boolean isSearchable(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isSearchable");
+    }
+
+    @Override
+    public boolean isCurrency(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isCurrency");
+    }
+
+    @Override
+    public int isNullable(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isNullable");
+    }
+
+    @Override
+    public boolean isSigned(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isSigned");
+    }
+
+    @Override
+    public int getColumnDisplaySize(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getColumnDisplaySize");
+    }
+
+    @Override
+    public String getColumnLabel(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getColumnLabel");
+    }
+
+    @Override
+    public String getColumnName(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getColumnName");
+    }
+
+    @Override
+    public String getSchemaName(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getSchemaName");
+    }
+
+    @Override
+    public int getPrecision(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getPrecision");
+    }
+
+    @Override
+    public int getScale(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getScale");
+    }
+
+    @Override
+    public String getTableName(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getTableName");
+    }
+
+    @Override
+    public String getCatalogName(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getCatalogName");
+    }
+
+    @Override
+    public int getColumnType(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getColumnType");
+    }
+
+    @Override
+    public String getColumnTypeName(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getColumnTypeName");
+    }
+
+    @Override
+    public boolean isReadOnly(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isReadOnly");
+    }
+
+    @Override
+    public boolean isWritable(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isWritable");
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isDefinitelyWritable");
+    }
+
+    @Override
+    public String getColumnClassName(int param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getColumnClassName");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("unwrap");
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> param1) throws SQLException {
+        throw new SQLFeatureNotSupportedException("isWrapperFor");
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.jdbc;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * StubCallableStatement - CallableStatement with named parameters only, with the methods used by InputHandlerImpl and
+ * OutputHandlerImpl. The bound input parameters are kept, and the output parameters are read from the values given to the stub.
+ */
+public final class StubCallableStatement extends CallableStatementAdapter {
+
+    private final Map<String, Object> inputParameters = new HashMap<>();
+
+    private final Map<String, Object> outputParameters;
+
+    private int registeredOutputParameters;
+
+    private boolean wasNull;
+
+    /**
+     * @param outputParameters Values of the output parameters by name
+     */
+    public StubCallableStatement(final Map<String, Object> outputParameters) {
+        this.outputParameters = outputParameters;
+    }
+
+    /**
+     * @return Input parameters bound by name
+     */
+    public Map<String, Object> getInputParameters() {
+        return inputParameters;
+    }
+
+    /**
+     * @return Number of output parameters registered
+     */
+    public int getRegisteredOutputParameters() {
+        return registeredOutputParameters;
+    }
+
+    @Override
+    public void setObject(final String parameterName, final Object value) {
+        inputParameters.put(parameterName, value);
+    }
+
+    @Override
+    public void registerOutParameter(final String parameterName, final int sqlType) {
+        registeredOutputParameters++;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+
+    @Override
+    public Object getObject(final String parameterName) {
+        return value(parameterName);
+    }
+
+    @Override
+    public <T> T getObject(final String parameterName, final Class<T> type) {
+        return type.cast(value(parameterName));
+    }
+
+    @Override
+    public int getInt(final String parameterName) {
+        Object value = value(parameterName);
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    @Override
+    public long getLong(final String parameterName) {
+        Object value = value(parameterName);
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    @Override
+    public float getFloat(final String parameterName) {
+        Object value = value(parameterName);
+        return value != null ? ((Number) value).floatValue() : 0F;
+    }
+
+    @Override
+    public double getDouble(final String parameterName) {
+        Object value = value(parameterName);
+        return value != null ? ((Number) value).doubleValue() : 0D;
+    }
+
+    @Override
+    public boolean getBoolean(final String parameterName) {
+        Object value = value(parameterName);
+        return value != null && (Boolean) value;
+    }
+
+    @Override
+    public String getString(final String parameterName) {
+        Object value = value(parameterName);
+        return value != null ? value.toString() : null;
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String parameterName) {
+        return (BigDecimal) value(parameterName);
+    }
+
+    private Object value(final String parameterName) {
+        Object value = outputParameters.get(parameterName);
+        wasNull = value == null;
+        return value;
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * StubResultSet - Forward only ResultSet over rows held in memory, with the getters used by ResultSetHandlerImpl. Column labels are
+ * case insensitive. {@link #beforeFirst()} rewinds it, so that a benchmark can map the same rows in every invocation.
+ */
+public final class StubResultSet extends ResultSetAdapter {
+
+    private final String[] labels;
+
+    private final int[] sqlTypes;
+
+    private final Object[][] rows;
+
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+    private int row = -1;
+
+    private boolean wasNull;
+
+    /**
+     * @param labels   Column labels
+     * @param sqlTypes SQL types from {@link java.sql.Types} of the columns
+     * @param rows     Values of the rows, by column
+     */
+    public StubResultSet(final String[] labels, final int[] sqlTypes, final Object[][] rows) {
+        this.labels = labels;
+        this.sqlTypes = sqlTypes;
+        this.rows = rows;
+        for (int i = 0; i < labels.length; i++) {
+            columnIndexes.put(labels[i].toUpperCase(Locale.ROOT), i + 1);
+        }
+    }
+
+    @Override
+    public void beforeFirst() {
+        row = -1;
+    }
+
+    @Override
+    public boolean next() {
+        if (row < rows.length) {
+            row++;
+        }
+        return row < rows.length;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        Integer columnIndex = columnIndexes.get(columnLabel.toUpperCase(Locale.ROOT));
+        if (columnIndex == null) {
+            throw new SQLException("Column not found: " + columnLabel);
+        }
+        return columnIndex;
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() {
+        return new ResultSetMetaDataAdapter() {
+            @Override
+            public int getColumnCount() {
+                return labels.length;
+            }
+
+            @Override
+            public String getColumnLabel(final int column) {
+                return labels[column - 1];
+            }
+
+            @Override
+            public int getColumnType(final int column) {
+                return sqlTypes[column - 1];
+            }
+        };
+    }
+
+    @Override
+    public Object getObject(final int columnIndex) {
+        return value(columnIndex);
+    }
+
+    @Override
+    public Object getObject(final String columnLabel) throws SQLException {
+        return value(findColumn(columnLabel));
+    }
+
+    @Override
+    public <T> T getObject(final int columnIndex, final Class<T> type) {
+        return type.cast(value(columnIndex));
+    }
+
+    @Override
+    public int getInt(final int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    @Override
+    public long getLong(final int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    @Override
+    public float getFloat(final int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null ? ((Number) value).floatValue() : 0F;
+    }
+
+    @Override
+    public double getDouble(final int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null ? ((Number) value).doubleValue() : 0D;
+    }
+
+    @Override
+    public boolean getBoolean(final int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null && (Boolean) value;
+    }
+
+    @Override
+    public String getString(final int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null ? value.toString() : null;
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) {
+        return (BigDecimal) value(columnIndex);
+    }
+
+    private Object value(final int columnIndex) {
+        Object value = rows[row][columnIndex - 1];
+        wasNull = value == null;
+        return value;
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.load;
+
+import com.americanexpress.span.benchmarks.Fixtures;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JdbcCaller - Calls the Stored Procedure with plain JDBC on the same DataSource as SPAN, as a hand written DAO would: positional
+ * parameters and a typed getter by column index. Every row is read into an Object[], with the dates converted to java.time like
+ * the SPAN row classes. The difference with {@link SPANCaller} is the overhead of SPAN.
+ */
+final class JdbcCaller implements StoredProcedureCaller {
+
+    private final DataSource dataSource;
+
+    private final int[] sqlTypes;
+
+    private long connectionWait;
+
+    JdbcCaller(final DataSource dataSource, final Class<?> rowType) {
+        this.dataSource = dataSource;
+        this.sqlTypes = Fixtures.annotatedFields(rowType).stream().mapToInt(field -> Fixtures.sqlType(field.getType())).toArray();
+    }
+
+    @Override
+    public int call(final int id) throws SQLException {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connectionWait = System.nanoTime() - start;
+            try (CallableStatement statement = connection.prepareCall(ProcedureFixture.callStatement())) {
+                statement.setInt(1, id);
+                statement.registerOutParameter(2, Types.INTEGER);
+                List<Object[]> rows = new ArrayList<>();
+                // HSQLDB returns the update count of the call before the ResultSet
+                boolean hasResultSet = statement.execute();
+                while (!hasResultSet && statement.getUpdateCount() != -1) {
+                    hasResultSet = statement.getMoreResults();
+                }
+                if (hasResultSet) {
+                    try (ResultSet resultSet = statement.getResultSet()) {
+                        while (resultSet.next()) {
+                            rows.add(readRow(resultSet));
+                        }
+                    }
+                }
+                if (statement.getInt(2) != id) {
+                    throw new SQLException("Unexpected OUT_ID: " + statement.getInt(2) + ", expected: " + id);
+                }
+                return rows.size();
+            }
+        }
+    }
+
+    private Object[] readRow(final ResultSet resultSet) throws SQLException {
+        Object[] row = new Object[sqlTypes.length];
+        for (int i = 0; i < sqlTypes.length; i++) {
+            int column = i + 1;
+            switch (sqlTypes[i]) {
+                case Types.INTEGER:
+                    row[i] = resultSet.getInt(column);
+                    break;
+                case Types.BIGINT:
+                    row[i] = resultSet.getLong(column);
+                    break;
+                case Types.REAL:
+                    row[i] = resultSet.getFloat(column);
+                    break;
+                case Types.DOUBLE:
+                    row[i] = resultSet.getDouble(column);
+                    break;
+                case Types.BOOLEAN:
+                    row[i] = resultSet.getBoolean(column);
+                    break;
+                case Types.DECIMAL:
+                    row[i] = resultSet.getBigDecimal(column);
+                    break;
+                case Types.DATE:
+                    Date date = resultSet.getDate(column);
+                    row[i] = date == null ? null : date.toLocalDate();
+                    break;
+                case Types.TIMESTAMP:
+                    Timestamp timestamp = resultSet.getTimestamp(column);
+                    row[i] = timestamp == null ? null : timestamp.toLocalDateTime();
+                    break;
+                default:
+                    row[i] = resultSet.getString(column);
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public long getConnectionWait() {
+        return connectionWait;
+    }
+}
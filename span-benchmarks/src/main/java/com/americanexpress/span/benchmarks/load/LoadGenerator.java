@@ -0,0 +1,232 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.load;
+
+import com.americanexpress.span.benchmarks.model.NarrowResult;
+import com.americanexpress.span.benchmarks.model.NarrowRow;
+import com.americanexpress.span.benchmarks.model.WideResult;
+import com.americanexpress.span.benchmarks.model.WideRow;
+import com.americanexpress.span.core.SPANInitialization;
+import com.americanexpress.span.core.database.connection.SPANDataSource;
+import com.americanexpress.span.core.database.metrics.LatencyHistogram;
+import com.americanexpress.span.utility.PropertyConfiguration;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * LoadGenerator - Load test of SPExecutor against an in-memory HSQLDB Stored Procedure. The procedure returns a ResultSet of
+ * --rows rows of NarrowRow (--columns=4) or WideRow (--columns=16). --threads threads call it for --duration seconds after
+ * --warmup seconds, through SPAN and through plain JDBC on the same pool of --pool Connections. The report has the throughput,
+ * the latency and Connection wait percentiles, the garbage collections and the allocations of each, and the overhead of SPAN.
+ * e.g. java -cp target/benchmarks.jar com.americanexpress.span.benchmarks.load.LoadGenerator --threads=16 --rows=1000
+ */
+public final class LoadGenerator {
+
+    static final String SPAN_USER_DEFINED_KEY = "SPAN-LOAD";
+
+    static final String SP_USER_DEFINED_KEY = "LOAD-KEY";
+
+    private static final String URL = "jdbc:hsqldb:mem:spanload;sql.syntax_db2=true";
+
+    private LoadGenerator() {
+    }
+
+    public static void main(final String[] args) throws IOException, SQLException, InterruptedException {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+            return;
+        }
+        System.out.println("SPAN load generator: " + options);
+
+        Path config = writeSPANConfig(options.getPool());
+        SPANInitialization.initialize(new PropertyConfiguration() {
+            @Override
+            public String getSPANConfigFileName() {
+                return config.toString();
+            }
+        });
+        DataSource dataSource = SPANDataSource.getInstance().getDataSource(SP_USER_DEFINED_KEY);
+        Class<?> rowType = options.getColumns() == 4 ? NarrowRow.class : WideRow.class;
+        try (Connection connection = dataSource.getConnection()) {
+            ProcedureFixture.create(connection, rowType, options.getRows());
+        }
+
+        Supplier<StoredProcedureCaller> span = options.getColumns() == 4
+                ? () -> new SPANCaller<>(SP_USER_DEFINED_KEY, NarrowResult.class, NarrowResult::getRows)
+                : () -> new SPANCaller<>(SP_USER_DEFINED_KEY, WideResult.class, WideResult::getRows);
+        Supplier<StoredProcedureCaller> jdbc = () -> new JdbcCaller(dataSource, rowType);
+        checkRows("SPAN", span.get(), options.getRows());
+        checkRows("JDBC", jdbc.get(), options.getRows());
+
+        LoadResult spanResult = options.runsSPAN() ? warmupAndMeasure("SPAN", span, options) : null;
+        LoadResult jdbcResult = options.runsJdbc() ? warmupAndMeasure("JDBC", jdbc, options) : null;
+        if (spanResult != null && jdbcResult != null) {
+            System.out.println(overhead(spanResult, jdbcResult));
+        }
+        System.out.println(SPANDataSource.getInstance().getPoolStatistics(SPAN_USER_DEFINED_KEY));
+    }
+
+    private static Path writeSPANConfig(final int pool) throws IOException {
+        Path config = Files.createTempFile("SPANConfig-load", ".yaml");
+        config.toFile().deleteOnExit();
+        String yaml = "SPANConfig:\n"
+                + "  SPANDatabaseConfig:\n"
+                + "    " + SPAN_USER_DEFINED_KEY + ":\n"
+                + "      datasource_details:\n"
+                + "        driverClassName: \"org.hsqldb.jdbc.JDBCDriver\"\n"
+                + "        url: \"" + URL + "\"\n"
+                + "        user: \"SA\"\n"
+                + "        password: \"none\"\n"
+                + "        maxActive: " + pool + "\n"
+                + "        maxIdle: " + pool + "\n"
+                + "        minIdle: " + pool + "\n"
+                + "        initialSize: " + pool + "\n"
+                + "      sp_details:\n"
+                + "        " + SP_USER_DEFINED_KEY + ":\n"
+                + "          schema: \"" + ProcedureFixture.SCHEMA + "\"\n"
+                + "          procedure: \"" + ProcedureFixture.PROCEDURE + "\"\n";
+        Files.write(config, yaml.getBytes(StandardCharsets.UTF_8));
+        return config;
+    }
+
+    private static void checkRows(final String name, final StoredProcedureCaller caller, final int rows) throws SQLException {
+        int actual = caller.call(0);
+        if (actual != rows) {
+            throw new IllegalStateException(name + " call returned " + actual + " rows, expected: " + rows);
+        }
+    }
+
+    private static LoadResult warmupAndMeasure(final String name, final Supplier<StoredProcedureCaller> callers, final LoadOptions options)
+            throws InterruptedException {
+        if (options.getWarmupSeconds() > 0) {
+            run(name + " warmup", callers, options.getThreads(), options.getWarmupSeconds());
+        }
+        System.gc();
+        LoadResult result = run(name, callers, options.getThreads(), options.getDurationSeconds());
+        System.out.print(result.report());
+        return result;
+    }
+
+    /**
+     * Calls the procedure from the given number of threads, each with its own caller, until the end of the phase.
+     */
+    private static LoadResult run(final String name, final Supplier<StoredProcedureCaller> callers, final int threads, final int seconds)
+            throws InterruptedException {
+        LatencyHistogram latency = new LatencyHistogram();
+        LatencyHistogram connectionWait = new LatencyHistogram();
+        LongAdder calls = new LongAdder();
+        LongAdder errors = new LongAdder();
+        LongAdder rows = new LongAdder();
+        LongAdder allocatedBytes = new LongAdder();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        boolean measuresAllocations = threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long[] gcBefore = gcTotals();
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.SECONDS.toNanos(seconds);
+        for (int thread = 0; thread < threads; thread++) {
+            int firstId = thread * 1_000_000;
+            executor.execute(() -> {
+                StoredProcedureCaller caller = callers.get();
+                long allocatedBefore = allocatedBytes(threadMXBean, measuresAllocations);
+                int id = firstId;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (System.nanoTime() < deadline) {
+                    long callStart = System.nanoTime();
+                    try {
+                        rows.add(caller.call(id++));
+                        latency.record(System.nanoTime() - callStart);
+                        connectionWait.record(caller.getConnectionWait());
+                        calls.increment();
+                    } catch (SQLException | RuntimeException e) {
+                        errors.increment();
+                        firstError.compareAndSet(null, e);
+                    }
+                }
+                allocatedBytes.add(allocatedBytes(threadMXBean, measuresAllocations) - allocatedBefore);
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        if (!executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        long[] gcAfter = gcTotals();
+        return new LoadResult(name, calls.sum(), errors.sum(), rows.sum(), elapsedNanos, latency.snapshot(), connectionWait.snapshot(),
+                gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1], measuresAllocations ? allocatedBytes.sum() : -1,
+                firstError.get());
+    }
+
+    private static long allocatedBytes(final ThreadMXBean threadMXBean, final boolean measuresAllocations) {
+        return measuresAllocations
+                ? ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+
+    /**
+     * @return Number of collections and collection time in milliseconds of all the garbage collectors
+     */
+    private static long[] gcTotals() {
+        long[] totals = new long[2];
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            totals[0] += Math.max(collector.getCollectionCount(), 0);
+            totals[1] += Math.max(collector.getCollectionTime(), 0);
+        }
+        return totals;
+    }
+
+    /**
+     * @return Difference between SPAN and plain JDBC of the throughput, latency and allocations
+     */
+    static String overhead(final LoadResult span, final LoadResult jdbc) {
+        String allocations = span.getAllocatedBytesPerCall() < 0 || jdbc.getAllocatedBytesPerCall() < 0 ? ""
+                : String.format(Locale.ROOT, ", %+.0f bytes/call", span.getAllocatedBytesPerCall() - jdbc.getAllocatedBytesPerCall());
+        return String.format(Locale.ROOT, "SPAN overhead: throughput %+.1f%%, mean %+.1f us, p50 %+.1f us, p99 %+.1f us%s",
+                (span.getThroughput() / jdbc.getThroughput() - 1) * 100,
+                (span.getLatency().getMean() - jdbc.getLatency().getMean()) / 1e3,
+                (span.getLatency().getPercentile(50) - jdbc.getLatency().getPercentile(50)) / 1e3,
+                (span.getLatency().getPercentile(99) - jdbc.getLatency().getPercentile(99)) / 1e3,
+                allocations);
+    }
+}
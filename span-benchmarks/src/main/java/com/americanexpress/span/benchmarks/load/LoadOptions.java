@@ -0,0 +1,159 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.load;
+
+/**
+ * LoadOptions - Command line options of the {@link LoadGenerator}, given as --name=value or --name value.
+ */
+final class LoadOptions {
+
+    static final String USAGE = "Usage: LoadGenerator [--threads=8] [--pool=<threads>] [--rows=100] [--columns=4|16]"
+            + " [--warmup=5] [--duration=30] [--mode=both|span|jdbc]";
+
+    private int threads = 8;
+
+    private int pool;
+
+    private int rows = 100;
+
+    private int columns = 4;
+
+    private int warmupSeconds = 5;
+
+    private int durationSeconds = 30;
+
+    private String mode = "both";
+
+    private LoadOptions() {
+    }
+
+    /**
+     * @param args Command line arguments
+     * @return Options of the run
+     * @throws IllegalArgumentException if an option is unknown or invalid
+     */
+    static LoadOptions parse(final String[] args) {
+        LoadOptions options = new LoadOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Invalid argument: " + arg + ". " + USAGE);
+            }
+            String name;
+            String value;
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                name = arg.substring(2, separator);
+                value = arg.substring(separator + 1);
+            } else if (i + 1 < args.length) {
+                name = arg.substring(2);
+                value = args[++i];
+            } else {
+                throw new IllegalArgumentException("No value for: " + arg + ". " + USAGE);
+            }
+            options.set(name, value);
+        }
+        if (options.pool == 0) {
+            options.pool = options.threads;
+        }
+        options.validate();
+        return options;
+    }
+
+    private void set(final String name, final String value) {
+        switch (name) {
+            case "threads":
+                threads = toInt(name, value);
+                break;
+            case "pool":
+                pool = toInt(name, value);
+                break;
+            case "rows":
+                rows = toInt(name, value);
+                break;
+            case "columns":
+                columns = toInt(name, value);
+                break;
+            case "warmup":
+                warmupSeconds = toInt(name, value);
+                break;
+            case "duration":
+                durationSeconds = toInt(name, value);
+                break;
+            case "mode":
+                mode = value;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option: --" + name + ". " + USAGE);
+        }
+    }
+
+    private void validate() {
+        if (threads <= 0 || pool <= 0 || rows < 0 || warmupSeconds < 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("threads, pool and duration must be positive, rows and warmup not negative. " + USAGE);
+        }
+        if (columns != 4 && columns != 16) {
+            throw new IllegalArgumentException("columns must be 4 or 16. " + USAGE);
+        }
+        if (!"both".equals(mode) && !"span".equals(mode) && !"jdbc".equals(mode)) {
+            throw new IllegalArgumentException("Invalid mode: " + mode + ". " + USAGE);
+        }
+    }
+
+    private static int toInt(final String name, final String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value of --" + name + ": " + value + ". " + USAGE, e);
+        }
+    }
+
+    int getThreads() {
+        return threads;
+    }
+
+    int getPool() {
+        return pool;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    int getColumns() {
+        return columns;
+    }
+
+    int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    boolean runsSPAN() {
+        return !"jdbc".equals(mode);
+    }
+
+    boolean runsJdbc() {
+        return !"span".equals(mode);
+    }
+
+    @Override
+    public String toString() {
+        return "threads=" + threads + ", pool=" + pool + ", rows=" + rows + ", columns=" + columns + ", warmup=" + warmupSeconds
+                + "s, duration=" + durationSeconds + "s, mode=" + mode;
+    }
+}
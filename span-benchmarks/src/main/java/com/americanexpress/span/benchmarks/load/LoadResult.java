@@ -0,0 +1,113 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.load;
+
+import com.americanexpress.span.core.database.metrics.HistogramSnapshot;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoadResult - Measures of a measurement phase of the {@link LoadGenerator}.
+ */
+final class LoadResult {
+
+    private final String name;
+
+    private final long calls;
+
+    private final long errors;
+
+    private final long rows;
+
+    private final long elapsedNanos;
+
+    private final HistogramSnapshot latency;
+
+    private final HistogramSnapshot connectionWait;
+
+    private final long gcCount;
+
+    private final long gcMillis;
+
+    private final long allocatedBytes;
+
+    private final Throwable firstError;
+
+    LoadResult(final String name, final long calls, final long errors, final long rows, final long elapsedNanos,
+               final HistogramSnapshot latency, final HistogramSnapshot connectionWait, final long gcCount, final long gcMillis,
+               final long allocatedBytes, final Throwable firstError) {
+        this.name = name;
+        this.calls = calls;
+        this.errors = errors;
+        this.rows = rows;
+        this.elapsedNanos = elapsedNanos;
+        this.latency = latency;
+        this.connectionWait = connectionWait;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+        this.allocatedBytes = allocatedBytes;
+        this.firstError = firstError;
+    }
+
+    /**
+     * @return Successful calls per second
+     */
+    double getThroughput() {
+        return calls * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * @return Bytes allocated by the calling threads per call, -1 if the JVM does not measure the allocations
+     */
+    double getAllocatedBytesPerCall() {
+        return allocatedBytes < 0 || calls + errors == 0 ? -1 : (double) allocatedBytes / (calls + errors);
+    }
+
+    HistogramSnapshot getLatency() {
+        return latency;
+    }
+
+    Throwable getFirstError() {
+        return firstError;
+    }
+
+    /**
+     * @return Report of the phase, one measure per line
+     */
+    String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%s: %d calls, %d errors in %.1f s%n", name, calls, errors, elapsedNanos / 1e9));
+        report.append(String.format(Locale.ROOT, "  throughput      %.1f calls/s, %.1f rows/s%n", getThroughput(),
+                rows * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos));
+        report.append("  latency         ").append(percentiles(latency)).append(System.lineSeparator());
+        report.append("  connection wait ").append(percentiles(connectionWait)).append(System.lineSeparator());
+        report.append(String.format(Locale.ROOT, "  gc              %d collections, %d ms, %s%n", gcCount, gcMillis,
+                allocatedBytes < 0 ? "allocation not measured" : String.format(Locale.ROOT, "%.0f bytes/call", getAllocatedBytesPerCall())));
+        if (firstError != null) {
+            report.append("  first error     ").append(firstError).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    /**
+     * @param snapshot Durations in nanoseconds
+     * @return Mean, p50, p90, p99, p99.9 and max in microseconds
+     */
+    static String percentiles(final HistogramSnapshot snapshot) {
+        return String.format(Locale.ROOT, "mean=%.1f p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f us",
+                snapshot.getMean() / 1e3, snapshot.getPercentile(50) / 1e3, snapshot.getPercentile(90) / 1e3,
+                snapshot.getPercentile(99) / 1e3, snapshot.getPercentile(99.9) / 1e3, snapshot.getMax() / 1e3);
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.load;
+
+import com.americanexpress.span.annotation.Field;
+import com.americanexpress.span.benchmarks.Fixtures;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * ProcedureFixture - Creates the table and the Stored Procedure of the load generator in HSQLDB. The table has a column for every
+ * datamember of the row class and the given number of rows. The procedure returns OUT_ID = IN_ID and a ResultSet of all the rows.
+ */
+final class ProcedureFixture {
+
+    static final String SCHEMA = "LOAD";
+
+    static final String PROCEDURE = "FETCH_ROWS";
+
+    private static final String TABLE = SCHEMA + ".LOAD_ROWS";
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private ProcedureFixture() {
+    }
+
+    /**
+     * @param connection Connection to the HSQLDB database, opened with sql.syntax_db2=true
+     * @param rowType    Class of the rows of the ResultSet
+     * @param rows       Number of rows of the ResultSet
+     * @throws SQLException if a statement fails
+     */
+    static void create(final Connection connection, final Class<?> rowType, final int rows) throws SQLException {
+        List<java.lang.reflect.Field> fields = Fixtures.annotatedFields(rowType);
+        String columns = fields.stream().map(ProcedureFixture::columnName).collect(Collectors.joining(", "));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA " + SCHEMA + " AUTHORIZATION SA");
+            statement.execute("CREATE TABLE " + TABLE + " ("
+                    + fields.stream().map(field -> columnName(field) + " " + columnType(field.getType())).collect(Collectors.joining(", "))
+                    + ")");
+            statement.execute("CREATE PROCEDURE " + SCHEMA + "." + PROCEDURE + " (IN IN_ID INT, OUT OUT_ID INT)"
+                    + " LANGUAGE SQL READS SQL DATA DYNAMIC RESULT SETS 1"
+                    + " BEGIN ATOMIC"
+                    + " DECLARE rows_cursor CURSOR WITH RETURN FOR SELECT " + columns + " FROM " + TABLE + ";"
+                    + " SET OUT_ID = IN_ID;"
+                    + " OPEN rows_cursor;"
+                    + " END");
+        }
+        String placeholders = fields.stream().map(field -> "?").collect(Collectors.joining(", "));
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE + " (" + columns + ") VALUES (" + placeholders + ")")) {
+            for (int row = 0; row < rows; row++) {
+                for (int i = 0; i < fields.size(); i++) {
+                    insert.setObject(i + 1, toJdbcValue(Fixtures.value(fields.get(i).getType(), row + i)));
+                }
+                insert.addBatch();
+                if ((row + 1) % INSERT_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            if (rows % INSERT_BATCH_SIZE != 0) {
+                insert.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * @return Call statement of the procedure, with positional parameters IN_ID and OUT_ID
+     */
+    static String callStatement() {
+        return "{call " + SCHEMA + "." + PROCEDURE + "(?, ?)}";
+    }
+
+    private static String columnName(final java.lang.reflect.Field field) {
+        return field.getAnnotation(Field.class).name();
+    }
+
+    private static String columnType(final Class<?> type) {
+        switch (Fixtures.sqlType(type)) {
+            case Types.INTEGER:
+                return "INTEGER";
+            case Types.BIGINT:
+                return "BIGINT";
+            case Types.REAL:
+                return "REAL";
+            case Types.DOUBLE:
+                return "DOUBLE";
+            case Types.BOOLEAN:
+                return "BOOLEAN";
+            case Types.DECIMAL:
+                return "DECIMAL(19,4)";
+            case Types.DATE:
+                return "DATE";
+            case Types.TIMESTAMP:
+                return "TIMESTAMP";
+            default:
+                return "VARCHAR(100)";
+        }
+    }
+
+    private static Object toJdbcValue(final Object value) {
+        if (value instanceof LocalDate) {
+            return Date.valueOf((LocalDate) value);
+        } else if (value instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) value);
+        }
+        return value;
+    }
+}
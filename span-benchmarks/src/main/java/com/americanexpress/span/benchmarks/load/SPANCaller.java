@@ -0,0 +1,59 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.load;
+
+import com.americanexpress.span.benchmarks.model.LoadInput;
+import com.americanexpress.span.core.database.ExecutionStats;
+import com.americanexpress.span.core.database.SPExecutor;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SPANCaller - Calls the Stored Procedure through {@link SPExecutor#execute(String, Object, Class, ExecutionStats)}. The
+ * Connection wait is the {@link ExecutionStats.Phase#CONNECTION_ACQUIRE} phase of the call.
+ *
+ * @param <O> Type of the SP Output class
+ */
+final class SPANCaller<O> implements StoredProcedureCaller {
+
+    private final SPExecutor spExecutor = new SPExecutor();
+
+    private final ExecutionStats stats = new ExecutionStats();
+
+    private final String spUserDefineKey;
+
+    private final Class<O> returnType;
+
+    private final Function<O, List<?>> rows;
+
+    SPANCaller(final String spUserDefineKey, final Class<O> returnType, final Function<O, List<?>> rows) {
+        this.spUserDefineKey = spUserDefineKey;
+        this.returnType = returnType;
+        this.rows = rows;
+    }
+
+    @Override
+    public int call(final int id) throws SQLException {
+        O output = spExecutor.execute(spUserDefineKey, new LoadInput(id), returnType, stats);
+        List<?> list = rows.apply(output);
+        return list == null ? 0 : list.size();
+    }
+
+    @Override
+    public long getConnectionWait() {
+        return stats.getDuration(ExecutionStats.Phase.CONNECTION_ACQUIRE);
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.load;
+
+import java.sql.SQLException;
+
+/**
+ * StoredProcedureCaller - Calls the Stored Procedure of the load generator. An instance is used by a single thread.
+ */
+interface StoredProcedureCaller {
+
+    /**
+     * @param id Value of IN_ID
+     * @return Number of rows of the ResultSet
+     * @throws SQLException if the call fails
+     */
+    int call(int id) throws SQLException;
+
+    /**
+     * @return Time spent waiting for a Connection of the pool by the last call, in nanoseconds
+     */
+    long getConnectionWait();
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.model;
+
+import com.americanexpress.span.annotation.Field;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * CallInput - Input parameters of a Stored Procedure, one of every type bound by InputHandlerImpl.
+ */
+public class CallInput {
+
+    @Field(name = "IN_ID")
+    private int id;
+
+    @Field(name = "IN_COUNT")
+    private Integer count;
+
+    @Field(name = "IN_ACCOUNT")
+    private long account;
+
+    @Field(name = "IN_NAME")
+    private String name;
+
+    @Field(name = "IN_RATE")
+    private double rate;
+
+    @Field(name = "IN_AMOUNT")
+    private BigDecimal amount;
+
+    @Field(name = "IN_ACTIVE")
+    private boolean active;
+
+    @Field(name = "IN_DATE")
+    private LocalDate date;
+
+    @Field(name = "IN_TIMESTAMP")
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.model;
+
+import com.americanexpress.span.annotation.Field;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * CallOutput - Output parameters of a Stored Procedure, one of every type read with a typed getter.
+ */
+public class CallOutput {
+
+    @Field(name = "OUT_ID")
+    private int id;
+
+    @Field(name = "OUT_COUNT")
+    private Integer count;
+
+    @Field(name = "OUT_ACCOUNT")
+    private long account;
+
+    @Field(name = "OUT_NAME")
+    private String name;
+
+    @Field(name = "OUT_RATE")
+    private double rate;
+
+    @Field(name = "OUT_AMOUNT")
+    private BigDecimal amount;
+
+    @Field(name = "OUT_ACTIVE")
+    private boolean active;
+
+    @Field(name = "OUT_DATE")
+    private LocalDate date;
+
+    @Field(name = "OUT_TIMESTAMP")
+    private LocalDateTime timestamp;
+}
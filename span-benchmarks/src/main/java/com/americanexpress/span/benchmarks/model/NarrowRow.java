@@ -0,0 +1,37 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.model;
+
+import com.americanexpress.span.annotation.Field;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * NarrowRow - ResultSet row of 4 columns.
+ */
+public class NarrowRow {
+
+    @Field(name = "ID")
+    private int id;
+
+    @Field(name = "NAME")
+    private String name;
+
+    @Field(name = "AMOUNT")
+    private BigDecimal amount;
+
+    @Field(name = "CREATED")
+    private LocalDate created;
+}
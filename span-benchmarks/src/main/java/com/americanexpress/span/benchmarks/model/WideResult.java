@@ -0,0 +1,39 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.model;
+
+import com.americanexpress.span.annotation.Field;
+import com.americanexpress.span.annotation.ResultSet;
+
+import java.util.List;
+
+/**
+ * WideResult - Output parameter and ResultSet of WideRow of the Stored Procedure of the load generator.
+ */
+public class WideResult {
+
+    @Field(name = "OUT_ID")
+    private int id;
+
+    @ResultSet
+    private List<WideRow> rows;
+
+    public int getId() {
+        return id;
+    }
+
+    public List<WideRow> getRows() {
+        return rows;
+    }
+}
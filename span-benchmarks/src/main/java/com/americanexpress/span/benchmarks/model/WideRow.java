@@ -0,0 +1,74 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.benchmarks.model;
+
+import com.americanexpress.span.annotation.Field;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * WideRow - ResultSet row of 16 columns of every type read with a typed getter.
+ */
+public class WideRow {
+
+    @Field(name = "ID")
+    private int id;
+
+    @Field(name = "PARENT_ID")
+    private Integer parentId;
+
+    @Field(name = "ACCOUNT")
+    private long account;
+
+    @Field(name = "SEQUENCE")
+    private Long sequence;
+
+    @Field(name = "FIRST_NAME")
+    private String firstName;
+
+    @Field(name = "LAST_NAME")
+    private String lastName;
+
+    @Field(name = "EMAIL")
+    private String email;
+
+    @Field(name = "CITY")
+    private String city;
+
+    @Field(name = "RATE")
+    private float rate;
+
+    @Field(name = "SCORE")
+    private double score;
+
+    @Field(name = "WEIGHT")
+    private Double weight;
+
+    @Field(name = "AMOUNT")
+    private BigDecimal amount;
+
+    @Field(name = "BALANCE")
+    private BigDecimal balance;
+
+    @Field(name = "ACTIVE")
+    private boolean active;
+
+    @Field(name = "BIRTH_DATE")
+    private LocalDate birthDate;
+
+    @Field(name = "UPDATED")
+    private LocalDateTime updated;
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.processor;
+
+import javax.lang.model.element.VariableElement;
+
+/**
+ * MappedProperty - A datamember annotated with SPAN annotation @Field, directly or through its getter or setter method,
+ * and the source code used by the generated mapper to read and write it.
+ */
+final class MappedProperty {
+
+    private final String name;
+
+    private final VariableElement field;
+
+    private final String transformationClass;
+
+    private final String defaultValue;
+
+    private final boolean declaredOnField;
+
+    private String readExpression;
+
+    private String writeStatement;
+
+    MappedProperty(final String name, final VariableElement field, final String transformationClass, final String defaultValue,
+                   final boolean declaredOnField) {
+        this.name = name;
+        this.field = field;
+        this.transformationClass = transformationClass;
+        this.defaultValue = defaultValue;
+        this.declaredOnField = declaredOnField;
+    }
+
+    /**
+     * @return name parameter of SPAN annotation @Field
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return Annotated datamember, or the datamember of the annotated getter or setter method
+     */
+    VariableElement getField() {
+        return field;
+    }
+
+    /**
+     * @return Canonical name of the transformationClass parameter of SPAN annotation @Field
+     */
+    String getTransformationClass() {
+        return transformationClass;
+    }
+
+    /**
+     * @return default_value parameter of SPAN annotation @Field
+     */
+    String getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * @return true if the annotation is present on the datamember, false if it is present on the getter or setter method.
+     */
+    boolean isDeclaredOnField() {
+        return declaredOnField;
+    }
+
+    /**
+     * @return Expression reading the datamember of object %OBJECT%, null if the datamember cannot be read by the mapper.
+     */
+    String getReadExpression() {
+        return readExpression;
+    }
+
+    void setReadExpression(final String readExpression) {
+        this.readExpression = readExpression;
+    }
+
+    /**
+     * @return Statement writing %VALUE% to the datamember of object %OBJECT%, null if the datamember cannot be written by the mapper.
+     */
+    String getWriteStatement() {
+        return writeStatement;
+    }
+
+    void setWriteStatement(final String writeStatement) {
+        this.writeStatement = writeStatement;
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.processor;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.List;
+
+/**
+ * MapperWriter - Writes the source code of the SPAN mapper of an annotated class. Every handler method is written with
+ * straight-line code, one statement per datamember. A handler method is not written (and the mapper falls back to
+ * reflection) if one of the datamembers cannot be read or written from the package of the class.
+ */
+final class MapperWriter {
+
+    private static final String EOL = "\n";
+    private static final String EOL_2 = EOL + EOL;
+    private static final String MAPPER_PACKAGE = "com.americanexpress.span.core.database.mapper";
+
+    private static final String MAPPER_TEMPLATE = "%PACKAGE%" +
+            "/**" + EOL +
+            " * SPAN mapper of {@link %TYPE%}." + EOL +
+            " * Generated by " + SPANMapperProcessor.class.getName() + ", do not edit." + EOL +
+            " */" + EOL +
+            "@SuppressWarnings({\"unchecked\", \"rawtypes\"})" + EOL +
+            "public final class %MAPPER_NAME% extends " + MAPPER_PACKAGE + ".SPANMapper<%TYPE%> {" + EOL_2 +
+            "%FIELDS%" +
+            "    public %MAPPER_NAME%() {" + EOL +
+            "        super(%TYPE%.class);" + EOL +
+            "    }" + EOL +
+            "%METHODS%" +
+            "}" + EOL;
+
+    private static final String FIELD_TEMPLATE = "    private static final " + MAPPER_PACKAGE + ".MappedField<%BOXED_TYPE%> %CONSTANT% = "
+            + MAPPER_PACKAGE + ".MappedField.of(%NAME%, \"%FIELD_NAME%\", %FIELD_TYPE%.class, %TRANSFORMATION%.class, %DEFAULT_VALUE%);" + EOL_2;
+
+    private static final String INPUT_TEMPLATE = EOL +
+            "    @Override" + EOL +
+            "    public void processSPInputParameters(java.sql.CallableStatement callableStatement, %TYPE% inputObject) {" + EOL +
+            "%STATEMENTS%" +
+            "        recordConvertedValues(%COUNT%);" + EOL +
+            "    }" + EOL;
+
+    private static final String REGISTER_TEMPLATE = EOL +
+            "    @Override" + EOL +
+            "    public void registerOutputParameters(java.sql.CallableStatement callableStatement, Class<%TYPE%> classT) {" + EOL +
+            "%STATEMENTS%" +
+            "    }" + EOL;
+
+    private static final String OUTPUT_TEMPLATE = EOL +
+            "    @Override" + EOL +
+            "    public %TYPE% processSPOutputParameters(java.sql.CallableStatement callableStatement, Class<%TYPE%> clazzT) {" + EOL +
+            "        %TYPE% outputObject = new %TYPE%();" + EOL +
+            "%STATEMENTS%" +
+            "        recordConvertedValues(%COUNT%);" + EOL +
+            "        return outputObject;" + EOL +
+            "    }" + EOL;
+
+    private static final String RESULT_SET_TEMPLATE = EOL +
+            "    @Override" + EOL +
+            "    public java.util.List<%TYPE%> processResultSet(java.sql.ResultSet resultSet, Class<%TYPE%> clazzT) {" + EOL +
+            "        return readRows(resultSet, newRowMapper(resultSet, clazzT));" + EOL +
+            "    }" + EOL_2 +
+            "    @Override" + EOL +
+            "    public %TYPE% processRow(java.sql.ResultSet resultSet, Class<%TYPE%> clazzT) {" + EOL +
+            "        return newRowMapper(resultSet, clazzT).apply(resultSet);" + EOL +
+            "    }" + EOL_2 +
+            "    @Override" + EOL +
+            "    public java.util.function.Function<java.sql.ResultSet, %TYPE%> newRowMapper(java.sql.ResultSet resultSet, Class<%TYPE%> clazzT) {" + EOL +
+            "        " + MAPPER_PACKAGE + ".MappedColumns columns = resolveColumns(resultSet%CONSTANTS%);" + EOL +
+            "        return row -> {" + EOL +
+            "            %TYPE% rowObject = new %TYPE%();" + EOL +
+            "%STATEMENTS%" +
+            "            recordConvertedValues(%COUNT%);" + EOL +
+            "            return rowObject;" + EOL +
+            "        };" + EOL +
+            "    }" + EOL;
+
+    private final Types types;
+
+    private final Elements elements;
+
+    MapperWriter(final Types types, final Elements elements) {
+        this.types = types;
+        this.elements = elements;
+    }
+
+    /**
+     * Writes the source code of the mapper.
+     *
+     * @param type             Annotated class
+     * @param packageName      Package of the annotated class
+     * @param mapperSimpleName Simple name of the mapper
+     * @param properties       Datamembers annotated with @Field
+     * @return Source code
+     */
+    String write(final TypeElement type, final String packageName, final String mapperSimpleName, final List<MappedProperty> properties) {
+        String typeName = type.getQualifiedName().toString();
+
+        StringBuilder fields = new StringBuilder();
+        StringBuilder bindStatements = new StringBuilder();
+        StringBuilder registerStatements = new StringBuilder();
+        StringBuilder outputStatements = new StringBuilder();
+        StringBuilder rowStatements = new StringBuilder();
+        StringBuilder constants = new StringBuilder();
+        boolean readable = true;
+        boolean writable = true;
+
+        for (int i = 0; i < properties.size(); i++) {
+            MappedProperty property = properties.get(i);
+            String constant = "FIELD_" + i;
+            TypeMirror fieldType = property.getField().asType();
+            constants.append(", ").append(constant);
+
+            fields.append(FIELD_TEMPLATE
+                    .replace("%BOXED_TYPE%", getBoxedTypeName(fieldType))
+                    .replace("%CONSTANT%", constant)
+                    .replace("%FIELD_NAME%", property.getField().getSimpleName())
+                    .replace("%FIELD_TYPE%", types.erasure(fieldType).toString())
+                    .replace("%TRANSFORMATION%", property.getTransformationClass())
+                    // The user defined values are replaced last, so that they are written as is.
+                    .replace("%NAME%", elements.getConstantExpression(property.getName()))
+                    .replace("%DEFAULT_VALUE%", elements.getConstantExpression(property.getDefaultValue())));
+
+            if (property.getReadExpression() == null) {
+                readable = false;
+            } else {
+                bindStatements.append("        bind(callableStatement, ").append(constant).append(", ")
+                        .append(property.getReadExpression().replace("%OBJECT%", "inputObject")).append(");").append(EOL);
+            }
+
+            // Same as OutputHandlerImpl, only the annotated datamembers are registered as output parameters.
+            if (property.isDeclaredOnField()) {
+                registerStatements.append("        register(callableStatement, ").append(constant).append(");").append(EOL);
+            }
+
+            if (property.getWriteStatement() == null) {
+                writable = false;
+            } else {
+                outputStatements.append("        ").append(property.getWriteStatement().replace("%OBJECT%", "outputObject")
+                        .replace("%VALUE%", "read(callableStatement, " + constant + ")")).append(EOL);
+                rowStatements.append("            ").append(property.getWriteStatement().replace("%OBJECT%", "rowObject")
+                        .replace("%VALUE%", "read(row, columns, " + i + ", " + constant + ")")).append(EOL);
+            }
+        }
+
+        // Same as the reflection based handlers, every datamember counts as a converted value.
+        String count = String.valueOf(properties.size());
+        StringBuilder methods = new StringBuilder();
+        if (readable) {
+            methods.append(INPUT_TEMPLATE.replace("%TYPE%", typeName).replace("%COUNT%", count).replace("%STATEMENTS%", bindStatements));
+        }
+        methods.append(REGISTER_TEMPLATE.replace("%TYPE%", typeName).replace("%STATEMENTS%", registerStatements));
+        if (writable) {
+            methods.append(OUTPUT_TEMPLATE.replace("%TYPE%", typeName).replace("%COUNT%", count).replace("%STATEMENTS%", outputStatements));
+            methods.append(RESULT_SET_TEMPLATE.replace("%TYPE%", typeName).replace("%CONSTANTS%", constants).replace("%COUNT%", count)
+                    .replace("%STATEMENTS%", rowStatements));
+        }
+
+        return MAPPER_TEMPLATE
+                .replace("%PACKAGE%", packageName.isEmpty() ? "" : "package " + packageName + ";" + EOL_2)
+                .replace("%MAPPER_NAME%", mapperSimpleName)
+                .replace("%TYPE%", typeName)
+                .replace("%METHODS%", methods)
+                .replace("%FIELDS%", fields);
+    }
+
+    private String getBoxedTypeName(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return types.erasure(type).toString();
+    }
+}
@@ -0,0 +1,337 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * SPANMapperProcessor - Annotation processor for the classes annotated with SPAN annotations @Field, @ResultSet, @SPInput and @SPOutput.
+ * <p>
+ * At compile time it reports the errors which SPAN would otherwise find at runtime (duplicate field names, getter or setter
+ * methods not following Java bean rules, @ResultSet fields which are not a List and invalid @ResultSet sequence numbers),
+ * and generates the class {@code <ClassName>SPANMapper} in the package of each annotated class. SPExecutor uses the generated
+ * mapper instead of the reflection based handlers when it is available.
+ * <p>
+ * The annotations are read by name, so this processor has no dependency on span.
+ */
+@SupportedAnnotationTypes({SPANMapperProcessor.FIELD_ANNOTATION, SPANMapperProcessor.RESULT_SET_ANNOTATION,
+        SPANMapperProcessor.SP_INPUT_ANNOTATION, SPANMapperProcessor.SP_OUTPUT_ANNOTATION})
+public class SPANMapperProcessor extends AbstractProcessor {
+
+    static final String FIELD_ANNOTATION = "com.americanexpress.span.annotation.Field";
+    static final String RESULT_SET_ANNOTATION = "com.americanexpress.span.annotation.ResultSet";
+    static final String SP_INPUT_ANNOTATION = "com.americanexpress.span.annotation.SPInput";
+    static final String SP_OUTPUT_ANNOTATION = "com.americanexpress.span.annotation.SPOutput";
+    static final String DEFAULT_TRANSFORMATION = "com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl";
+    static final String MAPPER_SUFFIX = "SPANMapper";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        Set<TypeElement> annotatedTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            boolean memberAnnotation = annotation.getQualifiedName().contentEquals(FIELD_ANNOTATION)
+                    || annotation.getQualifiedName().contentEquals(RESULT_SET_ANNOTATION);
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind().isClass()) {
+                    annotatedTypes.add((TypeElement) element);
+                } else if (memberAnnotation && element.getEnclosingElement().getKind().isClass()) {
+                    annotatedTypes.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        annotatedTypes.forEach(this::processType);
+        return false;
+    }
+
+    /**
+     * Validates the annotated class and generates its mapper.
+     *
+     * @param type Annotated class
+     */
+    private void processType(final TypeElement type) {
+        List<MappedProperty> properties = new ArrayList<>();
+        boolean valid = validateFields(type, properties);
+        valid &= validateResultSets(type);
+        if (!valid) {
+            return;
+        }
+
+        String blocker = getGenerationBlocker(type);
+        if (blocker != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "SPAN mapper is not generated for " + type.getQualifiedName() + ". " + blocker + " Reflection is used at runtime.", type);
+            return;
+        }
+
+        boolean instantiable = !type.getModifiers().contains(Modifier.ABSTRACT)
+                && ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        for (MappedProperty property : properties) {
+            property.setReadExpression(getReadExpression(type, property.getField()));
+            property.setWriteStatement(instantiable ? getWriteStatement(type, property.getField()) : null);
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String mapperSimpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_')
+                + MAPPER_SUFFIX;
+        String mapperName = packageName.isEmpty() ? mapperSimpleName : packageName + "." + mapperSimpleName;
+
+        String source = new MapperWriter(processingEnv.getTypeUtils(), processingEnv.getElementUtils())
+                .write(type, packageName, mapperSimpleName, properties);
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(mapperName, type);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write SPAN mapper " + mapperName + ". Exception Message: " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Collects the datamembers annotated with @Field and checks duplicate names and Java bean rules.
+     *
+     * @param type       Annotated class
+     * @param properties Collected datamembers
+     * @return true if the class is valid
+     */
+    private boolean validateFields(final TypeElement type, final List<MappedProperty> properties) {
+        boolean valid = true;
+        Set<String> uniqueNames = new HashSet<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            AnnotationMirror annotation = getAnnotation(field, FIELD_ANNOTATION);
+            if (annotation != null) {
+                MappedProperty property = toProperty(annotation, field, true);
+                if (!uniqueNames.add(property.getName())) {
+                    error("Duplicate fields in " + type.getSimpleName() + ". Field: " + property.getName(), field);
+                    valid = false;
+                }
+                properties.add(property);
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            AnnotationMirror annotation = getAnnotation(method, FIELD_ANNOTATION);
+            if (annotation != null) {
+                VariableElement field = getFieldOfMethod(type, method);
+                if (field == null) {
+                    error("Class " + type.getQualifiedName() + " doesn't follow Java bean rules for the method: " + method.getSimpleName(), method);
+                    valid = false;
+                    continue;
+                }
+                MappedProperty property = toProperty(annotation, field, false);
+                if (!uniqueNames.add(property.getName())) {
+                    error("Duplicate fields in " + type.getSimpleName() + ". Field: " + property.getName(), method);
+                    valid = false;
+                }
+                properties.add(property);
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Checks that the datamembers annotated with @ResultSet are Lists and that the sequence numbers are unique, continuous
+     * and start at 1.
+     *
+     * @param type Annotated class
+     * @return true if the class is valid
+     */
+    private boolean validateResultSets(final TypeElement type) {
+        boolean valid = true;
+        List<Integer> seqNums = new ArrayList<>();
+        for (Element element : type.getEnclosedElements()) {
+            AnnotationMirror annotation = getAnnotation(element, RESULT_SET_ANNOTATION);
+            if (annotation == null || (element.getKind() != ElementKind.FIELD && element.getKind() != ElementKind.METHOD)) {
+                continue;
+            }
+            VariableElement field = element.getKind() == ElementKind.FIELD ? (VariableElement) element
+                    : getFieldOfMethod(type, (ExecutableElement) element);
+            if (field == null) {
+                error("Class " + type.getQualifiedName() + " doesn't follow Java bean rules for the method: " + element.getSimpleName(), element);
+                valid = false;
+                continue;
+            }
+            if (!isListOfClass(field.asType())) {
+                error("ResultSet Field should be a List.", element);
+                valid = false;
+            }
+            seqNums.add((Integer) getAnnotationValue(annotation, "seqNum"));
+        }
+        Collections.sort(seqNums);
+        if (new HashSet<>(seqNums).size() != seqNums.size()) {
+            error("@ResultSet should have unique continuous Sequence numbers starting at 1. " + seqNums, type);
+            valid = false;
+        } else if (!seqNums.isEmpty() && (seqNums.get(0) != 1 || seqNums.get(seqNums.size() - 1) != seqNums.size())) {
+            error("@ResultSet should have unique Sequence numbers starting at 1. " + seqNums, type);
+            valid = false;
+        }
+        return valid;
+    }
+
+    /**
+     * Returns the reason why the mapper cannot be generated for the class, e.g. it cannot be referenced from its package.
+     *
+     * @param type Annotated class
+     * @return Reason, null if the mapper can be generated
+     */
+    private static String getGenerationBlocker(final TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS) {
+            return "Only classes are supported.";
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            return "Generic classes are not supported.";
+        }
+        for (Element element = type; element.getKind().isClass(); element = element.getEnclosingElement()) {
+            TypeElement enclosing = (TypeElement) element;
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                return "Private classes are not supported.";
+            }
+            if (enclosing.getNestingKind() == NestingKind.LOCAL || enclosing.getNestingKind() == NestingKind.ANONYMOUS) {
+                return "Local and anonymous classes are not supported.";
+            }
+            if (enclosing.getNestingKind() == NestingKind.MEMBER && !enclosing.getModifiers().contains(Modifier.STATIC)
+                    && enclosing.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+                return "Inner classes should be static.";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Expression reading the datamember through direct access or its getter, null if neither is accessible.
+     */
+    private String getReadExpression(final TypeElement type, final VariableElement field) {
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return "%OBJECT%." + field.getSimpleName();
+        }
+        String property = capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String name = method.getSimpleName().toString();
+            if ((name.equals("get" + property) || name.equals("is" + property)) && method.getParameters().isEmpty()
+                    && isAccessibleInstanceMethod(method)
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return "%OBJECT%." + name + "()";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Statement writing the datamember through direct access or its setter, null if neither is accessible.
+     */
+    private String getWriteStatement(final TypeElement type, final VariableElement field) {
+        if (!field.getModifiers().contains(Modifier.PRIVATE) && !field.getModifiers().contains(Modifier.FINAL)) {
+            return "%OBJECT%." + field.getSimpleName() + " = %VALUE%;";
+        }
+        String setter = "set" + capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(setter) && method.getParameters().size() == 1
+                    && isAccessibleInstanceMethod(method)
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return "%OBJECT%." + setter + "(%VALUE%);";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAccessibleInstanceMethod(final ExecutableElement method) {
+        return !method.getModifiers().contains(Modifier.PRIVATE) && !method.getModifiers().contains(Modifier.STATIC);
+    }
+
+    /**
+     * Returns the datamember of a getter or setter method, using the same rules as SPANUtility.getFieldFromMethod.
+     *
+     * @return Datamember, null if the method doesn't follow Java bean rules.
+     */
+    private static VariableElement getFieldOfMethod(final TypeElement type, final ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        String fieldName = "";
+        if (name.startsWith("get") || name.startsWith("set")) {
+            fieldName = name.substring(3);
+        } else if (name.startsWith("is")) {
+            fieldName = name.substring(2);
+        }
+        if (fieldName.isEmpty()) {
+            return null;
+        }
+        String expectedName = Character.toString(fieldName.charAt(0)).toLowerCase() + fieldName.substring(1);
+        return ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(field -> field.getSimpleName().contentEquals(expectedName))
+                .findFirst().orElse(null);
+    }
+
+    private boolean isListOfClass(final TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement list = processingEnv.getElementUtils().getTypeElement(List.class.getCanonicalName());
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+        return processingEnv.getTypeUtils().isSameType(processingEnv.getTypeUtils().erasure(type), processingEnv.getTypeUtils().erasure(list.asType()))
+                && !typeArguments.isEmpty() && typeArguments.get(0).getKind() == TypeKind.DECLARED;
+    }
+
+    private MappedProperty toProperty(final AnnotationMirror annotation, final VariableElement field, final boolean declaredOnField) {
+        TypeMirror transformation = (TypeMirror) getAnnotationValue(annotation, "transformationClass");
+        return new MappedProperty((String) getAnnotationValue(annotation, "name"), field,
+                transformation == null ? DEFAULT_TRANSFORMATION : processingEnv.getTypeUtils().erasure(transformation).toString(),
+                (String) getAnnotationValue(annotation, "default_value"), declaredOnField);
+    }
+
+    private static AnnotationMirror getAnnotation(final Element element, final String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private Object getAnnotationValue(final AnnotationMirror annotation, final String key) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(key)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String capitalize(final String name) {
+        return Character.toString(name.charAt(0)).toUpperCase() + name.substring(1);
+    }
+
+    private void error(final String message, final Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.processor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class SPANMapperProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static final File CHECKED_IN_MAPPERS = new File("../src/test/java");
+
+    private File generatedSources;
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(final String className, final String source) throws IOException {
+        File sourceDir = temporaryFolder.newFolder();
+        File sourceFile = new File(sourceDir, className.replace('.', File.separatorChar) + ".java");
+        assertTrue(sourceFile.getParentFile().mkdirs());
+        Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        return compile(sourceFile);
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(final File... sourceFiles) throws IOException {
+        generatedSources = temporaryFolder.newFolder();
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = new ArrayList<>(Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                    "-d", temporaryFolder.newFolder().getPath(), "-s", generatedSources.getPath()));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects(sourceFiles));
+            task.setProcessors(Arrays.asList(new SPANMapperProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics();
+    }
+
+    private static List<String> errors(final List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        return diagnostics.stream().filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null)).collect(Collectors.toList());
+    }
+
+    private String generatedSource(final String mapperName) throws IOException {
+        File file = new File(generatedSources, mapperName.replace('.', File.separatorChar) + ".java");
+        return file.exists() ? new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8) : null;
+    }
+
+    @Test
+    public void testGenerateMapper() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Employee", "package test;\n" +
+                "import com.americanexpress.span.annotation.*;\n" +
+                "import java.util.List;\n" +
+                "public class Employee {\n" +
+                "    @Field(name = \"emp_id\", default_value = \"0\") int id;\n" +
+                "    @Field(name = \"emp_name\") private String name;\n" +
+                "    private long salary;\n" +
+                "    @ResultSet private List<Employee> reports;\n" +
+                "    public String getName() { return name; }\n" +
+                "    public void setName(String name) { this.name = name; }\n" +
+                "    public long getSalary() { return salary; }\n" +
+                "    @Field(name = \"emp_salary\") public void setSalary(long salary) { this.salary = salary; }\n" +
+                "    public static class Address {\n" +
+                "        @Field(name = \"city\") public String city;\n" +
+                "    }\n" +
+                "}\n");
+
+        assertEquals(Arrays.asList(), errors(diagnostics));
+
+        String mapper = generatedSource("test.EmployeeSPANMapper");
+        assertNotNull(mapper);
+        assertTrue(mapper.contains("public final class EmployeeSPANMapper extends com.americanexpress.span.core.database.mapper.SPANMapper<test.Employee>"));
+        assertTrue(mapper.contains("MappedField.of(\"emp_id\", \"id\", int.class, "
+                + "com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, \"0\");"));
+        assertTrue(mapper.contains("bind(callableStatement, FIELD_0, inputObject.id);"));
+        assertTrue(mapper.contains("bind(callableStatement, FIELD_1, inputObject.getName());"));
+        assertTrue(mapper.contains("outputObject.setSalary(read(callableStatement, FIELD_2));"));
+        assertTrue(mapper.contains("MappedColumns columns = resolveColumns(resultSet, FIELD_0, FIELD_1, FIELD_2);"));
+        assertTrue(mapper.contains("rowObject.id = read(row, columns, 0, FIELD_0);"));
+        assertTrue(mapper.contains("recordConvertedValues(3);"));
+        // Same as OutputHandlerImpl, the datamember annotated through its setter is not registered
+        assertFalse(mapper.contains("register(callableStatement, FIELD_2);"));
+
+        assertNotNull(generatedSource("test.Employee_AddressSPANMapper"));
+    }
+
+    /**
+     * The generated mappers of the component tests of SPAN are checked in (package comptest.generatedmapper), they have to be the
+     * output of the processor.
+     */
+    @Test
+    public void testCheckedInMappers() throws IOException {
+        String packageName = "com.americanexpress.span.core.database.comptest.generatedmapper";
+        File packageDir = new File(CHECKED_IN_MAPPERS, packageName.replace('.', File.separatorChar));
+        String[] classNames = {"SPInput", "SPOutput", "SPResultSet"};
+        File[] sourceFiles = Arrays.stream(classNames).map(className -> new File(packageDir, className + ".java")).toArray(File[]::new);
+
+        assertEquals(Arrays.asList(), errors(compile(sourceFiles)));
+
+        for (String className : classNames) {
+            String checkedIn = new String(Files.readAllBytes(new File(packageDir, className + "SPANMapper.java").toPath()), StandardCharsets.UTF_8);
+            // The checked in mappers start with the license header.
+            assertEquals(className + "SPANMapper differs from the output of the processor, regenerate it",
+                    generatedSource(packageName + "." + className + "SPANMapper"), checkedIn.substring(checkedIn.indexOf("package ")));
+        }
+    }
+
+    @Test
+    public void testPrivateFieldWithoutSetter() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.ReadOnly", "package test;\n" +
+                "import com.americanexpress.span.annotation.*;\n" +
+                "public class ReadOnly {\n" +
+                "    @Field(name = \"value\") private String value;\n" +
+                "    public String getValue() { return value; }\n" +
+                "}\n");
+
+        assertEquals(Arrays.asList(), errors(diagnostics));
+        String mapper = generatedSource("test.ReadOnlySPANMapper");
+        assertTrue(mapper.contains("processSPInputParameters"));
+        assertFalse(mapper.contains("processSPOutputParameters"));
+        assertFalse(mapper.contains("processResultSet"));
+    }
+
+    @Test
+    public void testPrivateClassIsNotGenerated() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Outer", "package test;\n" +
+                "import com.americanexpress.span.annotation.*;\n" +
+                "public class Outer {\n" +
+                "    private static class Inner {\n" +
+                "        @Field(name = \"value\") String value;\n" +
+                "    }\n" +
+                "}\n");
+
+        assertEquals(Arrays.asList(), errors(diagnostics));
+        assertNull(generatedSource("test.Outer_InnerSPANMapper"));
+    }
+
+    @Test
+    public void testDuplicateFields() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Duplicate", "package test;\n" +
+                "import com.americanexpress.span.annotation.*;\n" +
+                "public class Duplicate {\n" +
+                "    @Field(name = \"value\") String first;\n" +
+                "    @Field(name = \"value\") String second;\n" +
+                "}\n");
+
+        assertEquals(Arrays.asList("Duplicate fields in Duplicate. Field: value"), errors(diagnostics));
+        assertNull(generatedSource("test.DuplicateSPANMapper"));
+    }
+
+    @Test
+    public void testJavaBeanRules() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.NotABean", "package test;\n" +
+                "import com.americanexpress.span.annotation.*;\n" +
+                "public class NotABean {\n" +
+                "    private String value;\n" +
+                "    @Field(name = \"value\") public void setAmount(String value) { this.value = value; }\n" +
+                "}\n");
+
+        assertEquals(Arrays.asList("Class test.NotABean doesn't follow Java bean rules for the method: setAmount"), errors(diagnostics));
+    }
+
+    @Test
+    public void testResultSetSequence() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Sequence", "package test;\n" +
+                "import com.americanexpress.span.annotation.*;\n" +
+                "import java.util.List;\n" +
+                "public class Sequence {\n" +
+                "    @ResultSet(seqNum = 2) List<Sequence> second;\n" +
+                "    @ResultSet(seqNum = 4) List<Sequence> fourth;\n" +
+                "}\n");
+
+        assertEquals(Arrays.asList("@ResultSet should have unique Sequence numbers starting at 1. [2, 4]"), errors(diagnostics));
+    }
+
+    @Test
+    public void testDuplicateResultSetSequence() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Sequence", "package test;\n" +
+                "import com.americanexpress.span.annotation.*;\n" +
+                "import java.util.List;\n" +
+                "public class Sequence {\n" +
+                "    @ResultSet List<Sequence> first;\n" +
+                "    @ResultSet List<Sequence> second;\n" +
+                "}\n");
+
+        assertEquals(Arrays.asList("@ResultSet should have unique continuous Sequence numbers starting at 1. [1, 1]"), errors(diagnostics));
+    }
+
+    @Test
+    public void testResultSetShouldBeAList() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.NotAList", "package test;\n" +
+                "import com.americanexpress.span.annotation.*;\n" +
+                "import java.util.Map;\n" +
+                "public class NotAList {\n" +
+                "    @ResultSet Map<String, String> rows;\n" +
+                "}\n");
+
+        assertEquals(Arrays.asList("ResultSet Field should be a List."), errors(diagnostics));
+    }
+}
@@ -15,13 +15,13 @@ package com.americanexpress.span.annotation;
 
 /**
  * Annotation for developer to easily identify POJO class. Annotated with this annotation -  this means POJO class is for using InputParameters into SP Call.
- *
+ * When a class is annotated, the SPAN annotation processor (module span-processor) generates its mapper as well.
  *
  */
 
 import java.lang.annotation.*;
 
-@Target({ElementType.FIELD,ElementType.METHOD})
+@Target({ElementType.TYPE,ElementType.FIELD,ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface SPInput {
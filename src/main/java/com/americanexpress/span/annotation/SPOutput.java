@@ -16,13 +16,13 @@ package com.americanexpress.span.annotation;
 /**
  * Annotation for developer to easily identify POJO class. Annotated with this annotation -  this means POJO class is for using OutputParameters and
  * ResultSet returned from SP Call.
- *
+ * When a class is annotated, the SPAN annotation processor (module span-processor) generates its mapper as well.
  *
  */
 
 import java.lang.annotation.*;
 
-@Target({ElementType.FIELD,ElementType.METHOD})
+@Target({ElementType.TYPE,ElementType.FIELD,ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface SPOutput {
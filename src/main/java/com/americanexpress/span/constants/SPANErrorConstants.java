@@ -24,6 +24,20 @@ public class SPANErrorConstants {
     public static final String DATASOURCE_DETAILS_ERROR_MSG = "'datasource_details' value cannot be null or empty for ";
     public static final String SP_DETAILS_ERROR_MSG = "'sp_details' value cannot be null or empty for ";
     public static final String SP_USER_KEY_DUPLCATE_ERROR_MSG = "'sp_details' value cannot be duplicate. ";
+    public static final String FETCH_SIZE_ERROR_MSG = "'fetchSize' value cannot be negative for ";
+    public static final String QUERY_TIMEOUT_ERROR_MSG = "'queryTimeout' value cannot be negative for ";
+    public static final String MAX_ROWS_ERROR_MSG = "'maxRows' value cannot be negative for ";
+    public static final String FETCH_DIRECTION_ERROR_MSG = "'fetchDirection' value should be FORWARD, REVERSE or UNKNOWN for ";
+    public static final String WAITERS_ALERT_THRESHOLD_ERROR_MSG = "'waitersAlertThreshold' value should be greater than 0 for ";
+    public static final String CACHE_TTL_ERROR_MSG = "'cache.ttl' value should be greater than 0 for ";
+    public static final String CACHE_MAX_ENTRIES_ERROR_MSG = "'cache.maxEntries' value should be greater than 0 for ";
+    public static final String CACHE_MAX_WEIGHT_ERROR_MSG = "'cache.maxWeight' value should be greater than 0 for ";
+    public static final String CACHE_EVICTION_ERROR_MSG = "'cache.eviction' value should be LRU or LFU for ";
+    public static final String CACHE_STALE_ERROR_MSG = "'cache.staleWhileRevalidate' value cannot be negative for ";
+    public static final String LOGGING_LEVEL_ERROR_MSG = "'logging.level' value should be TRACE, DEBUG, INFO, WARN, ERROR or OFF for ";
+    public static final String LOGGING_SAMPLE_RATE_ERROR_MSG = "'logging.sampleRate' value should be greater than 0 for ";
+    public static final String LOGGING_MAX_PER_SECOND_ERROR_MSG = "'logging.maxPerSecond' value cannot be negative for ";
+    public static final String LOGGING_SLOW_THRESHOLD_ERROR_MSG = "'logging.slowThresholdMillis' value cannot be negative for ";
 
     private SPANErrorConstants() {
     }
@@ -14,7 +14,12 @@
 package com.americanexpress.span.core;
 
 import com.americanexpress.span.constants.SPANErrorConstants;
+import com.americanexpress.span.core.database.ExecutionLog;
+import com.americanexpress.span.core.database.StatementSettings;
+import com.americanexpress.span.core.database.cache.ResultCache;
 import com.americanexpress.span.exceptions.ConfigurationSPANException;
+import com.americanexpress.span.models.CacheDetails;
+import com.americanexpress.span.models.LoggingDetails;
 import com.americanexpress.span.models.SPANConfig;
 import com.americanexpress.span.models.SPANUserDefineKeyDetails;
 import com.americanexpress.span.models.SPUserDefineKey;
@@ -63,6 +68,17 @@ public class ConfigurationValidation {
 
                     throw new ConfigurationSPANException(SPANErrorConstants.PROCEDURE_ERROR_MSG + spUserDefineKey);
                 }
+
+                validateStatementSettings(spUserDefineKey, spUserDefineKeyDetails.getFetchSize(), spUserDefineKeyDetails.getQueryTimeout(),
+                        spUserDefineKeyDetails.getMaxRows(), spUserDefineKeyDetails.getFetchDirection());
+
+                if (spUserDefineKeyDetails.getCache() != null) {
+                    validateCacheDetails(spUserDefineKey, spUserDefineKeyDetails.getCache());
+                }
+
+                if (spUserDefineKeyDetails.getLogging() != null) {
+                    validateLoggingDetails(spUserDefineKey, spUserDefineKeyDetails.getLogging());
+                }
             }
 
         }
@@ -117,5 +133,93 @@ public class ConfigurationValidation {
             throw new ConfigurationSPANException(SPANErrorConstants.PASSWORD_ERROR_MSG + spanUserDefineKey);
         }
 
+        validateStatementSettings(spanUserDefineKey, spanUserDefineKeyDetails.getDataSourceDetails().getFetchSize(),
+                spanUserDefineKeyDetails.getDataSourceDetails().getQueryTimeout(), spanUserDefineKeyDetails.getDataSourceDetails().getMaxRows(),
+                spanUserDefineKeyDetails.getDataSourceDetails().getFetchDirection());
+
+        Integer waitersAlertThreshold = spanUserDefineKeyDetails.getDataSourceDetails().getWaitersAlertThreshold();
+        if (waitersAlertThreshold != null && waitersAlertThreshold <= 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.WAITERS_ALERT_THRESHOLD_ERROR_MSG + spanUserDefineKey);
+        }
+    }
+
+    /**
+     * Method validates the cache section of a Stored Procedure. Throws {@link ConfigurationSPANException} in case of validation failure.
+     *
+     * @param spUserDefineKey SP User Defined key
+     * @param cacheDetails    cache section of the Stored Procedure
+     */
+    private void validateCacheDetails(String spUserDefineKey, CacheDetails cacheDetails) {
+        if (cacheDetails.getTtl() <= 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.CACHE_TTL_ERROR_MSG + spUserDefineKey);
+        }
+
+        if (cacheDetails.getMaxEntries() <= 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.CACHE_MAX_ENTRIES_ERROR_MSG + spUserDefineKey);
+        }
+
+        if (cacheDetails.getMaxWeight() != null && cacheDetails.getMaxWeight() <= 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.CACHE_MAX_WEIGHT_ERROR_MSG + spUserDefineKey);
+        }
+
+        if (!ResultCache.isValidEviction(cacheDetails.getEviction())) {
+            throw new ConfigurationSPANException(SPANErrorConstants.CACHE_EVICTION_ERROR_MSG + spUserDefineKey);
+        }
+
+        if (cacheDetails.getStaleWhileRevalidate() < 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.CACHE_STALE_ERROR_MSG + spUserDefineKey);
+        }
+    }
+
+    /**
+     * Method validates the logging section of a Stored Procedure. Throws {@link ConfigurationSPANException} in case of validation failure.
+     *
+     * @param spUserDefineKey SP User Defined key
+     * @param loggingDetails  logging section of the Stored Procedure
+     */
+    private void validateLoggingDetails(String spUserDefineKey, LoggingDetails loggingDetails) {
+        if (!ExecutionLog.isValidLevel(loggingDetails.getLevel())) {
+            throw new ConfigurationSPANException(SPANErrorConstants.LOGGING_LEVEL_ERROR_MSG + spUserDefineKey);
+        }
+
+        if (loggingDetails.getSampleRate() <= 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.LOGGING_SAMPLE_RATE_ERROR_MSG + spUserDefineKey);
+        }
+
+        if (loggingDetails.getMaxPerSecond() != null && loggingDetails.getMaxPerSecond() < 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.LOGGING_MAX_PER_SECOND_ERROR_MSG + spUserDefineKey);
+        }
+
+        if (loggingDetails.getSlowThresholdMillis() != null && loggingDetails.getSlowThresholdMillis() < 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.LOGGING_SLOW_THRESHOLD_ERROR_MSG + spUserDefineKey);
+        }
+    }
+
+    /**
+     * Method validates the statement settings of datasource_details or sp_details. The settings are optional.
+     * Throws {@link ConfigurationSPANException} in case of validation failure.
+     *
+     * @param userDefineKey  SPAN or SP User Defined key
+     * @param fetchSize      fetchSize setting
+     * @param queryTimeout   queryTimeout setting, in seconds
+     * @param maxRows        maxRows setting
+     * @param fetchDirection fetchDirection setting
+     */
+    private void validateStatementSettings(String userDefineKey, Integer fetchSize, Integer queryTimeout, Integer maxRows, String fetchDirection) {
+        if (fetchSize != null && fetchSize < 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.FETCH_SIZE_ERROR_MSG + userDefineKey);
+        }
+
+        if (queryTimeout != null && queryTimeout < 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.QUERY_TIMEOUT_ERROR_MSG + userDefineKey);
+        }
+
+        if (maxRows != null && maxRows < 0) {
+            throw new ConfigurationSPANException(SPANErrorConstants.MAX_ROWS_ERROR_MSG + userDefineKey);
+        }
+
+        if (!StatementSettings.isValidFetchDirection(fetchDirection)) {
+            throw new ConfigurationSPANException(SPANErrorConstants.FETCH_DIRECTION_ERROR_MSG + userDefineKey);
+        }
     }
 }
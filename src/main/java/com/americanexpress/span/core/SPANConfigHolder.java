@@ -20,21 +20,22 @@ import com.americanexpress.span.constants.SPANConstants;
 import com.americanexpress.span.exceptions.SPANException;
 import com.americanexpress.span.models.DataSourceDetails;
 import com.americanexpress.span.models.SPANConfig;
-import com.americanexpress.span.models.SPANUserDefineKeyDetails;
 import com.americanexpress.span.models.SPUserDefineKey;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 //I used final as it should be not override by user.
 public final class SPANConfigHolder {
 
     private static SPANConfigHolder instance = null;
 
-    private HoldSPANConfig holdSPANConfig;
+    private volatile HoldSPANConfig holdSPANConfig;
 
     private SPANConfigHolder() {
     }
@@ -68,20 +69,19 @@ public final class SPANConfigHolder {
      * @return  DataSource Details
      */
     public DataSourceDetails getDataSourceDetails(final String spUserDefinedKey) {
-        Set<SPANUserDefineKeyDetails> spanUserDefineKeyDetails = getSPANConfig().getSpanUserDefineKeys().values().stream().filter(spanUserDefinedValues -> {
-            Set<String> filteredSpUserDefineKeys = spanUserDefinedValues.getSpUserDefineKeys().keySet()
-                    .stream().filter(mapSPUserDefinedKey -> mapSPUserDefinedKey.equals(spUserDefinedKey)).collect(Collectors.toSet());
-            // If there is more than one User Defined key with the same name, the method will return false.
-            // SP User Defined should be unique all the time.
-            return filteredSpUserDefineKeys.size() == 1;
-        }).collect(Collectors.toSet());
-        if (spanUserDefineKeyDetails.isEmpty()) {
-            throw new SPANException("Unable to find DataSource for Stored Procedure User Defined Key: " + spUserDefinedKey);
-        }
-        if(spanUserDefineKeyDetails.size() != 1) {
-            throw new SPANException("More than one SPAN UserDefined keys found for Stored Procedure User Defined Key: " + spUserDefinedKey);
-        }
-        return spanUserDefineKeyDetails.stream().map(SPANUserDefineKeyDetails ::getDataSourceDetails).collect(Collectors.toList()).get(0);
+        return find(spUserDefinedKey, "Unable to find DataSource for Stored Procedure User Defined Key: ",
+                "More than one SPAN UserDefined keys found for Stored Procedure User Defined Key: ").getDataSourceDetails();
+    }
+
+    /**
+     * Get SPAN User Defined key, i.e. the DataSource key of SPANDatabaseConfig, for a give SP User Defined key.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @return SPAN User Defined key
+     */
+    public String getSPANUserDefinedKey(final String spUserDefinedKey) {
+        return find(spUserDefinedKey, "Unable to find DataSource for Stored Procedure User Defined Key: ",
+                "More than one SPAN UserDefined keys found for Stored Procedure User Defined Key: ").getSpanUserDefinedKey();
     }
 
     /**
@@ -91,30 +91,32 @@ public final class SPANConfigHolder {
      * @return                      SP User Defined key
      */
     public SPUserDefineKey getSPUserDefinedKey(final String spUserDefinedKey) {
-        Set<Optional<SPUserDefineKey>> optionalSPUserDefineKeys = getSPANConfig().getSpanUserDefineKeys().values().stream().map(spanUserDefinedValues -> {
-            Set<String> filteredSpUserDefineKeys = spanUserDefinedValues.getSpUserDefineKeys().keySet()
-                    .stream().filter(mapSPUserDefinedKey -> mapSPUserDefinedKey.equals(spUserDefinedKey)).collect(Collectors.toSet());
-            if (filteredSpUserDefineKeys.size() == 1) {
-                return Optional.of(spanUserDefinedValues.getSpUserDefineKeys().get(filteredSpUserDefineKeys.iterator().next()));
-            } else {
-                SPUserDefineKey spUserDefineKeyNull = null;
-                return Optional.ofNullable(spUserDefineKeyNull);
-            }
-        }).collect(Collectors.toSet());
-
-
-        // Removing optionals.
-        Set<SPUserDefineKey> spUserDefineKey = optionalSPUserDefineKeys.stream().filter(Optional::isPresent)
-                .map(Optional::get).collect(Collectors.toSet());
+        return find(spUserDefinedKey, "Unable to find SP User Defined Key: ",
+                "More than one SP UserDefined keys found for Stored Procedure User Defined Key: ").getSPUserDefineKey();
+    }
 
+    /**
+     * Gets the indexed configuration of a Stored Procedure, in constant time.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @return Definition of the Stored Procedure
+     * @throws SPANException if the key is unknown or defined under more than one SPAN User Defined key
+     */
+    public SPDefinition getSPDefinition(final String spUserDefinedKey) {
+        return find(spUserDefinedKey, "Unable to find SP User Defined Key: ",
+                "More than one SPAN UserDefined keys found for Stored Procedure User Defined Key: ");
+    }
 
-        if (spUserDefineKey.isEmpty()) {
-            throw new SPANException("Unable to find SP User Defined Key: " + spUserDefinedKey);
-        }
-        if(spUserDefineKey.size() != 1) {
-            throw new SPANException("More than one SP UserDefined keys found for Stored Procedure User Defined Key: " + spUserDefinedKey);
+    private SPDefinition find(final String spUserDefinedKey, final String notFoundMessage, final String duplicateMessage) {
+        Objects.requireNonNull(holdSPANConfig, "holdSPANConfig should not be null");
+        SPDefinition spDefinition = holdSPANConfig.getSPDefinition(spUserDefinedKey);
+        if (spDefinition == null) {
+            if (holdSPANConfig.isDuplicate(spUserDefinedKey)) {
+                throw new SPANException(duplicateMessage + spUserDefinedKey);
+            }
+            throw new SPANException(notFoundMessage + spUserDefinedKey);
         }
-        return spUserDefineKey.iterator().next();
+        return spDefinition;
     }
 
     public final String getProperty(String propertyName) {
@@ -133,23 +135,73 @@ public final class SPANConfigHolder {
         holdSPANConfig = HoldSPANConfig.getInstance(spanConfig, properties);
     }
 
+    /**
+     * Replaces the SPANConfig object on a reload, then runs the given action, e.g. the rebuild of the DataSources. The previous
+     * SPANConfig object is set back if the action fails. Concurrent reloads are run one after the other.
+     *
+     * @param spanConfig Validated SPANConfig
+     * @param properties Properties of the SPANConfig
+     * @param afterSet   Action run once the SPANConfig is set
+     */
+    public void replaceSPANConfig(SPANConfig spanConfig, Properties properties, Runnable afterSet) {
+        synchronized (SPANConfigHolder.class) {
+            HoldSPANConfig previous = holdSPANConfig;
+            holdSPANConfig = HoldSPANConfig.replace(new HoldSPANConfig(spanConfig, properties));
+            try {
+                afterSet.run();
+            } catch (RuntimeException e) {
+                holdSPANConfig = HoldSPANConfig.replace(previous);
+                throw e;
+            }
+        }
+    }
+
     /**
      * HoldSPANConfig - Hold SPANConfig object and it should not be override by user and it should be set by once only.
      * I have created a inner class because if i used setter method on SPANConfigHolder then i cannot instantiate final object and it is not
      * good idea to pass SPANConfig in getInstance method in order to hold SPANConfig object. User should not worry about underneath implementation.
+     * The Stored Procedures are indexed by SP User Defined key when the SPANConfig is set, so that their lookup is a single get.
+     * Only a reload of SPAN configuration replaces the instance.
      */
     private static final class HoldSPANConfig {
 
-        private static HoldSPANConfig holdSPANConfig;
+        private static volatile HoldSPANConfig holdSPANConfig;
 
         private final SPANConfig spanConfig;
 
         private final Properties properties;
 
+        private final Map<String, SPDefinition> spDefinitions;
+
+        // SP User Defined keys found under more than one SPAN User Defined key, they are not in spDefinitions
+        private final Set<String> duplicateKeys;
+
         private HoldSPANConfig(SPANConfig spanConfig, Properties properties) {
             Objects.requireNonNull(spanConfig, "spanConfig should not be null.");
             this.spanConfig = spanConfig;
             this.properties = (Properties) properties.clone();
+            Map<String, SPDefinition> definitions = new HashMap<>();
+            Set<String> duplicates = new HashSet<>();
+            if (spanConfig.getSpanUserDefineKeys() != null) {
+                spanConfig.getSpanUserDefineKeys().forEach((spanUserDefinedKey, spanUserDefineKeyDetails) -> {
+                    if (spanUserDefineKeyDetails == null || spanUserDefineKeyDetails.getSpUserDefineKeys() == null) {
+                        return;
+                    }
+                    spanUserDefineKeyDetails.getSpUserDefineKeys().forEach((spUserDefinedKey, spUserDefineKey) -> {
+                        if (spUserDefineKey == null) {
+                            return;
+                        }
+                        SPDefinition spDefinition = new SPDefinition(spUserDefinedKey, spanUserDefinedKey, spUserDefineKey,
+                                spanUserDefineKeyDetails.getDataSourceDetails());
+                        if (duplicates.contains(spUserDefinedKey) || definitions.putIfAbsent(spUserDefinedKey, spDefinition) != null) {
+                            definitions.remove(spUserDefinedKey);
+                            duplicates.add(spUserDefinedKey);
+                        }
+                    });
+                });
+            }
+            this.spDefinitions = Collections.unmodifiableMap(definitions);
+            this.duplicateKeys = Collections.unmodifiableSet(duplicates);
         }
 
 
@@ -164,6 +216,13 @@ public final class SPANConfigHolder {
             return holdSPANConfig;
         }
 
+        static HoldSPANConfig replace(HoldSPANConfig replacement) {
+            synchronized (HoldSPANConfig.class) {
+                holdSPANConfig = replacement;
+            }
+            return replacement;
+        }
+
         public final SPANConfig getSpanConfig() {
             return this.spanConfig;
         }
@@ -171,5 +230,13 @@ public final class SPANConfigHolder {
         public final String getProperty(String propertyName) {
             return this.properties.getProperty(propertyName);
         }
+
+        final SPDefinition getSPDefinition(String spUserDefinedKey) {
+            return spUserDefinedKey != null ? spDefinitions.get(spUserDefinedKey) : null;
+        }
+
+        final boolean isDuplicate(String spUserDefinedKey) {
+            return spUserDefinedKey != null && duplicateKeys.contains(spUserDefinedKey);
+        }
     }
 }
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core;
+
+import com.americanexpress.span.exceptions.ConfigurationSPANException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SPANConfigWatcher - Reloads SPAN configuration when its YAML file is modified, see {@link SPANInitialization#watch()}. The
+ * events of the file are debounced, so that an editor writing the file in several steps triggers a single reload. A failed
+ * reload is logged and the current configuration is kept.
+ */
+public final class SPANConfigWatcher implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SPANConfigWatcher.class);
+
+    static final long DEBOUNCE_MILLIS = 200L;
+
+    private final Path file;
+
+    private final Runnable reload;
+
+    private final WatchService watchService;
+
+    SPANConfigWatcher(final Path file, final Runnable reload) {
+        this.file = file;
+        this.reload = reload;
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new ConfigurationSPANException("SPAN-Exception the configuration file " + file + " cannot be watched. " + e.getMessage(), e);
+        }
+        Thread thread = new Thread(this::watch, "SPAN-config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        LOGGER.info("Watching the SPAN configuration file: {}", file);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean modified = isModified(key);
+                // Waits for the writes of the file to settle
+                while (true) {
+                    WatchKey next = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    modified |= isModified(next);
+                }
+                if (modified) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.info("Stopped watching the SPAN configuration file: {}", file);
+        }
+    }
+
+    private boolean isModified(final WatchKey key) {
+        boolean modified = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            modified |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (context instanceof Path && file.getFileName().equals(context));
+        }
+        key.reset();
+        return modified;
+    }
+
+    private void reload() {
+        try {
+            reload.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to reload the SPAN configuration file: {}, the current configuration is kept. Exception Message: {}",
+                    file, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stops watching the configuration file.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
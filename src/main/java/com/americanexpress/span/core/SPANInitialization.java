@@ -14,6 +14,7 @@
 package com.americanexpress.span.core;
 
 import com.americanexpress.span.constants.SPANConstants;
+import com.americanexpress.span.core.database.connection.SPANDataSource;
 import com.americanexpress.span.exceptions.ConfigurationSPANException;
 import com.americanexpress.span.models.SPANConfig;
 import com.americanexpress.span.utility.PropertyConfiguration;
@@ -22,10 +23,14 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.LoggerFactory;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.Properties;
@@ -37,6 +42,9 @@ public final class SPANInitialization {
 
     private static PropertyConfiguration propertyConfiguration = new PropertyConfiguration() {};
 
+    // File name of the last loaded configuration, read again by reload()
+    private static volatile String configFileName;
+
     /**
      * Loads the given yaml file into SPANConfig object. If no fileName given, loads the default file.
      *
@@ -83,6 +91,73 @@ public final class SPANInitialization {
      * @throws ConfigurationSPANException
      */
     private static void loadSPANConfig(String fileName) {
+        Properties prop = new Properties();
+        SPANConfig spanConfig = readSPANConfig(fileName, prop);
+
+        //Loads the SPANConfig in the singleton class.
+        SPANConfigHolder.getInstance().setSPANConfig(spanConfig, prop);
+        configFileName = fileName;
+    }
+
+    /**
+     * Reloads the configuration file of the last initialization, without restarting the application. The new configuration is
+     * validated first, the current one is kept if it is invalid. Then the DataSources whose connection settings are unchanged are
+     * kept, the changed and added ones are created, and the calls resolve the Stored Procedures with the new configuration. The
+     * retired DataSources are closed once the calls in flight have returned their Connections.
+     *
+     * @throws ConfigurationSPANException if SPAN is not initialized or the configuration file is invalid
+     * @throws IllegalArgumentException   if a driver class cannot be found, the current configuration is kept
+     */
+    public static final void reload() {
+        String fileName = configFileName;
+        if (StringUtils.isEmpty(fileName)) {
+            throw new ConfigurationSPANException("SPAN-Exception SPAN is not initialized, there is no configuration file to reload.");
+        }
+        Properties prop = new Properties();
+        SPANConfig spanConfig = readSPANConfig(fileName, prop);
+        SPANConfigHolder.getInstance().replaceSPANConfig(spanConfig, prop, SPANDataSource::reload);
+        LoggerFactory.getLogger(SPANInitialization.class).info("SPAN configuration reloaded from: {}", fileName);
+    }
+
+    /**
+     * Watches the configuration file of the last initialization and calls {@link #reload()} when it is modified. A configuration
+     * file found on the classpath must be a file of a directory, not of a jar.
+     *
+     * @return Watcher of the file, to be closed to stop watching
+     * @throws ConfigurationSPANException if SPAN is not initialized or the configuration file cannot be watched
+     */
+    public static final SPANConfigWatcher watch() {
+        String fileName = configFileName;
+        if (StringUtils.isEmpty(fileName)) {
+            throw new ConfigurationSPANException("SPAN-Exception SPAN is not initialized, there is no configuration file to watch.");
+        }
+        return new SPANConfigWatcher(toPath(fileName), SPANInitialization::reload);
+    }
+
+    private static Path toPath(String fileName) {
+        URL url = SPANInitialization.class.getClassLoader().getResource(fileName);
+        if (Objects.isNull(url)) {
+            return Paths.get(fileName).toAbsolutePath();
+        }
+        if (!"file".equals(url.getProtocol())) {
+            throw new ConfigurationSPANException("SPAN-Exception the configuration file " + url + " cannot be watched, it is not a file.");
+        }
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new ConfigurationSPANException("SPAN-Exception the configuration file " + url + " cannot be watched. " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads and validates the YAML file.
+     *
+     * @param fileName Classpath resource or file name
+     * @param prop     Filled with the properties file of the configuration, if any
+     * @return Validated SPANConfig
+     * @throws ConfigurationSPANException
+     */
+    private static SPANConfig readSPANConfig(String fileName, Properties prop) {
         SPANConfig spanConfig = null;
         ConfigurationValidation configurationValidation = new ConfigurationValidation();
         ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
@@ -99,20 +174,17 @@ public final class SPANInitialization {
             configurationValidation.validation(spanConfig);
 
             //if properties file is provided then load the properties and set into System properties.
-            Properties prop = new Properties();
             if (StringUtils.isNotEmpty(spanConfig.getProperties())) {
                 try (InputStream in = new FileInputStream(spanConfig.getProperties())) {
                     // load a properties file
                     prop.load(in);
                 }
             }
-
-            //Loads the SPANConfig in the singleton class.
-            SPANConfigHolder.getInstance().setSPANConfig(spanConfig, prop);
+            return spanConfig;
 
         } catch (IOException mappingException) {
             throw new ConfigurationSPANException("SPAN-Exception occurred while loading the configuration file " + mappingException.getMessage(), mappingException);
         }
     }
 
-}
\ No newline at end of file
+}
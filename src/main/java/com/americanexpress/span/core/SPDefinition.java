@@ -0,0 +1,112 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core;
+
+import com.americanexpress.span.models.DataSourceDetails;
+import com.americanexpress.span.models.SPUserDefineKey;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * SPDefinition - Entry of the index of SPAN configuration built by {@link SPANConfigHolder} for a Stored Procedure User Defined Key:
+ * its sp_details, and the SPAN User Defined key and datasource_details of its DataSource.
+ */
+public final class SPDefinition {
+
+    private final String spUserDefinedKey;
+
+    private final String spanUserDefinedKey;
+
+    private final SPUserDefineKey spUserDefineKey;
+
+    private final DataSourceDetails dataSourceDetails;
+
+    private final String qualifiedName;
+
+    // Call statements by number of parameters, built on first use. A lost update of the array only rebuilds a statement.
+    private volatile String[] callStatements = new String[0];
+
+    SPDefinition(final String spUserDefinedKey, final String spanUserDefinedKey, final SPUserDefineKey spUserDefineKey,
+                 final DataSourceDetails dataSourceDetails) {
+        this.spUserDefinedKey = spUserDefinedKey;
+        this.spanUserDefinedKey = spanUserDefinedKey;
+        this.spUserDefineKey = spUserDefineKey;
+        this.dataSourceDetails = dataSourceDetails;
+        this.qualifiedName = spUserDefineKey.getSchema() + "." + spUserDefineKey.getProcedure();
+    }
+
+    /**
+     * @return Stored Procedure User Defined Key, i.e. the key of sp_details
+     */
+    public String getSpUserDefinedKey() {
+        return spUserDefinedKey;
+    }
+
+    /**
+     * @return SPAN User Defined key, i.e. the DataSource key of SPANDatabaseConfig
+     */
+    public String getSpanUserDefinedKey() {
+        return spanUserDefinedKey;
+    }
+
+    /**
+     * @return sp_details of the Stored Procedure
+     */
+    public SPUserDefineKey getSPUserDefineKey() {
+        return spUserDefineKey;
+    }
+
+    /**
+     * @return datasource_details of the Stored Procedure
+     */
+    public DataSourceDetails getDataSourceDetails() {
+        return dataSourceDetails;
+    }
+
+    /**
+     * @return schema.procedure
+     */
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    /**
+     * Returns the call statement of the Stored Procedure, e.g. {call SCHEMA.PROCEDURE(?,?)}. The statement is built once per number
+     * of parameters.
+     *
+     * @param parameterCount Number of input and output parameters
+     * @return Call statement of the Stored Procedure
+     */
+    public String getCallStatement(final int parameterCount) {
+        if (parameterCount < 0) {
+            throw new IllegalArgumentException("Invalid parameter count: " + parameterCount);
+        }
+        String[] statements = callStatements;
+        if (parameterCount < statements.length && statements[parameterCount] != null) {
+            return statements[parameterCount];
+        }
+        String statement = "{call " + qualifiedName + "(" + String.join(",", Collections.nCopies(parameterCount, "?")) + ")}";
+        String[] grown = Arrays.copyOf(statements, Math.max(statements.length, parameterCount + 1));
+        grown[parameterCount] = statement;
+        callStatements = grown;
+        return statement;
+    }
+
+    @Override
+    public String toString() {
+        return "SPDefinition [spUserDefinedKey=" + spUserDefinedKey + ", spanUserDefinedKey=" + spanUserDefinedKey
+                + ", qualifiedName=" + qualifiedName + "]";
+    }
+}
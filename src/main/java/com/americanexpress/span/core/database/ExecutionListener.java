@@ -0,0 +1,60 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+/**
+ * ExecutionListener - Receives the phases of every Stored Procedure call of {@link SPExecutor#execute(String, Object, Class)} and
+ * {@link SPExecutor#executeAsync(String, Object, Class)}, e.g. to open a tracing span per phase. Listeners are added with
+ * {@link ExecutionListeners#addListener(ExecutionListener)}.
+ * <p>
+ * The methods are called by the thread executing the Stored Procedure, in the order of the phases. A phase can occur several
+ * times in a call: {@link ExecutionStats.Phase#EXECUTE} for every ResultSet requested from the driver and
+ * {@link ExecutionStats.Phase#RESULT_SET_MAPPING} for every ResultSet mapped. Exceptions thrown by a listener are logged and
+ * don't fail the call.
+ */
+public interface ExecutionListener {
+
+    /**
+     * Called before the DataSource of the Stored Procedure is looked up.
+     *
+     * @param stats Measures of the call
+     */
+    default void onStart(final ExecutionStats stats) {
+    }
+
+    /**
+     * @param stats Measures of the call
+     * @param phase Phase starting
+     */
+    default void onPhaseStart(final ExecutionStats stats, final ExecutionStats.Phase phase) {
+    }
+
+    /**
+     * Called when a phase completes, also if it threw an exception.
+     *
+     * @param stats         Measures of the call
+     * @param phase         Phase completed
+     * @param durationNanos Duration of this occurrence of the phase
+     */
+    default void onPhaseEnd(final ExecutionStats stats, final ExecutionStats.Phase phase, final long durationNanos) {
+    }
+
+    /**
+     * Called when the call completes, {@link ExecutionStats#getException()} is set if it failed.
+     *
+     * @param stats Measures of the call
+     */
+    default void onEnd(final ExecutionStats stats) {
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * ExecutionListeners - Holds the {@link ExecutionListener}s notified of the Stored Procedure calls. The phases of the calls are
+ * not timed while there is no listener, unless the caller asks for the {@link ExecutionStats} of its call.
+ */
+public final class ExecutionListeners {
+
+    private static final ExecutionListener[] NO_LISTENERS = new ExecutionListener[0];
+
+    private static volatile ExecutionListener[] listeners = NO_LISTENERS;
+
+    private ExecutionListeners() {
+    }
+
+    /**
+     * Adds a listener, notified of the calls starting after this method returns.
+     *
+     * @param listener Listener to add
+     */
+    public static synchronized void addListener(final ExecutionListener listener) {
+        Objects.requireNonNull(listener, "listener should not be null.");
+        ExecutionListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        listeners = newListeners;
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener Listener to remove
+     * @return true if the listener was added
+     */
+    public static synchronized boolean removeListener(final ExecutionListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                ExecutionListener[] newListeners = new ExecutionListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, newListeners, 0, i);
+                System.arraycopy(listeners, i + 1, newListeners, i, newListeners.length - i);
+                listeners = newListeners.length > 0 ? newListeners : NO_LISTENERS;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all the listeners.
+     */
+    public static synchronized void clear() {
+        listeners = NO_LISTENERS;
+    }
+
+    /**
+     * @return Listeners in the order they were added, the array is never modified
+     */
+    static ExecutionListener[] getListeners() {
+        return listeners;
+    }
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import com.americanexpress.span.core.database.connection.SPANDataSource;
+import com.americanexpress.span.core.database.connection.SPRegistration;
+import com.americanexpress.span.models.LoggingDetails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * ExecutionLog - Logs the calls of a Stored Procedure as configured by the logging section of sp_details: at the given level,
+ * 1 call in sampleRate and at most maxPerSecond calls per second. Calls slower than slowThresholdMillis are always logged at WARN
+ * level. Every message has the duration of the call, from the Connection borrow, and its number of rows or the error of a failed call.
+ */
+public final class ExecutionLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SPExecutor.class);
+
+    private static final LoggingDetails DEFAULT_LOGGING_DETAILS = new LoggingDetails();
+
+    private static final Map<String, ExecutionLog> executionLogMap = new ConcurrentHashMap<>();
+
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Number of rows of a call whose rows are read later, e.g. through a cursor.
+     */
+    static final long UNKNOWN_ROWS = -1;
+
+    private final LoggingDetails configuredDetails;
+
+    private final Level level;
+
+    private final int sampleRate;
+
+    private final int maxPerSecond;
+
+    private final long slowThresholdNanos;
+
+    private final LongSupplier clock;
+
+    private final AtomicLong callCount = new AtomicLong();
+
+    private final AtomicLong windowStart;
+
+    private final AtomicLong windowCount = new AtomicLong();
+
+    ExecutionLog(final LoggingDetails configuredDetails, final LongSupplier clock) {
+        LoggingDetails loggingDetails = configuredDetails != null ? configuredDetails : DEFAULT_LOGGING_DETAILS;
+        this.configuredDetails = configuredDetails;
+        this.level = Level.valueOf(loggingDetails.getLevel().trim().toUpperCase(Locale.ROOT));
+        this.sampleRate = loggingDetails.getSampleRate();
+        this.maxPerSecond = loggingDetails.getMaxPerSecond() != null ? loggingDetails.getMaxPerSecond() : Integer.MAX_VALUE;
+        this.slowThresholdNanos = loggingDetails.getSlowThresholdMillis() != null
+                ? TimeUnit.MILLISECONDS.toNanos(loggingDetails.getSlowThresholdMillis()) : Long.MAX_VALUE;
+        this.clock = clock;
+        this.windowStart = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Gets the execution log of a Stored Procedure. It is created again if the logging section of the Stored Procedure is replaced.
+     *
+     * @param registration Resolution of the Stored Procedure by {@link SPANDataSource#resolve(String)}
+     * @return Execution log of the Stored Procedure
+     */
+    static ExecutionLog of(final SPRegistration registration) {
+        String spUserDefinedKey = registration.getSpUserDefinedKey();
+        LoggingDetails loggingDetails = registration.getSPUserDefineKey().getLogging();
+        ExecutionLog executionLog = executionLogMap.get(spUserDefinedKey);
+        if (executionLog != null && executionLog.configuredDetails == loggingDetails) {
+            return executionLog;
+        }
+        return executionLogMap.compute(spUserDefinedKey, (key, current) -> current != null && current.configuredDetails == loggingDetails
+                ? current : new ExecutionLog(loggingDetails, System::nanoTime));
+    }
+
+    /**
+     * Checks the level value of SPAN configuration.
+     *
+     * @param level TRACE, DEBUG, INFO, WARN, ERROR or OFF, case insensitive
+     * @return true if the value is valid
+     */
+    public static boolean isValidLevel(final String level) {
+        if (level == null) {
+            return false;
+        }
+        try {
+            Level.valueOf(level.trim().toUpperCase(Locale.ROOT));
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return Start time of a call, taken before the Connection is borrowed, to pass to {@link #completed(long, String, long, Throwable)}
+     */
+    long start() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Logs a completed or failed call, if it is slow or sampled. Called from the finally block of the call.
+     *
+     * @param startTime Value of {@link #start()} before the call
+     * @param spQuery   SQL Query of the call
+     * @param rows      Number of rows of the ResultSets, of input objects for a batch, or {@link #UNKNOWN_ROWS}
+     * @param failure   Error of the call, null if it completed
+     */
+    void completed(final long startTime, final String spQuery, final long rows, final Throwable failure) {
+        long duration = clock.getAsLong() - startTime;
+        if (duration >= slowThresholdNanos) {
+            if (failure == null) {
+                logger.warn("Slow SQL Query. {} Duration: {} ms. Rows: {}", spQuery, TimeUnit.NANOSECONDS.toMillis(duration), rowsOf(rows));
+            } else {
+                logger.warn("Slow SQL Query failed. {} Duration: {} ms. Error: {}", spQuery, TimeUnit.NANOSECONDS.toMillis(duration), failure.toString());
+            }
+        } else if (level.isEnabled() && isSampled()) {
+            if (failure == null) {
+                level.log("Executed SQL Query. {} Duration: {} ms. Rows: {}", spQuery, TimeUnit.NANOSECONDS.toMillis(duration), rowsOf(rows));
+            } else {
+                level.log("Failed SQL Query. {} Duration: {} ms. Error: {}", spQuery, TimeUnit.NANOSECONDS.toMillis(duration), failure.toString());
+            }
+        }
+    }
+
+    private static Object rowsOf(final long rows) {
+        return rows == UNKNOWN_ROWS ? "not read yet" : rows;
+    }
+
+    /**
+     * @return true for 1 call in sampleRate, as long as less than maxPerSecond calls were sampled in the current second
+     */
+    boolean isSampled() {
+        if (sampleRate > 1 && callCount.getAndIncrement() % sampleRate != 0) {
+            return false;
+        }
+        if (maxPerSecond == Integer.MAX_VALUE) {
+            return true;
+        }
+        long now = clock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= SECOND_NANOS && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= maxPerSecond;
+    }
+
+    Level getLevel() {
+        return level;
+    }
+
+    enum Level {
+        TRACE {
+            @Override
+            boolean isEnabled() {
+                return logger.isTraceEnabled();
+            }
+
+            @Override
+            void log(final String format, final Object... arguments) {
+                logger.trace(format, arguments);
+            }
+        },
+        DEBUG {
+            @Override
+            boolean isEnabled() {
+                return logger.isDebugEnabled();
+            }
+
+            @Override
+            void log(final String format, final Object... arguments) {
+                logger.debug(format, arguments);
+            }
+        },
+        INFO {
+            @Override
+            boolean isEnabled() {
+                return logger.isInfoEnabled();
+            }
+
+            @Override
+            void log(final String format, final Object... arguments) {
+                logger.info(format, arguments);
+            }
+        },
+        WARN {
+            @Override
+            boolean isEnabled() {
+                return logger.isWarnEnabled();
+            }
+
+            @Override
+            void log(final String format, final Object... arguments) {
+                logger.warn(format, arguments);
+            }
+        },
+        ERROR {
+            @Override
+            boolean isEnabled() {
+                return logger.isErrorEnabled();
+            }
+
+            @Override
+            void log(final String format, final Object... arguments) {
+                logger.error(format, arguments);
+            }
+        },
+        OFF {
+            @Override
+            boolean isEnabled() {
+                return false;
+            }
+
+            @Override
+            void log(final String format, final Object... arguments) {
+            }
+        };
+
+        abstract boolean isEnabled();
+
+        abstract void log(String format, Object... arguments);
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExecutionStats - Time spent by a Stored Procedure call in each of its phases, to tell whether a slow call waited for the
+ * Connection pool, for the database or for the mapping. Pass an instance to {@link SPExecutor#execute(String, Object, Class, ExecutionStats)}
+ * to get the measures of the call, the same instances are given to the {@link ExecutionListener}s.
+ * <p>
+ * An instance measures one call at a time, and is reset when it is passed to another call. It is not filled when the result is
+ * returned by the cache of the Stored Procedure or shared with a coalesced call, see {@link #isExecuted()}.
+ */
+public final class ExecutionStats {
+
+    /**
+     * Phases of a Stored Procedure call, in execution order.
+     */
+    public enum Phase {
+        /**
+         * Lookup of the DataSource of the Stored Procedure.
+         */
+        DATASOURCE_LOOKUP,
+        /**
+         * Wait for a Connection of the pool.
+         */
+        CONNECTION_ACQUIRE,
+        /**
+         * Preparation of the Callable Statement.
+         */
+        PREPARE_CALL,
+        /**
+         * Transformation and binding of the input parameters, registration of the output parameters.
+         */
+        INPUT_BINDING,
+        /**
+         * Execution by the driver, including the requests of the next ResultSets.
+         */
+        EXECUTE,
+        /**
+         * Transformation of the output parameters.
+         */
+        OUTPUT_PARAMETERS,
+        /**
+         * Mapping of the rows of a ResultSet.
+         */
+        RESULT_SET_MAPPING
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[] phaseNanos = new long[PHASES.length];
+
+    private final List<Long> resultSetNanos = new ArrayList<>();
+
+    private ExecutionListener[] listeners = ExecutionListeners.getListeners();
+
+    private String spUserDefineKey;
+
+    private boolean executed;
+
+    private long totalNanos;
+
+    private Throwable exception;
+
+    /**
+     * Creates the measures of a call, to be passed to {@link SPExecutor#execute(String, Object, Class, ExecutionStats)}.
+     */
+    public ExecutionStats() {
+    }
+
+    /**
+     * Clears the measures of the previous call, the call is not executed until {@link #start(String, ExecutionListener[])}.
+     */
+    void reset(final String spUserDefineKey) {
+        this.spUserDefineKey = spUserDefineKey;
+        this.executed = false;
+        this.totalNanos = 0;
+        this.exception = null;
+        Arrays.fill(phaseNanos, 0L);
+        resultSetNanos.clear();
+    }
+
+    void start(final String spUserDefineKey, final ExecutionListener[] listeners) {
+        reset(spUserDefineKey);
+        this.listeners = listeners;
+        this.executed = true;
+        for (ExecutionListener listener : listeners) {
+            try {
+                listener.onStart(this);
+            } catch (RuntimeException e) {
+                logListenerException(listener, e);
+            }
+        }
+    }
+
+    /**
+     * @return Start time of the phase, for {@link #end(Phase, long)}
+     */
+    long begin(final Phase phase) {
+        for (ExecutionListener listener : listeners) {
+            try {
+                listener.onPhaseStart(this, phase);
+            } catch (RuntimeException e) {
+                logListenerException(listener, e);
+            }
+        }
+        return System.nanoTime();
+    }
+
+    void end(final Phase phase, final long startTime) {
+        long duration = System.nanoTime() - startTime;
+        phaseNanos[phase.ordinal()] += duration;
+        if (phase == Phase.RESULT_SET_MAPPING) {
+            resultSetNanos.add(duration);
+        }
+        for (ExecutionListener listener : listeners) {
+            try {
+                listener.onPhaseEnd(this, phase, duration);
+            } catch (RuntimeException e) {
+                logListenerException(listener, e);
+            }
+        }
+    }
+
+    void finish(final long totalNanos, final Throwable exception) {
+        this.totalNanos = totalNanos;
+        this.exception = exception;
+        for (ExecutionListener listener : listeners) {
+            try {
+                listener.onEnd(this);
+            } catch (RuntimeException e) {
+                logListenerException(listener, e);
+            }
+        }
+    }
+
+    private static void logListenerException(final ExecutionListener listener, final RuntimeException e) {
+        LoggerFactory.getLogger(ExecutionStats.class).warn("ExecutionListener: {} failed. Exception Message: {}", listener, e.getMessage(), e);
+    }
+
+    /**
+     * @return Stored Procedure User Defined Key of the call, null until the call starts
+     */
+    public String getSpUserDefineKey() {
+        return spUserDefineKey;
+    }
+
+    /**
+     * @return true if the Stored Procedure was called, false if the result came from the cache or a coalesced call
+     */
+    public boolean isExecuted() {
+        return executed;
+    }
+
+    /**
+     * @param phase Phase of the call
+     * @return Time spent in the phase in nanoseconds, summed over its occurrences
+     */
+    public long getDuration(final Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * @param phase Phase of the call
+     * @param unit  Unit of the returned duration
+     * @return Time spent in the phase, summed over its occurrences
+     */
+    public long getDuration(final Phase phase, final TimeUnit unit) {
+        return unit.convert(getDuration(phase), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return Mapping time in nanoseconds of every mapped ResultSet, in sequence number order
+     */
+    public List<Long> getResultSetDurations() {
+        return Collections.unmodifiableList(resultSetNanos);
+    }
+
+    /**
+     * @return Duration of the whole call in nanoseconds, including the time outside of the phases
+     */
+    public long getTotalDuration() {
+        return totalNanos;
+    }
+
+    /**
+     * @return Exception thrown by the call, null if it succeeded or is not complete
+     */
+    public Throwable getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ExecutionStats [spUserDefineKey=").append(spUserDefineKey)
+                .append(", totalNanos=").append(totalNanos);
+        for (Phase phase : PHASES) {
+            sb.append(", ").append(phase).append('=').append(phaseNanos[phase.ordinal()]);
+        }
+        return sb.append(", resultSetNanos=").append(resultSetNanos).append(", exception=").append(exception).append(']').toString();
+    }
+}
@@ -0,0 +1,272 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import com.americanexpress.span.core.database.binding.BindingPlan;
+import com.americanexpress.span.core.database.handlers.ResultSetHandler;
+import com.americanexpress.span.core.database.handlers.RowHandler;
+import com.americanexpress.span.core.database.handlers.impl.ResultSetHandlerImpl;
+import com.americanexpress.span.exceptions.SPANException;
+import com.americanexpress.span.utility.ThreadContext;
+import org.slf4j.LoggerFactory;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.americanexpress.span.core.database.SPExecutor.MDC_SP_KEY;
+import static com.americanexpress.span.core.database.SPExecutor.MDC_SQL_QUERY;
+
+/**
+ * SPCursor - Handle on an executed Stored Procedure, returned by {@link SPExecutor#openCursor(String, Object, Class)}.
+ * The Connection and the Callable Statement stay open until the cursor is closed, and the rows of the ResultSets are mapped
+ * on demand while the caller iterates, so the memory used doesn't depend on the number of rows.
+ * <p>
+ * The ResultSets are returned in the order of the Stored Procedure, i.e. in @ResultSet seqNum order. Moving to the next
+ * ResultSet closes the stream of the previous one. The cursor is not thread safe and should be closed with try-with-resources.
+ *
+ * @param <O> Type of the SP Output class
+ */
+public class SPCursor<O> implements AutoCloseable {
+
+    private final Connection connection;
+
+    private final CallableStatement statement;
+
+    private final String spUserDefineKey;
+
+    private final String spQuery;
+
+    private final O output;
+
+    private final ResultSetHandler resultSetHandler;
+
+    private boolean moreResults;
+
+    private int updateCount;
+
+    private boolean positioned;
+
+    private ResultSet pendingResultSet;
+
+    private int seqNum;
+
+    private boolean closed;
+
+    SPCursor(final Connection connection, final CallableStatement statement, final String spUserDefineKey, final String spQuery,
+             final O output, final ResultSetHandler resultSetHandler, final boolean moreResults, final int updateCount) {
+        this.connection = connection;
+        this.statement = statement;
+        this.spUserDefineKey = spUserDefineKey;
+        this.spQuery = spQuery;
+        this.output = output;
+        this.resultSetHandler = resultSetHandler;
+        this.moreResults = moreResults;
+        this.updateCount = updateCount;
+    }
+
+    /**
+     * @return Object for OutputParameters, null if the cursor was opened without SP Output class.
+     */
+    public O getOutput() {
+        return output;
+    }
+
+    /**
+     * @return Sequence number of the last ResultSet returned by {@link #nextResultSet(Class)}, 0 if none was returned yet.
+     */
+    public int getSeqNum() {
+        return seqNum;
+    }
+
+    /**
+     * Checks whether the Stored Procedure returned another ResultSet. This closes the stream of the current ResultSet.
+     *
+     * @return true if {@link #nextResultSet(Class)} will return a ResultSet.
+     */
+    public boolean hasNextResultSet() {
+        ensureOpen();
+        if (pendingResultSet == null) {
+            pendingResultSet = advance();
+        }
+        return pendingResultSet != null;
+    }
+
+    /**
+     * Moves to the next ResultSet and returns a stream mapping its rows on demand to the given type.
+     * This closes the stream of the current ResultSet.
+     *
+     * @param rowType Class of the ResultSet rows
+     * @param <R>     Type of the ResultSet rows
+     * @return Stream of the rows, valid until the cursor moves to the next ResultSet or is closed.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Stream<R> nextResultSet(final Class<R> rowType) {
+        //Validates ResultSet Class Fields
+        BindingPlan.of(rowType);
+        if (!hasNextResultSet()) {
+            throw new SPANException("Stored Procedure didn't return enough resultSets. Expected: " + (seqNum + 1)
+                    + ". Actual: " + seqNum + ". " + spQuery);
+        }
+        ResultSet resultSet = pendingResultSet;
+        pendingResultSet = null;
+        seqNum++;
+
+        ResultSetHandler handler = SPExecutor.generatedOrDefault(resultSetHandler, ResultSetHandlerImpl.class, rowType);
+        if (!(handler instanceof RowHandler)) {
+            LoggerFactory.getLogger(SPCursor.class).warn("ResultSetHandler {} doesn't implement RowHandler, ResultSets SeqNum: {} is loaded in memory. {}",
+                    handler.getClass(), seqNum, spQuery);
+            return withQuery(() -> (Stream<R>) handler.processResultSet(resultSet, rowType).stream());
+        }
+        RowIterator<R> iterator = new RowIterator<>(resultSet, (RowHandler<R>) handler, rowType);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Closes the Callable Statement, its ResultSets and the Connection. Calling this method more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pendingResultSet = null;
+        SQLException exception = null;
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            exception = e;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            if (exception == null) {
+                exception = e;
+            } else {
+                exception.addSuppressed(e);
+            }
+        }
+        if (exception != null) {
+            throw new SPANException("Exception occurred while closing cursor. Exception Message: " + exception.getMessage() + ". " + spQuery, exception);
+        }
+    }
+
+    /**
+     * Moves the Callable Statement to its next ResultSet, skipping update counts.
+     *
+     * @return Next ResultSet, null if there is no more ResultSet.
+     */
+    private ResultSet advance() {
+        try {
+            if (positioned) {
+                moreResults = statement.getMoreResults();
+                updateCount = statement.getUpdateCount();
+            }
+            positioned = true;
+            //Same as SPExecutor.execute, there are more results until there is no ResultSet and the update count is -1.
+            while (moreResults || updateCount != -1) {
+                ResultSet resultSet = statement.getResultSet();
+                if (resultSet != null) {
+                    return resultSet;
+                }
+                moreResults = statement.getMoreResults();
+                updateCount = statement.getUpdateCount();
+            }
+            return null;
+        } catch (SQLException e) {
+            throw new SPANException("Exception occurred while moving to the next ResultSet. Exception Message: " + e.getMessage() + ". " + spQuery, e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new SPANException("Cursor is closed. " + spQuery);
+        }
+    }
+
+    /**
+     * The rows are mapped after {@link SPExecutor#openCursor} has cleared the ThreadContext: the Stored Procedure is set again
+     * for the logs, metrics and conversion counters of the rows.
+     */
+    private <T> T withQuery(final Supplier<T> supplier) {
+        ThreadContext.set(MDC_SP_KEY, spUserDefineKey);
+        ThreadContext.set(MDC_SQL_QUERY, spQuery);
+        try {
+            return supplier.get();
+        } finally {
+            ThreadContext.removeKey(MDC_SQL_QUERY);
+            ThreadContext.removeKey(MDC_SP_KEY);
+        }
+    }
+
+    /**
+     * Iterator mapping the rows of a ResultSet on demand.
+     */
+    private final class RowIterator<R> implements Iterator<R> {
+
+        private final ResultSet resultSet;
+
+        private final RowHandler<R> rowHandler;
+
+        private final Class<R> rowType;
+
+        // Resolved on the first row, and dropped with the iterator when the cursor moves to the next ResultSet.
+        private Function<ResultSet, R> rowMapper;
+
+        private Boolean hasNext;
+
+        private RowIterator(final ResultSet resultSet, final RowHandler<R> rowHandler, final Class<R> rowType) {
+            this.resultSet = resultSet;
+            this.rowHandler = rowHandler;
+            this.rowType = rowType;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (hasNext == null) {
+                ensureOpen();
+                try {
+                    hasNext = resultSet.next();
+                } catch (SQLException e) {
+                    throw new SPANException("Exception occurred while processing ResultSet. Exception Message: " + e.getMessage(), e);
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = null;
+            return withQuery(() -> {
+                if (rowMapper == null) {
+                    rowMapper = rowHandler.newRowMapper(resultSet, rowType);
+                }
+                return rowMapper.apply(resultSet);
+            });
+        }
+    }
+}
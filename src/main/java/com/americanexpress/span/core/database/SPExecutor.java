@@ -13,31 +13,51 @@
  */
 package com.americanexpress.span.core.database;
 
-import com.americanexpress.span.core.SPANConfigHolder;
+import com.americanexpress.span.core.database.ExecutionStats.Phase;
+import com.americanexpress.span.core.database.binding.BindingPlan;
+import com.americanexpress.span.core.database.binding.ResultSetBinding;
+import com.americanexpress.span.core.database.cache.ResultCache;
+import com.americanexpress.span.core.database.cache.SPANCaches;
+import com.americanexpress.span.core.database.cache.SingleFlight;
 import com.americanexpress.span.core.database.connection.SPANDataSource;
+import com.americanexpress.span.core.database.connection.SPRegistration;
+import com.americanexpress.span.core.database.connection.SPANExecutors;
 import com.americanexpress.span.core.database.handlers.InputHandler;
 import com.americanexpress.span.core.database.handlers.OutputHandler;
 import com.americanexpress.span.core.database.handlers.ResultSetHandler;
 import com.americanexpress.span.core.database.handlers.impl.InputHandlerImpl;
 import com.americanexpress.span.core.database.handlers.impl.OutputHandlerImpl;
 import com.americanexpress.span.core.database.handlers.impl.ResultSetHandlerImpl;
-import com.americanexpress.span.exceptions.DuplicateFieldException;
+import com.americanexpress.span.core.database.mapper.SPANMapper;
+import com.americanexpress.span.core.database.mapper.SPANMappers;
+import com.americanexpress.span.core.database.metrics.NoOpMetrics;
+import com.americanexpress.span.core.database.metrics.SPANMetrics;
+import com.americanexpress.span.core.database.metrics.SPANMetricsRegistry;
 import com.americanexpress.span.exceptions.SPANException;
-import com.americanexpress.span.models.SPUserDefineKey;
-import com.americanexpress.span.utility.SPANUtility;
 import com.americanexpress.span.utility.ThreadContext;
 import com.google.common.base.Strings;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
+import java.sql.BatchUpdateException;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.*;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 
 /**
  * SPExecutor- Will do following things
@@ -47,9 +67,13 @@ import java.util.*;
  */
 public class SPExecutor {
 
-    public static final String MDC_SQL_QUERY = "SQL_Query";
-    public static final String MDC_FIELD = "Field";
-    private static final String CALL_STATEMENT = "{call %NAME%(%PARAM_LIST%)}";
+    public static final String MDC_SQL_QUERY = ThreadContext.MDC_SQL_QUERY;
+    public static final String MDC_FIELD = ThreadContext.MDC_FIELD;
+    public static final String MDC_SP_KEY = ThreadContext.MDC_SP_KEY;
+    /**
+     * Number of calls sent to the database at once by {@link #executeBatch(String, List)}.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
     private ResultSetHandler resultSetHandler;
 
     private InputHandler inputHandler;
@@ -68,30 +92,12 @@ public class SPExecutor {
 
     /**
      * This method validates the fields and check for duplicate field names for InParams, OutParams and ResultSet.
+     * The validation is done once per class, when its {@link BindingPlan} is created.
      *
      * @param clazz
      */
     public static void validateFields(Class clazz) {
-
-        Set<String> unique = new HashSet<>();
-        SPANUtility.getAnnotatedDeclaredFields(clazz).forEach(field -> {
-            if (unique.add(field.getAnnotation(com.americanexpress.span.annotation.Field.class).name()) == Boolean.FALSE) {
-                throw new DuplicateFieldException("Duplicate fields in " + clazz.getSimpleName());
-            }
-        });
-        SPANUtility.getAnnotatedDeclaredMethods(clazz).forEach(method -> {
-            if (null != method.getAnnotation(com.americanexpress.span.annotation.Field.class)
-                    && (unique.add(method.getAnnotation(com.americanexpress.span.annotation.Field.class).name()) == Boolean.FALSE)) {
-                    throw new DuplicateFieldException("Duplicate fields in " + clazz.getSimpleName());
-            }
-
-        });
-        SPANUtility.getAnnotatedDeclaredFields(clazz, com.americanexpress.span.annotation.ResultSet.class).forEach(resultSet -> {
-            ParameterizedType type = (ParameterizedType) resultSet.getGenericType();
-            Class<?> clazzType = (Class<?>) type.getActualTypeArguments()[0];
-            //validations for Duplicate Fields in ResultSet class
-            validateFields(clazzType);
-        });
+        BindingPlan.of(clazz);
     }
 
     public void setInputHandler(InputHandler inputHandler) {
@@ -107,102 +113,434 @@ public class SPExecutor {
     }
 
     public <I, O> O execute(final String spUserDefineKey, final I spInput, final Class<O> returnType) throws SQLException {
+        return execute(spUserDefineKey, spInput, returnType, (ExecutionStats) null);
+    }
+
+    /**
+     * Executes the Stored Procedure and measures the time spent in each phase of the call, see {@link ExecutionStats}.
+     *
+     * @param spUserDefineKey Stored Procedure Identifier
+     * @param spInput         Object for InputParameters
+     * @param returnType      Class Object for the type representing OutputParameters
+     * @param stats           Measures of the call, filled when the call completes, null to not measure the call
+     * @return Object for OutputParameters
+     * @throws SQLException if the execution of the Stored Procedure fails
+     */
+    public <I, O> O execute(final String spUserDefineKey, final I spInput, final Class<O> returnType, final ExecutionStats stats)
+            throws SQLException {
+        return executeCached(spUserDefineKey, spInput, returnType, null, stats);
+    }
+
+    /**
+     * Returns the output of the Stored Procedure from its cache, or from the call in flight with the same input when calls are
+     * coalesced, as configured in sp_details. Otherwise executes it.
+     *
+     * @param canceller Canceller of the Callable Statement executed by this call, null if the call cannot be cancelled
+     */
+    private <I, O> O executeCached(final String spUserDefineKey, final I spInput, final Class<O> returnType, final StatementCanceller canceller,
+                                   final ExecutionStats stats) throws SQLException {
+        // Invalid arguments and unknown keys are reported by the execution, not by the cache.
+        if (spInput == null || returnType == null || Strings.isNullOrEmpty(spUserDefineKey)) {
+            return execute(spUserDefineKey, spInput, returnType, canceller, stats);
+        }
+        if (stats != null) {
+            // Not executed, unless the loader runs: the result may come from the cache or a coalesced call.
+            stats.reset(spUserDefineKey);
+        }
+        // An unknown key has no cache, it is reported by the execution.
+        SPRegistration registration = SPANDataSource.getInstance().resolve(spUserDefineKey);
+        SingleFlight singleFlight = SPANCaches.getSingleFlight(spUserDefineKey, registration);
+        ResultCache.Loader<I, O> loader = newLoader(spUserDefineKey, returnType, singleFlight, canceller, stats);
+        ResultCache cache = SPANCaches.getCache(spUserDefineKey, registration);
+        if (cache == null) {
+            return loader.load(spInput);
+        }
+        // A stale entry is refreshed on another thread, which must not fill the caller's stats nor be cancelled by the caller.
+        return cache.get(spInput, returnType, loader, stats != null || canceller != null
+                ? newLoader(spUserDefineKey, returnType, singleFlight, null, null) : loader);
+    }
+
+    private <I, O> ResultCache.Loader<I, O> newLoader(final String spUserDefineKey, final Class<O> returnType, final SingleFlight singleFlight,
+                                                     final StatementCanceller canceller, final ExecutionStats stats) {
+        ResultCache.Loader<I, O> executeLoader = input -> execute(spUserDefineKey, input, returnType, canceller, stats);
+        return singleFlight != null ? input -> singleFlight.execute(input, returnType, executeLoader) : executeLoader;
+    }
+
+    /**
+     * Executes the Stored Procedure on the Executor of its DataSource, see {@link SPANExecutors}. The calling thread doesn't wait for
+     * the Connection nor for the database. Cancelling the returned future cancels the running Callable Statement. The cache and the
+     * coalescing of sp_details are used as by {@link #execute(String, Object, Class)}.
+     *
+     * @param spUserDefineKey Stored Procedure Identifier
+     * @param spInput         Object for InputParameters
+     * @param returnType      Class Object for the type representing OutputParameters
+     * @return Future of the Object for OutputParameters, completed exceptionally with the exception of {@link #execute(String, Object, Class)}
+     */
+    public <I, O> CompletableFuture<O> executeAsync(final String spUserDefineKey, final I spInput, final Class<O> returnType) {
+        // Handlers are set before the call is handed over to the Executor.
+        checkAndSetDefaultImpls();
+
+        StatementCanceller canceller = new StatementCanceller();
+        CompletableFuture<O> future = new CompletableFuture<>();
+        future.whenComplete((spOutput, throwable) -> {
+            if (future.isCancelled()) {
+                canceller.cancel();
+            }
+        });
+        try {
+            // An unknown key fails the future, as any other failure of the call.
+            Executor executor = SPANExecutors.getExecutor(spUserDefineKey);
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(executeCached(spUserDefineKey, spInput, returnType, canceller, null));
+                } catch (SQLException | RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Executes the Stored Procedures concurrently, each one on the Executor and the Connection pool of its DataSource, and waits
+     * until all of them complete. Fails fast: the first failure cancels the other calls and is rethrown.
+     *
+     * @param requests Stored Procedure calls
+     * @param timeout  Maximum time to wait for all the calls
+     * @param unit     Unit of the timeout
+     * @return Results of the calls
+     * @throws SQLException  first SQLException of the calls
+     * @throws SPANException first SPANException of the calls, or if the calls didn't complete within the timeout
+     */
+    public SPResults executeAll(final List<SPRequest<?, ?>> requests, final long timeout, final TimeUnit unit) throws SQLException {
+        List<CompletableFuture<?>> futures = submitAll(requests);
+
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        futures.forEach(future -> future.whenComplete((spOutput, throwable) -> {
+            if (throwable != null) {
+                firstFailure.completeExceptionally(throwable);
+            }
+        }));
+        CompletableFuture<Void> allDone = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+        try {
+            CompletableFuture.anyOf(allDone, firstFailure).get(timeout, unit);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SPANException("Stored Procedure call failed. Exception Message: " + cause.getMessage(), cause);
+        } catch (TimeoutException e) {
+            cancelAll(futures);
+            throw new SPANException("Stored Procedures didn't complete within " + timeout + " " + unit + ". Requests: " + requests, e);
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new SPANException("Interrupted while waiting for the Stored Procedures. Requests: " + requests, e);
+        }
+        return collectResults(requests, futures);
+    }
+
+    /**
+     * Executes the Stored Procedures concurrently, each one on the Executor and the Connection pool of its DataSource, and waits
+     * until all of them complete or the timeout elapses. The calls not completed within the timeout are cancelled. The failed and
+     * cancelled calls are reported in the results instead of being thrown.
+     *
+     * @param requests Stored Procedure calls
+     * @param timeout  Maximum time to wait for all the calls
+     * @param unit     Unit of the timeout
+     * @return Results of the calls, with the exception of every failed call
+     */
+    public SPResults executeAllPartial(final List<SPRequest<?, ?>> requests, final long timeout, final TimeUnit unit) {
+        List<CompletableFuture<?>> futures = submitAll(requests);
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(timeout, unit);
+        } catch (ExecutionException e) {
+            // Every call is complete, the failures are collected per request.
+        } catch (TimeoutException e) {
+            LoggerFactory.getLogger(SPExecutor.class).warn("Stored Procedures didn't complete within {} {}. Requests: {}", timeout, unit, requests);
+            cancelAll(futures);
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+        }
+        return collectResults(requests, futures);
+    }
+
+    private List<CompletableFuture<?>> submitAll(final List<SPRequest<?, ?>> requests) {
+        assert requests != null && !requests.isEmpty() : "Requests cannot be null or empty.";
+        List<CompletableFuture<?>> futures = new ArrayList<>(requests.size());
+        try {
+            for (SPRequest<?, ?> request : requests) {
+                futures.add(executeAsync(request.getSpUserDefineKey(), request.getSpInput(), request.getReturnType()));
+            }
+        } catch (RuntimeException | Error e) {
+            // The calls already submitted are not awaited by anybody.
+            cancelAll(futures);
+            throw e;
+        }
+        return futures;
+    }
+
+    private static void cancelAll(final List<CompletableFuture<?>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private static SPResults collectResults(final List<SPRequest<?, ?>> requests, final List<CompletableFuture<?>> futures) {
+        SPResults results = new SPResults();
+        for (int i = 0; i < requests.size(); i++) {
+            CompletableFuture<?> future = futures.get(i);
+            try {
+                results.addOutput(requests.get(i), future.getNow(null));
+            } catch (CancellationException e) {
+                results.addException(requests.get(i), new SPANException("Stored Procedure call was cancelled before it completed. Request: " + requests.get(i), e));
+            } catch (CompletionException e) {
+                results.addException(requests.get(i), e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private <I, O> O execute(final String spUserDefineKey, final I spInput, final Class<O> returnType, final StatementCanceller canceller,
+                             final ExecutionStats stats) throws SQLException {
+        SPANMetrics metrics = SPANMetricsRegistry.getMetrics();
+        ExecutionListener[] listeners = ExecutionListeners.getListeners();
+        // The phases are only timed for the caller's stats or the listeners.
+        ExecutionStats callStats = stats != null ? stats : listeners.length > 0 ? new ExecutionStats() : null;
+        if (metrics == NoOpMetrics.INSTANCE && callStats == null) {
+            return call(spUserDefineKey, spInput, returnType, canceller, metrics, null);
+        }
+        long startTime = System.nanoTime();
+        if (callStats != null) {
+            callStats.start(spUserDefineKey, listeners);
+        }
+        Throwable exception = null;
+        try {
+            return call(spUserDefineKey, spInput, returnType, canceller, metrics, callStats);
+        } catch (SQLException | RuntimeException | Error e) {
+            exception = e;
+            throw e;
+        } finally {
+            long duration = System.nanoTime() - startTime;
+            metrics.recordCall(spUserDefineKey, findSPANUserDefinedKey(spUserDefineKey), duration, exception == null);
+            if (callStats != null) {
+                callStats.finish(duration, exception);
+            }
+        }
+    }
+
+    /**
+     * SPAN User Defined key of the DataSource of a Stored Procedure for the metrics, null if it cannot be found.
+     */
+    private static String findSPANUserDefinedKey(final String spUserDefineKey) {
+        if (Strings.isNullOrEmpty(spUserDefineKey)) {
+            return null;
+        }
+        SPRegistration registration = SPANDataSource.getInstance().resolve(spUserDefineKey);
+        return registration != null ? registration.getSpanUserDefinedKey() : null;
+    }
+
+    private static Connection getConnection(final DataSource dataSource, final ExecutionStats stats) throws SQLException {
+        long phaseStart = begin(stats, Phase.CONNECTION_ACQUIRE);
+        try {
+            return dataSource.getConnection();
+        } finally {
+            end(stats, Phase.CONNECTION_ACQUIRE, phaseStart);
+        }
+    }
+
+    private static CallableStatement prepareCall(final Connection conn, final String spQuery, final ExecutionStats stats) throws SQLException {
+        long phaseStart = begin(stats, Phase.PREPARE_CALL);
+        try {
+            return conn.prepareCall(spQuery);
+        } finally {
+            end(stats, Phase.PREPARE_CALL, phaseStart);
+        }
+    }
+
+    private static long begin(final ExecutionStats stats, final Phase phase) {
+        return stats != null ? stats.begin(phase) : 0L;
+    }
+
+    private static void end(final ExecutionStats stats, final Phase phase, final long phaseStart) {
+        if (stats != null) {
+            stats.end(phase, phaseStart);
+        }
+    }
+
+    private <I, O> O call(final String spUserDefineKey, final I spInput, final Class<O> returnType, final StatementCanceller canceller,
+                          final SPANMetrics metrics, final ExecutionStats stats) throws SQLException {
         //track with key name
-        ThreadContext.set("SPAN-SP-KEY", spUserDefineKey);
+        ThreadContext.set(MDC_SP_KEY, spUserDefineKey);
         checkAndSetDefaultImpls();
 
         assert spInput != null && returnType != null && !Strings.isNullOrEmpty(spUserDefineKey) : "SPUser Defined Key: " + spUserDefineKey
                 + ". Input Object: " + spInput + ". ReturnType: " + returnType + " cannot be null.";
 
         //Validates Inparam Class Fields
-        validateFields(spInput.getClass());
+        BindingPlan<?> inputPlan = BindingPlan.of(spInput.getClass());
         //Validates OutParam Class Fields
-        validateFields(returnType);
+        BindingPlan<O> outputPlan = BindingPlan.of(returnType);
 
 
-        DataSource dataSource = SPANDataSource.getInstance().getDataSource(spUserDefineKey);
+        long phaseStart = begin(stats, Phase.DATASOURCE_LOOKUP);
+        SPRegistration registration;
+        try {
+            registration = SPANDataSource.getInstance().resolve(spUserDefineKey);
+        } finally {
+            end(stats, Phase.DATASOURCE_LOOKUP, phaseStart);
+        }
 
-        assert dataSource != null : "Invalid SPUserDefined Key. Datasource cannot be null. " + spUserDefineKey;
+        assert registration != null : "Invalid SPUserDefined Key. Datasource cannot be null. " + spUserDefineKey;
+        if (registration == null) {
+            throw new SPANException("Invalid SPUserDefined Key. Datasource cannot be null. " + spUserDefineKey);
+        }
+        DataSource dataSource = registration.getDataSource();
+        String spQuery = getSPQuery(registration, inputPlan, outputPlan);
 
+        // An invalid @ResultSet sequence fails the call before a connection is borrowed.
+        if (!outputPlan.isResultSetSequenceValid()) {
+            throw new SPANException(outputPlan.getResultSetSequenceError() + ". " + spQuery);
+        }
+
+        // The duration of the call includes the wait for a Connection.
+        ExecutionLog executionLog = ExecutionLog.of(registration);
+        long startTime = executionLog.start();
+        long rows = 0;
+        Throwable failure = null;
         Object spOutput = null;
-        try (final Connection conn = dataSource.getConnection()) {
+        if (!registration.beginCall()) {
+            // The DataSource was retired by a reload since the resolution, the call resolves the new configuration.
+            return call(spUserDefineKey, spInput, returnType, canceller, metrics, stats);
+        }
+        try (final Connection conn = getConnection(dataSource, stats)) {
             if (conn == null) {
                 throw new IllegalStateException("DataSource returned null from getConnection(): " + dataSource);
             }
-            String spQuery = getSPQuery(spUserDefineKey, spInput.getClass(), returnType);
             ThreadContext.set(MDC_SQL_QUERY, spQuery);
-            LoggerFactory.getLogger(SPExecutor.class).warn("Executing SQL Query. " + ThreadContext.get(MDC_SQL_QUERY));
 
-            try (CallableStatement stmt = conn.prepareCall(spQuery)) {
-                inputHandler.processSPInputParameters(stmt, spInput);
-                outputHandler.registerOutputParameters(stmt, returnType);
+            List<ResultSetBinding> resultSetBindings = outputPlan.getResultSetBindings();
 
-                //moreresults - will true if resultset is available otherwise it will be false but accordingly javadocs
-                //updatecount should also check, if it is 0 then it may have resultset.
-                boolean moreResults = stmt.execute();
-                int updateCount = stmt.getUpdateCount();
+            InputHandler spInputHandler = generatedOrDefault(inputHandler, InputHandlerImpl.class, spInput.getClass());
+            OutputHandler spOutputHandler = generatedOrDefault(outputHandler, OutputHandlerImpl.class, returnType);
 
-                spOutput = outputHandler.processSPOutputParameters(stmt, returnType);
+            try (CallableStatement stmt = prepareCall(conn, spQuery, stats)) {
+                StatementSettings.of(registration.getSPUserDefineKey(), registration.getDataSourceDetails()).apply(stmt);
+                if (canceller != null) {
+                    canceller.register(stmt);
+                }
+                phaseStart = begin(stats, Phase.INPUT_BINDING);
+                try {
+                    spInputHandler.processSPInputParameters(stmt, spInput);
+                    spOutputHandler.registerOutputParameters(stmt, returnType);
+                } finally {
+                    end(stats, Phase.INPUT_BINDING, phaseStart);
+                }
 
+                //moreresults - will true if resultset is available otherwise it will be false but accordingly javadocs
+                //updatecount should also check, if it is 0 then it may have resultset.
+                boolean moreResults;
+                int updateCount;
+                phaseStart = begin(stats, Phase.EXECUTE);
+                try {
+                    moreResults = stmt.execute();
+                    updateCount = stmt.getUpdateCount();
+                } finally {
+                    end(stats, Phase.EXECUTE, phaseStart);
+                }
 
-                Map<Integer, Field> seqToField = getMappingFromSeqToField(SPANUtility.getUniqueAnnotationFieldsFromClass(returnType, com.americanexpress.span.annotation.ResultSet.class));
+                phaseStart = begin(stats, Phase.OUTPUT_PARAMETERS);
+                try {
+                    spOutput = spOutputHandler.processSPOutputParameters(stmt, returnType);
+                } finally {
+                    end(stats, Phase.OUTPUT_PARAMETERS, phaseStart);
+                }
 
-                if (moreResults == false  && updateCount == -1 && !seqToField.isEmpty()) {
-                    Field field = seqToField.get(1);
+                if (moreResults == false  && updateCount == -1 && !resultSetBindings.isEmpty()) {
                     try {
-                        field.setAccessible(true);
-                        field.set(spOutput, Collections.emptyList());
-                    } catch (IllegalAccessException e) {
+                        resultSetBindings.get(0).getAccessor().set(spOutput, Collections.emptyList());
+                    } catch (IllegalArgumentException e) {
                         throw new SPANException("Unable to set ResultSet for the object in Class: " + returnType
                                 + ". " + ThreadContext.get(MDC_SQL_QUERY));
                     }
                 } else {
 
                     int seqNum = 1;
-                    int totalResultSets = seqToField.size();
-                    // Loop will process each resultSet and remove the sequence entry from seqToField.
+                    int totalResultSets = resultSetBindings.size();
+                    // Loop will process each resultSet in the order of the sequence numbers.
                     //accordingly java docs.
                     //getMoreResults is moving cursor and if it has resultset then its return true.
                     //so by default it has one resultset is open.
                     while (moreResults || updateCount != -1) {
                         try (ResultSet rs = stmt.getResultSet()) {
                             if (rs != null) {
-                                Field field = seqToField.get(seqNum);
-                                if (field == null) {
-                                    LoggerFactory.getLogger(SPExecutor.class).warn("ResultSets SeqNum: is ignored from the Stored Procedure: {}", seqNum, ThreadContext.get(MDC_SQL_QUERY));
-                                    continue;
-                                }
-                                if (field.getType() != List.class) {
-                                    throw new SPANException("ResultSet Field should be a List.");
-                                }
-                                List resultSetObjs = resultSetHandler.processResultSet(rs, (Class) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0]);
-                                if (resultSetObjs != null) {
-                                    field.setAccessible(true);
+                                if (seqNum > totalResultSets) {
+                                    LoggerFactory.getLogger(SPExecutor.class).warn("ResultSets SeqNum: {} is ignored from the Stored Procedure: {}", seqNum, ThreadContext.get(MDC_SQL_QUERY));
+                                } else {
+                                    ResultSetBinding resultSetBinding = resultSetBindings.get(seqNum - 1);
+                                    if (!resultSetBinding.isList() || resultSetBinding.getRowType() == null) {
+                                        throw new SPANException("ResultSet Field should be a List.");
+                                    }
+                                    ResultSetHandler rowHandler = generatedOrDefault(resultSetHandler, ResultSetHandlerImpl.class, resultSetBinding.getRowType());
+                                    List resultSetObjs;
+                                    phaseStart = begin(stats, Phase.RESULT_SET_MAPPING);
                                     try {
-                                        field.set(spOutput, resultSetObjs);
-                                    } catch (IllegalAccessException e) {
-                                        throw new SPANException("Unable to set ResultSet: " + resultSetObjs + " object in Class: " + returnType
-                                                + ". " + ThreadContext.get(MDC_SQL_QUERY));
+                                        resultSetObjs = rowHandler.processResultSet(rs, resultSetBinding.getRowType());
+                                    } finally {
+                                        end(stats, Phase.RESULT_SET_MAPPING, phaseStart);
+                                    }
+                                    if (resultSetObjs != null) {
+                                        rows += resultSetObjs.size();
+                                        metrics.recordRows(spUserDefineKey, seqNum, resultSetObjs.size());
+                                        try {
+                                            resultSetBinding.getAccessor().set(spOutput, resultSetObjs);
+                                        } catch (IllegalArgumentException e) {
+                                            throw new SPANException("Unable to set ResultSet: " + resultSetObjs + " object in Class: " + returnType
+                                                    + ". " + ThreadContext.get(MDC_SQL_QUERY));
+                                        }
                                     }
                                 }
-                                seqToField.remove(seqNum);
                                 seqNum++;
 
                             }
-                            moreResults = stmt.getMoreResults();
-                            updateCount = stmt.getUpdateCount();
+                            phaseStart = begin(stats, Phase.EXECUTE);
+                            try {
+                                moreResults = stmt.getMoreResults();
+                                updateCount = stmt.getUpdateCount();
+                            } finally {
+                                end(stats, Phase.EXECUTE, phaseStart);
+                            }
                         }
 
                     }
 
-                    if (seqToField.size() != 0) {
+                    if (seqNum - 1 < totalResultSets) {
                         throw new SPANException("Stored Procedure didn't return enough resultSets. Expected: " + totalResultSets
                                 + ". Actual: " + (seqNum - 1) + ". " + ThreadContext.get(MDC_SQL_QUERY));
                     }
 
                 }
+            } finally {
+                if (canceller != null) {
+                    canceller.unregister();
+                }
             }
+        } catch (SQLException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
         } finally {
+            registration.endCall();
+            executionLog.completed(startTime, spQuery, rows, failure);
             ThreadContext.removeKey(MDC_SQL_QUERY);
             ThreadContext.remove();
         }
@@ -211,50 +549,334 @@ public class SPExecutor {
     }
 
     /**
-     * @param
-     * @return
+     * Executes a Stored Procedure with input parameters only, once per input object, with JDBC batches of
+     * {@link #DEFAULT_BATCH_SIZE} input objects. See {@link #executeBatch(String, List, int)}.
+     *
+     * @param spUserDefineKey Stored Procedure Identifier
+     * @param spInputs        Objects for InputParameters, of the same class
+     * @return Update count of every input object
+     * @throws SQLException if the Connection cannot be obtained or a call fails
      */
-    private Map<Integer, Field> getMappingFromSeqToField(Map<Field, Annotation> fieldToAnnotationMap) {
-        Map<Integer, Field> seqToFieldMap = new HashMap<>();
-        Set<Field> fieldSet = fieldToAnnotationMap.keySet();
-        fieldSet.iterator().forEachRemaining(field -> {
-            com.americanexpress.span.annotation.ResultSet annotation = (com.americanexpress.span.annotation.ResultSet) fieldToAnnotationMap.get(field);
-            int seqNum = annotation.seqNum();
-            Field prevFieldForSqNum = seqToFieldMap.put(seqNum, field);
-            if (prevFieldForSqNum != null) {
-                throw new SPANException("@ResultSet should have unique continuous Sequence numbers starting at 1. " + seqToFieldMap.keySet() + ". " + ThreadContext.get(MDC_SQL_QUERY));
-            }
-        });
+    public <I> int[] executeBatch(final String spUserDefineKey, final List<I> spInputs) throws SQLException {
+        return executeBatch(spUserDefineKey, spInputs, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Executes a Stored Procedure with input parameters only, once per input object. The calls share one Connection and one
+     * Callable Statement, and are sent to the database with JDBC batches of batchSize input objects.
+     * <p>
+     * JDBC batches cannot return ResultSets. If the database rejects a batch before executing all its calls (e.g. because the
+     * Stored Procedure returns a ResultSet, or the driver doesn't support batches), the remaining calls are executed one by one
+     * on a new Callable Statement and their ResultSets are ignored. The update count of such a call is its first update count,
+     * or {@link Statement#SUCCESS_NO_INFO} if it returned none. If a call of a batch fails, the batch is not executed again: a
+     * {@link BatchUpdateException} is thrown with the update counts of the input objects executed so far.
+     *
+     * @param spUserDefineKey Stored Procedure Identifier
+     * @param spInputs        Objects for InputParameters, of the same class
+     * @param batchSize       Number of calls sent to the database at once
+     * @return Update count of every input object
+     * @throws SQLException if the Connection cannot be obtained or a call fails
+     */
+    public <I> int[] executeBatch(final String spUserDefineKey, final List<I> spInputs, final int batchSize) throws SQLException {
+        //track with key name
+        ThreadContext.set(MDC_SP_KEY, spUserDefineKey);
+        checkAndSetDefaultImpls();
 
+        assert spInputs != null && !spInputs.isEmpty() && !Strings.isNullOrEmpty(spUserDefineKey) : "SPUser Defined Key: " + spUserDefineKey
+                + ". Input Objects: " + spInputs + " cannot be null or empty.";
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size should be greater than 0. Batch size: " + batchSize);
+        }
 
-        if (!seqToFieldMap.keySet().isEmpty()) {
-            // All the keys in keyset are unique.
-            Integer[] seqNums = new ArrayList<Integer>(seqToFieldMap.keySet()).toArray(new Integer[0]);
-            Arrays.sort(seqNums);
+        Class<?> inputClass = spInputs.get(0).getClass();
+        //Validates Inparam Class Fields
+        BindingPlan<?> inputPlan = BindingPlan.of(inputClass);
+
+        SPRegistration registration = SPANDataSource.getInstance().resolve(spUserDefineKey);
 
-            //The first key should be 1
-            if (seqNums[0] != 1) {
-                throw new SPANException("@ResultSet should have unique Sequence numbers starting at 1. " + seqToFieldMap.keySet() + ". " + ThreadContext.get(MDC_SQL_QUERY));
+        assert registration != null : "Invalid SPUserDefined Key. Datasource cannot be null. " + spUserDefineKey;
+        if (registration == null) {
+            throw new SPANException("Invalid SPUserDefined Key. Datasource cannot be null. " + spUserDefineKey);
+        }
+        DataSource dataSource = registration.getDataSource();
+
+        String spQuery = getSPQuery(registration, inputPlan, BindingPlan.of(Void.class));
+        ExecutionLog executionLog = ExecutionLog.of(registration);
+        long startTime = executionLog.start();
+        Throwable failure = null;
+        int[] updateCounts = new int[spInputs.size()];
+        if (!registration.beginCall()) {
+            // The DataSource was retired by a reload since the resolution, the call resolves the new configuration.
+            return executeBatch(spUserDefineKey, spInputs, batchSize);
+        }
+        try (final Connection conn = dataSource.getConnection()) {
+            if (conn == null) {
+                throw new IllegalStateException("DataSource returned null from getConnection(): " + dataSource);
             }
-            //The last key should be equal to the number of keys in the sequence.
-            if (seqNums[seqNums.length - 1] != seqToFieldMap.keySet().size()) {
-                throw new SPANException("@ResultSet should have unique Sequence numbers starting at 1. " + seqToFieldMap.keySet() + ". " + ThreadContext.get(MDC_SQL_QUERY));
+            ThreadContext.set(MDC_SQL_QUERY, spQuery);
+
+            InputHandler spInputHandler = generatedOrDefault(inputHandler, InputHandlerImpl.class, inputClass);
+            StatementSettings statementSettings = StatementSettings.of(registration.getSPUserDefineKey(), registration.getDataSourceDetails());
+            boolean batch = conn.getMetaData().supportsBatchUpdates();
+
+            CallableStatement stmt = conn.prepareCall(spQuery);
+            try {
+                statementSettings.apply(stmt);
+                for (int start = 0; start < spInputs.size(); start += batchSize) {
+                    int end = Math.min(start + batchSize, spInputs.size());
+                    int executed = start;
+                    if (batch) {
+                        executed = executeChunk(stmt, spInputHandler, inputClass, spInputs, start, end, updateCounts);
+                        if (executed < end) {
+                            batch = false;
+                            LoggerFactory.getLogger(SPExecutor.class).warn("Stored Procedure cannot be executed in batch, the remaining {} calls are executed one by one. {}",
+                                    spInputs.size() - executed, ThreadContext.get(MDC_SQL_QUERY));
+                            // Some drivers keep the rejected statement in batch mode.
+                            stmt.close();
+                            stmt = conn.prepareCall(spQuery);
+                            statementSettings.apply(stmt);
+                        }
+                    }
+                    for (int i = executed; i < end; i++) {
+                        updateCounts[i] = executeRow(stmt, spInputHandler, inputClass, spInputs.get(i));
+                    }
+                }
+            } finally {
+                stmt.close();
             }
+        } catch (SQLException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            registration.endCall();
+            executionLog.completed(startTime, spQuery, spInputs.size(), failure);
+            ThreadContext.removeKey(MDC_SQL_QUERY);
+            ThreadContext.remove();
         }
+        return updateCounts;
+    }
 
-        return seqToFieldMap;
+    /**
+     * Executes the input objects from start (inclusive) to end (exclusive) in one JDBC batch.
+     *
+     * @return Index of the first input object not executed, end if the whole batch was executed.
+     */
+    private <I> int executeChunk(final CallableStatement stmt, final InputHandler spInputHandler, final Class<?> inputClass,
+                                 final List<I> spInputs, final int start, final int end, final int[] updateCounts) throws SQLException {
+        for (int i = start; i < end; i++) {
+            bindBatchInput(stmt, spInputHandler, inputClass, spInputs.get(i));
+            stmt.addBatch();
+        }
+        int[] chunkCounts;
+        try {
+            chunkCounts = stmt.executeBatch();
+        } catch (BatchUpdateException e) {
+            chunkCounts = e.getUpdateCounts() == null ? new int[0] : e.getUpdateCounts();
+            // A call of the batch failed, whether the driver stopped at it or went on: the batch is not retried.
+            if (!isBatchRejected(e) && chunkCounts.length > 0) {
+                int executed = Math.min(chunkCounts.length, end - start);
+                System.arraycopy(chunkCounts, 0, updateCounts, start, executed);
+                throw new BatchUpdateException(e.getMessage(), e.getSQLState(), e.getErrorCode(),
+                        Arrays.copyOf(updateCounts, start + executed), e);
+            }
+            logBatchRejected(e);
+            chunkCounts = new int[0];
+        } catch (SQLException e) {
+            if (!isBatchRejected(e)) {
+                throw e;
+            }
+            logBatchRejected(e);
+            chunkCounts = new int[0];
+        }
+        System.arraycopy(chunkCounts, 0, updateCounts, start, chunkCounts.length);
+        return start + chunkCounts.length;
     }
 
-    private <I, O> String getSPQuery(String spUserDefineKey, Class<I> inputClass, Class<O> returnType) {
-        int inputParams = SPANUtility.getUniqueAnnotationFieldsFromClass(inputClass, com.americanexpress.span.annotation.Field.class).keySet().size();
-        int outParams  = SPANUtility.getUniqueAnnotationFieldsFromClass(returnType, com.americanexpress.span.annotation.Field.class).keySet().size();
+    private static void logBatchRejected(final SQLException e) {
+        LoggerFactory.getLogger(SPExecutor.class).debug("Batch rejected, the calls are executed one by one. SQLState: {}. Exception Message: {}",
+                e.getSQLState(), e.getMessage(), e);
+    }
 
-        String paramList = String.join(",", Collections.nCopies(inputParams + outParams, "?"));
+    /**
+     * @return true if the driver refused the batch before executing it: batches are not supported (SQLState class 0A), or the
+     * statement doesn't generate a row count (SQLState class 07, e.g. the Stored Procedure returns a ResultSet).
+     */
+    private static boolean isBatchRejected(final SQLException e) {
+        String sqlState = e.getSQLState();
+        return e instanceof SQLFeatureNotSupportedException || sqlState != null && (sqlState.startsWith("0A") || sqlState.startsWith("07"));
+    }
 
-        SPUserDefineKey spUserDefineObj = SPANConfigHolder.getInstance().getSPUserDefinedKey(spUserDefineKey);
+    /**
+     * Executes one input object, ignoring the ResultSets.
+     *
+     * @return First update count of the call, {@link Statement#SUCCESS_NO_INFO} if there is none.
+     */
+    private <I> int executeRow(final CallableStatement stmt, final InputHandler spInputHandler, final Class<?> inputClass,
+                               final I spInput) throws SQLException {
+        bindBatchInput(stmt, spInputHandler, inputClass, spInput);
+        boolean moreResults = stmt.execute();
+        int updateCount = stmt.getUpdateCount();
+        int rowCount = Statement.SUCCESS_NO_INFO;
+        while (moreResults || updateCount != -1) {
+            if (!moreResults && rowCount == Statement.SUCCESS_NO_INFO) {
+                rowCount = updateCount;
+            }
+            moreResults = stmt.getMoreResults();
+            updateCount = stmt.getUpdateCount();
+        }
+        return rowCount;
+    }
 
-        return CALL_STATEMENT.replace("%NAME%", spUserDefineObj.getSchema() + "."
-                + spUserDefineObj.getProcedure()).replace("%PARAM_LIST%", paramList);
+    private <I> void bindBatchInput(final CallableStatement stmt, final InputHandler spInputHandler, final Class<?> inputClass,
+                                    final I spInput) {
+        if (spInput == null || spInput.getClass() != inputClass) {
+            throw new SPANException("Input Objects of a batch should be of the same class. Expected: " + inputClass + ". Actual: "
+                    + (spInput == null ? null : spInput.getClass()) + ". " + ThreadContext.get(MDC_SQL_QUERY));
+        }
+        spInputHandler.processSPInputParameters(stmt, spInput);
+    }
+
+    /**
+     * Executes the Stored Procedure and returns a cursor over its output parameters and ResultSets. The rows are mapped on demand
+     * while the caller iterates, and the Connection stays open until the cursor is closed, so it should be used with try-with-resources.
+     * The @ResultSet datamembers of the SP Output class are not populated, the ResultSets are read through {@link SPCursor#nextResultSet(Class)}.
+     *
+     * @param spUserDefineKey Stored Procedure Identifier
+     * @param spInput         Object for InputParameters
+     * @param returnType      Class Object for the type representing OutputParameters
+     * @return Cursor of the executed Stored Procedure
+     * @throws SQLException if the Connection cannot be obtained from the DataSource
+     */
+    public <I, O> SPCursor<O> openCursor(final String spUserDefineKey, final I spInput, final Class<O> returnType) throws SQLException {
+        assert returnType != null : "SPUser Defined Key: " + spUserDefineKey + ". ReturnType: " + returnType + " cannot be null.";
+        return open(spUserDefineKey, spInput, returnType);
+    }
+
+    /**
+     * Executes a Stored Procedure without output parameters and streams the rows of its first ResultSet. The rows are mapped on demand
+     * and the Connection stays open until the stream is closed, so it should be used with try-with-resources.
+     *
+     * @param spUserDefineKey Stored Procedure Identifier
+     * @param spInput         Object for InputParameters
+     * @param rowType         Class Object for the type representing the rows of the ResultSet
+     * @return Stream of the rows, closing the Connection when it is closed
+     * @throws SQLException if the Connection cannot be obtained from the DataSource
+     */
+    public <I, R> Stream<R> stream(final String spUserDefineKey, final I spInput, final Class<R> rowType) throws SQLException {
+        SPCursor<Void> cursor = open(spUserDefineKey, spInput, Void.class);
+        try {
+            return cursor.nextResultSet(rowType).onClose(cursor::close);
+        } catch (RuntimeException e) {
+            cursor.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Executes the Stored Procedure and keeps the Connection and the Callable Statement open in the returned cursor.
+     * The output parameters are not registered nor processed when the return type is Void.
+     */
+    private <I, O> SPCursor<O> open(final String spUserDefineKey, final I spInput, final Class<O> returnType) throws SQLException {
+        //track with key name
+        ThreadContext.set(MDC_SP_KEY, spUserDefineKey);
+        checkAndSetDefaultImpls();
+
+        assert spInput != null && returnType != null && !Strings.isNullOrEmpty(spUserDefineKey) : "SPUser Defined Key: " + spUserDefineKey
+                + ". Input Object: " + spInput + ". ReturnType: " + returnType + " cannot be null.";
+
+        BindingPlan<?> inputPlan = BindingPlan.of(spInput.getClass());
+        BindingPlan<O> outputPlan = BindingPlan.of(returnType);
+        boolean hasOutput = returnType != Void.class;
+
+        SPRegistration registration = SPANDataSource.getInstance().resolve(spUserDefineKey);
+
+        assert registration != null : "Invalid SPUserDefined Key. Datasource cannot be null. " + spUserDefineKey;
+        if (registration == null) {
+            throw new SPANException("Invalid SPUserDefined Key. Datasource cannot be null. " + spUserDefineKey);
+        }
+        DataSource dataSource = registration.getDataSource();
+
+        String spQuery = getSPQuery(registration, inputPlan, outputPlan);
+        ExecutionLog executionLog = ExecutionLog.of(registration);
+        long startTime = executionLog.start();
+        Throwable failure = null;
+        Connection conn = null;
+        CallableStatement stmt = null;
+        // The Connection kept open by the cursor is active until the cursor is closed.
+        if (!registration.beginCall()) {
+            // The DataSource was retired by a reload since the resolution, the call resolves the new configuration.
+            return open(spUserDefineKey, spInput, returnType);
+        }
+        try {
+            conn = dataSource.getConnection();
+            if (conn == null) {
+                throw new IllegalStateException("DataSource returned null from getConnection(): " + dataSource);
+            }
+            ThreadContext.set(MDC_SQL_QUERY, spQuery);
+
+            InputHandler spInputHandler = generatedOrDefault(inputHandler, InputHandlerImpl.class, spInput.getClass());
+            OutputHandler spOutputHandler = generatedOrDefault(outputHandler, OutputHandlerImpl.class, returnType);
+
+            stmt = conn.prepareCall(spQuery);
+            StatementSettings.of(registration.getSPUserDefineKey(), registration.getDataSourceDetails()).apply(stmt);
+            spInputHandler.processSPInputParameters(stmt, spInput);
+            if (hasOutput) {
+                spOutputHandler.registerOutputParameters(stmt, returnType);
+            }
+
+            boolean moreResults = stmt.execute();
+            int updateCount = stmt.getUpdateCount();
+
+            O spOutput = hasOutput ? (O) spOutputHandler.processSPOutputParameters(stmt, returnType) : null;
+            return new SPCursor<>(conn, stmt, spUserDefineKey, spQuery, spOutput, resultSetHandler, moreResults, updateCount);
+        } catch (SQLException | RuntimeException | Error e) {
+            failure = e;
+            closeQuietly(stmt, e);
+            closeQuietly(conn, e);
+            throw e;
+        } finally {
+            registration.endCall();
+            // The rows are read after the cursor is returned.
+            executionLog.completed(startTime, spQuery, ExecutionLog.UNKNOWN_ROWS, failure);
+            ThreadContext.removeKey(MDC_SQL_QUERY);
+            ThreadContext.remove();
+        }
+    }
+
+    private static void closeQuietly(final AutoCloseable closeable, final Throwable cause) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private String getSPQuery(SPRegistration registration, BindingPlan<?> inputPlan, BindingPlan<?> outputPlan) {
+        return registration.getSPDefinition().getCallStatement(inputPlan.getParameterCount() + outputPlan.getParameterCount());
+    }
+
+    /**
+     * Returns the mapper generated by the SPAN annotation processor for the given class, if the default implementation of the
+     * handler is in use and the mapper exists. Otherwise returns the handler itself. A ResultSetHandlerImpl in block mode is
+     * always used as is.
+     *
+     * @param handler     Input, Output or ResultSet handler of this executor
+     * @param defaultImpl Default implementation of the handler
+     * @param clazz       Class processed by the handler
+     * @return Generated mapper or the handler
+     */
+    @SuppressWarnings("unchecked")
+    static <H> H generatedOrDefault(final H handler, final Class<?> defaultImpl, final Class<?> clazz) {
+        if (handler.getClass() == defaultImpl && !(handler instanceof ResultSetHandlerImpl && ((ResultSetHandlerImpl) handler).getBlockSize() > 1)) {
+            SPANMapper<?> mapper = SPANMappers.find(clazz);
+            if (mapper != null) {
+                return (H) mapper;
+            }
+        }
+        return handler;
     }
 
     /**
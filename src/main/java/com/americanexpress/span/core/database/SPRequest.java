@@ -0,0 +1,65 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import java.util.Objects;
+
+/**
+ * SPRequest - One Stored Procedure call of {@link SPExecutor#executeAll(java.util.List, long, java.util.concurrent.TimeUnit)}.
+ * The request is also the key of its result in {@link SPResults}, so the result is typed by the SP Output class.
+ *
+ * @param <I> Type of the SP Input class
+ * @param <O> Type of the SP Output class
+ */
+public final class SPRequest<I, O> {
+
+    private final String spUserDefineKey;
+
+    private final I spInput;
+
+    private final Class<O> returnType;
+
+    private SPRequest(final String spUserDefineKey, final I spInput, final Class<O> returnType) {
+        this.spUserDefineKey = Objects.requireNonNull(spUserDefineKey, "spUserDefineKey should not be null.");
+        this.spInput = Objects.requireNonNull(spInput, "spInput should not be null.");
+        this.returnType = Objects.requireNonNull(returnType, "returnType should not be null.");
+    }
+
+    /**
+     * @param spUserDefineKey Stored Procedure Identifier
+     * @param spInput         Object for InputParameters
+     * @param returnType      Class Object for the type representing OutputParameters
+     * @return Request of the Stored Procedure call
+     */
+    public static <I, O> SPRequest<I, O> of(final String spUserDefineKey, final I spInput, final Class<O> returnType) {
+        return new SPRequest<>(spUserDefineKey, spInput, returnType);
+    }
+
+    public String getSpUserDefineKey() {
+        return spUserDefineKey;
+    }
+
+    public I getSpInput() {
+        return spInput;
+    }
+
+    public Class<O> getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public String toString() {
+        return "SPRequest{spUserDefineKey='" + spUserDefineKey + "', returnType=" + returnType.getName() + '}';
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import com.americanexpress.span.exceptions.SPANException;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * SPResults - Results of the Stored Procedures executed by {@link SPExecutor#executeAll(java.util.List, long, java.util.concurrent.TimeUnit)}
+ * or {@link SPExecutor#executeAllPartial(java.util.List, long, java.util.concurrent.TimeUnit)}. Every result is looked up by its
+ * {@link SPRequest}, and is either the Object for OutputParameters or the exception of the call.
+ */
+public final class SPResults {
+
+    private final Map<SPRequest<?, ?>, Object> outputs = new IdentityHashMap<>();
+
+    private final Map<SPRequest<?, ?>, Throwable> exceptions = new IdentityHashMap<>();
+
+    SPResults() {
+    }
+
+    void addOutput(final SPRequest<?, ?> request, final Object output) {
+        outputs.put(request, output);
+    }
+
+    void addException(final SPRequest<?, ?> request, final Throwable exception) {
+        exceptions.put(request, exception);
+    }
+
+    /**
+     * Gets the Object for OutputParameters of a request.
+     *
+     * @param request Request of the Stored Procedure call
+     * @param <O>     Type of the SP Output class
+     * @return Object for OutputParameters
+     * @throws SPANException if the call failed, did not complete before the deadline, or the request was not executed
+     */
+    public <O> O get(final SPRequest<?, O> request) {
+        if (outputs.containsKey(request)) {
+            return request.getReturnType().cast(outputs.get(request));
+        }
+        Throwable exception = exceptions.get(request);
+        if (exception == null) {
+            throw new SPANException("No result for the request: " + request);
+        }
+        throw new SPANException("Stored Procedure call failed. Request: " + request + ". Exception Message: " + exception.getMessage(), exception);
+    }
+
+    /**
+     * @param request Request of the Stored Procedure call
+     * @return true if the call returned the Object for OutputParameters
+     */
+    public boolean isSuccess(final SPRequest<?, ?> request) {
+        return outputs.containsKey(request);
+    }
+
+    /**
+     * @param request Request of the Stored Procedure call
+     * @return Exception of the call, null if the call succeeded
+     */
+    public Throwable getException(final SPRequest<?, ?> request) {
+        return exceptions.get(request);
+    }
+
+    /**
+     * @return true if every call succeeded
+     */
+    public boolean isComplete() {
+        return exceptions.isEmpty();
+    }
+}
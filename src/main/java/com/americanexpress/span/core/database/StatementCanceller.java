@@ -0,0 +1,72 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * StatementCanceller - Links an asynchronous Stored Procedure call to its running Callable Statement, so that cancelling the
+ * CompletableFuture cancels the Statement in the database. The Statement is registered by the worker thread and cancelled
+ * by the thread cancelling the future.
+ */
+final class StatementCanceller {
+
+    private Statement statement;
+
+    private boolean cancelled;
+
+    /**
+     * Registers the Statement before its execution. The Statement is cancelled at once if the call was already cancelled.
+     *
+     * @param statement Prepared Callable Statement
+     */
+    synchronized void register(final Statement statement) {
+        this.statement = statement;
+        if (cancelled) {
+            cancel(statement);
+        }
+    }
+
+    /**
+     * Unregisters the Statement before it is closed.
+     */
+    synchronized void unregister() {
+        this.statement = null;
+    }
+
+    /**
+     * Cancels the registered Statement, and the Statement registered later on.
+     */
+    synchronized void cancel() {
+        cancelled = true;
+        if (statement != null) {
+            cancel(statement);
+        }
+    }
+
+    synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    private static void cancel(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            LoggerFactory.getLogger(StatementCanceller.class).warn("Unable to cancel the Statement. Exception Message: " + e.getMessage(), e);
+        }
+    }
+}
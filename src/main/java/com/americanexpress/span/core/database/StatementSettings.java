@@ -0,0 +1,149 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import com.americanexpress.span.core.SPANConfigHolder;
+import com.americanexpress.span.models.DataSourceDetails;
+import com.americanexpress.span.models.SPUserDefineKey;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * StatementSettings - fetchSize, queryTimeout, maxRows and fetchDirection applied to the Callable Statement of a Stored Procedure.
+ * Every setting of sp_details overrides the one of datasource_details. A setting which is set in neither is left to the driver.
+ */
+public final class StatementSettings {
+
+    private final Integer fetchSize;
+
+    private final Integer queryTimeout;
+
+    private final Integer maxRows;
+
+    private final Integer fetchDirection;
+
+    private StatementSettings(final Integer fetchSize, final Integer queryTimeout, final Integer maxRows, final Integer fetchDirection) {
+        this.fetchSize = fetchSize;
+        this.queryTimeout = queryTimeout;
+        this.maxRows = maxRows;
+        this.fetchDirection = fetchDirection;
+    }
+
+    /**
+     * Resolves the settings of a Stored Procedure from SPAN configuration.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @return Statement settings of the Stored Procedure
+     */
+    public static StatementSettings of(final String spUserDefinedKey) {
+        return of(SPANConfigHolder.getInstance().getSPUserDefinedKey(spUserDefinedKey),
+                SPANConfigHolder.getInstance().getDataSourceDetails(spUserDefinedKey));
+    }
+
+    /**
+     * Resolves the settings of a Stored Procedure, the settings of sp_details override the ones of datasource_details.
+     *
+     * @param spUserDefineKey   sp_details of the Stored Procedure
+     * @param dataSourceDetails datasource_details of the Stored Procedure
+     * @return Statement settings of the Stored Procedure
+     */
+    public static StatementSettings of(final SPUserDefineKey spUserDefineKey, final DataSourceDetails dataSourceDetails) {
+        return new StatementSettings(
+                firstNonNull(spUserDefineKey.getFetchSize(), dataSourceDetails.getFetchSize()),
+                firstNonNull(spUserDefineKey.getQueryTimeout(), dataSourceDetails.getQueryTimeout()),
+                firstNonNull(spUserDefineKey.getMaxRows(), dataSourceDetails.getMaxRows()),
+                toFetchDirection(firstNonNull(spUserDefineKey.getFetchDirection(), dataSourceDetails.getFetchDirection())));
+    }
+
+    /**
+     * Checks the fetchDirection value of SPAN configuration.
+     *
+     * @param fetchDirection FORWARD, REVERSE or UNKNOWN, case insensitive
+     * @return true if the value is null or valid
+     */
+    public static boolean isValidFetchDirection(final String fetchDirection) {
+        try {
+            toFetchDirection(fetchDirection);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies the settings to the Statement before its execution.
+     *
+     * @param statement Prepared Callable Statement
+     * @throws SQLException if the driver rejects a setting
+     */
+    public void apply(final Statement statement) throws SQLException {
+        if (fetchSize != null) {
+            statement.setFetchSize(fetchSize);
+        }
+        if (queryTimeout != null) {
+            statement.setQueryTimeout(queryTimeout);
+        }
+        if (maxRows != null) {
+            statement.setMaxRows(maxRows);
+        }
+        if (fetchDirection != null) {
+            statement.setFetchDirection(fetchDirection);
+        }
+    }
+
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    public Integer getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    public Integer getMaxRows() {
+        return maxRows;
+    }
+
+    public Integer getFetchDirection() {
+        return fetchDirection;
+    }
+
+    private static <T> T firstNonNull(final T value, final T defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private static Integer toFetchDirection(final String fetchDirection) {
+        if (fetchDirection == null) {
+            return null;
+        }
+        switch (fetchDirection.trim().toUpperCase(Locale.ROOT)) {
+            case "FORWARD":
+                return ResultSet.FETCH_FORWARD;
+            case "REVERSE":
+                return ResultSet.FETCH_REVERSE;
+            case "UNKNOWN":
+                return ResultSet.FETCH_UNKNOWN;
+            default:
+                throw new IllegalArgumentException("Invalid fetchDirection: " + fetchDirection);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StatementSettings [fetchSize=" + fetchSize + ", queryTimeout=" + queryTimeout + ", maxRows=" + maxRows
+                + ", fetchDirection=" + fetchDirection + "]";
+    }
+}
@@ -0,0 +1,223 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.binding;
+
+import com.americanexpress.span.exceptions.DuplicateFieldException;
+import com.americanexpress.span.exceptions.SPANException;
+import com.americanexpress.span.utility.SPANUtility;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * BindingPlan - Holds the SPAN annotation metadata of a SP Input, SP Output or ResultSet class.
+ * The plan is computed and validated once per class and reused by {@link com.americanexpress.span.core.database.SPExecutor}
+ * and the handler implementations, so that the class is not scanned through reflection on every call and for every row.
+ *
+ * @param <T> Type of the SP Input, SP Output or ResultSet class
+ */
+public final class BindingPlan<T> {
+
+    private static final ClassValue<BindingPlan<?>> PLANS = new ClassValue<BindingPlan<?>>() {
+        @Override
+        protected BindingPlan<?> computeValue(Class<?> type) {
+            return new BindingPlan<>(type);
+        }
+    };
+
+    private final Class<T> type;
+
+    private final Instantiator<T> instantiator;
+
+    private final List<FieldBinding> fieldBindings;
+
+    private final List<ResultSetBinding> resultSetBindings;
+
+    private final int parameterCount;
+
+    private final String resultSetSequenceError;
+
+    private BindingPlan(final Class<T> type) {
+        this.type = type;
+        this.instantiator = Instantiator.of(type);
+
+        Set<String> unique = new HashSet<>();
+        List<FieldBinding> bindings = new ArrayList<>();
+        for (Field field : SPANUtility.getAnnotatedDeclaredFields(type)) {
+            com.americanexpress.span.annotation.Field annotation = field.getAnnotation(com.americanexpress.span.annotation.Field.class);
+            if (!unique.add(annotation.name())) {
+                throw new DuplicateFieldException("Duplicate fields in " + type.getSimpleName());
+            }
+            bindings.add(new FieldBinding(field, annotation, true));
+        }
+        List<Method> annotatedMethods = SPANUtility.getAnnotatedDeclaredMethods(type);
+        for (Method method : annotatedMethods) {
+            if (!unique.add(method.getAnnotation(com.americanexpress.span.annotation.Field.class).name())) {
+                throw new DuplicateFieldException("Duplicate fields in " + type.getSimpleName());
+            }
+        }
+        for (Method method : annotatedMethods) {
+            bindings.add(new FieldBinding(SPANUtility.getFieldFromMethod(method, type),
+                    method.getAnnotation(com.americanexpress.span.annotation.Field.class), false));
+        }
+        this.fieldBindings = Collections.unmodifiableList(bindings);
+        this.parameterCount = (int) bindings.stream().map(FieldBinding::getField).distinct().count();
+
+        List<ResultSetBinding> resultSets = new ArrayList<>();
+        SPANUtility.getAnnotatedDeclaredFields(type, com.americanexpress.span.annotation.ResultSet.class).forEach(field ->
+                resultSets.add(new ResultSetBinding(field, field.getAnnotation(com.americanexpress.span.annotation.ResultSet.class))));
+        SPANUtility.getAnnotatedDeclaredMethods(type, com.americanexpress.span.annotation.ResultSet.class).forEach(method ->
+                resultSets.add(new ResultSetBinding(SPANUtility.getFieldFromMethod(method, type),
+                        method.getAnnotation(com.americanexpress.span.annotation.ResultSet.class))));
+
+        //validations for Duplicate Fields in ResultSet classes
+        resultSets.stream().filter(resultSet -> resultSet.getRowType() != null).forEach(resultSet -> of(resultSet.getRowType()));
+
+        this.resultSetSequenceError = validateSequence(resultSets);
+        resultSets.sort(Comparator.comparingInt(ResultSetBinding::getSeqNum));
+        this.resultSetBindings = Collections.unmodifiableList(resultSets);
+    }
+
+    /**
+     * Returns the plan of the given class. The plan is created and validated on first use.
+     * Throws {@link DuplicateFieldException} if the class or one of its ResultSet classes has duplicate field names.
+     *
+     * @param clazz SP Input, SP Output or ResultSet class
+     * @param <T>   Type of the class
+     * @return Binding plan of the class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BindingPlan<T> of(final Class<T> clazz) {
+        return (BindingPlan<T>) PLANS.get(clazz);
+    }
+
+    /**
+     * Checks that the ResultSet sequence numbers are unique, continuous and start at 1.
+     *
+     * @param resultSets ResultSet bindings of the class
+     * @return Error message if the sequence is invalid, null otherwise.
+     */
+    private static String validateSequence(final List<ResultSetBinding> resultSets) {
+        Map<Integer, ResultSetBinding> seqToResultSet = new TreeMap<>();
+        for (ResultSetBinding resultSet : resultSets) {
+            if (seqToResultSet.put(resultSet.getSeqNum(), resultSet) != null) {
+                return "@ResultSet should have unique continuous Sequence numbers starting at 1. " + seqToResultSet.keySet();
+            }
+        }
+        if (!seqToResultSet.isEmpty()) {
+            Integer[] seqNums = seqToResultSet.keySet().toArray(new Integer[0]);
+            //The first key should be 1 and the last key should be equal to the number of keys in the sequence.
+            if (seqNums[0] != 1 || seqNums[seqNums.length - 1] != seqNums.length) {
+                return "@ResultSet should have unique Sequence numbers starting at 1. " + seqToResultSet.keySet();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Class of the plan
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @return Instantiator of the class, used instead of {@link Class#newInstance()}
+     */
+    public Instantiator<T> getInstantiator() {
+        return instantiator;
+    }
+
+    /**
+     * @return Bindings of fields annotated with @Field, fields first and then the getter or setter methods.
+     */
+    public List<FieldBinding> getFieldBindings() {
+        return fieldBindings;
+    }
+
+    /**
+     * @return Number of unique datamembers annotated with @Field, directly or through the getter or setter method.
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * @return Bindings of the fields annotated with @ResultSet ordered by sequence number.
+     */
+    public List<ResultSetBinding> getResultSetBindings() {
+        return resultSetBindings;
+    }
+
+    /**
+     * @return true if the @ResultSet sequence numbers are unique, continuous and start at 1.
+     */
+    public boolean isResultSetSequenceValid() {
+        return resultSetSequenceError == null;
+    }
+
+    /**
+     * @return Validation error of the @ResultSet sequence numbers, null if the sequence is valid.
+     */
+    public String getResultSetSequenceError() {
+        return resultSetSequenceError;
+    }
+
+    /**
+     * Copies the datamembers annotated with @Field and @ResultSet into a new instance of the class. The rows of the ResultSet
+     * lists are copied the same way, the values of the datamembers are shared. Used to hand out cached SP Output objects,
+     * so that a caller modifying its object doesn't modify the object of the other callers.
+     *
+     * @param source Object to copy, may be null
+     * @return Copy of the object, null if the source is null
+     */
+    public T copy(final T source) {
+        if (source == null) {
+            return null;
+        }
+        T target;
+        try {
+            target = instantiator.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new SPANException("Unable to copy object of class: " + type + ". Exception Message: " + e.getMessage(), e);
+        }
+        for (FieldBinding fieldBinding : fieldBindings) {
+            fieldBinding.getAccessor().set(target, fieldBinding.getAccessor().get(source));
+        }
+        for (ResultSetBinding resultSetBinding : resultSetBindings) {
+            Object rows = resultSetBinding.getAccessor().get(source);
+            if (rows instanceof List) {
+                List<Object> rowsCopy = new ArrayList<>(((List<?>) rows).size());
+                for (Object row : (List<?>) rows) {
+                    rowsCopy.add(copyRow(row));
+                }
+                resultSetBinding.getAccessor().set(target, rowsCopy);
+            } else {
+                resultSetBinding.getAccessor().set(target, rows);
+            }
+        }
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R copyRow(final R row) {
+        return row == null ? null : BindingPlan.of((Class<R>) row.getClass()).copy(row);
+    }
+
+    @Override
+    public String toString() {
+        return "BindingPlan [type=" + type + ", fieldBindings=" + fieldBindings + ", resultSetBindings=" + resultSetBindings + "]";
+    }
+}
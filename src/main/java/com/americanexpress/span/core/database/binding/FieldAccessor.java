@@ -0,0 +1,229 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.binding;
+
+import com.americanexpress.span.exceptions.SPANException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * FieldAccessor - Direct getter and setter of a datamember, built once per field with method handles.
+ * Unlike {@link Field#get(Object)} and {@link Field#set(Object, Object)} there is no access check on every call, and the
+ * primitive setters (e.g. {@link #setInt(Object, int)}) set primitive datamembers without boxing the value.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+
+    private final MethodHandle getter;
+
+    private final MethodHandle setter;
+
+    private final MethodHandle primitiveSetter;
+
+    private FieldAccessor(final Field field) throws IllegalAccessException {
+        this.field = field;
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        MethodHandle fieldSetter = lookup.unreflectSetter(field);
+        this.setter = fieldSetter.asType(SETTER_TYPE);
+        this.primitiveSetter = field.getType().isPrimitive()
+                ? fieldSetter.asType(MethodType.methodType(void.class, Object.class, field.getType())) : null;
+    }
+
+    /**
+     * Creates the accessor for the given datamember.
+     *
+     * @param field Datamember of the class
+     * @return Accessor of the datamember
+     */
+    public static FieldAccessor of(final Field field) {
+        try {
+            return new FieldAccessor(field);
+        } catch (IllegalAccessException e) {
+            throw new SPANException("Unable to access field " + field + ". Exception Message: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return Type of the datamember
+     */
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    /**
+     * Returns the value of the datamember, primitive values are boxed.
+     *
+     * @param target Object holding the datamember
+     * @return Value of the datamember
+     */
+    public Object get(final Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Sets the value of the datamember. Boxed values are unboxed (and widened) for primitive datamembers.
+     *
+     * @param target Object holding the datamember
+     * @param value  Value of the datamember
+     * @throws IllegalArgumentException if the value cannot be assigned to the datamember
+     */
+    public void set(final Object target, final Object value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw illegalArgument(target, value, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Sets the value of an int datamember without boxing.
+     *
+     * @param target Object holding the datamember
+     * @param value  Value of the datamember
+     */
+    public void setInt(final Object target, final int value) {
+        if (field.getType() != int.class) {
+            set(target, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw illegalArgument(target, value, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a long datamember without boxing.
+     *
+     * @param target Object holding the datamember
+     * @param value  Value of the datamember
+     */
+    public void setLong(final Object target, final long value) {
+        if (field.getType() != long.class) {
+            set(target, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw illegalArgument(target, value, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a float datamember without boxing.
+     *
+     * @param target Object holding the datamember
+     * @param value  Value of the datamember
+     */
+    public void setFloat(final Object target, final float value) {
+        if (field.getType() != float.class) {
+            set(target, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw illegalArgument(target, value, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a double datamember without boxing.
+     *
+     * @param target Object holding the datamember
+     * @param value  Value of the datamember
+     */
+    public void setDouble(final Object target, final double value) {
+        if (field.getType() != double.class) {
+            set(target, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw illegalArgument(target, value, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a boolean datamember without boxing.
+     *
+     * @param target Object holding the datamember
+     * @param value  Value of the datamember
+     */
+    public void setBoolean(final Object target, final boolean value) {
+        if (field.getType() != boolean.class) {
+            set(target, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw illegalArgument(target, value, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private IllegalArgumentException illegalArgument(final Object target, final Object value, final RuntimeException cause) {
+        if (target == null) {
+            return new IllegalArgumentException("Can not set " + field + " on null object", cause);
+        }
+        return new IllegalArgumentException("Can not set " + field + " to " + (value == null ? "null value" : value.getClass().getName()), cause);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldAccessor [field=" + field + "]";
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.binding;
+
+import com.americanexpress.span.core.database.handlers.FieldTransformation;
+import com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl;
+
+import java.lang.reflect.Field;
+
+/**
+ * FieldBinding - Holds the resolved metadata of a single SPAN {@link com.americanexpress.span.annotation.Field} annotation,
+ * i.e. the java field, the SP parameter / column name, default value and transformation class.
+ */
+public final class FieldBinding {
+
+    private final Field field;
+
+    private final FieldAccessor accessor;
+
+    private final String name;
+
+    private final String defaultValue;
+
+    private final Class<? extends FieldTransformation> transformationClass;
+
+    private final boolean declaredOnField;
+
+    private final String description;
+
+    private final boolean defaultValueParsed;
+
+    private final Object parsedDefaultValue;
+
+    FieldBinding(final Field field, final com.americanexpress.span.annotation.Field annotation, final boolean declaredOnField) {
+        this.field = field;
+        this.accessor = FieldAccessor.of(field);
+        this.name = annotation.name();
+        this.defaultValue = annotation.default_value();
+        this.transformationClass = annotation.transformationClass();
+        this.declaredOnField = declaredOnField;
+        this.description = field.getType() + " " + field.getName();
+
+        // The default value is parsed once when the default transformation is used. Custom transformations and
+        // default values which cannot be parsed are transformed on every use, so errors are reported as before.
+        Object parsedValue = null;
+        boolean parsed = false;
+        if (transformationClass == FieldTransformationImpl.class) {
+            try {
+                parsedValue = new FieldTransformationImpl().transform(defaultValue, field.getType());
+                parsed = true;
+            } catch (RuntimeException e) {
+                parsed = false;
+            }
+        }
+        this.parsedDefaultValue = parsedValue;
+        this.defaultValueParsed = parsed;
+    }
+
+    /**
+     * @return Datamember of the class
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return Accessor used to get and set the datamember
+     */
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * @return Type of the datamember
+     */
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    /**
+     * @return name parameter of SPAN annotation @Field
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return default_value parameter of SPAN annotation @Field
+     */
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * @return transformationClass parameter of SPAN annotation @Field
+     */
+    public Class<? extends FieldTransformation> getTransformationClass() {
+        return transformationClass;
+    }
+
+    /**
+     * @return true if the annotation is present on the datamember, false if it is present on the getter or setter method.
+     */
+    public boolean isDeclaredOnField() {
+        return declaredOnField;
+    }
+
+    /**
+     * @return Type and name of the datamember, used in logs and exception messages.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return true if the default value is already transformed to the type of the datamember.
+     */
+    public boolean isDefaultValueParsed() {
+        return defaultValueParsed;
+    }
+
+    /**
+     * @return Default value transformed to the type of the datamember. Valid only if {@link #isDefaultValueParsed()} is true.
+     */
+    public Object getParsedDefaultValue() {
+        return parsedDefaultValue;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldBinding [name=" + name + ", field=" + description + "]";
+    }
+}
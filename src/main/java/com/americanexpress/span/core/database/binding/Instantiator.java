@@ -0,0 +1,101 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.binding;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+
+/**
+ * Instantiator - Creates objects of a class through its no-arg constructor, resolved once per class with a method handle.
+ * Replaces {@link Class#newInstance()} which checks access and looks up the constructor on every call.
+ *
+ * @param <T> Type of the class
+ */
+public final class Instantiator<T> {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<T> type;
+
+    private final MethodHandle constructor;
+
+    private final ReflectiveOperationException failure;
+
+    private Instantiator(final Class<T> type) {
+        this.type = type;
+        MethodHandle handle = null;
+        ReflectiveOperationException exception = null;
+        if (type.isInterface() || type.isPrimitive() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+            exception = new InstantiationException();
+        } else {
+            try {
+                Constructor<T> noArgConstructor = type.getDeclaredConstructor();
+                noArgConstructor.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectConstructor(noArgConstructor).asType(CONSTRUCTOR_TYPE);
+            } catch (NoSuchMethodException e) {
+                exception = new InstantiationException(type.getName());
+                exception.initCause(e);
+            } catch (IllegalAccessException e) {
+                exception = e;
+            } catch (RuntimeException e) {
+                exception = new IllegalAccessException(e.getMessage());
+                exception.initCause(e);
+            }
+        }
+        this.constructor = handle;
+        this.failure = exception;
+    }
+
+    /**
+     * Creates the instantiator for the given class. Errors (abstract class, missing no-arg constructor) are reported
+     * by {@link #newInstance()}.
+     *
+     * @param type Class to instantiate
+     * @param <T>  Type of the class
+     * @return Instantiator of the class
+     */
+    public static <T> Instantiator<T> of(final Class<T> type) {
+        return new Instantiator<>(type);
+    }
+
+    /**
+     * Creates a new object through the no-arg constructor.
+     *
+     * @return New object of type T
+     * @throws ReflectiveOperationException InstantiationException if the class cannot be instantiated,
+     *                                      InvocationTargetException if the constructor throws a checked exception.
+     */
+    @SuppressWarnings("unchecked")
+    public T newInstance() throws ReflectiveOperationException {
+        if (failure != null) {
+            throw failure;
+        }
+        try {
+            return (T) (Object) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Instantiator [type=" + type + "]";
+    }
+}
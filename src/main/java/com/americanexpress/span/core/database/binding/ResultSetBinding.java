@@ -0,0 +1,89 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.binding;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * ResultSetBinding - Holds the resolved metadata of a single SPAN {@link com.americanexpress.span.annotation.ResultSet} annotation.
+ */
+public final class ResultSetBinding {
+
+    private final Field field;
+
+    private final FieldAccessor accessor;
+
+    private final int seqNum;
+
+    private final Class<?> rowType;
+
+    ResultSetBinding(final Field field, final com.americanexpress.span.annotation.ResultSet annotation) {
+        this.field = field;
+        this.accessor = FieldAccessor.of(field);
+        this.seqNum = annotation.seqNum();
+
+        Class<?> typeArgument = null;
+        Type genericType = field.getGenericType();
+        if (genericType instanceof ParameterizedType) {
+            Type[] typeArguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            if (typeArguments.length > 0 && typeArguments[0] instanceof Class) {
+                typeArgument = (Class<?>) typeArguments[0];
+            }
+        }
+        this.rowType = typeArgument;
+    }
+
+    /**
+     * @return Datamember annotated with @ResultSet
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return Accessor used to set the List of ResultSet rows
+     */
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * @return Sequence number of the ResultSet
+     */
+    public int getSeqNum() {
+        return seqNum;
+    }
+
+    /**
+     * @return true if the datamember is declared as a java.util.List
+     */
+    public boolean isList() {
+        return field.getType() == List.class;
+    }
+
+    /**
+     * @return Class of the ResultSet rows (first type argument of the datamember), null if it cannot be resolved.
+     */
+    public Class<?> getRowType() {
+        return rowType;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultSetBinding [seqNum=" + seqNum + ", field=" + field.getName() + "]";
+    }
+}
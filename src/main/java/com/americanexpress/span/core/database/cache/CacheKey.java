@@ -0,0 +1,74 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.cache;
+
+import com.americanexpress.span.core.database.binding.BindingPlan;
+import com.americanexpress.span.core.database.binding.FieldBinding;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CacheKey - Key of a cached Stored Procedure result, i.e. the SP Input and SP Output classes and the values of the
+ * datamembers of the SP Input object annotated with @Field, which are the values bound to the Callable Statement.
+ */
+final class CacheKey {
+
+    private final Class<?> inputType;
+
+    private final Class<?> returnType;
+
+    private final Object[] values;
+
+    private final int hashCode;
+
+    private CacheKey(final Class<?> inputType, final Class<?> returnType, final Object[] values) {
+        this.inputType = inputType;
+        this.returnType = returnType;
+        this.values = values;
+        this.hashCode = 31 * (31 * inputType.hashCode() + returnType.hashCode()) + Arrays.deepHashCode(values);
+    }
+
+    static CacheKey of(final Object spInput, final Class<?> returnType) {
+        List<FieldBinding> fieldBindings = BindingPlan.of(spInput.getClass()).getFieldBindings();
+        Object[] values = new Object[fieldBindings.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = fieldBindings.get(i).getAccessor().get(spInput);
+        }
+        return new CacheKey(spInput.getClass(), returnType, values);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CacheKey)) {
+            return false;
+        }
+        CacheKey that = (CacheKey) o;
+        return hashCode == that.hashCode && inputType == that.inputType && returnType == that.returnType
+                && Arrays.deepEquals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheKey [inputType=" + inputType.getName() + ", returnType=" + returnType.getName() + ", values=" + Arrays.deepToString(values) + "]";
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.cache;
+
+/**
+ * CacheStats - Snapshot of the counters of a {@link ResultCache}. The counters start when the cache is created.
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+
+    private final long staleHitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final long expirationCount;
+
+    private final long refreshCount;
+
+    private final long refreshFailureCount;
+
+    private final int size;
+
+    private final long weight;
+
+    CacheStats(final long hitCount, final long staleHitCount, final long missCount, final long evictionCount, final long expirationCount,
+               final long refreshCount, final long refreshFailureCount, final int size, final long weight) {
+        this.hitCount = hitCount;
+        this.staleHitCount = staleHitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.refreshCount = refreshCount;
+        this.refreshFailureCount = refreshFailureCount;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    /**
+     * @return Number of calls served from a fresh entry
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return Number of calls served from an expired entry while it is refreshed, see staleWhileRevalidate
+     */
+    public long getStaleHitCount() {
+        return staleHitCount;
+    }
+
+    /**
+     * @return Number of calls which executed the Stored Procedure
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return Number of entries removed because the cache was full
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return Number of entries removed because they were expired
+     */
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    /**
+     * @return Number of background refreshes which replaced an entry
+     */
+    public long getRefreshCount() {
+        return refreshCount;
+    }
+
+    /**
+     * @return Number of background refreshes which failed, the stale entry is kept
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailureCount;
+    }
+
+    /**
+     * @return Number of entries
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return Total weight of the entries, the weight of an entry is 1 + number of ResultSet rows
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return Ratio of calls served from the cache, fresh or stale
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + staleHitCount + missCount;
+        return requestCount == 0 ? 0 : (double) (hitCount + staleHitCount) / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats [hitCount=" + hitCount + ", staleHitCount=" + staleHitCount + ", missCount=" + missCount
+                + ", evictionCount=" + evictionCount + ", expirationCount=" + expirationCount + ", refreshCount=" + refreshCount
+                + ", refreshFailureCount=" + refreshFailureCount + ", size=" + size + ", weight=" + weight + "]";
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.cache;
+
+/**
+ * EvictionPolicy - Chooses the entry removed from a {@link ResultCache} when the cache is full.
+ * The methods are called by the cache while holding its lock.
+ *
+ * @param <K> Type of the cache keys
+ */
+interface EvictionPolicy<K> {
+
+    void onInsert(K key);
+
+    void onAccess(K key);
+
+    void onRemove(K key);
+
+    /**
+     * @return Key of the entry to evict, null if there is no entry.
+     */
+    K victim();
+
+    void clear();
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * LfuPolicy - Evicts the least frequently used entry, the least recently used one among entries with the same frequency.
+ */
+final class LfuPolicy<K> implements EvictionPolicy<K> {
+
+    private final Map<K, Long> frequencies = new HashMap<>();
+
+    private final TreeMap<Long, Set<K>> keysByFrequency = new TreeMap<>();
+
+    @Override
+    public void onInsert(final K key) {
+        onRemove(key);
+        frequencies.put(key, 1L);
+        keysByFrequency.computeIfAbsent(1L, frequency -> new LinkedHashSet<>()).add(key);
+    }
+
+    @Override
+    public void onAccess(final K key) {
+        Long frequency = frequencies.get(key);
+        if (frequency == null) {
+            return;
+        }
+        removeFromBucket(key, frequency);
+        frequencies.put(key, frequency + 1);
+        keysByFrequency.computeIfAbsent(frequency + 1, newFrequency -> new LinkedHashSet<>()).add(key);
+    }
+
+    @Override
+    public void onRemove(final K key) {
+        Long frequency = frequencies.remove(key);
+        if (frequency != null) {
+            removeFromBucket(key, frequency);
+        }
+    }
+
+    @Override
+    public K victim() {
+        Map.Entry<Long, Set<K>> leastFrequent = keysByFrequency.firstEntry();
+        return leastFrequent == null ? null : leastFrequent.getValue().iterator().next();
+    }
+
+    @Override
+    public void clear() {
+        frequencies.clear();
+        keysByFrequency.clear();
+    }
+
+    private void removeFromBucket(final K key, final Long frequency) {
+        Set<K> keys = keysByFrequency.get(frequency);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            keysByFrequency.remove(frequency);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * LruPolicy - Evicts the least recently used entry.
+ */
+final class LruPolicy<K> implements EvictionPolicy<K> {
+
+    // Iteration order is from the least to the most recently used key.
+    private final Set<K> order = new LinkedHashSet<>();
+
+    @Override
+    public void onInsert(final K key) {
+        order.add(key);
+    }
+
+    @Override
+    public void onAccess(final K key) {
+        if (order.remove(key)) {
+            order.add(key);
+        }
+    }
+
+    @Override
+    public void onRemove(final K key) {
+        order.remove(key);
+    }
+
+    @Override
+    public K victim() {
+        Iterator<K> iterator = order.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public void clear() {
+        order.clear();
+    }
+}
@@ -0,0 +1,319 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.cache;
+
+import com.americanexpress.span.core.database.binding.BindingPlan;
+import com.americanexpress.span.core.database.binding.ResultSetBinding;
+import com.americanexpress.span.core.database.connection.SPANExecutors;
+import com.americanexpress.span.models.CacheDetails;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * ResultCache - Results of a Stored Procedure cached by the values of the SP Input datamembers annotated with @Field, see the
+ * cache section of sp_details ({@link CacheDetails}).
+ * <p>
+ * An entry is fresh for ttl seconds, then stale for staleWhileRevalidate seconds: a stale entry is still returned while a
+ * single background call, run on the Executor of the DataSource ({@link SPANExecutors}), refreshes it. An entry is removed
+ * once it is neither fresh nor stale. The cache holds at most maxEntries entries, and at most maxWeight if set, where the
+ * weight of an entry is 1 + number of ResultSet rows. Entries are evicted LRU or LFU.
+ * <p>
+ * Callers get a copy of the cached SP Output object ({@link BindingPlan#copy(Object)}), so that modifying the returned
+ * object or its ResultSet lists doesn't modify the cache.
+ */
+public final class ResultCache {
+
+    private static final String LRU = "LRU";
+    private static final String LFU = "LFU";
+
+    /**
+     * Executes the Stored Procedure on a cache miss or a refresh.
+     *
+     * @param <I> Type of the SP Input class
+     * @param <O> Type of the SP Output class
+     */
+    public interface Loader<I, O> {
+        O load(I spInput) throws SQLException;
+    }
+
+    private final String spUserDefinedKey;
+
+    private final CacheDetails cacheDetails;
+
+    private final long ttlNanos;
+
+    private final long staleNanos;
+
+    private final LongSupplier clock;
+
+    private final Executor refreshExecutor;
+
+    private final Map<CacheKey, Entry> entries = new HashMap<>();
+
+    private final EvictionPolicy<CacheKey> evictionPolicy;
+
+    // Guarded by this
+    private long weight;
+    private long generation;
+    private long hitCount;
+    private long staleHitCount;
+    private long missCount;
+    private long evictionCount;
+    private long expirationCount;
+    private long refreshCount;
+    private long refreshFailureCount;
+
+    /**
+     * Creates the cache of a Stored Procedure, stale entries are refreshed on the Executor of its DataSource.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @param cacheDetails     cache section of the sp_details of the Stored Procedure
+     */
+    public ResultCache(final String spUserDefinedKey, final CacheDetails cacheDetails) {
+        this(spUserDefinedKey, cacheDetails, System::nanoTime, null);
+    }
+
+    ResultCache(final String spUserDefinedKey, final CacheDetails cacheDetails, final LongSupplier clock, final Executor refreshExecutor) {
+        this.spUserDefinedKey = Objects.requireNonNull(spUserDefinedKey, "spUserDefinedKey should not be null.");
+        this.cacheDetails = Objects.requireNonNull(cacheDetails, "cacheDetails should not be null.");
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(cacheDetails.getTtl());
+        this.staleNanos = TimeUnit.SECONDS.toNanos(cacheDetails.getStaleWhileRevalidate());
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.evictionPolicy = LFU.equalsIgnoreCase(cacheDetails.getEviction()) ? new LfuPolicy<>() : new LruPolicy<>();
+    }
+
+    /**
+     * Checks the eviction value of SPAN configuration.
+     *
+     * @param eviction LRU or LFU, case insensitive
+     * @return true if the value is null or valid
+     */
+    public static boolean isValidEviction(final String eviction) {
+        if (eviction == null) {
+            return true;
+        }
+        String policy = eviction.trim().toUpperCase(Locale.ROOT);
+        return LRU.equals(policy) || LFU.equals(policy);
+    }
+
+    /**
+     * Returns a copy of the cached result for the input values, executing the Stored Procedure through the loader if there
+     * is no fresh or stale entry.
+     *
+     * @param spInput    Object for InputParameters
+     * @param returnType Class Object for the type representing OutputParameters
+     * @param loader     Executes the Stored Procedure
+     * @param <I>        Type of the SP Input class
+     * @param <O>        Type of the SP Output class
+     * @return Object for OutputParameters
+     * @throws SQLException the exception of the loader on a cache miss
+     */
+    public <I, O> O get(final I spInput, final Class<O> returnType, final Loader<I, O> loader) throws SQLException {
+        return get(spInput, returnType, loader, loader);
+    }
+
+    /**
+     * Same as {@link #get(Object, Class, Loader)}, a stale entry is refreshed through refreshLoader on another thread.
+     *
+     * @param spInput       Object for InputParameters
+     * @param returnType    Class Object for the type representing OutputParameters
+     * @param loader        Executes the Stored Procedure on a cache miss, on the calling thread
+     * @param refreshLoader Executes the Stored Procedure to refresh a stale entry, on the Executor of the DataSource
+     * @param <I>           Type of the SP Input class
+     * @param <O>           Type of the SP Output class
+     * @return Object for OutputParameters
+     * @throws SQLException the exception of the loader on a cache miss
+     */
+    public <I, O> O get(final I spInput, final Class<O> returnType, final Loader<I, O> loader, final Loader<I, O> refreshLoader)
+            throws SQLException {
+        CacheKey key = CacheKey.of(spInput, returnType);
+        Entry entry;
+        boolean refresh = false;
+        long refreshGeneration;
+        synchronized (this) {
+            entry = entries.get(key);
+            long now = clock.getAsLong();
+            if (entry != null && now - entry.expiresAt < 0) {
+                hitCount++;
+                evictionPolicy.onAccess(key);
+            } else if (entry != null && now - entry.staleUntil < 0) {
+                staleHitCount++;
+                evictionPolicy.onAccess(key);
+                if (!entry.refreshing) {
+                    entry.refreshing = true;
+                    refresh = true;
+                }
+            } else {
+                if (entry != null) {
+                    remove(key);
+                    expirationCount++;
+                    entry = null;
+                }
+                missCount++;
+            }
+            refreshGeneration = generation;
+        }
+        BindingPlan<O> outputPlan = BindingPlan.of(returnType);
+        if (entry != null) {
+            if (refresh) {
+                refresh(key, entry, copyInput(spInput), outputPlan, refreshLoader, refreshGeneration);
+            }
+            return outputPlan.copy(returnType.cast(entry.value));
+        }
+        O output = loader.load(spInput);
+        put(key, outputPlan.copy(output), weigh(outputPlan, output), refreshGeneration);
+        return output;
+    }
+
+    /**
+     * Removes all the entries. A refresh running at that time doesn't add its result.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        evictionPolicy.clear();
+        weight = 0;
+        generation++;
+    }
+
+    /**
+     * @return Snapshot of the counters of the cache
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hitCount, staleHitCount, missCount, evictionCount, expirationCount, refreshCount, refreshFailureCount,
+                entries.size(), weight);
+    }
+
+    /**
+     * @return cache section of sp_details the cache was created from
+     */
+    public CacheDetails getCacheDetails() {
+        return cacheDetails;
+    }
+
+    private <I, O> void refresh(final CacheKey key, final Entry entry, final I spInput, final BindingPlan<O> outputPlan,
+                                final Loader<I, O> loader, final long refreshGeneration) {
+        Runnable task = () -> {
+            try {
+                O output = loader.load(spInput);
+                if (put(key, outputPlan.copy(output), weigh(outputPlan, output), refreshGeneration)) {
+                    synchronized (this) {
+                        refreshCount++;
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                refreshFailed(entry);
+                LoggerFactory.getLogger(ResultCache.class).warn("Unable to refresh cached result of Stored Procedure User Defined Key: "
+                        + spUserDefinedKey + ". " + key + ". Exception Message: " + e.getMessage(), e);
+            }
+        };
+        try {
+            (refreshExecutor != null ? refreshExecutor : SPANExecutors.getExecutor(spUserDefinedKey)).execute(task);
+        } catch (RejectedExecutionException e) {
+            refreshFailed(entry);
+            LoggerFactory.getLogger(ResultCache.class).warn("Refresh of cached result rejected for Stored Procedure User Defined Key: "
+                    + spUserDefinedKey + ". Exception Message: " + e.getMessage());
+        }
+    }
+
+    private synchronized void refreshFailed(final Entry entry) {
+        // The stale entry is kept, the next stale hit tries again.
+        entry.refreshing = false;
+        refreshFailureCount++;
+    }
+
+    private synchronized boolean put(final CacheKey key, final Object value, final long entryWeight, final long putGeneration) {
+        if (putGeneration != generation) {
+            return false;
+        }
+        remove(key);
+        // Room is made before the insert, so that the new entry is never the victim (it has the lowest frequency for LFU).
+        while (!entries.isEmpty() && (entries.size() >= cacheDetails.getMaxEntries()
+                || (cacheDetails.getMaxWeight() != null && weight + entryWeight > cacheDetails.getMaxWeight()))) {
+            remove(evictionPolicy.victim());
+            evictionCount++;
+        }
+        long expiresAt = clock.getAsLong() + ttlNanos;
+        entries.put(key, new Entry(value, entryWeight, expiresAt, expiresAt + staleNanos));
+        evictionPolicy.onInsert(key);
+        weight += entryWeight;
+        return true;
+    }
+
+    private void remove(final CacheKey key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            evictionPolicy.onRemove(key);
+            weight -= entry.weight;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <I> I copyInput(final I spInput) {
+        // The refresh runs after the call returns, the caller may reuse its SP Input object in the meantime.
+        try {
+            return BindingPlan.of((Class<I>) spInput.getClass()).copy(spInput);
+        } catch (RuntimeException e) {
+            return spInput;
+        }
+    }
+
+    private static long weigh(final BindingPlan<?> outputPlan, final Object output) {
+        long entryWeight = 1;
+        if (output != null) {
+            for (ResultSetBinding resultSetBinding : outputPlan.getResultSetBindings()) {
+                Object rows = resultSetBinding.getAccessor().get(output);
+                if (rows instanceof List) {
+                    entryWeight += ((List<?>) rows).size();
+                }
+            }
+        }
+        return entryWeight;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCache [spUserDefinedKey=" + spUserDefinedKey + ", cacheDetails=" + cacheDetails + "]";
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+
+        private final long weight;
+
+        private final long expiresAt;
+
+        private final long staleUntil;
+
+        private boolean refreshing;
+
+        private Entry(final Object value, final long weight, final long expiresAt, final long staleUntil) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+            this.staleUntil = staleUntil;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.cache;
+
+import com.americanexpress.span.core.database.connection.SPANDataSource;
+import com.americanexpress.span.core.database.connection.SPRegistration;
+import com.americanexpress.span.models.CacheDetails;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SPANCaches - Holds the {@link ResultCache} of every Stored Procedure with a cache section in sp_details, and the
+ * {@link SingleFlight} of every Stored Procedure with coalesce set in sp_details. A cache is created on first use, and created
+ * again if the cache section of the Stored Procedure is replaced.
+ */
+public final class SPANCaches {
+
+    private static final Map<String, ResultCache> cacheMap = new ConcurrentHashMap<>();
+
+    private static final Map<String, SingleFlight> singleFlightMap = new ConcurrentHashMap<>();
+
+    private SPANCaches() {
+    }
+
+    /**
+     * Gets the cache of a Stored Procedure.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @return Cache of the Stored Procedure, null if the Stored Procedure is unknown or not cached
+     */
+    public static ResultCache getCache(final String spUserDefinedKey) {
+        return getCache(spUserDefinedKey, SPANDataSource.getInstance().resolve(spUserDefinedKey));
+    }
+
+    /**
+     * Gets the cache of a resolved Stored Procedure.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @param registration     Resolution of the key by {@link SPANDataSource#resolve(String)}, null if the key is unknown
+     * @return Cache of the Stored Procedure, null if the Stored Procedure is unknown or not cached
+     */
+    public static ResultCache getCache(final String spUserDefinedKey, final SPRegistration registration) {
+        CacheDetails cacheDetails = registration != null ? registration.getSPUserDefineKey().getCache() : null;
+        if (cacheDetails == null) {
+            // The cache section was removed by a reload. The map is only read for the Stored Procedures which are not cached.
+            if (cacheMap.containsKey(spUserDefinedKey)) {
+                cacheMap.remove(spUserDefinedKey);
+            }
+            return null;
+        }
+        ResultCache cache = cacheMap.get(spUserDefinedKey);
+        if (cache != null && cache.getCacheDetails() == cacheDetails) {
+            return cache;
+        }
+        return cacheMap.compute(spUserDefinedKey, (key, current) -> current != null && current.getCacheDetails() == cacheDetails
+                ? current : new ResultCache(key, cacheDetails));
+    }
+
+    /**
+     * Gets the coalescing of the concurrent calls of a Stored Procedure.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @return Coalescing of the Stored Procedure, null if the Stored Procedure is unknown or its calls aren't coalesced
+     */
+    public static SingleFlight getSingleFlight(final String spUserDefinedKey) {
+        return getSingleFlight(spUserDefinedKey, SPANDataSource.getInstance().resolve(spUserDefinedKey));
+    }
+
+    /**
+     * Gets the coalescing of the concurrent calls of a resolved Stored Procedure.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @param registration     Resolution of the key by {@link SPANDataSource#resolve(String)}, null if the key is unknown
+     * @return Coalescing of the Stored Procedure, null if the Stored Procedure is unknown or its calls aren't coalesced
+     */
+    public static SingleFlight getSingleFlight(final String spUserDefinedKey, final SPRegistration registration) {
+        if (registration == null || !registration.getSPUserDefineKey().isCoalesce()) {
+            if (singleFlightMap.containsKey(spUserDefinedKey)) {
+                singleFlightMap.remove(spUserDefinedKey);
+            }
+            return null;
+        }
+        return singleFlightMap.computeIfAbsent(spUserDefinedKey, SingleFlight::new);
+    }
+
+    /**
+     * Removes all the cached results of a Stored Procedure.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     */
+    public static void invalidate(final String spUserDefinedKey) {
+        ResultCache cache = cacheMap.get(spUserDefinedKey);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Removes all the cached results of all the Stored Procedures.
+     */
+    public static void invalidateAll() {
+        cacheMap.values().forEach(ResultCache::invalidateAll);
+    }
+
+    /**
+     * Gets the counters of the cache of a Stored Procedure.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @return Snapshot of the counters, null if the cache of the Stored Procedure isn't created
+     */
+    public static CacheStats getStats(final String spUserDefinedKey) {
+        ResultCache cache = cacheMap.get(spUserDefinedKey);
+        return cache != null ? cache.getStats() : null;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.cache;
+
+import com.americanexpress.span.core.database.binding.BindingPlan;
+import com.americanexpress.span.exceptions.SPANException;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SingleFlight - Coalesces the concurrent calls of a Stored Procedure with equal input values, see coalesce in sp_details.
+ * The first call executes the Stored Procedure, the calls arriving while it runs wait for it and get a copy of its
+ * result ({@link BindingPlan#copy(Object)}) or its exception, so that they don't take a connection of the pool each.
+ * A call arriving after the first one completed executes the Stored Procedure again.
+ */
+public final class SingleFlight {
+
+    private final String spUserDefinedKey;
+
+    private final Map<CacheKey, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     */
+    public SingleFlight(final String spUserDefinedKey) {
+        this.spUserDefinedKey = spUserDefinedKey;
+    }
+
+    /**
+     * Executes the Stored Procedure through the loader, or waits for the running call with equal input values.
+     *
+     * @param spInput    Object for InputParameters
+     * @param returnType Class Object for the type representing OutputParameters
+     * @param loader     Executes the Stored Procedure
+     * @param <I>        Type of the SP Input class
+     * @param <O>        Type of the SP Output class
+     * @return Object for OutputParameters
+     * @throws SQLException the exception of the call executing the Stored Procedure
+     */
+    public <I, O> O execute(final I spInput, final Class<O> returnType, final ResultCache.Loader<I, O> loader) throws SQLException {
+        CacheKey key = CacheKey.of(spInput, returnType);
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(key, call);
+        if (inFlightCall != null) {
+            coalescedCount.incrementAndGet();
+            return BindingPlan.of(returnType).copy(returnType.cast(await(key, inFlightCall)));
+        }
+        try {
+            O output = loader.load(spInput);
+            // The caller owns the output, the waiting calls copy a snapshot of it which nobody modifies.
+            call.complete(BindingPlan.of(returnType).copy(output));
+            return output;
+        } catch (SQLException | RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightCalls.remove(key, call);
+        }
+    }
+
+    /**
+     * @return Number of calls which got the result of another call
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * @return Number of Stored Procedure calls running
+     */
+    public int getInFlightCount() {
+        return inFlightCalls.size();
+    }
+
+    private Object await(final CacheKey key, final CompletableFuture<Object> inFlightCall) throws SQLException {
+        try {
+            return inFlightCall.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SPANException("Stored Procedure call failed. Stored Procedure User Defined Key: " + spUserDefinedKey + ". " + key, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SPANException("Interrupted while waiting for the Stored Procedure call. Stored Procedure User Defined Key: "
+                    + spUserDefinedKey + ". " + key, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SingleFlight [spUserDefinedKey=" + spUserDefinedKey + "]";
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.connection;
+
+/**
+ * PoolAlertListener - Notified when the threads waiting for a connection of a SPAN DataSource exceed the waitersAlertThreshold of
+ * its datasource_details. Set with {@link SPANDataSource#setPoolAlertListener(PoolAlertListener)}.
+ * <p>
+ * The alert is raised once when the threshold is exceeded, and again only after the waiting threads have dropped to half of the
+ * threshold. The listener is called by the waiting thread and should not block.
+ */
+@FunctionalInterface
+public interface PoolAlertListener {
+
+    /**
+     * @param statistics Statistics of the pool when the threshold was exceeded
+     * @param threshold  waitersAlertThreshold of the DataSource
+     */
+    void onWaitersThresholdExceeded(PoolStatistics statistics, int threshold);
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.connection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PoolDrainer - Closes the DataSources retired by a reload of SPAN configuration once the calls in flight have returned their
+ * Connections. A retired DataSource is no longer resolved, but a call may have resolved it just before the reload. Such a call
+ * either is counted in flight before the DataSource is marked retired, or resolves the new registry again. The DataSource is closed
+ * when it has no call in flight, no thread waiting for a Connection and no active Connection for a whole check interval, or after
+ * the drain timeout. A Connection still borrowed from a closed DataSource is closed when it is returned.
+ */
+final class PoolDrainer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PoolDrainer.class);
+
+    static final long CHECK_INTERVAL_MILLIS = 100L;
+
+    static final long DRAIN_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private PoolDrainer() {
+    }
+
+    /**
+     * Schedules the close of a DataSource which is no longer resolved.
+     *
+     * @param dataSource Retired DataSource
+     */
+    static void retire(final SPANBasicDataSource dataSource) {
+        LOGGER.info("Draining the retired DataSource of SPAN User Defined key: {}", dataSource.getSpanUserDefinedKey());
+        dataSource.retire();
+        schedule(dataSource, System.nanoTime(), false);
+    }
+
+    private static void schedule(final SPANBasicDataSource dataSource, final long retiredAt, final boolean idle) {
+        Scheduler.INSTANCE.schedule(() -> check(dataSource, retiredAt, idle), CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private static void check(final SPANBasicDataSource dataSource, final long retiredAt, final boolean wasIdle) {
+        boolean idle = dataSource.getCallsInFlight() == 0 && dataSource.getNumWaiters() == 0 && dataSource.getNumActive() == 0;
+        if (idle && wasIdle) {
+            close(dataSource);
+        } else if (System.nanoTime() - retiredAt >= TimeUnit.MILLISECONDS.toNanos(DRAIN_TIMEOUT_MILLIS)) {
+            LOGGER.warn("Closing the retired DataSource of SPAN User Defined key: {} with {} calls in flight, {} waiting threads and {} active Connections after {} ms",
+                    dataSource.getSpanUserDefinedKey(), dataSource.getCallsInFlight(), dataSource.getNumWaiters(), dataSource.getNumActive(),
+                    DRAIN_TIMEOUT_MILLIS);
+            close(dataSource);
+        } else {
+            schedule(dataSource, retiredAt, idle);
+        }
+    }
+
+    private static void close(final SPANBasicDataSource dataSource) {
+        try {
+            dataSource.close();
+            LOGGER.info("Closed the retired DataSource of SPAN User Defined key: {}", dataSource.getSpanUserDefinedKey());
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.error("Failed to close the retired DataSource of SPAN User Defined key: {}. Exception Message: {}",
+                    dataSource.getSpanUserDefinedKey(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Daemon thread of the checks, created on the first retired DataSource.
+     */
+    private static final class Scheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SPAN-pool-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
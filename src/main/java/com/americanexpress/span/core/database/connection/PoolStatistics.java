@@ -0,0 +1,147 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.connection;
+
+import com.americanexpress.span.core.database.metrics.HistogramSnapshot;
+
+/**
+ * PoolStatistics - Snapshot of the Connection pool of a SPAN DataSource, see {@link SPANDataSource#getPoolStatistics(String)}.
+ * The counters are cumulative since the DataSource was created.
+ */
+public final class PoolStatistics {
+
+    private final String spanUserDefinedKey;
+
+    private final int numActive;
+
+    private final int numIdle;
+
+    private final int numWaiters;
+
+    private final int maxTotal;
+
+    private final HistogramSnapshot borrowLatency;
+
+    private final long borrowTimeouts;
+
+    private final long abandonedRemovals;
+
+    private final long connectionsCreated;
+
+    private final long connectionsDestroyed;
+
+    private final long waitersAlerts;
+
+    PoolStatistics(final String spanUserDefinedKey, final int numActive, final int numIdle, final int numWaiters, final int maxTotal,
+                   final HistogramSnapshot borrowLatency, final long borrowTimeouts, final long abandonedRemovals,
+                   final long connectionsCreated, final long connectionsDestroyed, final long waitersAlerts) {
+        this.spanUserDefinedKey = spanUserDefinedKey;
+        this.numActive = numActive;
+        this.numIdle = numIdle;
+        this.numWaiters = numWaiters;
+        this.maxTotal = maxTotal;
+        this.borrowLatency = borrowLatency;
+        this.borrowTimeouts = borrowTimeouts;
+        this.abandonedRemovals = abandonedRemovals;
+        this.connectionsCreated = connectionsCreated;
+        this.connectionsDestroyed = connectionsDestroyed;
+        this.waitersAlerts = waitersAlerts;
+    }
+
+    /**
+     * @return SPAN User Defined key of the DataSource
+     */
+    public String getSpanUserDefinedKey() {
+        return spanUserDefinedKey;
+    }
+
+    /**
+     * @return Connections borrowed from the pool
+     */
+    public int getNumActive() {
+        return numActive;
+    }
+
+    /**
+     * @return Connections idle in the pool
+     */
+    public int getNumIdle() {
+        return numIdle;
+    }
+
+    /**
+     * @return Threads waiting for a Connection of the pool
+     */
+    public int getNumWaiters() {
+        return numWaiters;
+    }
+
+    /**
+     * @return maxActive of the DataSource
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * @return Time waited for a Connection by every borrow, in nanoseconds, including the failed borrows
+     */
+    public HistogramSnapshot getBorrowLatency() {
+        return borrowLatency;
+    }
+
+    /**
+     * @return Borrows which failed because no Connection was available within maxWaitForConnection
+     */
+    public long getBorrowTimeouts() {
+        return borrowTimeouts;
+    }
+
+    /**
+     * @return Connections removed from the pool because they were abandoned by the borrower
+     */
+    public long getAbandonedRemovals() {
+        return abandonedRemovals;
+    }
+
+    /**
+     * @return Connections opened by the pool
+     */
+    public long getConnectionsCreated() {
+        return connectionsCreated;
+    }
+
+    /**
+     * @return Connections closed by the pool, including the abandoned ones
+     */
+    public long getConnectionsDestroyed() {
+        return connectionsDestroyed;
+    }
+
+    /**
+     * @return Alerts raised because the waiting threads exceeded waitersAlertThreshold
+     */
+    public long getWaitersAlerts() {
+        return waitersAlerts;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStatistics [spanUserDefinedKey=" + spanUserDefinedKey + ", numActive=" + numActive + ", numIdle=" + numIdle
+                + ", numWaiters=" + numWaiters + ", maxTotal=" + maxTotal + ", borrows=" + borrowLatency.getCount()
+                + ", borrowTimeouts=" + borrowTimeouts + ", abandonedRemovals=" + abandonedRemovals
+                + ", connectionsCreated=" + connectionsCreated + ", connectionsDestroyed=" + connectionsDestroyed
+                + ", waitersAlerts=" + waitersAlerts + "]";
+    }
+}
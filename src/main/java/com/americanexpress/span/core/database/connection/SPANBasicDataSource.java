@@ -0,0 +1,204 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.connection;
+
+import com.americanexpress.span.core.database.metrics.LatencyHistogram;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.dbcp2.PoolableConnection;
+import org.apache.commons.dbcp2.PoolableConnectionFactory;
+import org.apache.commons.pool2.DestroyMode;
+import org.apache.commons.pool2.impl.AbandonedConfig;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SPANBasicDataSource - BasicDataSource of a SPAN User Defined key which keeps the statistics of its pool: the time waited by
+ * every borrow, the borrow timeouts and the Connections removed as abandoned. The Connections created and destroyed are counted
+ * by the pool.
+ * <p>
+ * An alert is raised when a thread calls {@link #getConnection()} while the threads waiting for a Connection of the pool exceed the
+ * waitersAlertThreshold.
+ * <p>
+ * The calls in flight on the DataSource are counted from just before they borrow their Connection, so that a DataSource retired
+ * by a reload is not closed under a call which has not borrowed its Connection yet. The DataSource is marked retired before its
+ * calls are awaited: a call starting after the mark is not counted, and resolves its Stored Procedure again from the new registry.
+ */
+class SPANBasicDataSource extends BasicDataSource {
+
+    private final String spanUserDefinedKey;
+
+    private final int waitersAlertThreshold;
+
+    private final LatencyHistogram borrowLatency = new LatencyHistogram();
+
+    private final LongAdder borrowTimeouts = new LongAdder();
+
+    private final LongAdder abandonedRemovals = new LongAdder();
+
+    private final LongAdder waitersAlerts = new LongAdder();
+
+    private final AtomicBoolean alerting = new AtomicBoolean();
+
+    private final AtomicInteger callsInFlight = new AtomicInteger();
+
+    private volatile boolean retired;
+
+    /**
+     * @param spanUserDefinedKey    SPAN User Defined key of the DataSource
+     * @param waitersAlertThreshold Waiting threads above which an alert is raised, 0 for no alert
+     */
+    SPANBasicDataSource(final String spanUserDefinedKey, final int waitersAlertThreshold) {
+        this.spanUserDefinedKey = spanUserDefinedKey;
+        this.waitersAlertThreshold = waitersAlertThreshold;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (waitersAlertThreshold > 0) {
+            int waiting = getNumWaiters();
+            if (waiting > waitersAlertThreshold && alerting.compareAndSet(false, true)) {
+                alert(waiting);
+            }
+        }
+        long startTime = System.nanoTime();
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            // The pool reports a borrow which waited maxWaitForConnection with a NoSuchElementException
+            if (e.getCause() instanceof NoSuchElementException) {
+                borrowTimeouts.increment();
+            }
+            throw e;
+        } finally {
+            borrowLatency.record(System.nanoTime() - startTime);
+            if (alerting.get() && getNumWaiters() <= waitersAlertThreshold / 2) {
+                alerting.set(false);
+            }
+        }
+    }
+
+    private void alert(final int waiting) {
+        waitersAlerts.increment();
+        PoolStatistics statistics = getStatistics();
+        LoggerFactory.getLogger(SPANDataSource.class).warn("Connection pool of SPAN key: {} has {} waiting threads, above the threshold: {}. {}",
+                spanUserDefinedKey, waiting, waitersAlertThreshold, statistics);
+        PoolAlertListener listener = SPANDataSource.getPoolAlertListener();
+        if (listener != null) {
+            try {
+                listener.onWaitersThresholdExceeded(statistics, waitersAlertThreshold);
+            } catch (RuntimeException e) {
+                LoggerFactory.getLogger(SPANDataSource.class).warn("PoolAlertListener: {} failed. Exception Message: {}", listener, e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    protected GenericObjectPool<PoolableConnection> createObjectPool(final PoolableConnectionFactory factory,
+                                                                     final GenericObjectPoolConfig<PoolableConnection> poolConfig,
+                                                                     final AbandonedConfig abandonedConfig) {
+        // Same pools as BasicDataSource
+        if (abandonedConfig != null && (abandonedConfig.getRemoveAbandonedOnBorrow() || abandonedConfig.getRemoveAbandonedOnMaintenance())) {
+            return new CountingObjectPool(factory, poolConfig, abandonedConfig);
+        }
+        return new CountingObjectPool(factory, poolConfig);
+    }
+
+    /**
+     * @return false if the DataSource is retired, the call is then not counted
+     */
+    boolean callStarted() {
+        callsInFlight.incrementAndGet();
+        // Either the call sees the mark, or the drainer sees the call.
+        if (retired) {
+            callsInFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void callEnded() {
+        callsInFlight.decrementAndGet();
+    }
+
+    /**
+     * Marks the DataSource retired by a reload, before its calls in flight are awaited.
+     */
+    void retire() {
+        retired = true;
+    }
+
+    /**
+     * @return Calls started by {@link SPRegistration#beginCall()} and not ended yet
+     */
+    int getCallsInFlight() {
+        return callsInFlight.get();
+    }
+
+    /**
+     * @return Threads blocked in the pool waiting for a Connection, 0 before the first borrow creates the pool
+     */
+    int getNumWaiters() {
+        GenericObjectPool<PoolableConnection> pool = getConnectionPool();
+        return pool != null ? pool.getNumWaiters() : 0;
+    }
+
+    /**
+     * @return SPAN User Defined key of the DataSource
+     */
+    String getSpanUserDefinedKey() {
+        return spanUserDefinedKey;
+    }
+
+    /**
+     * @return Snapshot of the statistics of the pool
+     */
+    PoolStatistics getStatistics() {
+        // The pool is created by the first borrow
+        GenericObjectPool<PoolableConnection> pool = getConnectionPool();
+        return new PoolStatistics(spanUserDefinedKey, getNumActive(), getNumIdle(), pool != null ? pool.getNumWaiters() : 0, getMaxTotal(), borrowLatency.snapshot(),
+                borrowTimeouts.sum(), abandonedRemovals.sum(), pool != null ? pool.getCreatedCount() : 0,
+                pool != null ? pool.getDestroyedCount() : 0, waitersAlerts.sum());
+    }
+
+    /**
+     * Pool counting the Connections removed as abandoned, which the pool destroys through {@link #invalidateObject(Object, DestroyMode)}.
+     */
+    private final class CountingObjectPool extends GenericObjectPool<PoolableConnection> {
+
+        private CountingObjectPool(final PoolableConnectionFactory factory, final GenericObjectPoolConfig<PoolableConnection> poolConfig) {
+            super(factory, poolConfig);
+        }
+
+        private CountingObjectPool(final PoolableConnectionFactory factory, final GenericObjectPoolConfig<PoolableConnection> poolConfig,
+                                   final AbandonedConfig abandonedConfig) {
+            super(factory, poolConfig, abandonedConfig);
+        }
+
+        @Override
+        public void invalidateObject(final PoolableConnection obj, final DestroyMode mode) throws Exception {
+            if (mode == DestroyMode.ABANDONED) {
+                abandonedRemovals.increment();
+            }
+            super.invalidateObject(obj, mode);
+        }
+    }
+}
@@ -18,12 +18,13 @@ import com.americanexpress.span.models.DataSourceDetails;
 import com.americanexpress.span.models.SPANConfig;
 import com.americanexpress.span.models.SPANUserDefineKeyDetails;
 import com.americanexpress.span.utility.ExpressionEvaluation;
-import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.util.*;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -32,7 +33,9 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 /**
  * This class will create a map of pooled datasource object from {@link SPANConfigHolder}
  *
- *
+ * The registry of the Stored Procedures is built once and never modified, and the instance is published through a volatile
+ * field, so resolving a Stored Procedure is a lock-free read of a HashMap. A reload of SPAN configuration builds a new instance
+ * which keeps the pools whose connection settings are unchanged, and replaces the instance in a single write.
  */
 public class SPANDataSource {
 
@@ -44,35 +47,149 @@ public class SPANDataSource {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SPANDataSource.class);
 
-    private static SPANDataSource objectInstance;
-    private static Map<String, DataSource> dataSourceMap = Collections.synchronizedMap(new HashMap<>());
+    private static volatile SPANDataSource objectInstance;
+    private static volatile PoolAlertListener poolAlertListener;
+
+    // The maps are unmodifiable once the constructor returns
+    private final Map<String, SPRegistration> registrations;
+    private final Map<String, SPANBasicDataSource> poolMap;
+    private final Map<String, DataSourceDetails> poolDetailsMap;
 
-    private SPANDataSource(final SPANConfig spanConfig) {
-        dataSourceMap.putAll(initialize(spanConfig));
+    /**
+     * @param spanConfig SPAN configuration
+     * @param previous   Instance replaced by a reload, its pools with unchanged connection settings are kept. null at start up.
+     */
+    private SPANDataSource(final SPANConfig spanConfig, final SPANDataSource previous) {
+        Map<String, SPRegistration> spRegistrations = new HashMap<>();
+        Map<String, SPANBasicDataSource> pools = new HashMap<>();
+        Map<String, DataSourceDetails> poolDetails = new HashMap<>();
+        try {
+            initialize(spanConfig, previous, spRegistrations, pools, poolDetails);
+        } catch (RuntimeException e) {
+            // The pools of the previous instance stay in use
+            pools.values().stream().filter(pool -> previous == null || !previous.poolMap.containsValue(pool)).forEach(SPANDataSource::closeQuietly);
+            throw e;
+        }
+        this.registrations = Collections.unmodifiableMap(spRegistrations);
+        this.poolMap = Collections.unmodifiableMap(pools);
+        this.poolDetailsMap = Collections.unmodifiableMap(poolDetails);
     }
 
 
+    /**
+     * Returns the instance, creating the pools of the DataSources on first use. Concurrent first calls create a single instance.
+     *
+     * @return SPANDataSource of SPAN configuration
+     */
     public static SPANDataSource getInstance() {
-        if (objectInstance == null) {
-            objectInstance = new SPANDataSource(SPANConfigHolder.getInstance().getSPANConfig());
+        SPANDataSource instance = objectInstance;
+        if (instance == null) {
+            synchronized (SPANDataSource.class) {
+                instance = objectInstance;
+                if (instance == null) {
+                    instance = new SPANDataSource(SPANConfigHolder.getInstance().getSPANConfig(), null);
+                    objectInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Rebuilds the registry from the configuration of {@link SPANConfigHolder}, called by
+     * {@link com.americanexpress.span.core.SPANInitialization#reload()} once the new configuration is set. The pools whose
+     * connection settings are unchanged are kept. The other pools are created, and the retired ones are closed once the calls in
+     * flight have returned their Connections. The calls resolving a Stored Procedure after the swap use the new registry. A call
+     * reads all its configuration from its registration, so it never mixes the two configurations: until the swap, a key added by
+     * the reload is unknown.
+     *
+     * @throws IllegalArgumentException if a driver class cannot be found, the current registry is kept
+     */
+    public static void reload() {
+        synchronized (SPANDataSource.class) {
+            SPANDataSource current = objectInstance;
+            if (current == null) {
+                // Created from the new configuration on first use
+                return;
+            }
+            SPANDataSource next = new SPANDataSource(SPANConfigHolder.getInstance().getSPANConfig(), current);
+            objectInstance = next;
+            current.poolMap.forEach((spanUserDefinedKey, pool) -> {
+                if (next.poolMap.get(spanUserDefinedKey) != pool) {
+                    PoolDrainer.retire(pool);
+                    SPANExecutors.reconfigure(spanUserDefinedKey, next.poolDetailsMap.get(spanUserDefinedKey));
+                }
+            });
+            LOGGER.info("SPAN DataSources reloaded. Kept: {}, created: {}, retired: {}",
+                    next.poolMap.values().stream().filter(current.poolMap::containsValue).count(),
+                    next.poolMap.values().stream().filter(pool -> !current.poolMap.containsValue(pool)).count(),
+                    current.poolMap.values().stream().filter(pool -> !next.poolMap.containsValue(pool)).count());
         }
-        return objectInstance;
     }
 
     public DataSource getDataSource(final String spUserDefinedKey) {
-        return dataSourceMap.get(spUserDefinedKey);
+        SPRegistration registration = resolve(spUserDefinedKey);
+        return registration != null ? registration.getDataSource() : null;
+    }
+
+    /**
+     * Resolves a Stored Procedure to its DataSource and configuration in a single lookup.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @return Registration of the Stored Procedure, null if the key is unknown
+     */
+    public SPRegistration resolve(final String spUserDefinedKey) {
+        return spUserDefinedKey != null ? registrations.get(spUserDefinedKey) : null;
+    }
+
+    /**
+     * Returns the statistics of the Connection pool of a DataSource.
+     *
+     * @param spanUserDefinedKey SPAN User Defined key, i.e. the DataSource key of SPANDatabaseConfig
+     * @return Statistics of the pool, null if the key is unknown
+     */
+    public PoolStatistics getPoolStatistics(final String spanUserDefinedKey) {
+        SPANBasicDataSource basicDataSource = poolMap.get(spanUserDefinedKey);
+        return basicDataSource != null ? basicDataSource.getStatistics() : null;
+    }
+
+    /**
+     * @return Statistics of the Connection pools of all the DataSources, by SPAN User Defined key
+     */
+    public Map<String, PoolStatistics> getPoolStatistics() {
+        Map<String, PoolStatistics> statistics = new TreeMap<>();
+        poolMap.forEach((spanUserDefinedKey, basicDataSource) -> statistics.put(spanUserDefinedKey, basicDataSource.getStatistics()));
+        return statistics;
+    }
+
+    /**
+     * Sets the listener notified when the threads waiting for a Connection exceed the waitersAlertThreshold of a DataSource.
+     * A WARN is logged for every alert, with or without listener.
+     *
+     * @param listener Listener of the alerts, null to remove it
+     */
+    public static void setPoolAlertListener(final PoolAlertListener listener) {
+        poolAlertListener = listener;
+    }
+
+    static PoolAlertListener getPoolAlertListener() {
+        return poolAlertListener;
     }
 
 
     /**
      * this initialize method will create data sources for the users defined in the
      * SPANConfig and it will iterate through the each user and creates data source
-     * for each user and finally returns data source map(Map< String,DataSource >)
+     * for each user, then registers every Stored Procedure of the user with its data source
      *
      * @param spanConfig
-     * @return dataSourceMap
+     * @param previous      Instance replaced by a reload, null at start up
+     * @param registrations Registrations by Stored Procedure User Defined Key, filled by this method
+     * @param pools         DataSources by SPAN User Defined key, filled by this method
+     * @param poolDetails   datasource_details of the DataSources by SPAN User Defined key, filled by this method
      */
-    private Map<String, DataSource> initialize(SPANConfig spanConfig) {
+    private void initialize(SPANConfig spanConfig, SPANDataSource previous, Map<String, SPRegistration> registrations,
+                            Map<String, SPANBasicDataSource> pools, Map<String, DataSourceDetails> poolDetails) {
         //driverClassLoaded - this will make sure that, driver class loaded once only.
         List<String> driverClassLoaded = new ArrayList<>();
         Map<String, SPANUserDefineKeyDetails> spanUserDefineKeys = spanConfig.getSpanUserDefineKeys();
@@ -80,57 +197,111 @@ public class SPANDataSource {
         spanUserDefineKeys.entrySet().stream().forEach(spanUserDefineKeysEntry -> {
 
             DataSourceDetails dataSourceDetails = spanUserDefineKeysEntry.getValue().getDataSourceDetails();
-            String driverClassName = DEFAULT_DRIVER_CLASS_NAME;
-            try {
-                if (driverClassLoaded.add(dataSourceDetails.getDriverClassName())) {
-                    if (StringUtils.isNotEmpty(dataSourceDetails.getDriverClassName())) {
-                        driverClassName = dataSourceDetails.getDriverClassName();
-                    }
-                    Class.forName(driverClassName);
-                }
-
-            } catch (ClassNotFoundException e) {
-                LOGGER.error("Could not find the driver class name -> " + driverClassName, e);
-                throw new IllegalArgumentException("Could not find the driver class name -> " + driverClassName, e);
+            SPANUserDefineKeyDetails spanUserDefineKeyDetails = spanUserDefineKeysEntry.getValue();
+            SPANBasicDataSource dataSource = previous != null ? previous.findReusablePool(spanUserDefineKeysEntry.getKey(), dataSourceDetails) : null;
+            if (dataSource == null) {
+                dataSource = createDataSource(spanUserDefineKeysEntry.getKey(), dataSourceDetails, driverClassLoaded);
             }
+            pools.put(spanUserDefineKeysEntry.getKey(), dataSource);
+            poolDetails.put(spanUserDefineKeysEntry.getKey(), dataSourceDetails);
+            SPANBasicDataSource registeredDataSource = dataSource;
+            spanUserDefineKeyDetails.getSpUserDefineKeys().keySet().forEach(spUserDefinedKey ->
+                    registrations.put(spUserDefinedKey, new SPRegistration(SPANConfigHolder.getInstance().getSPDefinition(spUserDefinedKey),
+                            registeredDataSource)));
 
-            SPANUserDefineKeyDetails spanUserDefineKeyDetails = spanUserDefineKeysEntry.getValue();
+        });
+    }
 
+    /**
+     * Creates the pooled data source of a SPAN User Defined key, loading its driver class the first time.
+     */
+    private SPANBasicDataSource createDataSource(String spanUserDefinedKey, DataSourceDetails dataSourceDetails, List<String> driverClassLoaded) {
+        String driverClassName = DEFAULT_DRIVER_CLASS_NAME;
+        try {
+            if (driverClassLoaded.add(dataSourceDetails.getDriverClassName())) {
+                if (StringUtils.isNotEmpty(dataSourceDetails.getDriverClassName())) {
+                    driverClassName = dataSourceDetails.getDriverClassName();
+                }
+                Class.forName(driverClassName);
+            }
 
-            String username = ExpressionEvaluation.getInstance().evaluate(dataSourceDetails.getUser());
+        } catch (ClassNotFoundException e) {
+            LOGGER.error("Could not find the driver class name -> " + driverClassName, e);
+            throw new IllegalArgumentException("Could not find the driver class name -> " + driverClassName, e);
+        }
 
-            String password = ExpressionEvaluation.getInstance().evaluate(dataSourceDetails.getPassword());
+        String username = ExpressionEvaluation.getInstance().evaluate(dataSourceDetails.getUser());
 
-            String connectURI = spanUserDefineKeyDetails.getDataSourceDetails().getUrl();
+        String password = ExpressionEvaluation.getInstance().evaluate(dataSourceDetails.getPassword());
 
-            if (isBlank(connectURI)) {
-                String subProtocol = getSubProtocol(driverClassName);
-                connectURI = subProtocol + spanUserDefineKeyDetails.getDataSourceDetails().getHostName() +
-                        COLON + spanUserDefineKeyDetails.getDataSourceDetails().getPort() +
-                        SLASH + spanUserDefineKeyDetails.getDataSourceDetails().getDatabase();
-            }
+        String connectURI = dataSourceDetails.getUrl();
 
-            DataSource dataSource = setupDataSource(connectURI, username, password, dataSourceDetails);
-            spanUserDefineKeysEntry.getValue().getSpUserDefineKeys().keySet().forEach(s -> dataSourceMap.put(s, dataSource));
+        if (isBlank(connectURI)) {
+            String subProtocol = getSubProtocol(driverClassName);
+            connectURI = subProtocol + dataSourceDetails.getHostName() +
+                    COLON + dataSourceDetails.getPort() +
+                    SLASH + dataSourceDetails.getDatabase();
+        }
 
-        });
+        return setupDataSource(spanUserDefinedKey, connectURI, username, password, dataSourceDetails);
+    }
 
-        return dataSourceMap;
+    /**
+     * Returns the pool of a SPAN User Defined key if a reload keeps it, i.e. if its connection and pool settings are unchanged. The
+     * statement settings of datasource_details are read from the registration by every call, a change doesn't need a new pool.
+     */
+    private SPANBasicDataSource findReusablePool(String spanUserDefinedKey, DataSourceDetails dataSourceDetails) {
+        DataSourceDetails current = poolDetailsMap.get(spanUserDefinedKey);
+        if (current == null || dataSourceDetails == null) {
+            return null;
+        }
+        boolean unchanged = new EqualsBuilder()
+                .append(current.getDriverClassName(), dataSourceDetails.getDriverClassName())
+                .append(current.getUrl(), dataSourceDetails.getUrl())
+                .append(current.getHostName(), dataSourceDetails.getHostName())
+                .append(current.getPort(), dataSourceDetails.getPort())
+                .append(current.getDatabase(), dataSourceDetails.getDatabase())
+                .append(current.getUser(), dataSourceDetails.getUser())
+                .append(current.getPassword(), dataSourceDetails.getPassword())
+                .append(current.getMaxIdle(), dataSourceDetails.getMaxIdle())
+                .append(current.getMaxActive(), dataSourceDetails.getMaxActive())
+                .append(current.getMinIdle(), dataSourceDetails.getMinIdle())
+                .append(current.getInitialSize(), dataSourceDetails.getInitialSize())
+                .append(current.getMaxWaitForConnection(), dataSourceDetails.getMaxWaitForConnection())
+                .append(current.getValidationQuery(), dataSourceDetails.getValidationQuery())
+                .append(current.getValidationQueryTimeout(), dataSourceDetails.getValidationQueryTimeout())
+                .append(current.getTimeBetweenEvictionRunsMillis(), dataSourceDetails.getTimeBetweenEvictionRunsMillis())
+                .append(current.getWaitersAlertThreshold(), dataSourceDetails.getWaitersAlertThreshold())
+                .append(current.getConnectionProperties(), dataSourceDetails.getConnectionProperties())
+                .isEquals();
+        return unchanged ? poolMap.get(spanUserDefinedKey) : null;
+    }
+
+    private static void closeQuietly(SPANBasicDataSource dataSource) {
+        try {
+            dataSource.close();
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to close the DataSource of SPAN User Defined key: {}. Exception Message: {}",
+                    dataSource.getSpanUserDefinedKey(), e.getMessage(), e);
+        }
     }
 
 
     /**
      * This method will setup the Data source object
      *
+     * @param spanUserDefinedKey
      * @param connectURI
      * @param username
      * @param password
      * @param dataSourceDetails
      * @return dataSource
      */
-    private static DataSource setupDataSource(String connectURI, String username, String password, DataSourceDetails dataSourceDetails) {
+    private static SPANBasicDataSource setupDataSource(String spanUserDefinedKey, String connectURI, String username, String password,
+                                                       DataSourceDetails dataSourceDetails) {
 
-        BasicDataSource basicDataSource = new BasicDataSource();
+        Integer waitersAlertThreshold = dataSourceDetails.getWaitersAlertThreshold();
+        SPANBasicDataSource basicDataSource = new SPANBasicDataSource(spanUserDefinedKey, waitersAlertThreshold != null ? waitersAlertThreshold : 0);
         basicDataSource.setUrl(connectURI);
         basicDataSource.setUsername(username);
         basicDataSource.setPassword(password);
@@ -0,0 +1,152 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.connection;
+
+import com.americanexpress.span.exceptions.SPANException;
+import com.americanexpress.span.models.DataSourceDetails;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SPANExecutors - Holds the Executor used by {@link com.americanexpress.span.core.database.SPExecutor#executeAsync(String, Object, Class)}
+ * for every SPAN User Defined key (DataSource key of SPANDatabaseConfig). All the Stored Procedures of a DataSource share its Executor.
+ * <p>
+ * If no Executor is set for a DataSource, a thread pool with as many threads as the maxActive connections of the DataSource is
+ * created on first use, so that the asynchronous calls never wait for a thread while a connection is available. The threads are
+ * daemon threads and are released when idle.
+ */
+public final class SPANExecutors {
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private static final Map<String, Executor> executorMap = new ConcurrentHashMap<>();
+
+    private SPANExecutors() {
+    }
+
+    /**
+     * Sets the Executor of a DataSource. The Executor is not shut down by SPAN.
+     *
+     * @param spanUserDefinedKey SPAN User Defined key, i.e. the DataSource key of SPANDatabaseConfig
+     * @param executor           Executor running the Stored Procedures of the DataSource
+     */
+    public static void setExecutor(final String spanUserDefinedKey, final Executor executor) {
+        Objects.requireNonNull(spanUserDefinedKey, "spanUserDefinedKey should not be null.");
+        Objects.requireNonNull(executor, "executor should not be null.");
+        executorMap.put(spanUserDefinedKey, executor);
+    }
+
+    /**
+     * Gets the Executor of the DataSource of a Stored Procedure, creating the default one if no Executor is set. The
+     * DataSource is resolved from the registry of {@link SPANDataSource}, as by the call itself.
+     *
+     * @param spUserDefinedKey Stored Procedure User Defined Key
+     * @return Executor running the Stored Procedures of the DataSource
+     * @throws SPANException if the key is unknown
+     */
+    public static Executor getExecutor(final String spUserDefinedKey) {
+        SPRegistration registration = SPANDataSource.getInstance().resolve(spUserDefinedKey);
+        if (registration == null) {
+            throw new SPANException("Unable to find DataSource for Stored Procedure User Defined Key: " + spUserDefinedKey);
+        }
+        return executorMap.computeIfAbsent(registration.getSpanUserDefinedKey(),
+                key -> newDefaultExecutor(key, registration.getDataSourceDetails()));
+    }
+
+    /**
+     * Removes the Executor of a DataSource. The default Executor is shut down, a custom Executor is left untouched.
+     *
+     * @param spanUserDefinedKey SPAN User Defined key, i.e. the DataSource key of SPANDatabaseConfig
+     */
+    public static void removeExecutor(final String spanUserDefinedKey) {
+        Executor executor = executorMap.remove(spanUserDefinedKey);
+        if (executor instanceof DefaultExecutor) {
+            ((DefaultExecutor) executor).shutdown();
+        }
+    }
+
+    /**
+     * Applies the datasource_details of a reload to the default Executor of a DataSource: it is resized to the new maxActive, or
+     * shut down if the DataSource is removed. A custom Executor is left untouched.
+     *
+     * @param spanUserDefinedKey SPAN User Defined key, i.e. the DataSource key of SPANDatabaseConfig
+     * @param dataSourceDetails  New datasource_details, null if the DataSource is removed
+     */
+    static void reconfigure(final String spanUserDefinedKey, final DataSourceDetails dataSourceDetails) {
+        Executor executor = executorMap.get(spanUserDefinedKey);
+        if (!(executor instanceof DefaultExecutor)) {
+            return;
+        }
+        if (dataSourceDetails == null) {
+            removeExecutor(spanUserDefinedKey);
+            return;
+        }
+        DefaultExecutor defaultExecutor = (DefaultExecutor) executor;
+        int poolSize = Math.max(1, dataSourceDetails.getMaxActive());
+        // The core size can never exceed the maximum size
+        if (poolSize > defaultExecutor.getMaximumPoolSize()) {
+            defaultExecutor.setMaximumPoolSize(poolSize);
+            defaultExecutor.setCorePoolSize(poolSize);
+        } else {
+            defaultExecutor.setCorePoolSize(poolSize);
+            defaultExecutor.setMaximumPoolSize(poolSize);
+        }
+    }
+
+    private static Executor newDefaultExecutor(final String spanUserDefinedKey, final DataSourceDetails dataSourceDetails) {
+        int poolSize = Math.max(1, dataSourceDetails.getMaxActive());
+        DefaultExecutor executor = new DefaultExecutor(poolSize, new SPANThreadFactory(spanUserDefinedKey));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Thread pool created by SPAN, sized from the maxActive connections of the DataSource.
+     */
+    private static final class DefaultExecutor extends ThreadPoolExecutor {
+
+        private DefaultExecutor(final int poolSize, final ThreadFactory threadFactory) {
+            super(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        }
+    }
+
+    /**
+     * Creates daemon threads named after the DataSource.
+     */
+    private static final class SPANThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        private SPANThreadFactory(final String spanUserDefinedKey) {
+            this.namePrefix = "SPAN-" + spanUserDefinedKey + "-";
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.connection;
+
+import com.americanexpress.span.core.SPDefinition;
+import com.americanexpress.span.models.DataSourceDetails;
+import com.americanexpress.span.models.SPUserDefineKey;
+
+import javax.sql.DataSource;
+
+/**
+ * SPRegistration - Resolution of a Stored Procedure User Defined Key by {@link SPANDataSource#resolve(String)}: the indexed
+ * configuration of the Stored Procedure and the pooled DataSource of its SPAN User Defined key.
+ */
+public final class SPRegistration {
+
+    private final SPDefinition spDefinition;
+
+    private final SPANBasicDataSource dataSource;
+
+    SPRegistration(final SPDefinition spDefinition, final SPANBasicDataSource dataSource) {
+        this.spDefinition = spDefinition;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * @return Stored Procedure User Defined Key, i.e. the key of sp_details
+     */
+    public String getSpUserDefinedKey() {
+        return spDefinition.getSpUserDefinedKey();
+    }
+
+    /**
+     * @return SPAN User Defined key, i.e. the DataSource key of SPANDatabaseConfig
+     */
+    public String getSpanUserDefinedKey() {
+        return spDefinition.getSpanUserDefinedKey();
+    }
+
+    /**
+     * @return sp_details of the Stored Procedure
+     */
+    public SPUserDefineKey getSPUserDefineKey() {
+        return spDefinition.getSPUserDefineKey();
+    }
+
+    /**
+     * @return datasource_details of the Stored Procedure
+     */
+    public DataSourceDetails getDataSourceDetails() {
+        return spDefinition.getDataSourceDetails();
+    }
+
+    /**
+     * @return Indexed configuration of the Stored Procedure, with its prebuilt call statements
+     */
+    public SPDefinition getSPDefinition() {
+        return spDefinition;
+    }
+
+    /**
+     * @return Pooled DataSource of the Stored Procedure
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Counts a call in flight on the DataSource, until {@link #endCall()}, before its Connection is borrowed. A DataSource retired by
+     * a reload of SPAN configuration is only closed once it has no call in flight.
+     *
+     * @return false if the DataSource was retired since this registration was resolved: the call is not counted and must resolve
+     * its Stored Procedure again
+     */
+    public boolean beginCall() {
+        return dataSource.callStarted();
+    }
+
+    /**
+     * Ends a call counted by {@link #beginCall()}, once its Connection is returned.
+     */
+    public void endCall() {
+        dataSource.callEnded();
+    }
+
+    @Override
+    public String toString() {
+        return "SPRegistration [spUserDefinedKey=" + getSpUserDefinedKey() + ", spanUserDefinedKey=" + getSpanUserDefinedKey() + "]";
+    }
+}
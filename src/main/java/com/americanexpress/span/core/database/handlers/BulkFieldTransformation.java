@@ -0,0 +1,36 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers;
+
+/**
+ * FieldTransformation which can also transform the values of a column for a block of rows at once. It is used by
+ * {@link com.americanexpress.span.core.database.handlers.impl.ResultSetHandlerImpl} in block mode, when the transformation
+ * is shared by all rows (see {@link com.americanexpress.span.annotation.ThreadSafe}).
+ *
+ * @param <K> Type of the datamember
+ */
+public interface BulkFieldTransformation<K> extends FieldTransformation<K> {
+
+    /**
+     * Transforms the first length values of a column.
+     *
+     * @param fieldValues Values of the column, null for SQL NULL
+     * @param length      Number of values to transform
+     * @param targetClass Type of the datamember
+     * @return Array of at least length elements: int[], long[], float[], double[] or boolean[] for a primitive datamember,
+     * otherwise an Object array. The elements of the null values are ignored, the datamember gets its default value.
+     */
+    Object transformColumn(Object[] fieldValues, int length, Class<K> targetClass);
+
+}
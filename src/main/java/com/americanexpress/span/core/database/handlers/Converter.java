@@ -0,0 +1,30 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers;
+
+/**
+ * This interface converts a value read from the database, or a default value, to the type of a datamember annotated with @Field.
+ * Converters are registered for a source type and a target type with
+ * {@link com.americanexpress.span.core.database.handlers.impl.Converters#register(Class, Class, Converter)}, e.g. to support
+ * enums, UUID or Instant datamembers with the default transformation.
+ *
+ * @param <S> Type of the value
+ * @param <T> Type of the datamember
+ */
+@FunctionalInterface
+public interface Converter<S, T> {
+
+    T convert(S value);
+
+}
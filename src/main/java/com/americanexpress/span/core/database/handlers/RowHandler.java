@@ -0,0 +1,47 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers;
+
+import java.sql.ResultSet;
+import java.util.function.Function;
+
+/**
+ * RowHandler - This interface has a method to transform the current row of a ResultSet to given output object.
+ * A ResultSetHandler implementing this interface can be used by the streaming API of SPExecutor, which maps the rows
+ * on demand instead of loading the whole ResultSet.
+ */
+public interface RowHandler<T> {
+
+    /**
+     * This method creates instance of object T from the current row of the ResultSet. It doesn't move the cursor of the ResultSet.
+     *
+     * @param resultSet         ResultSet positioned on a row
+     * @param clazzT            Class Object for the type representing the row
+     * @return                  Object for the row
+     */
+    T processRow(ResultSet resultSet, Class<T> clazzT);
+
+    /**
+     * Creates the mapper of the rows of a ResultSet, used for the rows of this ResultSet only. An implementation may resolve the
+     * columns once here instead of for every row. By default every row is mapped with {@link #processRow(ResultSet, Class)}.
+     *
+     * @param resultSet         ResultSet after SP execution
+     * @param clazzT            Class Object for the type representing the row
+     * @return                  Function creating the object for the current row, without moving the cursor of the ResultSet
+     */
+    default Function<ResultSet, T> newRowMapper(ResultSet resultSet, Class<T> clazzT) {
+        return row -> processRow(row, clazzT);
+    }
+
+}
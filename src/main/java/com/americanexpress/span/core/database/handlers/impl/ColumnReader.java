@@ -0,0 +1,287 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers.impl;
+
+import com.americanexpress.span.core.database.SPExecutor;
+import com.americanexpress.span.core.database.binding.BindingPlan;
+import com.americanexpress.span.core.database.binding.FieldAccessor;
+import com.americanexpress.span.core.database.binding.FieldBinding;
+import com.americanexpress.span.core.database.handlers.BulkFieldTransformation;
+import com.americanexpress.span.core.database.handlers.Converter;
+import com.americanexpress.span.utility.ThreadContext;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ColumnReader - Reads the column of a datamember annotated with @Field from the rows of a ResultSet. The column index and the
+ * getter ({@link JdbcGetter}) are resolved once per ResultSet from its ResultSetMetaData, instead of looking up the column label
+ * for every row. If the driver returns no ResultSetMetaData, the column is read by its label as before.
+ * <p>
+ * Columns read with getObject keep the converter of the last value class ({@link Converters}), as a column returns values of
+ * the same class in every row. The counter of its lossy conversions is resolved with the converter ({@link ConversionStatistics}).
+ * <p>
+ * In block mode ({@link ResultSetHandlerImpl#ResultSetHandlerImpl(int)}) the columns of a shared
+ * {@link BulkFieldTransformation} are read into a buffer and transformed for all the rows of a block at once, see
+ * {@link #fill(Object[], int, Object[])}.
+ */
+final class ColumnReader {
+
+    private static final int BY_LABEL = 0;
+    private static final int MISSING = -1;
+
+    private final FieldBinding fieldBinding;
+
+    private final int columnIndex;
+
+    private final JdbcGetter getter;
+
+    private final boolean defaultTransformation;
+
+    private final BulkFieldTransformation<Object> bulkTransformation;
+
+    // Written by the thread reading the rows, immutable so that it is safely shared.
+    private ResolvedConverter resolvedConverter;
+
+    private ColumnReader(final FieldBinding fieldBinding, final int columnIndex, final JdbcGetter getter) {
+        this.fieldBinding = fieldBinding;
+        this.columnIndex = columnIndex;
+        this.getter = getter;
+        this.defaultTransformation = fieldBinding.getTransformationClass() == FieldTransformationImpl.class;
+        this.bulkTransformation = getter == null && columnIndex != MISSING ? bulkTransformationOf(fieldBinding) : null;
+    }
+
+    /**
+     * Resolves the columns of the datamembers of a class. A column missing from the ResultSet is reported once, and the
+     * datamember gets its default value in every row.
+     *
+     * @param resultSet ResultSet after SP execution
+     * @param plan      Binding plan of the class representing a row
+     * @return Readers in the order of {@link BindingPlan#getFieldBindings()}
+     * @throws SQLException if the ResultSetMetaData cannot be read, a column is only missing if its label is not in the ResultSetMetaData
+     */
+    static ColumnReader[] resolve(final ResultSet resultSet, final BindingPlan<?> plan) throws SQLException {
+        List<FieldBinding> fieldBindings = plan.getFieldBindings();
+        ColumnReader[] readers = new ColumnReader[fieldBindings.size()];
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        Map<String, Integer> columnIndexes = metaData != null ? indexColumns(metaData) : null;
+        List<String> missingColumns = new ArrayList<>();
+        for (int i = 0; i < readers.length; i++) {
+            FieldBinding fieldBinding = fieldBindings.get(i);
+            if (metaData == null) {
+                readers[i] = new ColumnReader(fieldBinding, BY_LABEL, null);
+                continue;
+            }
+            Integer columnIndex = columnIndexes.get(fieldBinding.getName());
+            if (columnIndex == null) {
+                missingColumns.add(fieldBinding.getName());
+                readers[i] = new ColumnReader(fieldBinding, MISSING, null);
+            } else {
+                // Custom transformations get the value of getObject as before.
+                JdbcGetter getter = fieldBinding.getTransformationClass() == FieldTransformationImpl.class
+                        ? JdbcGetter.of(fieldBinding.getType(), metaData.getColumnType(columnIndex)) : null;
+                readers[i] = new ColumnReader(fieldBinding, columnIndex, getter);
+            }
+        }
+        if (!missingColumns.isEmpty()) {
+            LoggerFactory.getLogger(ResultSetHandlerImpl.class).warn("Columns {} of class {} are not in the ResultSet, default values are used. Query: {}",
+                    missingColumns, plan.getType(), ThreadContext.get(SPExecutor.MDC_SQL_QUERY));
+        }
+        return readers;
+    }
+
+    /**
+     * Sets the datamember from the column of the current row.
+     *
+     * @param resultSet ResultSet positioned on a row
+     * @param target    Object for the row
+     * @throws Exception if the column cannot be read or transformed
+     */
+    void read(final ResultSet resultSet, final Object target) throws Exception {
+        if (columnIndex == MISSING) {
+            setTransformed(fieldBinding, target, null);
+        } else if (getter != null) {
+            if (!getter.read(resultSet, columnIndex, fieldBinding.getAccessor(), target)) {
+                setTransformed(fieldBinding, target, null);
+            }
+        } else {
+            Object fieldValue = readValue(resultSet);
+            if (fieldValue != null && defaultTransformation) {
+                fieldBinding.getAccessor().set(target, converterFor(fieldValue.getClass()).convert(fieldValue));
+            } else {
+                setTransformed(fieldBinding, target, fieldValue);
+            }
+        }
+    }
+
+    /**
+     * @return true if the column is read with {@link #readValue(ResultSet)} and transformed with
+     * {@link #fill(Object[], int, Object[])} in block mode
+     */
+    boolean isBulk() {
+        return bulkTransformation != null;
+    }
+
+    /**
+     * Reads the value of the column of the current row, without transforming it.
+     *
+     * @param resultSet ResultSet positioned on a row
+     * @return Value of getObject, null for SQL NULL
+     * @throws SQLException if the column cannot be read
+     */
+    Object readValue(final ResultSet resultSet) throws SQLException {
+        return columnIndex == BY_LABEL ? resultSet.getObject(fieldBinding.getName()) : resultSet.getObject(columnIndex);
+    }
+
+    /**
+     * Transforms the values of the column for a block of rows with the BulkFieldTransformation, then sets the datamembers.
+     * Null values set the default value of the datamember.
+     *
+     * @param fieldValues Values read by {@link #readValue(ResultSet)}
+     * @param length      Number of rows of the block
+     * @param targets     Objects for the rows, in the order of the values
+     * @throws Exception if a value cannot be transformed
+     */
+    @SuppressWarnings("unchecked")
+    void fill(final Object[] fieldValues, final int length, final Object[] targets) throws Exception {
+        Object column = bulkTransformation.transformColumn(fieldValues, length, (Class<Object>) fieldBinding.getType());
+        FieldAccessor accessor = fieldBinding.getAccessor();
+        if (column instanceof int[]) {
+            int[] values = (int[]) column;
+            for (int i = 0; i < length; i++) {
+                if (fieldValues[i] != null) {
+                    accessor.setInt(targets[i], values[i]);
+                } else {
+                    setTransformed(fieldBinding, targets[i], null);
+                }
+            }
+        } else if (column instanceof long[]) {
+            long[] values = (long[]) column;
+            for (int i = 0; i < length; i++) {
+                if (fieldValues[i] != null) {
+                    accessor.setLong(targets[i], values[i]);
+                } else {
+                    setTransformed(fieldBinding, targets[i], null);
+                }
+            }
+        } else if (column instanceof float[]) {
+            float[] values = (float[]) column;
+            for (int i = 0; i < length; i++) {
+                if (fieldValues[i] != null) {
+                    accessor.setFloat(targets[i], values[i]);
+                } else {
+                    setTransformed(fieldBinding, targets[i], null);
+                }
+            }
+        } else if (column instanceof double[]) {
+            double[] values = (double[]) column;
+            for (int i = 0; i < length; i++) {
+                if (fieldValues[i] != null) {
+                    accessor.setDouble(targets[i], values[i]);
+                } else {
+                    setTransformed(fieldBinding, targets[i], null);
+                }
+            }
+        } else if (column instanceof boolean[]) {
+            boolean[] values = (boolean[]) column;
+            for (int i = 0; i < length; i++) {
+                if (fieldValues[i] != null) {
+                    accessor.setBoolean(targets[i], values[i]);
+                } else {
+                    setTransformed(fieldBinding, targets[i], null);
+                }
+            }
+        } else {
+            Object[] values = (Object[]) column;
+            for (int i = 0; i < length; i++) {
+                if (fieldValues[i] != null) {
+                    accessor.set(targets[i], values[i]);
+                } else {
+                    setTransformed(fieldBinding, targets[i], null);
+                }
+            }
+        }
+    }
+
+    private Converter<Object, Object> converterFor(final Class<?> sourceType) {
+        ResolvedConverter converter = resolvedConverter;
+        if (converter == null || converter.sourceType != sourceType) {
+            converter = new ResolvedConverter(sourceType, Converters.find(sourceType, fieldBinding.getType(),
+                    ThreadContext.get(SPExecutor.MDC_SP_KEY), fieldBinding.getDescription()));
+            resolvedConverter = converter;
+        }
+        return converter.converter;
+    }
+
+    FieldBinding getFieldBinding() {
+        return fieldBinding;
+    }
+
+    /**
+     * Sets the datamember from a value read with getObject, through the FieldTransformation of the datamember. A null value
+     * sets the default value of the datamember.
+     *
+     * @param fieldBinding Binding of the datamember
+     * @param target       Object holding the datamember
+     * @param fieldValue   Value of the column or output parameter, may be null
+     * @throws Exception if the value cannot be transformed
+     */
+    static void setTransformed(final FieldBinding fieldBinding, final Object target, final Object fieldValue) throws Exception {
+        Object transformedValue;
+        if (fieldValue != null) {
+            transformedValue = FieldTransformations.get(fieldBinding.getTransformationClass()).transform(fieldValue, fieldBinding.getType());
+        } else if (fieldBinding.isDefaultValueParsed()) {
+            transformedValue = fieldBinding.getParsedDefaultValue();
+        } else {
+            transformedValue = FieldTransformations.get(fieldBinding.getTransformationClass()).transform(fieldBinding.getDefaultValue(), fieldBinding.getType());
+        }
+        fieldBinding.getAccessor().set(target, transformedValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BulkFieldTransformation<Object> bulkTransformationOf(final FieldBinding fieldBinding) {
+        Object transformation = FieldTransformations.getShared(fieldBinding.getTransformationClass());
+        return transformation instanceof BulkFieldTransformation ? (BulkFieldTransformation<Object>) transformation : null;
+    }
+
+    /**
+     * Indexes the columns by label, ignoring the case as {@link ResultSet#findColumn(String)}. The first column of a label is kept.
+     */
+    private static Map<String, Integer> indexColumns(final ResultSetMetaData metaData) throws SQLException {
+        Map<String, Integer> columnIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        int columnCount = metaData.getColumnCount();
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            columnIndexes.putIfAbsent(metaData.getColumnLabel(columnIndex), columnIndex);
+        }
+        return columnIndexes;
+    }
+
+    private static final class ResolvedConverter {
+
+        private final Class<?> sourceType;
+
+        private final Converter<Object, Object> converter;
+
+        private ResolvedConverter(final Class<?> sourceType, final Converter<Object, Object> converter) {
+            this.sourceType = sourceType;
+            this.converter = converter;
+        }
+    }
+}
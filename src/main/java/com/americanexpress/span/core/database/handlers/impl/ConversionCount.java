@@ -0,0 +1,73 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers.impl;
+
+/**
+ * ConversionCount - Snapshot of the number of lossy conversions of a datamember, see {@link ConversionStatistics}.
+ */
+public final class ConversionCount {
+
+    private final String spUserDefineKey;
+
+    private final String field;
+
+    private final Class<?> sourceType;
+
+    private final Class<?> targetType;
+
+    private final long count;
+
+    ConversionCount(final String spUserDefineKey, final String field, final Class<?> sourceType, final Class<?> targetType, final long count) {
+        this.spUserDefineKey = spUserDefineKey;
+        this.field = field;
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.count = count;
+    }
+
+    /**
+     * @return Stored Procedure User Defined Key of the call, null outside of SPExecutor
+     */
+    public String getSpUserDefineKey() {
+        return spUserDefineKey;
+    }
+
+    /**
+     * @return Description of the datamember, null outside of the handlers
+     */
+    public String getField() {
+        return field;
+    }
+
+    public Class<?> getSourceType() {
+        return sourceType;
+    }
+
+    public Class<?> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * @return Number of conversions since the counters were created or reset
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionCount [spUserDefineKey=" + spUserDefineKey + ", field=" + field + ", sourceType=" + sourceType.getSimpleName()
+                + ", targetType=" + targetType.getSimpleName() + ", count=" + count + "]";
+    }
+}
@@ -0,0 +1,227 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers.impl;
+
+import com.americanexpress.span.core.database.SPExecutor;
+import com.americanexpress.span.utility.ThreadContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ConversionStatistics - Counts the conversions which may lose precision (e.g. Long to Integer, BigDecimal to Double) per
+ * Stored Procedure User Defined Key, datamember, and source and target types. The counters are lock-free, so counting a
+ * conversion costs no logging in the rows. The columns of a ResultSet resolve their counter once, see
+ * {@link Converters#find(Class, Class, String, String)}.
+ * <p>
+ * The conversions counted since the last summary are logged at WARN level once per summary interval (1 minute by default) by
+ * a daemon thread started with the first counter, and by {@link #logSummary()}, e.g. before the application stops. Every
+ * conversion is still logged as before when DEBUG level is enabled for {@link FieldTransformationImpl}.
+ */
+public final class ConversionStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(FieldTransformationImpl.class);
+
+    private static final ConcurrentMap<Key, Counter> counters = new ConcurrentHashMap<>();
+
+    private static volatile long summaryIntervalNanos = TimeUnit.MINUTES.toNanos(1);
+
+    // Guarded by the lock of ConversionStatistics, null until the first counter or with an interval of 0.
+    private static ScheduledFuture<?> summaryTask;
+
+    private ConversionStatistics() {
+    }
+
+    /**
+     * Counts a conversion of the datamember in the ThreadContext.
+     *
+     * @param sourceType Type of the value
+     * @param targetType Type of the datamember
+     */
+    static void record(final Class<?> sourceType, final Class<?> targetType) {
+        counter(ThreadContext.get(SPExecutor.MDC_SP_KEY), ThreadContext.get(SPExecutor.MDC_FIELD), sourceType, targetType).increment();
+    }
+
+    /**
+     * Gets the counter of the conversions of a datamember, to be resolved once and incremented for every value.
+     *
+     * @param spUserDefineKey Stored Procedure User Defined Key
+     * @param field           Description of the datamember
+     * @param sourceType      Type of the values
+     * @param targetType      Type of the datamember
+     * @return Counter of the conversions
+     */
+    static Counter counter(final String spUserDefineKey, final String field, final Class<?> sourceType, final Class<?> targetType) {
+        Key key = new Key(spUserDefineKey, field, sourceType, targetType);
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, Counter::new);
+            scheduleSummary();
+        }
+        return counter;
+    }
+
+    /**
+     * Logs the conversions counted since the last summary at WARN level, nothing if there are none.
+     */
+    public static synchronized void logSummary() {
+        List<ConversionCount> conversions = new ArrayList<>();
+        counters.values().forEach(counter -> {
+            long total = counter.count.sum();
+            if (total > counter.reported) {
+                Key key = counter.key;
+                conversions.add(new ConversionCount(key.spUserDefineKey, key.field, key.sourceType, key.targetType, total - counter.reported));
+                counter.reported = total;
+            }
+        });
+        if (!conversions.isEmpty()) {
+            logger.warn("Conversions which may not be safe since the last summary: {}", conversions);
+        }
+    }
+
+    /**
+     * @return Number of conversions per Stored Procedure User Defined Key, datamember, and source and target types
+     */
+    public static List<ConversionCount> getCounts() {
+        List<ConversionCount> conversions = new ArrayList<>(counters.size());
+        counters.forEach((key, counter) -> conversions.add(new ConversionCount(key.spUserDefineKey, key.field, key.sourceType,
+                key.targetType, counter.count.sum())));
+        return conversions;
+    }
+
+    /**
+     * Clears the counters. A counter resolved before is no longer reported.
+     */
+    public static synchronized void reset() {
+        counters.clear();
+    }
+
+    /**
+     * Sets the interval between two summaries.
+     *
+     * @param interval Interval, 0 logs a summary for every conversion
+     * @param unit     Unit of the interval
+     */
+    public static synchronized void setSummaryInterval(final long interval, final TimeUnit unit) {
+        summaryIntervalNanos = unit.toNanos(interval);
+        if (summaryTask != null) {
+            summaryTask.cancel(false);
+            summaryTask = null;
+        }
+        if (!counters.isEmpty()) {
+            scheduleSummary();
+        }
+    }
+
+    private static synchronized void scheduleSummary() {
+        if (summaryTask == null && summaryIntervalNanos > 0) {
+            summaryTask = Scheduler.INSTANCE.scheduleAtFixedRate(ConversionStatistics::logSummary, summaryIntervalNanos,
+                    summaryIntervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Counter of the conversions of a datamember.
+     */
+    static final class Counter {
+
+        private final Key key;
+
+        private final LongAdder count = new LongAdder();
+
+        // Guarded by the lock of ConversionStatistics, see logSummary.
+        private long reported;
+
+        private Counter(final Key key) {
+            this.key = key;
+        }
+
+        /**
+         * Counts a conversion.
+         */
+        void increment() {
+            count.increment();
+            if (logger.isDebugEnabled()) {
+                logger.debug("Converting {} to {}./ Transformation may not be safe. Query: {} , Field: {} ", key.sourceType.getSimpleName(),
+                        key.targetType.getSimpleName(), ThreadContext.get(SPExecutor.MDC_SQL_QUERY), key.field);
+            }
+            if (summaryIntervalNanos == 0) {
+                logSummary();
+            }
+        }
+    }
+
+    private static final class Key {
+
+        private final String spUserDefineKey;
+
+        private final String field;
+
+        private final Class<?> sourceType;
+
+        private final Class<?> targetType;
+
+        private final int hash;
+
+        private Key(final String spUserDefineKey, final String field, final Class<?> sourceType, final Class<?> targetType) {
+            this.spUserDefineKey = spUserDefineKey;
+            this.field = field;
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            int result = Objects.hashCode(spUserDefineKey);
+            result = 31 * result + Objects.hashCode(field);
+            result = 31 * result + sourceType.hashCode();
+            this.hash = 31 * result + targetType.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+
+            if (!(o instanceof Key)) return false;
+
+            Key that = (Key) o;
+
+            return sourceType == that.sourceType && targetType == that.targetType && Objects.equals(field, that.field)
+                    && Objects.equals(spUserDefineKey, that.spUserDefineKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Daemon thread of the summaries, created with the first counter.
+     */
+    private static final class Scheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SPAN-conversion-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
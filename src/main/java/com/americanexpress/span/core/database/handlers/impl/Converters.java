@@ -0,0 +1,305 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers.impl;
+
+import com.americanexpress.span.core.database.SPExecutor;
+import com.americanexpress.span.core.database.handlers.Converter;
+import com.americanexpress.span.exceptions.SPANException;
+import com.americanexpress.span.utility.ThreadContext;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converters - Registry of the converters used by {@link FieldTransformationImpl}, one for every (source type, target type) pair.
+ * The converter of a pair is resolved once and cached, converting a value is then a single map lookup and the conversion itself.
+ * <p>
+ * A converter is resolved from, in order: the converter registered for the exact pair, the built-in converter, and the
+ * converter registered for a supertype of the source type (e.g. Number or CharSequence). Pairs without converter resolve to
+ * a converter throwing SPANException, so that the error is reported when a value is converted, as before.
+ */
+public final class Converters {
+
+    private static final Map<Class<?>, Map<Class<?>, Converter<Object, Object>>> BUILT_IN = new HashMap<>();
+
+    private static final Map<Class<?>, Map<Class<?>, Converter<Object, Object>>> registered = new ConcurrentHashMap<>();
+
+    // Resolved converters by target type then source type, replaced when a converter is registered.
+    private static volatile Map<Class<?>, Map<Class<?>, Converter<Object, Object>>> resolved = new ConcurrentHashMap<>();
+
+    static {
+        builtIn(Integer.class, Integer.class, value -> value);
+        lossy(Long.class, Integer.class, Long::intValue);
+        lossy(Float.class, Integer.class, Float::intValue);
+        lossy(Double.class, Integer.class, Double::intValue);
+        lossy(BigDecimal.class, Integer.class, BigDecimal::intValue);
+        lossy(BigInteger.class, Integer.class, BigInteger::intValue);
+        builtIn(String.class, Integer.class, value -> Integer.valueOf(numeric(value)));
+
+        builtIn(Integer.class, Long.class, value -> (long) value);
+        builtIn(Long.class, Long.class, value -> value);
+        lossy(Float.class, Long.class, Float::longValue);
+        lossy(Double.class, Long.class, Double::longValue);
+        lossy(BigDecimal.class, Long.class, BigDecimal::longValue);
+        lossy(BigInteger.class, Long.class, BigInteger::longValue);
+        builtIn(String.class, Long.class, value -> Long.valueOf(numeric(value)));
+
+        builtIn(Integer.class, Float.class, value -> (float) value);
+        builtIn(Long.class, Float.class, value -> (float) value);
+        builtIn(Float.class, Float.class, value -> value);
+        lossy(Double.class, Float.class, Double::floatValue);
+        lossy(BigDecimal.class, Float.class, BigDecimal::floatValue);
+        lossy(BigInteger.class, Float.class, BigInteger::floatValue);
+        builtIn(String.class, Float.class, value -> Float.valueOf(numeric(value)));
+
+        builtIn(Integer.class, Double.class, value -> (double) value);
+        builtIn(Long.class, Double.class, value -> (double) value);
+        builtIn(Float.class, Double.class, value -> (double) value);
+        builtIn(Double.class, Double.class, value -> value);
+        lossy(BigDecimal.class, Double.class, BigDecimal::doubleValue);
+        lossy(BigInteger.class, Double.class, BigInteger::doubleValue);
+        builtIn(String.class, Double.class, value -> Double.valueOf(numeric(value)));
+
+        // Integer and Long values are converted exactly, without going through double.
+        builtIn(Integer.class, BigDecimal.class, value -> BigDecimal.valueOf(value));
+        builtIn(Long.class, BigDecimal.class, BigDecimal::valueOf);
+        builtIn(Float.class, BigDecimal.class, value -> BigDecimal.valueOf(value.floatValue()));
+        builtIn(Double.class, BigDecimal.class, BigDecimal::valueOf);
+        builtIn(BigInteger.class, BigDecimal.class, BigDecimal::new);
+        builtIn(BigDecimal.class, BigDecimal.class, value -> value);
+        builtIn(String.class, BigDecimal.class, value -> new BigDecimal(numeric(value)));
+
+        builtIn(Integer.class, BigInteger.class, value -> BigInteger.valueOf(value));
+        builtIn(Long.class, BigInteger.class, BigInteger::valueOf);
+        lossy(Float.class, BigInteger.class, value -> BigDecimal.valueOf(value.doubleValue()).toBigInteger());
+        lossy(Double.class, BigInteger.class, value -> BigDecimal.valueOf(value).toBigInteger());
+        builtIn(BigInteger.class, BigInteger.class, value -> value);
+        lossy(BigDecimal.class, BigInteger.class, BigDecimal::toBigInteger);
+        builtIn(String.class, BigInteger.class, value -> new BigInteger(numeric(value)));
+
+        builtIn(Boolean.class, Boolean.class, value -> value);
+        builtIn(String.class, Boolean.class, Boolean::valueOf);
+
+        builtIn(LocalDate.class, LocalDate.class, value -> value);
+        builtIn(LocalDateTime.class, LocalDate.class, LocalDateTime::toLocalDate);
+        builtIn(Timestamp.class, LocalDate.class, value -> value.toLocalDateTime().toLocalDate());
+        builtIn(Date.class, LocalDate.class, Date::toLocalDate);
+
+        builtIn(LocalDateTime.class, LocalDateTime.class, value -> value);
+        builtIn(LocalDate.class, LocalDateTime.class, LocalDate::atStartOfDay);
+        builtIn(Timestamp.class, LocalDateTime.class, Timestamp::toLocalDateTime);
+        builtIn(Date.class, LocalDateTime.class, value -> value.toLocalDate().atStartOfDay());
+    }
+
+    private Converters() {
+    }
+
+    /**
+     * Registers a converter. It replaces the built-in converter of the same pair, and is used for the subtypes of the source
+     * type which have no converter of their own.
+     *
+     * @param sourceType Type of the values, e.g. String
+     * @param targetType Type of the datamembers, e.g. UUID. Primitive types are registered as their wrapper types.
+     * @param converter  Converter of the values
+     * @param <S>        Type of the values
+     * @param <T>        Type of the datamembers
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> void register(final Class<S> sourceType, final Class<T> targetType, final Converter<? super S, ? extends T> converter) {
+        if (sourceType == null || targetType == null || converter == null) {
+            throw new SPANException("Source type, target type and converter cannot be null.");
+        }
+        registered.computeIfAbsent(wrap(targetType), type -> new ConcurrentHashMap<>())
+                .put(wrap(sourceType), (Converter<Object, Object>) converter);
+        resolved = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Removes a registered converter, the built-in converter of the pair is used again.
+     *
+     * @param sourceType Type of the values
+     * @param targetType Type of the datamembers
+     */
+    public static void unregister(final Class<?> sourceType, final Class<?> targetType) {
+        registered.computeIfPresent(wrap(targetType), (type, converters) -> {
+            converters.remove(wrap(sourceType));
+            return converters.isEmpty() ? null : converters;
+        });
+        resolved = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the converter of a pair, resolving it on first use.
+     *
+     * @param sourceType Class of the value
+     * @param targetType Type of the datamember
+     * @return Converter of the pair, throwing SPANException if the pair isn't supported
+     */
+    public static Converter<Object, Object> find(final Class<?> sourceType, final Class<?> targetType) {
+        Map<Class<?>, Converter<Object, Object>> bySource = resolved.computeIfAbsent(targetType, type -> new ConcurrentHashMap<>());
+        Converter<Object, Object> converter = bySource.get(sourceType);
+        if (converter == null) {
+            converter = resolve(sourceType, targetType);
+            bySource.putIfAbsent(sourceType, converter);
+        }
+        return converter;
+    }
+
+    /**
+     * Gets the converter of a pair for the values of a column. A converter which may lose precision counts its conversions with the
+     * counter of the datamember, resolved once instead of for every value.
+     *
+     * @param sourceType      Class of the values
+     * @param targetType      Type of the datamember
+     * @param spUserDefineKey Stored Procedure User Defined Key of the call
+     * @param field           Description of the datamember
+     * @return Converter of the pair, throwing SPANException if the pair isn't supported
+     */
+    public static Converter<Object, Object> find(final Class<?> sourceType, final Class<?> targetType, final String spUserDefineKey,
+                                                 final String field) {
+        Converter<Object, Object> converter = find(sourceType, targetType);
+        if (converter instanceof LossyConverter) {
+            return ((LossyConverter) converter).countedBy(ConversionStatistics.counter(spUserDefineKey, field, sourceType, targetType));
+        }
+        return converter;
+    }
+
+    private static Converter<Object, Object> resolve(final Class<?> sourceType, final Class<?> targetType) {
+        if (targetType == Object.class) {
+            return value -> value;
+        }
+        Class<?> target = wrap(targetType);
+        Map<Class<?>, Converter<Object, Object>> registeredConverters = registered.get(target);
+        if (registeredConverters != null && registeredConverters.containsKey(sourceType)) {
+            return registeredConverters.get(sourceType);
+        }
+        if (target == String.class) {
+            return String::valueOf;
+        }
+        Map<Class<?>, Converter<Object, Object>> builtInConverters = BUILT_IN.get(target);
+        if (builtInConverters != null && builtInConverters.containsKey(sourceType)) {
+            return builtInConverters.get(sourceType);
+        }
+        if (registeredConverters != null) {
+            for (Map.Entry<Class<?>, Converter<Object, Object>> entry : registeredConverters.entrySet()) {
+                if (entry.getKey().isAssignableFrom(sourceType)) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return unsupported(sourceType, targetType, target, builtInConverters != null || registeredConverters != null);
+    }
+
+    private static Converter<Object, Object> unsupported(final Class<?> sourceType, final Class<?> targetType, final Class<?> target,
+                                                         final boolean supportedTarget) {
+        if (!supportedTarget) {
+            return value -> {
+                throw new SPANException("SPAN framework only support following types: Integer, Float, Double, String, BigDecimal, BigInteger, Boolean. " +
+                        targetType + " is not supported" + ThreadContext.get(SPExecutor.MDC_SQL_QUERY) + ". Field: " + ThreadContext.get(SPExecutor.MDC_FIELD));
+            };
+        }
+        if (target == Boolean.class || target == LocalDate.class || target == LocalDateTime.class) {
+            return value -> {
+                throw new SPANException("Cannot transform type " + sourceType + " to " + target.getSimpleName() + ". "
+                        + ThreadContext.get(SPExecutor.MDC_SQL_QUERY) + ". Field: " + ThreadContext.get(SPExecutor.MDC_FIELD));
+            };
+        }
+        return value -> {
+            throw new SPANException("Conversion from " + sourceType + " to " + target.getSimpleName() + " is not supported. "
+                    + ThreadContext.get(SPExecutor.MDC_SQL_QUERY) + ". Field: " + ThreadContext.get(SPExecutor.MDC_FIELD));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S, T> void builtIn(final Class<S> sourceType, final Class<T> targetType, final Converter<S, T> converter) {
+        BUILT_IN.computeIfAbsent(targetType, type -> new HashMap<>()).put(sourceType, (Converter<Object, Object>) converter);
+    }
+
+    private static Class<?> wrap(final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == Integer.TYPE) {
+            return Integer.class;
+        } else if (type == Long.TYPE) {
+            return Long.class;
+        } else if (type == Float.TYPE) {
+            return Float.class;
+        } else if (type == Double.TYPE) {
+            return Double.class;
+        } else if (type == Boolean.TYPE) {
+            return Boolean.class;
+        } else if (type == Short.TYPE) {
+            return Short.class;
+        } else if (type == Byte.TYPE) {
+            return Byte.class;
+        } else if (type == Character.TYPE) {
+            return Character.class;
+        }
+        return Void.class;
+    }
+
+    /**
+     * Registers a built-in converter which may lose precision, its conversions are counted, see {@link ConversionStatistics}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <S, T> void lossy(final Class<S> sourceType, final Class<T> targetType, final Converter<S, T> converter) {
+        BUILT_IN.computeIfAbsent(targetType, type -> new HashMap<>())
+                .put(sourceType, new LossyConverter(sourceType, targetType, (Converter<Object, Object>) converter));
+    }
+
+    /**
+     * Utility method to convert input "" to 0.
+     */
+    private static String numeric(final String value) {
+        return "".equals(value) ? "0" : value;
+    }
+
+    /**
+     * Built-in converter which may lose precision. The counter of a conversion is resolved from the ThreadContext.
+     */
+    private static final class LossyConverter implements Converter<Object, Object> {
+
+        private final Class<?> sourceType;
+
+        private final Class<?> targetType;
+
+        private final Converter<Object, Object> converter;
+
+        private LossyConverter(final Class<?> sourceType, final Class<?> targetType, final Converter<Object, Object> converter) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object convert(final Object value) {
+            ConversionStatistics.record(sourceType, targetType);
+            return converter.convert(value);
+        }
+
+        private Converter<Object, Object> countedBy(final ConversionStatistics.Counter counter) {
+            return value -> {
+                counter.increment();
+                return converter.convert(value);
+            };
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers.impl;
+
+import com.americanexpress.span.annotation.ThreadSafe;
+import com.americanexpress.span.core.database.binding.Instantiator;
+import com.americanexpress.span.core.database.handlers.FieldTransformation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * FieldTransformations - Registry of the FieldTransformation instances used by the handlers and the mappers.
+ * A transformation annotated with {@link ThreadSafe}, or without instance fields, is created once and shared by every field
+ * and every row. Any other transformation keeps one new instance per call.
+ */
+public final class FieldTransformations {
+
+    private static final Logger logger = LoggerFactory.getLogger(FieldTransformations.class);
+
+    private static final ClassValue<Entry> ENTRIES = new ClassValue<Entry>() {
+        @Override
+        protected Entry computeValue(final Class<?> type) {
+            return new Entry(type);
+        }
+    };
+
+    private FieldTransformations() {
+    }
+
+    /**
+     * Gets the transformation instance for a transformation class.
+     *
+     * @param transformationClass Class declared by transformationClass of {@link com.americanexpress.span.annotation.Field}
+     * @return Shared instance of a thread-safe transformation, otherwise a new instance
+     * @throws ReflectiveOperationException if the class cannot be instantiated through its no-arg constructor
+     */
+    @SuppressWarnings("rawtypes")
+    public static FieldTransformation get(final Class<? extends FieldTransformation> transformationClass) throws ReflectiveOperationException {
+        Entry entry = ENTRIES.get(transformationClass);
+        return (FieldTransformation) (entry.shared != null ? entry.shared : entry.instantiator.newInstance());
+    }
+
+    /**
+     * @param transformationClass Transformation class
+     * @return true if one instance of the class is shared by all calls
+     */
+    public static boolean isShared(final Class<? extends FieldTransformation> transformationClass) {
+        return getShared(transformationClass) != null;
+    }
+
+    /**
+     * @param transformationClass Transformation class
+     * @return Shared instance of the class, null if the class is not thread-safe or cannot be instantiated
+     */
+    static Object getShared(final Class<?> transformationClass) {
+        return ENTRIES.get(transformationClass).shared;
+    }
+
+    /**
+     * A class can be shared if it is annotated with {@link ThreadSafe}, or if neither the class nor its super classes declare
+     * instance fields.
+     */
+    static boolean isThreadSafe(final Class<?> type) {
+        if (type.isAnnotationPresent(ThreadSafe.class)) {
+            return true;
+        }
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static final class Entry {
+
+        private final Instantiator<?> instantiator;
+
+        private final Object shared;
+
+        private Entry(final Class<?> type) {
+            this.instantiator = Instantiator.of(type);
+            Object instance = null;
+            if (isThreadSafe(type)) {
+                try {
+                    instance = instantiator.newInstance();
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    // Reported again by the instantiator on every call, as Class.newInstance() did
+                    logger.debug("FieldTransformation {} cannot be shared: {}", type.getName(), e.toString());
+                }
+            } else {
+                logger.debug("FieldTransformation {} has instance fields and is not annotated with @ThreadSafe, a new instance is created per call", type.getName());
+            }
+            this.shared = instance;
+        }
+    }
+}
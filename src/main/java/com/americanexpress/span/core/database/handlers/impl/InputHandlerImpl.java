@@ -13,15 +13,16 @@
  */
 package com.americanexpress.span.core.database.handlers.impl;
 
-import com.americanexpress.span.annotation.Field;
 import com.americanexpress.span.core.database.SPExecutor;
-import com.americanexpress.span.core.database.handlers.FieldTransformation;
+import com.americanexpress.span.core.database.binding.BindingPlan;
+import com.americanexpress.span.core.database.binding.FieldBinding;
 import com.americanexpress.span.core.database.handlers.InputHandler;
+import com.americanexpress.span.core.database.metrics.SPANMetricsRegistry;
 import com.americanexpress.span.exceptions.SPANException;
-import com.americanexpress.span.utility.SPANUtility;
 import com.americanexpress.span.utility.ThreadContext;
 
 import java.sql.CallableStatement;
+import java.util.List;
 
 /**
  * InputHandler - Will do the following
@@ -38,19 +39,13 @@ public class InputHandlerImpl<T> implements InputHandler<T> {
      */
     public void processSPInputParameters(final CallableStatement callableStatement, T inputObject) {
 
-
-        SPANUtility.getAnnotatedDeclaredMethods(inputObject.getClass()).forEach(method -> {
-            java.lang.reflect.Field field = SPANUtility.getFieldFromMethod(method, inputObject.getClass());
-            setFieldIntoCallableStmt(callableStatement, field, inputObject, method.getAnnotation(Field.class).default_value(),
-                    method.getAnnotation(Field.class).transformationClass(), method.getAnnotation(Field.class).name());
-
-        });
-
-        SPANUtility.getAnnotatedDeclaredFields(inputObject.getClass()).forEach(field -> {
-            setFieldIntoCallableStmt(callableStatement, field, inputObject, field.getAnnotation(Field.class).default_value(),
-                    field.getAnnotation(Field.class).transformationClass(), field.getDeclaredAnnotation(Field.class).name());
-        });
-
+        List<FieldBinding> fieldBindings = BindingPlan.of(inputObject.getClass()).getFieldBindings();
+        for (FieldBinding fieldBinding : fieldBindings) {
+            setFieldIntoCallableStmt(callableStatement, fieldBinding, inputObject);
+        }
+        if (SPANMetricsRegistry.isEnabled()) {
+            SPANMetricsRegistry.getMetrics().recordConvertedValues(ThreadContext.get(SPExecutor.MDC_SP_KEY), fieldBindings.size());
+        }
 
     }
 
@@ -60,25 +55,20 @@ public class InputHandlerImpl<T> implements InputHandler<T> {
      * If the field value is null/empty then set the default value
      *
      * @param callableStatement   Callable Statement before SP execution
-     * @param field               Datamember of class InputParameters
+     * @param fieldBinding        Binding of the datamember of class InputParameters
      * @param inputObject         InputObject
-     * @param defaultValue        Default value of the field
-     * @param transformationClass The custom transformation class to transform the value from callable statement to the field.
-     * @param annotationName      Name of the annotation
      */
-    private void setFieldIntoCallableStmt(final CallableStatement callableStatement, final java.lang.reflect.Field field, final T inputObject,
-                                          final String defaultValue, final Class<? extends FieldTransformation> transformationClass, final String annotationName) {
+    private void setFieldIntoCallableStmt(final CallableStatement callableStatement, final FieldBinding fieldBinding, final T inputObject) {
 
         try {
-            ThreadContext.set(SPExecutor.MDC_FIELD, field.getType() + " " + field.getName());
-            field.setAccessible(true);
-            Object fieldValue = field.get(inputObject);
+            ThreadContext.set(SPExecutor.MDC_FIELD, fieldBinding.getDescription());
+            Object fieldValue = fieldBinding.getAccessor().get(inputObject);
 
             if (fieldValue == null) {
-                fieldValue = defaultValue;
+                fieldValue = fieldBinding.getDefaultValue();
             }
 
-            callableStatement.setObject(annotationName, transformationClass.newInstance().transform(fieldValue, Object.class));
+            callableStatement.setObject(fieldBinding.getName(), FieldTransformations.get(fieldBinding.getTransformationClass()).transform(fieldValue, Object.class));
 
         } catch (Exception e) {
             throw new SPANException("Exception while populating CallableStatement from class: " + inputObject.getClass()
@@ -0,0 +1,387 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers.impl;
+
+import com.americanexpress.span.core.database.binding.FieldAccessor;
+
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * JdbcGetter - Typed JDBC getter of a column or an output parameter whose SQL type matches the type of the datamember, e.g.
+ * getInt and wasNull for an INTEGER column and an int datamember. The value is set on the datamember as read, primitive values
+ * without boxing. Other combinations are read with getObject and transformed by the FieldTransformation of the datamember.
+ * <p>
+ * Every getter returns false if the value is SQL NULL, the datamember is then left to the default value handling.
+ * <p>
+ * The getters are public for the generated mappers ({@link com.americanexpress.span.core.database.mapper.SPANMapper}), which
+ * read the values with {@link #get(ResultSet, int)} and {@link #get(CallableStatement, String)} instead of a FieldAccessor.
+ */
+public enum JdbcGetter {
+
+    INT {
+        @Override
+        boolean read(final ResultSet resultSet, final int columnIndex, final FieldAccessor accessor, final Object target) throws SQLException {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                return false;
+            }
+            accessor.setInt(target, value);
+            return true;
+        }
+
+        @Override
+        boolean read(final CallableStatement callableStatement, final String parameterName, final FieldAccessor accessor, final Object target)
+                throws SQLException {
+            int value = callableStatement.getInt(parameterName);
+            if (callableStatement.wasNull()) {
+                return false;
+            }
+            accessor.setInt(target, value);
+            return true;
+        }
+
+        @Override
+        public Object get(final ResultSet resultSet, final int columnIndex) throws SQLException {
+            int value = resultSet.getInt(columnIndex);
+            return resultSet.wasNull() ? null : value;
+        }
+
+        @Override
+        public Object get(final CallableStatement callableStatement, final String parameterName) throws SQLException {
+            int value = callableStatement.getInt(parameterName);
+            return callableStatement.wasNull() ? null : value;
+        }
+    },
+
+    LONG {
+        @Override
+        boolean read(final ResultSet resultSet, final int columnIndex, final FieldAccessor accessor, final Object target) throws SQLException {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                return false;
+            }
+            accessor.setLong(target, value);
+            return true;
+        }
+
+        @Override
+        boolean read(final CallableStatement callableStatement, final String parameterName, final FieldAccessor accessor, final Object target)
+                throws SQLException {
+            long value = callableStatement.getLong(parameterName);
+            if (callableStatement.wasNull()) {
+                return false;
+            }
+            accessor.setLong(target, value);
+            return true;
+        }
+
+        @Override
+        public Object get(final ResultSet resultSet, final int columnIndex) throws SQLException {
+            long value = resultSet.getLong(columnIndex);
+            return resultSet.wasNull() ? null : value;
+        }
+
+        @Override
+        public Object get(final CallableStatement callableStatement, final String parameterName) throws SQLException {
+            long value = callableStatement.getLong(parameterName);
+            return callableStatement.wasNull() ? null : value;
+        }
+    },
+
+    FLOAT {
+        @Override
+        boolean read(final ResultSet resultSet, final int columnIndex, final FieldAccessor accessor, final Object target) throws SQLException {
+            float value = resultSet.getFloat(columnIndex);
+            if (resultSet.wasNull()) {
+                return false;
+            }
+            accessor.setFloat(target, value);
+            return true;
+        }
+
+        @Override
+        boolean read(final CallableStatement callableStatement, final String parameterName, final FieldAccessor accessor, final Object target)
+                throws SQLException {
+            float value = callableStatement.getFloat(parameterName);
+            if (callableStatement.wasNull()) {
+                return false;
+            }
+            accessor.setFloat(target, value);
+            return true;
+        }
+
+        @Override
+        public Object get(final ResultSet resultSet, final int columnIndex) throws SQLException {
+            float value = resultSet.getFloat(columnIndex);
+            return resultSet.wasNull() ? null : value;
+        }
+
+        @Override
+        public Object get(final CallableStatement callableStatement, final String parameterName) throws SQLException {
+            float value = callableStatement.getFloat(parameterName);
+            return callableStatement.wasNull() ? null : value;
+        }
+    },
+
+    DOUBLE {
+        @Override
+        boolean read(final ResultSet resultSet, final int columnIndex, final FieldAccessor accessor, final Object target) throws SQLException {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                return false;
+            }
+            accessor.setDouble(target, value);
+            return true;
+        }
+
+        @Override
+        boolean read(final CallableStatement callableStatement, final String parameterName, final FieldAccessor accessor, final Object target)
+                throws SQLException {
+            double value = callableStatement.getDouble(parameterName);
+            if (callableStatement.wasNull()) {
+                return false;
+            }
+            accessor.setDouble(target, value);
+            return true;
+        }
+
+        @Override
+        public Object get(final ResultSet resultSet, final int columnIndex) throws SQLException {
+            double value = resultSet.getDouble(columnIndex);
+            return resultSet.wasNull() ? null : value;
+        }
+
+        @Override
+        public Object get(final CallableStatement callableStatement, final String parameterName) throws SQLException {
+            double value = callableStatement.getDouble(parameterName);
+            return callableStatement.wasNull() ? null : value;
+        }
+    },
+
+    BOOLEAN {
+        @Override
+        boolean read(final ResultSet resultSet, final int columnIndex, final FieldAccessor accessor, final Object target) throws SQLException {
+            boolean value = resultSet.getBoolean(columnIndex);
+            if (resultSet.wasNull()) {
+                return false;
+            }
+            accessor.setBoolean(target, value);
+            return true;
+        }
+
+        @Override
+        boolean read(final CallableStatement callableStatement, final String parameterName, final FieldAccessor accessor, final Object target)
+                throws SQLException {
+            boolean value = callableStatement.getBoolean(parameterName);
+            if (callableStatement.wasNull()) {
+                return false;
+            }
+            accessor.setBoolean(target, value);
+            return true;
+        }
+
+        @Override
+        public Object get(final ResultSet resultSet, final int columnIndex) throws SQLException {
+            boolean value = resultSet.getBoolean(columnIndex);
+            return resultSet.wasNull() ? null : value;
+        }
+
+        @Override
+        public Object get(final CallableStatement callableStatement, final String parameterName) throws SQLException {
+            boolean value = callableStatement.getBoolean(parameterName);
+            return callableStatement.wasNull() ? null : value;
+        }
+    },
+
+    STRING {
+        @Override
+        boolean read(final ResultSet resultSet, final int columnIndex, final FieldAccessor accessor, final Object target) throws SQLException {
+            return setIfNotNull(resultSet.getString(columnIndex), accessor, target);
+        }
+
+        @Override
+        boolean read(final CallableStatement callableStatement, final String parameterName, final FieldAccessor accessor, final Object target)
+                throws SQLException {
+            return setIfNotNull(callableStatement.getString(parameterName), accessor, target);
+        }
+
+        @Override
+        public Object get(final ResultSet resultSet, final int columnIndex) throws SQLException {
+            return resultSet.getString(columnIndex);
+        }
+
+        @Override
+        public Object get(final CallableStatement callableStatement, final String parameterName) throws SQLException {
+            return callableStatement.getString(parameterName);
+        }
+    },
+
+    BIG_DECIMAL {
+        @Override
+        boolean read(final ResultSet resultSet, final int columnIndex, final FieldAccessor accessor, final Object target) throws SQLException {
+            return setIfNotNull(resultSet.getBigDecimal(columnIndex), accessor, target);
+        }
+
+        @Override
+        boolean read(final CallableStatement callableStatement, final String parameterName, final FieldAccessor accessor, final Object target)
+                throws SQLException {
+            return setIfNotNull(callableStatement.getBigDecimal(parameterName), accessor, target);
+        }
+
+        @Override
+        public Object get(final ResultSet resultSet, final int columnIndex) throws SQLException {
+            return resultSet.getBigDecimal(columnIndex);
+        }
+
+        @Override
+        public Object get(final CallableStatement callableStatement, final String parameterName) throws SQLException {
+            return callableStatement.getBigDecimal(parameterName);
+        }
+    },
+
+    LOCAL_DATE {
+        @Override
+        boolean read(final ResultSet resultSet, final int columnIndex, final FieldAccessor accessor, final Object target) throws SQLException {
+            return setIfNotNull(resultSet.getObject(columnIndex, LocalDate.class), accessor, target);
+        }
+
+        @Override
+        boolean read(final CallableStatement callableStatement, final String parameterName, final FieldAccessor accessor, final Object target)
+                throws SQLException {
+            return setIfNotNull(callableStatement.getObject(parameterName, LocalDate.class), accessor, target);
+        }
+
+        @Override
+        public Object get(final ResultSet resultSet, final int columnIndex) throws SQLException {
+            return resultSet.getObject(columnIndex, LocalDate.class);
+        }
+
+        @Override
+        public Object get(final CallableStatement callableStatement, final String parameterName) throws SQLException {
+            return callableStatement.getObject(parameterName, LocalDate.class);
+        }
+    },
+
+    LOCAL_DATE_TIME {
+        @Override
+        boolean read(final ResultSet resultSet, final int columnIndex, final FieldAccessor accessor, final Object target) throws SQLException {
+            return setIfNotNull(resultSet.getObject(columnIndex, LocalDateTime.class), accessor, target);
+        }
+
+        @Override
+        boolean read(final CallableStatement callableStatement, final String parameterName, final FieldAccessor accessor, final Object target)
+                throws SQLException {
+            return setIfNotNull(callableStatement.getObject(parameterName, LocalDateTime.class), accessor, target);
+        }
+
+        @Override
+        public Object get(final ResultSet resultSet, final int columnIndex) throws SQLException {
+            return resultSet.getObject(columnIndex, LocalDateTime.class);
+        }
+
+        @Override
+        public Object get(final CallableStatement callableStatement, final String parameterName) throws SQLException {
+            return callableStatement.getObject(parameterName, LocalDateTime.class);
+        }
+    };
+
+    /**
+     * Reads a column of the current row and sets it on the datamember.
+     *
+     * @param resultSet   ResultSet positioned on a row
+     * @param columnIndex Index of the column
+     * @param accessor    Accessor of the datamember
+     * @param target      Object holding the datamember
+     * @return false if the value is SQL NULL
+     * @throws SQLException if the driver cannot read the column with the getter
+     */
+    abstract boolean read(ResultSet resultSet, int columnIndex, FieldAccessor accessor, Object target) throws SQLException;
+
+    /**
+     * Reads an output parameter and sets it on the datamember.
+     *
+     * @param callableStatement Callable Statement after SP execution
+     * @param parameterName     Name of the output parameter
+     * @param accessor          Accessor of the datamember
+     * @param target            Object holding the datamember
+     * @return false if the value is SQL NULL
+     * @throws SQLException if the driver cannot read the output parameter with the getter
+     */
+    abstract boolean read(CallableStatement callableStatement, String parameterName, FieldAccessor accessor, Object target) throws SQLException;
+
+    /**
+     * Reads a column of the current row.
+     *
+     * @param resultSet   ResultSet positioned on a row
+     * @param columnIndex Index of the column
+     * @return Value of the column, null if the value is SQL NULL
+     * @throws SQLException if the driver cannot read the column with the getter
+     */
+    public abstract Object get(ResultSet resultSet, int columnIndex) throws SQLException;
+
+    /**
+     * Reads an output parameter.
+     *
+     * @param callableStatement Callable Statement after SP execution
+     * @param parameterName     Name of the output parameter
+     * @return Value of the output parameter, null if the value is SQL NULL
+     * @throws SQLException if the driver cannot read the output parameter with the getter
+     */
+    public abstract Object get(CallableStatement callableStatement, String parameterName) throws SQLException;
+
+    /**
+     * Returns the getter reading a value of the SQL type as the type of the datamember, without any transformation.
+     *
+     * @param type    Type of the datamember
+     * @param sqlType SQL type from {@link Types} of the column or the output parameter
+     * @return Getter, null if the value has to be read with getObject and transformed
+     */
+    public static JdbcGetter of(final Class<?> type, final int sqlType) {
+        if (type == Integer.TYPE || type == Integer.class) {
+            return sqlType == Types.INTEGER || sqlType == Types.SMALLINT || sqlType == Types.TINYINT ? INT : null;
+        } else if (type == Long.TYPE || type == Long.class) {
+            return sqlType == Types.BIGINT || sqlType == Types.INTEGER || sqlType == Types.SMALLINT || sqlType == Types.TINYINT ? LONG : null;
+        } else if (type == Float.TYPE || type == Float.class) {
+            return sqlType == Types.REAL ? FLOAT : null;
+        } else if (type == Double.TYPE || type == Double.class) {
+            return sqlType == Types.DOUBLE || sqlType == Types.FLOAT ? DOUBLE : null;
+        } else if (type == Boolean.TYPE || type == Boolean.class) {
+            return sqlType == Types.BOOLEAN || sqlType == Types.BIT ? BOOLEAN : null;
+        } else if (type == String.class) {
+            return sqlType == Types.VARCHAR || sqlType == Types.CHAR || sqlType == Types.LONGVARCHAR || sqlType == Types.NVARCHAR
+                    || sqlType == Types.NCHAR || sqlType == Types.LONGNVARCHAR ? STRING : null;
+        } else if (type == BigDecimal.class) {
+            return sqlType == Types.DECIMAL || sqlType == Types.NUMERIC ? BIG_DECIMAL : null;
+        } else if (type == LocalDate.class) {
+            return sqlType == Types.DATE ? LOCAL_DATE : null;
+        } else if (type == LocalDateTime.class) {
+            return sqlType == Types.TIMESTAMP ? LOCAL_DATE_TIME : null;
+        }
+        return null;
+    }
+
+    private static boolean setIfNotNull(final Object value, final FieldAccessor accessor, final Object target) {
+        if (value == null) {
+            return false;
+        }
+        accessor.set(target, value);
+        return true;
+    }
+}
@@ -13,9 +13,10 @@
  */
 package com.americanexpress.span.core.database.handlers.impl;
 
-import com.americanexpress.span.annotation.Field;
-import com.americanexpress.span.core.database.handlers.FieldTransformation;
+import com.americanexpress.span.core.database.binding.BindingPlan;
+import com.americanexpress.span.core.database.binding.FieldBinding;
 import com.americanexpress.span.core.database.handlers.OutputHandler;
+import com.americanexpress.span.core.database.metrics.SPANMetricsRegistry;
 import com.americanexpress.span.exceptions.SPANException;
 import com.americanexpress.span.utility.ThreadContext;
 
@@ -26,11 +27,12 @@ import java.sql.SQLException;
 import java.sql.Types;
 
 import static com.americanexpress.span.core.database.SPExecutor.MDC_FIELD;
+import static com.americanexpress.span.core.database.SPExecutor.MDC_SP_KEY;
 import static com.americanexpress.span.core.database.SPExecutor.MDC_SQL_QUERY;
-import static com.americanexpress.span.utility.SPANUtility.*;
 
 /**
- * OutputHandlerImpl - Implementation for OutputHandler. Processes the output of Callable statement and populates OutputParameter Object
+ * OutputHandlerImpl - Implementation for OutputHandler. Processes the output of Callable statement and populates OutputParameter Object.
+ * Output parameters registered with the SQL type of their datamember are read with the typed getter of that type ({@link JdbcGetter}).
  * @param <T>
  */
 public class OutputHandlerImpl<T> implements OutputHandler<T> {
@@ -39,22 +41,11 @@ public class OutputHandlerImpl<T> implements OutputHandler<T> {
     @Override
     public void registerOutputParameters(CallableStatement callableStatement, Class<T> classT) {
         try {
-            for (java.lang.reflect.Field field : getAnnotatedDeclaredFields(classT)) {
-                if (field.getType() == Integer.TYPE || field.getType() == Integer.class) {
-                    callableStatement.registerOutParameter(field.getAnnotation(Field.class).name(), Types.INTEGER);
-                } else if (field.getType() == Float.TYPE || field.getType() == Float.class) {
-                    callableStatement.registerOutParameter(field.getAnnotation(Field.class).name(), Types.FLOAT);
-                } else if (field.getType() == Double.TYPE || field.getType() == Double.class) {
-                    callableStatement.registerOutParameter(field.getAnnotation(Field.class).name(), Types.DOUBLE);
-                } else if (field.getType() == String.class) {
-                    callableStatement.registerOutParameter(field.getAnnotation(Field.class).name(), Types.VARCHAR);
-                } else if (field.getType() == BigDecimal.class || field.getType() == BigInteger.class) {
-                    callableStatement.registerOutParameter(field.getAnnotation(Field.class).name(), Types.DOUBLE);
-                } else if (field.getType() == Boolean.class || field.getType() == Boolean.TYPE) {
-                    callableStatement.registerOutParameter(field.getAnnotation(Field.class).name(), Types.BOOLEAN);
-                } else {
-                    callableStatement.registerOutParameter(field.getAnnotation(Field.class).name(), Types.VARCHAR);
+            for (FieldBinding fieldBinding : BindingPlan.of(classT).getFieldBindings()) {
+                if (!fieldBinding.isDeclaredOnField()) {
+                    continue;
                 }
+                callableStatement.registerOutParameter(fieldBinding.getName(), getSqlType(fieldBinding.getType()));
             }
         } catch (SQLException sqle) {
             throw new SPANException("Exception occurred setting OutputParameters. Exception: " + sqle.getMessage(), sqle);
@@ -62,6 +53,29 @@ public class OutputHandlerImpl<T> implements OutputHandler<T> {
 
     }
 
+    /**
+     * Returns the SQL type used to register an output parameter for the given type of the datamember.
+     *
+     * @param type Type of the datamember
+     * @return SQL type from {@link Types}
+     */
+    public static int getSqlType(final Class<?> type) {
+        if (type == Integer.TYPE || type == Integer.class) {
+            return Types.INTEGER;
+        } else if (type == Float.TYPE || type == Float.class) {
+            return Types.FLOAT;
+        } else if (type == Double.TYPE || type == Double.class) {
+            return Types.DOUBLE;
+        } else if (type == String.class) {
+            return Types.VARCHAR;
+        } else if (type == BigDecimal.class || type == BigInteger.class) {
+            return Types.DOUBLE;
+        } else if (type == Boolean.class || type == Boolean.TYPE) {
+            return Types.BOOLEAN;
+        }
+        return Types.VARCHAR;
+    }
+
     /***
      * This method processes SP output parameters from Callable Statement object and create instance of object T (output parameters)
      *
@@ -71,26 +85,24 @@ public class OutputHandlerImpl<T> implements OutputHandler<T> {
      */
     public T processSPOutputParameters(final CallableStatement callableStatement, final Class<T> clazzT)  {
 
+        BindingPlan<T> plan = BindingPlan.of(clazzT);
         T returnObject;
         try {
-            returnObject = clazzT.newInstance();
+            returnObject = plan.getInstantiator().newInstance();
         } catch (ReflectiveOperationException e) {
             throw new SPANException("Exception while creating object of class: " + clazzT
                     + ". Exception Type: " + e.getClass() + ". Exception Message: " + e.getMessage(), e);
         }
 
-        getAnnotatedDeclaredFields(clazzT).forEach(field -> {
-            setFieldFromCallableStmt(callableStatement, returnObject, field, field.getAnnotation(Field.class).name(),
-                    field.getAnnotation(Field.class).default_value(),  field.getAnnotation(Field.class).transformationClass(), clazzT);
-        });
-
-
-        getAnnotatedDeclaredMethods(clazzT).forEach(method -> {
-            java.lang.reflect.Field field = getFieldFromMethod(method, clazzT);
-            setFieldFromCallableStmt(callableStatement, returnObject, field, method.getAnnotation(Field.class).name(),
-                    method.getAnnotation(Field.class).default_value(), method.getAnnotation(Field.class).transformationClass(), clazzT);
-        });
-
+        for (FieldBinding fieldBinding : plan.getFieldBindings()) {
+            // The output parameter is registered with the SQL type of its datamember, see registerOutputParameters.
+            JdbcGetter getter = fieldBinding.isDeclaredOnField() && fieldBinding.getTransformationClass() == FieldTransformationImpl.class
+                    ? JdbcGetter.of(fieldBinding.getType(), getSqlType(fieldBinding.getType())) : null;
+            setFieldFromCallableStmt(callableStatement, returnObject, fieldBinding, getter, clazzT);
+        }
+        if (SPANMetricsRegistry.isEnabled()) {
+            SPANMetricsRegistry.getMetrics().recordConvertedValues(ThreadContext.get(MDC_SP_KEY), plan.getFieldBindings().size());
+        }
 
         return returnObject;
     }
@@ -100,28 +112,22 @@ public class OutputHandlerImpl<T> implements OutputHandler<T> {
      *
      * @param callableStatement     Callable Statement after SP execution
      * @param outputParameters      OutputParameters - this object will be populated with values from Callable statement
-     * @param field                 Datamember of class OutputParameters
-     * @param annotationName        name parameter of SPAN annotation @Field
-     * @param annotationDefaultVal  Default value of the annotation
-     * @param transformationClass   The custom transformation class to transform the value from callable statement to the field.
+     * @param fieldBinding          Binding of the datamember of class OutputParameters
+     * @param getter                Typed getter of the output parameter, null to read it with getObject
      * @param clazzT                Class of type T
      *
      */
-    private void setFieldFromCallableStmt(final CallableStatement callableStatement, final T outputParameters, final java.lang.reflect.Field field,
-                                          final String annotationName, final String annotationDefaultVal,
-                                          final Class<? extends FieldTransformation> transformationClass, final Class<T> clazzT) {
+    private void setFieldFromCallableStmt(final CallableStatement callableStatement, final T outputParameters, final FieldBinding fieldBinding,
+                                          final JdbcGetter getter, final Class<T> clazzT) {
         try {
-            ThreadContext.set(MDC_FIELD, field.getType() + " " + field.getName());
-
-            Object fieldValue = callableStatement.getObject(annotationName);
+            ThreadContext.set(MDC_FIELD, fieldBinding.getDescription());
 
-            if (fieldValue == null) {
-                fieldValue = annotationDefaultVal;
+            if (getter == null) {
+                ColumnReader.setTransformed(fieldBinding, outputParameters, callableStatement.getObject(fieldBinding.getName()));
+            } else if (!getter.read(callableStatement, fieldBinding.getName(), fieldBinding.getAccessor(), outputParameters)) {
+                ColumnReader.setTransformed(fieldBinding, outputParameters, null);
             }
 
-            field.setAccessible(true);
-            field.set(outputParameters, transformationClass.newInstance().transform(fieldValue, field.getType()));
-
         } catch (Exception e) {
             throw new SPANException("Exception while setting object of class: " + clazzT
                     + ". Exception Type: " + e.getClass() + ". Exception Message: " + e.getMessage() + " Query: " + ThreadContext.get(MDC_SQL_QUERY) + " Field: "
@@ -13,23 +13,54 @@
  */
 package com.americanexpress.span.core.database.handlers.impl;
 
-import com.americanexpress.span.annotation.Field;
 import com.americanexpress.span.core.database.SPExecutor;
-import com.americanexpress.span.core.database.handlers.FieldTransformation;
+import com.americanexpress.span.core.database.binding.BindingPlan;
 import com.americanexpress.span.core.database.handlers.ResultSetHandler;
+import com.americanexpress.span.core.database.handlers.RowHandler;
+import com.americanexpress.span.core.database.metrics.SPANMetricsRegistry;
 import com.americanexpress.span.exceptions.SPANException;
-import com.americanexpress.span.utility.SPANUtility;
 import com.americanexpress.span.utility.ThreadContext;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
- * ResultSetHandlerImpl - Implementation for ResultSetHandler. Processes the output of ResultSet and populates object of type T
+ * ResultSetHandlerImpl - Implementation for ResultSetHandler. Processes the output of ResultSet and populates object of type T.
+ * The columns are resolved once per ResultSet, see {@link ColumnReader}.
+ * <p>
+ * In block mode the rows are fetched in blocks of blockSize rows. The columns whose transformation is a shared
+ * {@link com.americanexpress.span.core.database.handlers.BulkFieldTransformation} are then transformed column by column for the
+ * whole block, and the other columns row by row as they are read.
  */
-public class ResultSetHandlerImpl<T> implements ResultSetHandler<T> {
+public class ResultSetHandlerImpl<T> implements ResultSetHandler<T>, RowHandler<T> {
+
+    private final int blockSize;
+
+    public ResultSetHandlerImpl() {
+        this(1);
+    }
+
+    /**
+     * Creates a handler in block mode.
+     *
+     * @param blockSize Number of rows fetched before their columns are transformed, 1 processes the ResultSet row by row
+     */
+    public ResultSetHandlerImpl(final int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Invalid blockSize: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * @return Number of rows of a block, 1 if the ResultSet is processed row by row
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
 
     /**
      * This method processes SP output parameters from ResultSet object and create instance of object T
@@ -41,36 +72,129 @@ public class ResultSetHandlerImpl<T> implements ResultSetHandler<T> {
 
     public List<T> processResultSet(ResultSet resultSet, Class<T> clazzT) {
         List<T> resultSetList = new LinkedList<>();
+        BindingPlan<T> plan = BindingPlan.of(clazzT);
 
         try {
-            while (resultSet.next()) {
-                T returnObject;
-                try {
-                    returnObject = clazzT.newInstance();
-                } catch (ReflectiveOperationException e) {
-                    throw new SPANException("Exception while creating object of class: " + clazzT
-                            + ". Exception Type: " + e.getClass() + ". Exception Message: " + e.getMessage(), e);
+            ColumnReader[] readers = ColumnReader.resolve(resultSet, plan);
+            if (blockSize > 1 && hasBulkColumns(readers)) {
+                processBlocks(resultSet, plan, readers, clazzT, resultSetList);
+            } else {
+                while (resultSet.next()) {
+                    resultSetList.add(mapRow(resultSet, plan, readers, clazzT));
                 }
+            }
+            if (SPANMetricsRegistry.isEnabled()) {
+                SPANMetricsRegistry.getMetrics().recordConvertedValues(ThreadContext.get(SPExecutor.MDC_SP_KEY),
+                        (long) resultSetList.size() * readers.length);
+            }
+        } catch (SQLException e) {
+            throw new SPANException("Exception occurred while processing ResultSet. Exception Message: " + e.getMessage(), e);
+        }
 
-                SPANUtility.getAnnotatedDeclaredFields(clazzT).forEach(field -> {
-                    setFieldFromResultSet(resultSet, returnObject, field, field.getAnnotation(Field.class).name(),
-                            field.getAnnotation(Field.class).default_value(), field.getAnnotation(Field.class).transformationClass(), clazzT);
-                });
+        return resultSetList;
 
+    }
 
-                SPANUtility.getAnnotatedDeclaredMethods(clazzT).forEach(method -> {
-                    java.lang.reflect.Field field = SPANUtility.getFieldFromMethod(method, clazzT);
-                    setFieldFromResultSet(resultSet, returnObject, field, method.getAnnotation(Field.class).name(),
-                            method.getAnnotation(Field.class).default_value(), method.getAnnotation(Field.class).transformationClass(), clazzT);
-                });
-                resultSetList.add(returnObject);
-            }
+    /**
+     * Creates the object of type T from the current row of the ResultSet. The columns are resolved for this row only, the rows of
+     * a ResultSet read one by one should be mapped with {@link #newRowMapper(ResultSet, Class)}.
+     *
+     * @param resultSet ResultSet positioned on a row
+     * @param clazzT    Class Object for the type representing the row
+     * @return Object for the row
+     */
+    @Override
+    public T processRow(ResultSet resultSet, Class<T> clazzT) {
+        return newRowMapper(resultSet, clazzT).apply(resultSet);
+    }
+
+    /**
+     * Resolves the columns of the ResultSet once, the returned mapper holds them for the rows of this ResultSet only.
+     *
+     * @param resultSet ResultSet after SP execution
+     * @param clazzT    Class Object for the type representing the row
+     * @return Mapper of the current row
+     */
+    @Override
+    public Function<ResultSet, T> newRowMapper(ResultSet resultSet, Class<T> clazzT) {
+        BindingPlan<T> plan = BindingPlan.of(clazzT);
+        ColumnReader[] readers;
+        try {
+            readers = ColumnReader.resolve(resultSet, plan);
         } catch (SQLException e) {
             throw new SPANException("Exception occurred while processing ResultSet. Exception Message: " + e.getMessage(), e);
         }
+        return row -> {
+            if (SPANMetricsRegistry.isEnabled()) {
+                SPANMetricsRegistry.getMetrics().recordConvertedValues(ThreadContext.get(SPExecutor.MDC_SP_KEY), readers.length);
+            }
+            return mapRow(row, plan, readers, clazzT);
+        };
+    }
 
-        return resultSetList;
+    private T mapRow(final ResultSet resultSet, final BindingPlan<T> plan, final ColumnReader[] readers, final Class<T> clazzT) {
+        T returnObject = newRow(plan, clazzT);
 
+        for (ColumnReader reader : readers) {
+            setFieldFromResultSet(resultSet, returnObject, reader, clazzT);
+        }
+        return returnObject;
+    }
+
+    /**
+     * Fetches the rows in blocks of blockSize rows. The values of the bulk columns are buffered while the rows are read, and
+     * transformed column by column at the end of every block.
+     */
+    private void processBlocks(final ResultSet resultSet, final BindingPlan<T> plan, final ColumnReader[] readers, final Class<T> clazzT,
+                               final List<T> resultSetList) throws SQLException {
+        Object[][] columnValues = new Object[readers.length][];
+        for (int c = 0; c < readers.length; c++) {
+            if (readers[c].isBulk()) {
+                columnValues[c] = new Object[blockSize];
+            }
+        }
+        Object[] rows = new Object[blockSize];
+        int count;
+        do {
+            count = 0;
+            while (count < blockSize && resultSet.next()) {
+                T returnObject = newRow(plan, clazzT);
+                for (int c = 0; c < readers.length; c++) {
+                    if (columnValues[c] != null) {
+                        columnValues[c][count] = readValue(resultSet, readers[c], clazzT);
+                    } else {
+                        setFieldFromResultSet(resultSet, returnObject, readers[c], clazzT);
+                    }
+                }
+                rows[count++] = returnObject;
+            }
+            for (int c = 0; c < readers.length; c++) {
+                if (columnValues[c] != null) {
+                    fillColumn(readers[c], columnValues[c], count, rows, clazzT);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                resultSetList.add(clazzT.cast(rows[i]));
+            }
+        } while (count == blockSize);
+    }
+
+    private static boolean hasBulkColumns(final ColumnReader[] readers) {
+        for (ColumnReader reader : readers) {
+            if (reader.isBulk()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private T newRow(final BindingPlan<T> plan, final Class<T> clazzT) {
+        try {
+            return plan.getInstantiator().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new SPANException("Exception while creating object of class: " + clazzT
+                    + ". Exception Type: " + e.getClass() + ". Exception Message: " + e.getMessage(), e);
+        }
     }
 
 
@@ -80,34 +204,47 @@ public class ResultSetHandlerImpl<T> implements ResultSetHandler<T> {
      *
      * @param resultSet             ResultSet from SP execution
      * @param outputParameters      OutputParameters - this object will be populated with values from ResultSet
-     * @param field                 Datamember of class OutputParameters
-     * @param annotationName        name parameter of SPAN annotation @Field
-     * @param annotationDefaultVal  Value of the annotation
+     * @param reader                Reader of the column of the datamember of class OutputParameters
      * @param clazzT                Class object of Type T
      */
-    private void setFieldFromResultSet(final ResultSet resultSet, final T outputParameters, final java.lang.reflect.Field field,
-                                       final String annotationName, final String annotationDefaultVal,
-                                       final Class<? extends FieldTransformation> transformationClass, final Class<T> clazzT) {
+    private void setFieldFromResultSet(final ResultSet resultSet, final T outputParameters, final ColumnReader reader, final Class<T> clazzT) {
         try {
-            ThreadContext.set(SPExecutor.MDC_FIELD, field.getType() + " " + field.getName());
-
-            Object fieldValue = resultSet.getObject(annotationName);
-
-            if (fieldValue == null) {
-                fieldValue = annotationDefaultVal;
-            }
+            ThreadContext.set(SPExecutor.MDC_FIELD, reader.getFieldBinding().getDescription());
 
-            field.setAccessible(true);
-            field.set(outputParameters, transformationClass.newInstance().transform(fieldValue, field.getType()));
+            reader.read(resultSet, outputParameters);
 
         } catch (Exception e) {
-            throw new SPANException("Exception while populating ResultSet from class: " + clazzT
-                    + ". Exception Type: " + e.getClass() + ". Exception Message: " + e.getMessage() + " Query: " + ThreadContext.get(SPExecutor.MDC_SQL_QUERY) + " Field: "
-                    + ThreadContext.get(SPExecutor.MDC_FIELD), e);
+            throw populateException(clazzT, e);
         }  finally {
             ThreadContext.removeKey(SPExecutor.MDC_FIELD);
         }
     }
 
+    private Object readValue(final ResultSet resultSet, final ColumnReader reader, final Class<T> clazzT) {
+        try {
+            ThreadContext.set(SPExecutor.MDC_FIELD, reader.getFieldBinding().getDescription());
+            return reader.readValue(resultSet);
+        } catch (Exception e) {
+            throw populateException(clazzT, e);
+        } finally {
+            ThreadContext.removeKey(SPExecutor.MDC_FIELD);
+        }
+    }
+
+    private void fillColumn(final ColumnReader reader, final Object[] fieldValues, final int length, final Object[] rows, final Class<T> clazzT) {
+        try {
+            ThreadContext.set(SPExecutor.MDC_FIELD, reader.getFieldBinding().getDescription());
+            reader.fill(fieldValues, length, rows);
+        } catch (Exception e) {
+            throw populateException(clazzT, e);
+        } finally {
+            ThreadContext.removeKey(SPExecutor.MDC_FIELD);
+        }
+    }
 
+    private static SPANException populateException(final Class<?> clazzT, final Exception e) {
+        return new SPANException("Exception while populating ResultSet from class: " + clazzT
+                + ". Exception Type: " + e.getClass() + ". Exception Message: " + e.getMessage() + " Query: " + ThreadContext.get(SPExecutor.MDC_SQL_QUERY) + " Field: "
+                + ThreadContext.get(SPExecutor.MDC_FIELD), e);
+    }
 }
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.mapper;
+
+import com.americanexpress.span.core.database.SPExecutor;
+import com.americanexpress.span.core.database.handlers.Converter;
+import com.americanexpress.span.core.database.handlers.impl.Converters;
+import com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl;
+import com.americanexpress.span.core.database.handlers.impl.JdbcGetter;
+import com.americanexpress.span.utility.ThreadContext;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * MappedColumns - Columns of the datamembers of a generated mapper, resolved once per ResultSet from its ResultSetMetaData: the
+ * column index and the typed getter ({@link JdbcGetter}) of every datamember. If the driver returns no ResultSetMetaData, the
+ * columns are read by their label as before.
+ * <p>
+ * A column read with getObject keeps the converter of the last value class, with the counter of its lossy conversions, as a
+ * column returns values of the same class in every row.
+ * <p>
+ * Created by {@link SPANMapper#resolveColumns(ResultSet, MappedField[])} and held by the row mapper of the ResultSet.
+ */
+public final class MappedColumns {
+
+    static final int BY_LABEL = 0;
+    static final int MISSING = -1;
+
+    private final int[] columnIndexes;
+
+    private final JdbcGetter[] getters;
+
+    private final String spUserDefineKey;
+
+    // Written by the thread reading the rows of the ResultSet.
+    private final Class<?>[] sourceTypes;
+
+    private final Converter<Object, Object>[] converters;
+
+    @SuppressWarnings("unchecked")
+    private MappedColumns(final int[] columnIndexes, final JdbcGetter[] getters) {
+        this.columnIndexes = columnIndexes;
+        this.getters = getters;
+        this.spUserDefineKey = ThreadContext.get(SPExecutor.MDC_SP_KEY);
+        this.sourceTypes = new Class<?>[columnIndexes.length];
+        this.converters = new Converter[columnIndexes.length];
+    }
+
+    /**
+     * Resolves the columns of the datamembers. A column missing from the ResultSet is reported once, and the datamember gets its
+     * default value in every row.
+     *
+     * @param resultSet ResultSet after SP execution
+     * @param type      Class representing a row
+     * @param fields    Metadata of the datamembers, in the order of the generated constants
+     * @return Resolved columns
+     * @throws SQLException if the ResultSetMetaData cannot be read
+     */
+    static MappedColumns resolve(final ResultSet resultSet, final Class<?> type, final MappedField<?>[] fields) throws SQLException {
+        int[] columnIndexes = new int[fields.length];
+        JdbcGetter[] getters = new JdbcGetter[fields.length];
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        if (metaData == null) {
+            return new MappedColumns(columnIndexes, getters);
+        }
+        Map<String, Integer> labels = indexColumns(metaData);
+        List<String> missingColumns = new ArrayList<>();
+        for (int i = 0; i < fields.length; i++) {
+            MappedField<?> field = fields[i];
+            columnIndexes[i] = labels.getOrDefault(field.getName(), MISSING);
+            if (columnIndexes[i] == MISSING) {
+                missingColumns.add(field.getName());
+            } else if (field.getTransformationClass() == FieldTransformationImpl.class) {
+                // Custom transformations get the value of getObject as before.
+                getters[i] = JdbcGetter.of(field.getType(), metaData.getColumnType(columnIndexes[i]));
+            }
+        }
+        if (!missingColumns.isEmpty()) {
+            LoggerFactory.getLogger(SPANMapper.class).warn("Columns {} of class {} are not in the ResultSet, default values are used. Query: {}",
+                    missingColumns, type, ThreadContext.get(SPExecutor.MDC_SQL_QUERY));
+        }
+        return new MappedColumns(columnIndexes, getters);
+    }
+
+    /**
+     * @param index Index of the datamember
+     * @return Index of the column, {@link #BY_LABEL} if the column is read by its label, {@link #MISSING} if it is not in the ResultSet
+     */
+    int getColumnIndex(final int index) {
+        return columnIndexes[index];
+    }
+
+    /**
+     * @param index Index of the datamember
+     * @return Typed getter of the column, null if the column is read with getObject and transformed
+     */
+    JdbcGetter getGetter(final int index) {
+        return getters[index];
+    }
+
+    /**
+     * Converts a value read with getObject to the type of a datamember with the default transformation.
+     *
+     * @param index Index of the datamember
+     * @param value Value of the column, not null
+     * @param field Metadata of the datamember
+     * @return Converted value
+     */
+    Object convert(final int index, final Object value, final MappedField<?> field) {
+        if (value.getClass() != sourceTypes[index]) {
+            converters[index] = Converters.find(value.getClass(), field.getType(), spUserDefineKey, field.getDescription());
+            sourceTypes[index] = value.getClass();
+        }
+        return converters[index].convert(value);
+    }
+
+    /**
+     * @return Number of datamembers
+     */
+    int size() {
+        return columnIndexes.length;
+    }
+
+    /**
+     * Indexes the columns by label, ignoring the case as {@link ResultSet#findColumn(String)}. The first column of a label is kept.
+     */
+    private static Map<String, Integer> indexColumns(final ResultSetMetaData metaData) throws SQLException {
+        Map<String, Integer> columnIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        int columnCount = metaData.getColumnCount();
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            columnIndexes.putIfAbsent(metaData.getColumnLabel(columnIndex), columnIndex);
+        }
+        return columnIndexes;
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.mapper;
+
+import com.americanexpress.span.core.database.handlers.FieldTransformation;
+import com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl;
+import com.americanexpress.span.core.database.handlers.impl.JdbcGetter;
+import com.americanexpress.span.core.database.handlers.impl.OutputHandlerImpl;
+
+/**
+ * MappedField - Metadata of a SPAN {@link com.americanexpress.span.annotation.Field} as written by the generated mappers.
+ * The generated mappers hold one constant per annotated datamember, so nothing is resolved at runtime.
+ *
+ * @param <K> Boxed type of the datamember
+ */
+public final class MappedField<K> {
+
+    private final String name;
+
+    private final String description;
+
+    private final Class<?> type;
+
+    private final Class<K> boxedType;
+
+    private final Class<? extends FieldTransformation> transformationClass;
+
+    private final String defaultValue;
+
+    private final boolean defaultValueParsed;
+
+    private final Object parsedDefaultValue;
+
+    private final JdbcGetter outputGetter;
+
+    @SuppressWarnings("unchecked")
+    private MappedField(final String name, final String fieldName, final Class<?> type,
+                        final Class<? extends FieldTransformation> transformationClass, final String defaultValue) {
+        this.name = name;
+        this.description = type + " " + fieldName;
+        this.type = type;
+        this.boxedType = (Class<K>) box(type);
+        this.transformationClass = transformationClass;
+        this.defaultValue = defaultValue;
+
+        // Same as FieldBinding, the default value is parsed once when the default transformation is used.
+        Object parsedValue = null;
+        boolean parsed = false;
+        if (transformationClass == FieldTransformationImpl.class) {
+            try {
+                parsedValue = new FieldTransformationImpl().transform(defaultValue, type);
+                parsed = true;
+            } catch (RuntimeException e) {
+                parsed = false;
+            }
+        }
+        this.parsedDefaultValue = parsedValue;
+        this.defaultValueParsed = parsed;
+
+        // The output parameter is registered with the SQL type of the datamember, see SPANMapper#register.
+        this.outputGetter = transformationClass == FieldTransformationImpl.class ? JdbcGetter.of(type, OutputHandlerImpl.getSqlType(type)) : null;
+    }
+
+    /**
+     * Creates the metadata of an annotated datamember.
+     *
+     * @param name                name parameter of SPAN annotation @Field
+     * @param fieldName           Name of the datamember
+     * @param type                Type of the datamember
+     * @param transformationClass transformationClass parameter of SPAN annotation @Field
+     * @param defaultValue        default_value parameter of SPAN annotation @Field
+     * @param <K>                 Boxed type of the datamember
+     * @return Metadata of the datamember
+     */
+    public static <K> MappedField<K> of(final String name, final String fieldName, final Class<?> type,
+                                        final Class<? extends FieldTransformation> transformationClass, final String defaultValue) {
+        return new MappedField<>(name, fieldName, type, transformationClass, defaultValue);
+    }
+
+    private static Class<?> box(final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == Integer.TYPE) {
+            return Integer.class;
+        } else if (type == Long.TYPE) {
+            return Long.class;
+        } else if (type == Double.TYPE) {
+            return Double.class;
+        } else if (type == Float.TYPE) {
+            return Float.class;
+        } else if (type == Boolean.TYPE) {
+            return Boolean.class;
+        } else if (type == Short.TYPE) {
+            return Short.class;
+        } else if (type == Byte.TYPE) {
+            return Byte.class;
+        } else if (type == Character.TYPE) {
+            return Character.class;
+        }
+        return Void.class;
+    }
+
+    /**
+     * @return name parameter of SPAN annotation @Field
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Type and name of the datamember, used in logs and exception messages.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return Type of the datamember
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return Boxed type of the datamember
+     */
+    public Class<K> getBoxedType() {
+        return boxedType;
+    }
+
+    /**
+     * @return transformationClass parameter of SPAN annotation @Field
+     */
+    public Class<? extends FieldTransformation> getTransformationClass() {
+        return transformationClass;
+    }
+
+    /**
+     * @return default_value parameter of SPAN annotation @Field
+     */
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * @return true if the default value is already transformed to the type of the datamember.
+     */
+    public boolean isDefaultValueParsed() {
+        return defaultValueParsed;
+    }
+
+    /**
+     * @return Default value transformed to the type of the datamember. Valid only if {@link #isDefaultValueParsed()} is true.
+     */
+    public Object getParsedDefaultValue() {
+        return parsedDefaultValue;
+    }
+
+    /**
+     * @return Typed getter of the output parameter, null if the output parameter is read with getObject and transformed
+     */
+    JdbcGetter getOutputGetter() {
+        return outputGetter;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedField [name=" + name + ", field=" + description + "]";
+    }
+}
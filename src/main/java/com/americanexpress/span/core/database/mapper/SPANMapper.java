@@ -0,0 +1,256 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.mapper;
+
+import com.americanexpress.span.core.database.SPExecutor;
+import com.americanexpress.span.core.database.handlers.InputHandler;
+import com.americanexpress.span.core.database.handlers.OutputHandler;
+import com.americanexpress.span.core.database.handlers.ResultSetHandler;
+import com.americanexpress.span.core.database.handlers.RowHandler;
+import com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl;
+import com.americanexpress.span.core.database.handlers.impl.FieldTransformations;
+import com.americanexpress.span.core.database.handlers.impl.InputHandlerImpl;
+import com.americanexpress.span.core.database.handlers.impl.JdbcGetter;
+import com.americanexpress.span.core.database.handlers.impl.OutputHandlerImpl;
+import com.americanexpress.span.core.database.handlers.impl.ResultSetHandlerImpl;
+import com.americanexpress.span.core.database.metrics.SPANMetricsRegistry;
+import com.americanexpress.span.exceptions.SPANException;
+import com.americanexpress.span.utility.ThreadContext;
+
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SPANMapper - Base class of the mappers generated by the SPAN annotation processor (module span-processor) for the classes
+ * annotated with SPAN annotations. A generated mapper is named {@code <ClassName>SPANMapper} and binds and reads every
+ * field with straight-line code, without reflection.
+ * <p>
+ * The helper methods of this class transform the values and report errors the same way as {@link InputHandlerImpl},
+ * {@link OutputHandlerImpl} and {@link ResultSetHandlerImpl}. Every handler method which is not generated (e.g. a private
+ * datamember without getter or setter) falls back to the reflection based implementation.
+ *
+ * @param <T> Type of the SP Input, SP Output or ResultSet class
+ */
+public abstract class SPANMapper<T> implements InputHandler<T>, OutputHandler<T>, ResultSetHandler<T>, RowHandler<T> {
+
+    private final Class<T> type;
+
+    protected SPANMapper(final Class<T> type) {
+        this.type = type;
+    }
+
+    /**
+     * @return Class mapped by this mapper
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public void processSPInputParameters(final CallableStatement callableStatement, final T inputObject) {
+        new InputHandlerImpl<T>().processSPInputParameters(callableStatement, inputObject);
+    }
+
+    @Override
+    public void registerOutputParameters(final CallableStatement callableStatement, final Class<T> classT) {
+        new OutputHandlerImpl<T>().registerOutputParameters(callableStatement, classT);
+    }
+
+    @Override
+    public T processSPOutputParameters(final CallableStatement callableStatement, final Class<T> clazzT) {
+        return new OutputHandlerImpl<T>().processSPOutputParameters(callableStatement, clazzT);
+    }
+
+    @Override
+    public List<T> processResultSet(final ResultSet resultSet, final Class<T> clazzT) {
+        return new ResultSetHandlerImpl<T>().processResultSet(resultSet, clazzT);
+    }
+
+    @Override
+    public T processRow(final ResultSet resultSet, final Class<T> clazzT) {
+        return new ResultSetHandlerImpl<T>().processRow(resultSet, clazzT);
+    }
+
+    @Override
+    public Function<ResultSet, T> newRowMapper(final ResultSet resultSet, final Class<T> clazzT) {
+        return new ResultSetHandlerImpl<T>().newRowMapper(resultSet, clazzT);
+    }
+
+    /**
+     * Transforms the value of an input datamember and sets it into the Callable Statement.
+     * If the value is null then the default value is used.
+     *
+     * @param callableStatement Callable Statement before SP execution
+     * @param field             Metadata of the datamember
+     * @param value             Value of the datamember
+     */
+    protected void bind(final CallableStatement callableStatement, final MappedField<?> field, final Object value) {
+        try {
+            ThreadContext.set(SPExecutor.MDC_FIELD, field.getDescription());
+            Object fieldValue = value == null ? field.getDefaultValue() : value;
+            callableStatement.setObject(field.getName(), FieldTransformations.get(field.getTransformationClass()).transform(fieldValue, Object.class));
+        } catch (Exception e) {
+            throw new SPANException("Exception while populating CallableStatement from class: " + type
+                    + ". Exception Type: " + e.getClass() + ". Exception Message: " + e.getMessage() + " Query: " + ThreadContext.get(SPExecutor.MDC_SQL_QUERY) + " Field: "
+                    + ThreadContext.get(SPExecutor.MDC_FIELD), e);
+        } finally {
+            ThreadContext.removeKey(SPExecutor.MDC_FIELD);
+        }
+    }
+
+    /**
+     * Registers an output datamember as output parameter of the Callable Statement.
+     *
+     * @param callableStatement Callable Statement before SP execution
+     * @param field             Metadata of the datamember
+     */
+    protected void register(final CallableStatement callableStatement, final MappedField<?> field) {
+        try {
+            callableStatement.registerOutParameter(field.getName(), OutputHandlerImpl.getSqlType(field.getType()));
+        } catch (SQLException sqle) {
+            throw new SPANException("Exception occurred setting OutputParameters. Exception: " + sqle.getMessage(), sqle);
+        }
+    }
+
+    /**
+     * Reads and transforms the value of an output datamember from the Callable Statement.
+     *
+     * @param callableStatement Callable Statement after SP execution
+     * @param field             Metadata of the datamember
+     * @param <K>               Boxed type of the datamember
+     * @return Transformed value
+     */
+    protected <K> K read(final CallableStatement callableStatement, final MappedField<K> field) {
+        try {
+            ThreadContext.set(SPExecutor.MDC_FIELD, field.getDescription());
+            JdbcGetter getter = field.getOutputGetter();
+            if (getter == null) {
+                return transform(callableStatement.getObject(field.getName()), field);
+            }
+            Object fieldValue = getter.get(callableStatement, field.getName());
+            return fieldValue != null ? field.getBoxedType().cast(fieldValue) : transform(null, field);
+        } catch (Exception e) {
+            throw new SPANException("Exception while setting object of class: " + type
+                    + ". Exception Type: " + e.getClass() + ". Exception Message: " + e.getMessage() + " Query: " + ThreadContext.get(SPExecutor.MDC_SQL_QUERY) + " Field: "
+                    + ThreadContext.get(SPExecutor.MDC_FIELD), e);
+        } finally {
+            ThreadContext.removeKey(SPExecutor.MDC_FIELD);
+        }
+    }
+
+    /**
+     * Resolves the columns of the datamembers once per ResultSet, see {@link MappedColumns}.
+     *
+     * @param resultSet ResultSet after SP execution
+     * @param fields    Metadata of the datamembers
+     * @return Resolved columns, read with {@link #read(ResultSet, MappedColumns, int, MappedField)}
+     */
+    protected MappedColumns resolveColumns(final ResultSet resultSet, final MappedField<?>... fields) {
+        try {
+            return MappedColumns.resolve(resultSet, type, fields);
+        } catch (SQLException e) {
+            throw new SPANException("Exception occurred while processing ResultSet. Exception Message: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads and transforms the value of a datamember from the current row of the ResultSet. A datamember whose column is not
+     * in the ResultSet gets its default value.
+     *
+     * @param resultSet ResultSet positioned on a row
+     * @param columns   Columns resolved for the ResultSet
+     * @param index     Index of the datamember in the resolved columns
+     * @param field     Metadata of the datamember
+     * @param <K>       Boxed type of the datamember
+     * @return Transformed value
+     */
+    protected <K> K read(final ResultSet resultSet, final MappedColumns columns, final int index, final MappedField<K> field) {
+        try {
+            ThreadContext.set(SPExecutor.MDC_FIELD, field.getDescription());
+            int columnIndex = columns.getColumnIndex(index);
+            JdbcGetter getter = columns.getGetter(index);
+            if (columnIndex == MappedColumns.MISSING) {
+                return transform(null, field);
+            } else if (getter != null) {
+                Object fieldValue = getter.get(resultSet, columnIndex);
+                return fieldValue != null ? field.getBoxedType().cast(fieldValue) : transform(null, field);
+            }
+            Object fieldValue = columnIndex == MappedColumns.BY_LABEL ? resultSet.getObject(field.getName()) : resultSet.getObject(columnIndex);
+            if (fieldValue != null && field.getTransformationClass() == FieldTransformationImpl.class) {
+                return cast(columns.convert(index, fieldValue, field), field);
+            }
+            return transform(fieldValue, field);
+        } catch (Exception e) {
+            throw new SPANException("Exception while populating ResultSet from class: " + type
+                    + ". Exception Type: " + e.getClass() + ". Exception Message: " + e.getMessage() + " Query: " + ThreadContext.get(SPExecutor.MDC_SQL_QUERY) + " Field: "
+                    + ThreadContext.get(SPExecutor.MDC_FIELD), e);
+        } finally {
+            ThreadContext.removeKey(SPExecutor.MDC_FIELD);
+        }
+    }
+
+    /**
+     * Reads every row of the ResultSet.
+     *
+     * @param resultSet ResultSet after SP execution
+     * @param rowReader Row mapper of the ResultSet, see {@link #newRowMapper(ResultSet, Class)}
+     * @return Objects of the rows
+     */
+    protected List<T> readRows(final ResultSet resultSet, final Function<ResultSet, T> rowReader) {
+        List<T> resultSetList = new ArrayList<>();
+        try {
+            while (resultSet.next()) {
+                resultSetList.add(rowReader.apply(resultSet));
+            }
+        } catch (SQLException e) {
+            throw new SPANException("Exception occurred while processing ResultSet. Exception Message: " + e.getMessage(), e);
+        }
+        return resultSetList;
+    }
+
+    /**
+     * Records the values converted by a generated handler method, the same way as {@link InputHandlerImpl},
+     * {@link OutputHandlerImpl} and {@link ResultSetHandlerImpl}.
+     *
+     * @param values Number of values bound or read
+     */
+    protected void recordConvertedValues(final int values) {
+        if (SPANMetricsRegistry.isEnabled()) {
+            SPANMetricsRegistry.getMetrics().recordConvertedValues(ThreadContext.get(SPExecutor.MDC_SP_KEY), values);
+        }
+    }
+
+    private <K> K transform(final Object fieldValue, final MappedField<K> field) throws ReflectiveOperationException {
+        Object transformedValue;
+        if (fieldValue != null) {
+            transformedValue = FieldTransformations.get(field.getTransformationClass()).transform(fieldValue, field.getType());
+        } else if (field.isDefaultValueParsed()) {
+            transformedValue = field.getParsedDefaultValue();
+        } else {
+            transformedValue = FieldTransformations.get(field.getTransformationClass()).transform(field.getDefaultValue(), field.getType());
+        }
+        return cast(transformedValue, field);
+    }
+
+    private static <K> K cast(final Object transformedValue, final MappedField<K> field) {
+        if (transformedValue == null && field.getType().isPrimitive()) {
+            throw new IllegalArgumentException("Can not set " + field.getDescription() + " to null value");
+        }
+        return field.getBoxedType().cast(transformedValue);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.mapper;
+
+import com.americanexpress.span.core.database.binding.Instantiator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * SPANMappers - Finds the mapper generated by the SPAN annotation processor for a class. The lookup is done once per class.
+ */
+public final class SPANMappers {
+
+    public static final String MAPPER_SUFFIX = "SPANMapper";
+
+    private static final Logger logger = LoggerFactory.getLogger(SPANMappers.class);
+
+    private static final ClassValue<Optional<SPANMapper<?>>> MAPPERS = new ClassValue<Optional<SPANMapper<?>>>() {
+        @Override
+        protected Optional<SPANMapper<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(load(type));
+        }
+    };
+
+    private SPANMappers() {
+    }
+
+    /**
+     * Returns the generated mapper of the given class.
+     *
+     * @param clazz SP Input, SP Output or ResultSet class
+     * @param <T>   Type of the class
+     * @return Generated mapper, null if the class has no generated mapper.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SPANMapper<T> find(final Class<T> clazz) {
+        return (SPANMapper<T>) MAPPERS.get(clazz).orElse(null);
+    }
+
+    /**
+     * Returns the name of the generated mapper of the given class. The mapper is generated in the package of the class,
+     * nested classes are separated by '_' e.g. Outer_InnerSPANMapper.
+     *
+     * @param clazz SP Input, SP Output or ResultSet class
+     * @return Fully qualified name of the mapper
+     */
+    public static String getMapperClassName(final Class<?> clazz) {
+        String className = clazz.getName();
+        int packageEnd = className.lastIndexOf('.');
+        String packagePrefix = packageEnd < 0 ? "" : className.substring(0, packageEnd + 1);
+        return packagePrefix + className.substring(packageEnd + 1).replace('$', '_') + MAPPER_SUFFIX;
+    }
+
+    private static SPANMapper<?> load(final Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getClassLoader() == null) {
+            return null;
+        }
+        String mapperClassName = getMapperClassName(type);
+        try {
+            Class<?> mapperClass = Class.forName(mapperClassName, true, type.getClassLoader());
+            if (!SPANMapper.class.isAssignableFrom(mapperClass)) {
+                logger.warn("Class {} is not a SPANMapper, it is ignored for {}", mapperClassName, type);
+                return null;
+            }
+            SPANMapper<?> mapper = (SPANMapper<?>) Instantiator.of(mapperClass).newInstance();
+            if (mapper.getType() != type) {
+                logger.warn("Mapper {} maps {}, it is ignored for {}", mapperClassName, mapper.getType(), type);
+                return null;
+            }
+            return mapper;
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            logger.warn("Unable to load mapper {}, reflection is used for {}. Exception Message: {}", mapperClassName, type, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * CallStats - Snapshot of the measures of a Stored Procedure or of a SPAN DataSource kept by {@link InMemoryMetrics}.
+ */
+public final class CallStats {
+
+    private final long callCount;
+
+    private final long errorCount;
+
+    private final HistogramSnapshot latency;
+
+    private final Map<Integer, Long> rowsByResultSet;
+
+    private final long convertedValues;
+
+    CallStats(final long callCount, final long errorCount, final HistogramSnapshot latency, final Map<Integer, Long> rowsByResultSet,
+              final long convertedValues) {
+        this.callCount = callCount;
+        this.errorCount = errorCount;
+        this.latency = latency;
+        this.rowsByResultSet = Collections.unmodifiableMap(rowsByResultSet);
+        this.convertedValues = convertedValues;
+    }
+
+    /**
+     * @return Number of calls, including the failed ones
+     */
+    public long getCallCount() {
+        return callCount;
+    }
+
+    /**
+     * @return Number of calls which threw an exception
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * @return Durations of the calls
+     */
+    public HistogramSnapshot getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return Number of rows mapped by ResultSet sequence number, empty for a SPAN DataSource
+     */
+    public Map<Integer, Long> getRowsByResultSet() {
+        return rowsByResultSet;
+    }
+
+    /**
+     * @return Number of values transformed by the handlers, 0 for a SPAN DataSource
+     */
+    public long getConvertedValues() {
+        return convertedValues;
+    }
+
+    @Override
+    public String toString() {
+        return "CallStats [callCount=" + callCount + ", errorCount=" + errorCount + ", latency=" + latency + ", rowsByResultSet="
+                + rowsByResultSet + ", convertedValues=" + convertedValues + "]";
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HistogramSnapshot - Copy of the counts of a {@link LatencyHistogram}.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] bucketCounts;
+
+    private final long count;
+
+    private final long sum;
+
+    private final long max;
+
+    HistogramSnapshot(final long[] bucketCounts, final long count, final long sum, final long max) {
+        this.bucketCounts = bucketCounts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * @return Number of recorded durations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return Highest recorded duration in nanoseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return Mean of the recorded durations in nanoseconds, 0 if there is none
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Gets a percentile of the recorded durations, e.g. 99 for p99.
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Upper bound of the bucket of the percentile in nanoseconds, never more than the highest recorded duration.
+     * 0 if there is no recorded duration.
+     */
+    public long getPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @param percentile Percentile between 0 and 100
+     * @param unit       Unit of the result
+     * @return Percentile converted to the given unit
+     */
+    public long getPercentile(final double percentile, final TimeUnit unit) {
+        return unit.convert(getPercentile(percentile), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot [count=" + count + ", mean=" + getMean() + ", p50=" + getPercentile(50) + ", p99=" + getPercentile(99)
+                + ", max=" + max + "]";
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * InMemoryMetrics - {@link SPANMetrics} keeping, for every Stored Procedure and every SPAN DataSource, the number of calls and
+ * errors, and a {@link LatencyHistogram} of the durations. Stored Procedures also get the rows mapped per ResultSet and the
+ * values transformed by the handlers. All the counters are lock-free.
+ */
+public final class InMemoryMetrics implements SPANMetrics {
+
+    private final Map<String, Counters> procedures = new ConcurrentHashMap<>();
+
+    private final Map<String, Counters> dataSources = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordCall(final String spUserDefineKey, final String spanUserDefineKey, final long durationNanos, final boolean success) {
+        countersOf(procedures, spUserDefineKey).recordCall(durationNanos, success);
+        if (spanUserDefineKey != null) {
+            countersOf(dataSources, spanUserDefineKey).recordCall(durationNanos, success);
+        }
+    }
+
+    @Override
+    public void recordRows(final String spUserDefineKey, final int resultSetSeqNum, final long rows) {
+        Counters counters = countersOf(procedures, spUserDefineKey);
+        LongAdder resultSetRows = counters.rows.get(resultSetSeqNum);
+        if (resultSetRows == null) {
+            resultSetRows = counters.rows.computeIfAbsent(resultSetSeqNum, seqNum -> new LongAdder());
+        }
+        resultSetRows.add(rows);
+    }
+
+    @Override
+    public void recordConvertedValues(final String spUserDefineKey, final long values) {
+        if (spUserDefineKey != null) {
+            countersOf(procedures, spUserDefineKey).convertedValues.add(values);
+        }
+    }
+
+    /**
+     * @param spUserDefineKey Stored Procedure User Defined Key
+     * @return Measures of the Stored Procedure, null if it wasn't called
+     */
+    public CallStats getProcedureStats(final String spUserDefineKey) {
+        Counters counters = procedures.get(spUserDefineKey);
+        return counters != null ? counters.snapshot() : null;
+    }
+
+    /**
+     * @param spanUserDefineKey SPAN User Defined Key
+     * @return Measures of the calls of all the Stored Procedures of the DataSource, null if none was called
+     */
+    public CallStats getDataSourceStats(final String spanUserDefineKey) {
+        Counters counters = dataSources.get(spanUserDefineKey);
+        return counters != null ? counters.snapshot() : null;
+    }
+
+    /**
+     * Clears all the measures.
+     */
+    public void reset() {
+        procedures.clear();
+        dataSources.clear();
+    }
+
+    private static Counters countersOf(final Map<String, Counters> countersMap, final String key) {
+        Counters counters = countersMap.get(key);
+        return counters != null ? counters : countersMap.computeIfAbsent(key, k -> new Counters());
+    }
+
+    private static final class Counters {
+
+        private final LongAdder calls = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final Map<Integer, LongAdder> rows = new ConcurrentHashMap<>();
+
+        private final LongAdder convertedValues = new LongAdder();
+
+        private void recordCall(final long durationNanos, final boolean success) {
+            calls.increment();
+            if (!success) {
+                errors.increment();
+            }
+            latency.record(durationNanos);
+        }
+
+        private CallStats snapshot() {
+            Map<Integer, Long> rowsByResultSet = new TreeMap<>();
+            rows.forEach((seqNum, count) -> rowsByResultSet.put(seqNum, count.sum()));
+            return new CallStats(calls.sum(), errors.sum(), latency.snapshot(), rowsByResultSet, convertedValues.sum());
+        }
+    }
+}
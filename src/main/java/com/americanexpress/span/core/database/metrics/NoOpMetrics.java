@@ -0,0 +1,37 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.metrics;
+
+/**
+ * NoOpMetrics - Default {@link SPANMetrics}, ignores every measure. SPAN skips measuring altogether while it is in use.
+ */
+public final class NoOpMetrics implements SPANMetrics {
+
+    public static final NoOpMetrics INSTANCE = new NoOpMetrics();
+
+    private NoOpMetrics() {
+    }
+
+    @Override
+    public void recordCall(final String spUserDefineKey, final String spanUserDefineKey, final long durationNanos, final boolean success) {
+    }
+
+    @Override
+    public void recordRows(final String spUserDefineKey, final int resultSetSeqNum, final long rows) {
+    }
+
+    @Override
+    public void recordConvertedValues(final String spUserDefineKey, final long values) {
+    }
+}
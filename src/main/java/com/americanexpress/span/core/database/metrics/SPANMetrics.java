@@ -0,0 +1,51 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.metrics;
+
+/**
+ * SPANMetrics - Receives the measures of the Stored Procedure calls. The implementation in use is set with
+ * {@link SPANMetricsRegistry#setMetrics(SPANMetrics)}, {@link NoOpMetrics} by default. {@link InMemoryMetrics} keeps counters
+ * and latency histograms in memory, other implementations can forward the measures to a monitoring system.
+ * <p>
+ * The methods are called by the threads executing the Stored Procedures and should not block.
+ */
+public interface SPANMetrics {
+
+    /**
+     * Records a call of {@link com.americanexpress.span.core.database.SPExecutor#execute(String, Object, Class)}.
+     *
+     * @param spUserDefineKey   Stored Procedure User Defined Key
+     * @param spanUserDefineKey SPAN User Defined Key of the DataSource of the Stored Procedure, null if it cannot be found
+     * @param durationNanos     Duration of the call, from the DataSource lookup to the mapping of the last ResultSet
+     * @param success           false if the call threw an exception
+     */
+    void recordCall(String spUserDefineKey, String spanUserDefineKey, long durationNanos, boolean success);
+
+    /**
+     * Records the rows mapped from a ResultSet.
+     *
+     * @param spUserDefineKey Stored Procedure User Defined Key
+     * @param resultSetSeqNum Sequence number of the ResultSet, starting at 1
+     * @param rows            Number of rows
+     */
+    void recordRows(String spUserDefineKey, int resultSetSeqNum, long rows);
+
+    /**
+     * Records the values transformed by the handlers: input parameters, output parameters or the columns of the ResultSet rows.
+     *
+     * @param spUserDefineKey Stored Procedure User Defined Key, null outside of SPExecutor
+     * @param values          Number of values
+     */
+    void recordConvertedValues(String spUserDefineKey, long values);
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.metrics;
+
+/**
+ * SPANMetricsRegistry - Holds the {@link SPANMetrics} used by SPExecutor and the handlers.
+ */
+public final class SPANMetricsRegistry {
+
+    private static volatile SPANMetrics metrics = NoOpMetrics.INSTANCE;
+
+    private SPANMetricsRegistry() {
+    }
+
+    /**
+     * @return Metrics in use, {@link NoOpMetrics#INSTANCE} by default
+     */
+    public static SPANMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the metrics used by the next calls.
+     *
+     * @param spanMetrics Metrics, null to stop measuring
+     */
+    public static void setMetrics(final SPANMetrics spanMetrics) {
+        metrics = spanMetrics != null ? spanMetrics : NoOpMetrics.INSTANCE;
+    }
+
+    /**
+     * @return false while {@link NoOpMetrics} is in use, the measures are then not taken
+     */
+    public static boolean isEnabled() {
+        return metrics != NoOpMetrics.INSTANCE;
+    }
+}
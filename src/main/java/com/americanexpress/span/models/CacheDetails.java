@@ -0,0 +1,114 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Returns the cache section of a Stored Procedure in sp_details. The results of the Stored Procedure are cached by input values
+ * when the section is present.
+ */
+public class CacheDetails {
+
+    @JsonProperty("ttl")
+    private long ttl; //# in seconds
+
+    @JsonProperty("maxEntries")
+    private int maxEntries = 1000;
+
+    @JsonProperty("maxWeight")
+    private Long maxWeight; //# entry weight is 1 + number of ResultSet rows, no limit by default
+
+    @JsonProperty("eviction")
+    private String eviction = "LRU"; //# LRU or LFU
+
+    @JsonProperty("staleWhileRevalidate")
+    private long staleWhileRevalidate; //# in seconds
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(Long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    public String getEviction() {
+        return eviction;
+    }
+
+    public void setEviction(String eviction) {
+        this.eviction = eviction;
+    }
+
+    public long getStaleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    public void setStaleWhileRevalidate(long staleWhileRevalidate) {
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheDetails [ttl=" + ttl + ", maxEntries=" + maxEntries + ", maxWeight=" + maxWeight + ", eviction=" + eviction
+                + ", staleWhileRevalidate=" + staleWhileRevalidate + "]";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CacheDetails that = (CacheDetails) o;
+
+        return new EqualsBuilder()
+                .append(getTtl(), that.getTtl())
+                .append(getMaxEntries(), that.getMaxEntries())
+                .append(getMaxWeight(), that.getMaxWeight())
+                .append(getEviction(), that.getEviction())
+                .append(getStaleWhileRevalidate(), that.getStaleWhileRevalidate())
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+                .append(getTtl())
+                .append(getMaxEntries())
+                .append(getMaxWeight())
+                .append(getEviction())
+                .append(getStaleWhileRevalidate())
+                .toHashCode();
+    }
+}
@@ -67,6 +67,29 @@ public class DataSourceDetails {
     @JsonProperty("driverClassName")
     private String driverClassName;
 
+    /**
+     * Default statement settings of the Stored Procedures of this DataSource, overridden per Stored Procedure in sp_details.
+     * The driver default is used when not set.
+     */
+    @JsonProperty("fetchSize")
+    private Integer fetchSize;
+
+    @JsonProperty("queryTimeout")
+    private Integer queryTimeout; //# in seconds
+
+    @JsonProperty("maxRows")
+    private Integer maxRows;
+
+    @JsonProperty("fetchDirection")
+    private String fetchDirection; //# FORWARD, REVERSE or UNKNOWN
+
+    /**
+     * A WARN is logged and the PoolAlertListener is called when more threads than this are waiting for a connection of the pool.
+     * No alert when not set.
+     */
+    @JsonProperty("waitersAlertThreshold")
+    private Integer waitersAlertThreshold;
+
      /**
      * The connection properties that will be sent to our JDBC driver when establishing new connections.
      * <strong>NOTE</strong> - The "user" and "password" properties will be passed explicitly, so they do not need to be
@@ -197,6 +220,46 @@ public class DataSourceDetails {
         this.timeBetweenEvictionRunsMillis = timeBetweenEvictionRunsMillis;
     }
 
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(Integer fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public Integer getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    public void setQueryTimeout(Integer queryTimeout) {
+        this.queryTimeout = queryTimeout;
+    }
+
+    public Integer getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(Integer maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    public String getFetchDirection() {
+        return fetchDirection;
+    }
+
+    public void setFetchDirection(String fetchDirection) {
+        this.fetchDirection = fetchDirection;
+    }
+
+    public Integer getWaitersAlertThreshold() {
+        return waitersAlertThreshold;
+    }
+
+    public void setWaitersAlertThreshold(Integer waitersAlertThreshold) {
+        this.waitersAlertThreshold = waitersAlertThreshold;
+    }
+
     /**
      * Adds a custom connection property to the set that will be passed to our JDBC driver. This <strong>MUST</strong>
      * be called before the first connection is retrieved (along with all the other configuration property setters).
@@ -231,6 +294,11 @@ public class DataSourceDetails {
         sb.append(", validationQueryTimeout=").append(validationQueryTimeout);
         sb.append(", timeBetweenEvictionRunsMillis=").append(timeBetweenEvictionRunsMillis);
         sb.append(", driverClassName='").append(driverClassName).append('\'');
+        sb.append(", fetchSize=").append(fetchSize);
+        sb.append(", queryTimeout=").append(queryTimeout);
+        sb.append(", maxRows=").append(maxRows);
+        sb.append(", fetchDirection='").append(fetchDirection).append('\'');
+        sb.append(", waitersAlertThreshold=").append(waitersAlertThreshold);
         sb.append('}');
         return sb.toString();
     }
@@ -0,0 +1,100 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Returns the logging section of a Stored Procedure in sp_details. Without the section every call is logged at DEBUG level.
+ */
+public class LoggingDetails {
+
+    @JsonProperty("level")
+    private String level = "DEBUG"; //# TRACE, DEBUG, INFO, WARN, ERROR or OFF
+
+    @JsonProperty("sampleRate")
+    private int sampleRate = 1; //# logs 1 call in sampleRate
+
+    @JsonProperty("maxPerSecond")
+    private Integer maxPerSecond; //# no limit by default
+
+    @JsonProperty("slowThresholdMillis")
+    private Long slowThresholdMillis; //# slower calls are always logged at WARN level, off by default
+
+    public String getLevel() {
+        return level;
+    }
+
+    public void setLevel(String level) {
+        this.level = level;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public Integer getMaxPerSecond() {
+        return maxPerSecond;
+    }
+
+    public void setMaxPerSecond(Integer maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public Long getSlowThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    public void setSlowThresholdMillis(Long slowThresholdMillis) {
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "LoggingDetails [level=" + level + ", sampleRate=" + sampleRate + ", maxPerSecond=" + maxPerSecond
+                + ", slowThresholdMillis=" + slowThresholdMillis + "]";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LoggingDetails that = (LoggingDetails) o;
+
+        return new EqualsBuilder()
+                .append(getLevel(), that.getLevel())
+                .append(getSampleRate(), that.getSampleRate())
+                .append(getMaxPerSecond(), that.getMaxPerSecond())
+                .append(getSlowThresholdMillis(), that.getSlowThresholdMillis())
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+                .append(getLevel())
+                .append(getSampleRate())
+                .append(getMaxPerSecond())
+                .append(getSlowThresholdMillis())
+                .toHashCode();
+    }
+}
@@ -28,6 +28,39 @@ public class SPUserDefineKey {
     @JsonProperty("procedure")
     private String procedure;
 
+    /**
+     * Statement settings of the Stored Procedure. The default of the DataSource is used when not set.
+     */
+    @JsonProperty("fetchSize")
+    private Integer fetchSize;
+
+    @JsonProperty("queryTimeout")
+    private Integer queryTimeout; //# in seconds
+
+    @JsonProperty("maxRows")
+    private Integer maxRows;
+
+    @JsonProperty("fetchDirection")
+    private String fetchDirection; //# FORWARD, REVERSE or UNKNOWN
+
+    /**
+     * Result cache of the Stored Procedure, no cache when not set.
+     */
+    @JsonProperty("cache")
+    private CacheDetails cache;
+
+    /**
+     * Concurrent calls with equal input values execute the Stored Procedure once when set.
+     */
+    @JsonProperty("coalesce")
+    private boolean coalesce;
+
+    /**
+     * Execution log of the Stored Procedure, every call is logged at DEBUG level when not set.
+     */
+    @JsonProperty("logging")
+    private LoggingDetails logging;
+
     public String getSchema() {
         return schema;
     }
@@ -44,9 +77,66 @@ public class SPUserDefineKey {
         this.procedure = procedure;
     }
 
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(Integer fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public Integer getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    public void setQueryTimeout(Integer queryTimeout) {
+        this.queryTimeout = queryTimeout;
+    }
+
+    public Integer getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(Integer maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    public String getFetchDirection() {
+        return fetchDirection;
+    }
+
+    public void setFetchDirection(String fetchDirection) {
+        this.fetchDirection = fetchDirection;
+    }
+
+    public CacheDetails getCache() {
+        return cache;
+    }
+
+    public void setCache(CacheDetails cache) {
+        this.cache = cache;
+    }
+
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    public void setCoalesce(boolean coalesce) {
+        this.coalesce = coalesce;
+    }
+
+    public LoggingDetails getLogging() {
+        return logging;
+    }
+
+    public void setLogging(LoggingDetails logging) {
+        this.logging = logging;
+    }
+
     @Override
     public String toString() {
-        return "SPUserDefineKey [schema=" + schema + ", procedure=" + procedure + "]";
+        return "SPUserDefineKey [schema=" + schema + ", procedure=" + procedure + ", fetchSize=" + fetchSize
+                + ", queryTimeout=" + queryTimeout + ", maxRows=" + maxRows + ", fetchDirection=" + fetchDirection + ", cache=" + cache + ", coalesce=" + coalesce + ", logging=" + logging + "]";
     }
 
     @Override
@@ -60,6 +150,13 @@ public class SPUserDefineKey {
         return new EqualsBuilder()
                 .append(getSchema(), that.getSchema())
                 .append(getProcedure(), that.getProcedure())
+                .append(getFetchSize(), that.getFetchSize())
+                .append(getQueryTimeout(), that.getQueryTimeout())
+                .append(getMaxRows(), that.getMaxRows())
+                .append(getFetchDirection(), that.getFetchDirection())
+                .append(getCache(), that.getCache())
+                .append(isCoalesce(), that.isCoalesce())
+                .append(getLogging(), that.getLogging())
                 .isEquals();
     }
 
@@ -68,6 +165,13 @@ public class SPUserDefineKey {
         return new HashCodeBuilder(17, 37)
                 .append(getSchema())
                 .append(getProcedure())
+                .append(getFetchSize())
+                .append(getQueryTimeout())
+                .append(getMaxRows())
+                .append(getFetchDirection())
+                .append(getCache())
+                .append(isCoalesce())
+                .append(getLogging())
                 .toHashCode();
     }
 }
@@ -18,28 +18,87 @@ import java.util.Map;
 
 /**
  * This class holding key value pair for the current Thread.
+ * <p>
+ * The keys set for every field and every call ({@link #MDC_SQL_QUERY}, {@link #MDC_FIELD} and {@link #MDC_SP_KEY}) have a
+ * fixed slot, so setting and removing them is an array store. Other keys are kept in a map created on first use.
  */
 public class ThreadContext {
 
+    public static final String MDC_SQL_QUERY = "SQL_Query";
+    public static final String MDC_FIELD = "Field";
+    public static final String MDC_SP_KEY = "SPAN-SP-KEY";
+
+    private static final int SQL_QUERY_SLOT = 0;
+    private static final int FIELD_SLOT = 1;
+    private static final int SP_KEY_SLOT = 2;
+    private static final int NO_SLOT = -1;
+
     private ThreadContext () {}
 
-    private static ThreadLocal<Map<String, String>> contextThreadLocal = ThreadLocal.withInitial(HashMap::new);
+    private static ThreadLocal<Context> contextThreadLocal = ThreadLocal.withInitial(Context::new);
 
 
     public static void set(String key, String value) {
-        contextThreadLocal.get().put(key, value);
+        Context context = contextThreadLocal.get();
+        int slot = slot(key);
+        if (slot != NO_SLOT) {
+            context.slots[slot] = value;
+        } else {
+            context.others().put(key, value);
+        }
     }
 
     public static String get(String key) {
-        return contextThreadLocal.get().get(key);
+        Context context = contextThreadLocal.get();
+        int slot = slot(key);
+        if (slot != NO_SLOT) {
+            return context.slots[slot];
+        }
+        return context.others == null ? null : context.others.get(key);
     }
 
     public static void removeKey(String key) {
-        contextThreadLocal.get().remove(key);
+        Context context = contextThreadLocal.get();
+        int slot = slot(key);
+        if (slot != NO_SLOT) {
+            context.slots[slot] = null;
+        } else if (context.others != null) {
+            context.others.remove(key);
+        }
     }
 
     public static void remove() {
         contextThreadLocal.remove();
     }
 
+    private static int slot(final String key) {
+        if (key == null) {
+            return NO_SLOT;
+        }
+        switch (key) {
+            case MDC_SQL_QUERY:
+                return SQL_QUERY_SLOT;
+            case MDC_FIELD:
+                return FIELD_SLOT;
+            case MDC_SP_KEY:
+                return SP_KEY_SLOT;
+            default:
+                return NO_SLOT;
+        }
+    }
+
+    private static final class Context {
+
+        private final String[] slots = new String[3];
+
+        private Map<String, String> others;
+
+        private Map<String, String> others() {
+            if (others == null) {
+                others = new HashMap<>();
+            }
+            return others;
+        }
+    }
+
 }
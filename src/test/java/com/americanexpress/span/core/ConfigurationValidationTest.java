@@ -176,4 +176,80 @@ public class ConfigurationValidationTest {
         });
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void testInvalidFetchDirection() throws Exception {
+        resetHoldSPANConfigForTesting();
+        try {
+            SPANInitialization.initialize(new PropertyConfiguration() {
+                public String getSPANConfigFileName(){
+                    return "InvalidFetchDirectionConfig.yaml";
+                }
+            });
+            Assert.fail("ConfigurationSPANException expected");
+        } catch (ConfigurationSPANException e) {
+            Assert.assertEquals("'fetchDirection' value should be FORWARD, REVERSE or UNKNOWN for PROC_ID_4", e.getMessage());
+        }
+    }
+
+
+    @Test
+    public void testNegativeQueryTimeout() throws Exception {
+        resetHoldSPANConfigForTesting();
+        try {
+            SPANInitialization.initialize(new PropertyConfiguration() {
+                public String getSPANConfigFileName(){
+                    return "NegativeQueryTimeoutConfig.yaml";
+                }
+            });
+            Assert.fail("ConfigurationSPANException expected");
+        } catch (ConfigurationSPANException e) {
+            Assert.assertEquals("'queryTimeout' value cannot be negative for SPAN-DB_ID_2", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidCacheEviction() throws Exception {
+        resetHoldSPANConfigForTesting();
+        try {
+            SPANInitialization.initialize(new PropertyConfiguration() {
+                public String getSPANConfigFileName(){
+                    return "InvalidCacheEvictionConfig.yaml";
+                }
+            });
+            Assert.fail("ConfigurationSPANException expected");
+        } catch (ConfigurationSPANException e) {
+            Assert.assertEquals("'cache.eviction' value should be LRU or LFU for PROC_ID_1", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidLoggingLevel() throws Exception {
+        resetHoldSPANConfigForTesting();
+        try {
+            SPANInitialization.initialize(new PropertyConfiguration() {
+                public String getSPANConfigFileName(){
+                    return "InvalidLoggingLevelConfig.yaml";
+                }
+            });
+            Assert.fail("ConfigurationSPANException expected");
+        } catch (ConfigurationSPANException e) {
+            Assert.assertEquals("'logging.level' value should be TRACE, DEBUG, INFO, WARN, ERROR or OFF for PROC_ID_1", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidWaitersAlertThreshold() throws Exception {
+        resetHoldSPANConfigForTesting();
+        try {
+            SPANInitialization.initialize(new PropertyConfiguration() {
+                public String getSPANConfigFileName(){
+                    return "InvalidWaitersAlertThresholdConfig.yaml";
+                }
+            });
+            Assert.fail("ConfigurationSPANException expected");
+        } catch (ConfigurationSPANException e) {
+            Assert.assertEquals("'waitersAlertThreshold' value should be greater than 0 for SPAN-DB_ID_2", e.getMessage());
+        }
+    }
+}
@@ -13,15 +13,21 @@
  */
 package com.americanexpress.span.core;
 
+import com.americanexpress.span.exceptions.SPANException;
 import com.americanexpress.span.models.DataSourceDetails;
 import com.americanexpress.span.models.SPANConfig;
 import com.americanexpress.span.models.SPANUserDefineKeyDetails;
 import com.americanexpress.span.models.SPUserDefineKey;
 import com.americanexpress.span.utility.PropertyConfiguration;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.junit.Test;
 
+import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.junit.Assert.*;
 
@@ -124,6 +130,64 @@ public class SPANConfigHolderTest {
 
     }
 
+    @Test
+    public void testGetSPDefinition() throws Exception {
+        resetHoldSPANConfigForTesting();
+        SPANInitialization.initialize(new PropertyConfiguration() {
+            public String getSPANConfigFileName(){
+                return "SPANConfig.yaml";
+           }
+        });
+
+        SPDefinition spDefinition = SPANConfigHolder.getInstance().getSPDefinition("PROC_ID_4");
+
+        assertEquals("PROC_ID_4", spDefinition.getSpUserDefinedKey());
+        assertEquals("SPAN-DB_ID_1", spDefinition.getSpanUserDefinedKey());
+        assertEquals("DB1", spDefinition.getDataSourceDetails().getDatabase());
+        assertEquals("SCHEMA_ID.PROC_NAME_1", spDefinition.getQualifiedName());
+        assertEquals("{call SCHEMA_ID.PROC_NAME_1()}", spDefinition.getCallStatement(0));
+        assertEquals("{call SCHEMA_ID.PROC_NAME_1(?,?,?)}", spDefinition.getCallStatement(3));
+        // The statement is built once per number of parameters
+        assertSame(spDefinition.getCallStatement(3), spDefinition.getCallStatement(3));
+        assertSame(spDefinition.getSPUserDefineKey(), SPANConfigHolder.getInstance().getSPUserDefinedKey("PROC_ID_4"));
+    }
+
+    @Test
+    public void testGetSPDefinitionUnknownKey() throws Exception {
+        resetHoldSPANConfigForTesting();
+        SPANInitialization.initialize(new PropertyConfiguration() {
+            public String getSPANConfigFileName(){
+                return "SPANConfig.yaml";
+           }
+        });
+
+        try {
+            SPANConfigHolder.getInstance().getSPDefinition("UNKNOWN-KEY");
+            fail("SPANException expected");
+        } catch (SPANException e) {
+            assertEquals("Unable to find SP User Defined Key: UNKNOWN-KEY", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDuplicateSPUserDefinedKey() throws Exception {
+        resetHoldSPANConfigForTesting();
+        SPANConfig spanConfig;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("DuplicateSPUserKeyUnderDiffSPANKeyConfig.yaml")) {
+            spanConfig = new ObjectMapper(new YAMLFactory()).enable(DeserializationFeature.UNWRAP_ROOT_VALUE).readValue(inputStream, SPANConfig.class);
+        }
+        // Set without the validation of SPANInitialization, which rejects the duplicate
+        SPANConfigHolder.getInstance().setSPANConfig(spanConfig, new Properties());
+
+        assertEquals("SPAN-DB_ID_2", SPANConfigHolder.getInstance().getSPANUserDefinedKey("PROC_ID_1"));
+        try {
+            SPANConfigHolder.getInstance().getSPANUserDefinedKey("PROC_ID_3");
+            fail("SPANException expected");
+        } catch (SPANException e) {
+            assertEquals("More than one SPAN UserDefined keys found for Stored Procedure User Defined Key: PROC_ID_3", e.getMessage());
+        }
+    }
+
     public static void resetHoldSPANConfigForTesting() throws ClassNotFoundException, IllegalAccessException, NoSuchFieldException {
         Field field = Class.forName("com.americanexpress.span.core.SPANConfigHolder$HoldSPANConfig").getDeclaredField("holdSPANConfig");
         field.setAccessible(true);
@@ -13,16 +13,40 @@
  */
 package com.americanexpress.span.core;
 
+import com.americanexpress.span.core.database.connection.SPANDataSource;
+import com.americanexpress.span.core.database.connection.SPANExecutors;
+import com.americanexpress.span.core.database.connection.SPRegistration;
 import com.americanexpress.span.exceptions.ConfigurationSPANException;
 import com.americanexpress.span.exceptions.SPANException;
 import com.americanexpress.span.models.SPANConfig;
+import com.americanexpress.span.models.SPANUserDefineKeyDetails;
+import com.americanexpress.span.models.SPUserDefineKey;
 import com.americanexpress.span.utility.PropertyConfiguration;
+import org.apache.commons.dbcp2.BasicDataSource;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.EnvironmentVariables;
+import org.junit.rules.TemporaryFolder;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class SPANInitializationTest {
 
@@ -30,6 +54,9 @@ public class SPANInitializationTest {
     @Rule
     public final EnvironmentVariables environmentVariables = new EnvironmentVariables();
 
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void testInitializeSPANConfig() throws Exception {
         SPANConfigHolderTest.resetHoldSPANConfigForTesting();
@@ -204,4 +231,164 @@ public class SPANInitializationTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testReloadKeepsUnchangedDataSource() throws Exception {
+        File configFile = initializeReloadConfig(8);
+        DataSource dataSource = SPANDataSource.getInstance().getDataSource("RELOAD-KEY");
+        assertNull(SPANDataSource.getInstance().getDataSource("RELOAD-KEY-2"));
+
+        writeReloadConfig(configFile, 8, "        RELOAD-KEY-2:\n          schema: \"RELOAD\"\n          procedure: \"PROC_2\"\n");
+        SPANInitialization.reload();
+
+        assertSame(dataSource, SPANDataSource.getInstance().getDataSource("RELOAD-KEY"));
+        assertSame(dataSource, SPANDataSource.getInstance().getDataSource("RELOAD-KEY-2"));
+        assertEquals("PROC_2", SPANConfigHolder.getInstance().getSPDefinition("RELOAD-KEY-2").getSPUserDefineKey().getProcedure());
+        assertFalse(((BasicDataSource) dataSource).isClosed());
+    }
+
+    @Test
+    public void testReloadDrainsChangedDataSource() throws Exception {
+        File configFile = initializeReloadConfig(8);
+        BasicDataSource dataSource = (BasicDataSource) SPANDataSource.getInstance().getDataSource("RELOAD-KEY");
+
+        try (Connection connection = dataSource.getConnection()) {
+            writeReloadConfig(configFile, 4, "");
+            SPANInitialization.reload();
+
+            BasicDataSource reloaded = (BasicDataSource) SPANDataSource.getInstance().getDataSource("RELOAD-KEY");
+            assertNotSame(dataSource, reloaded);
+            assertEquals(4, reloaded.getMaxTotal());
+            // The call in flight keeps its Connection
+            Thread.sleep(500);
+            assertFalse(dataSource.isClosed());
+            assertFalse(connection.isClosed());
+        }
+        waitFor(dataSource::isClosed);
+    }
+
+    @Test
+    public void testReloadDrainsAfterCallsInFlight() throws Exception {
+        File configFile = initializeReloadConfig(8);
+        SPRegistration registration = SPANDataSource.getInstance().resolve("RELOAD-KEY");
+        BasicDataSource dataSource = (BasicDataSource) registration.getDataSource();
+
+        // The call resolved the DataSource before the reload and has not borrowed its Connection yet
+        assertTrue(registration.beginCall());
+        try {
+            writeReloadConfig(configFile, 4, "");
+            SPANInitialization.reload();
+
+            assertNotSame(dataSource, SPANDataSource.getInstance().getDataSource("RELOAD-KEY"));
+            // A call which resolved the DataSource before the reload but starts after it resolves again
+            assertFalse(registration.beginCall());
+            Thread.sleep(500);
+            assertFalse(dataSource.isClosed());
+            dataSource.getConnection().close();
+        } finally {
+            registration.endCall();
+        }
+        waitFor(dataSource::isClosed);
+    }
+
+    @Test
+    public void testKeyAddedByReloadIsUnknownUntilRegistryIsSwapped() throws Exception {
+        initializeReloadConfig(8);
+        SPANConfig current = SPANConfigHolder.getInstance().getSPANConfig();
+        SPANUserDefineKeyDetails spanUserDefineKeyDetails = current.getSpanUserDefineKeys().get("SPAN-RELOAD");
+        Map<String, SPUserDefineKey> spUserDefineKeys = new HashMap<>(spanUserDefineKeyDetails.getSpUserDefineKeys());
+        SPUserDefineKey added = new SPUserDefineKey();
+        added.setSchema("RELOAD");
+        added.setProcedure("PROC_2");
+        spUserDefineKeys.put("RELOAD-KEY-2", added);
+        SPANUserDefineKeyDetails details = new SPANUserDefineKeyDetails();
+        details.setDataSourceDetails(spanUserDefineKeyDetails.getDataSourceDetails());
+        details.setSpUserDefineKeys(spUserDefineKeys);
+        SPANConfig spanConfig = new SPANConfig();
+        spanConfig.setSpanUserDefineKeys(Collections.singletonMap("SPAN-RELOAD", details));
+        SPANDataSource.getInstance();
+
+        SPANConfigHolder.getInstance().replaceSPANConfig(spanConfig, new Properties(), () -> {
+            // The new configuration is set but the registry is not rebuilt yet: the calls fail cleanly
+            assertNotNull(SPANConfigHolder.getInstance().getSPDefinition("RELOAD-KEY-2"));
+            try {
+                SPANExecutors.getExecutor("RELOAD-KEY-2");
+                fail("The key is not registered yet");
+            } catch (SPANException e) {
+                assertEquals("Unable to find DataSource for Stored Procedure User Defined Key: RELOAD-KEY-2", e.getMessage());
+            }
+            SPANDataSource.reload();
+        });
+
+        assertNotNull(SPANExecutors.getExecutor("RELOAD-KEY-2"));
+        SPANExecutors.removeExecutor("SPAN-RELOAD");
+    }
+
+    @Test
+    public void testReloadInvalidSPANConfigKeepsCurrent() throws Exception {
+        File configFile = initializeReloadConfig(8);
+        DataSource dataSource = SPANDataSource.getInstance().getDataSource("RELOAD-KEY");
+        Files.write(configFile.toPath(), ("SPANConfig:\n  SPANDatabaseConfig:\n    SPAN-RELOAD:\n      datasource_details:\n"
+                + "        user: \"SA\"\n      sp_details:\n        RELOAD-KEY:\n          schema: \"RELOAD\"\n"
+                + "          procedure: \"PROC_1\"\n").getBytes(StandardCharsets.UTF_8));
+
+        try {
+            SPANInitialization.reload();
+            fail("The invalid configuration must be rejected");
+        } catch (ConfigurationSPANException e) {
+            assertSame(dataSource, SPANDataSource.getInstance().getDataSource("RELOAD-KEY"));
+            assertEquals(8, SPANConfigHolder.getInstance().getDataSourceDetails("RELOAD-KEY").getMaxActive());
+        }
+    }
+
+    @Test
+    public void testWatchReloadsModifiedFile() throws Exception {
+        File configFile = initializeReloadConfig(8);
+        SPANDataSource.getInstance();
+
+        try (SPANConfigWatcher ignored = SPANInitialization.watch()) {
+            writeReloadConfig(configFile, 8, "        RELOAD-KEY-2:\n          schema: \"RELOAD\"\n          procedure: \"PROC_2\"\n");
+            waitFor(() -> SPANDataSource.getInstance().getDataSource("RELOAD-KEY-2") != null);
+        }
+        assertNotNull(SPANConfigHolder.getInstance().getSPDefinition("RELOAD-KEY-2"));
+    }
+
+    private File initializeReloadConfig(int maxActive) throws Exception {
+        SPANConfigHolderTest.resetHoldSPANConfigForTesting();
+        File configFile = temporaryFolder.newFile("SPANConfig-reload.yaml");
+        writeReloadConfig(configFile, maxActive, "");
+        SPANInitialization.initialize(new PropertyConfiguration() {
+            public String getSPANConfigFileName() {
+                return configFile.getAbsolutePath();
+            }
+        });
+        return configFile;
+    }
+
+    private static void writeReloadConfig(File configFile, int maxActive, String spDetails) throws Exception {
+        String yaml = "SPANConfig:\n"
+                + "  SPANDatabaseConfig:\n"
+                + "    SPAN-RELOAD:\n"
+                + "      datasource_details:\n"
+                + "        driverClassName: \"org.hsqldb.jdbc.JDBCDriver\"\n"
+                + "        url: \"jdbc:hsqldb:mem:reloadtest;sql.syntax_db2=true\"\n"
+                + "        user: \"SA\"\n"
+                + "        password: \"none\"\n"
+                + "        maxActive: " + maxActive + "\n"
+                + "      sp_details:\n"
+                + "        RELOAD-KEY:\n"
+                + "          schema: \"RELOAD\"\n"
+                + "          procedure: \"PROC_1\"\n"
+                + spDetails;
+        Files.write(configFile.toPath(), yaml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within 10 seconds");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import com.americanexpress.span.models.LoggingDetails;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutionLogTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testDefaultLogsEveryCallAtDebug() {
+        ExecutionLog executionLog = new ExecutionLog(null, clock::get);
+        assertEquals(ExecutionLog.Level.DEBUG, executionLog.getLevel());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(executionLog.isSampled());
+        }
+    }
+
+    @Test
+    public void testSampleRate() {
+        LoggingDetails loggingDetails = new LoggingDetails();
+        loggingDetails.setLevel("info");
+        loggingDetails.setSampleRate(3);
+        ExecutionLog executionLog = new ExecutionLog(loggingDetails, clock::get);
+
+        assertEquals(ExecutionLog.Level.INFO, executionLog.getLevel());
+        assertTrue(executionLog.isSampled());
+        assertFalse(executionLog.isSampled());
+        assertFalse(executionLog.isSampled());
+        assertTrue(executionLog.isSampled());
+    }
+
+    @Test
+    public void testMaxPerSecond() {
+        LoggingDetails loggingDetails = new LoggingDetails();
+        loggingDetails.setMaxPerSecond(2);
+        ExecutionLog executionLog = new ExecutionLog(loggingDetails, clock::get);
+
+        assertTrue(executionLog.isSampled());
+        assertTrue(executionLog.isSampled());
+        assertFalse(executionLog.isSampled());
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertFalse(executionLog.isSampled());
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertTrue(executionLog.isSampled());
+        assertTrue(executionLog.isSampled());
+        assertFalse(executionLog.isSampled());
+    }
+
+    @Test
+    public void testFailedCallIsSampled() {
+        LoggingDetails loggingDetails = new LoggingDetails();
+        loggingDetails.setSampleRate(2);
+        ExecutionLog executionLog = new ExecutionLog(loggingDetails, clock::get);
+
+        executionLog.completed(executionLog.start(), "{call sp()}", 0, new SQLException("Connection is not available"));
+        assertFalse(executionLog.isSampled());
+        assertTrue(executionLog.isSampled());
+    }
+
+    @Test
+    public void testSlowCallIsNotSampled() {
+        LoggingDetails loggingDetails = new LoggingDetails();
+        loggingDetails.setSampleRate(2);
+        loggingDetails.setSlowThresholdMillis(100L);
+        ExecutionLog executionLog = new ExecutionLog(loggingDetails, clock::get);
+
+        long startTime = executionLog.start();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        executionLog.completed(startTime, "{call sp()}", 0, new SQLException("Connection is not available"));
+        assertTrue(executionLog.isSampled());
+    }
+
+    @Test
+    public void testIsValidLevel() {
+        assertTrue(ExecutionLog.isValidLevel("TRACE"));
+        assertTrue(ExecutionLog.isValidLevel(" warn "));
+        assertTrue(ExecutionLog.isValidLevel("OFF"));
+        assertFalse(ExecutionLog.isValidLevel("FATAL"));
+        assertFalse(ExecutionLog.isValidLevel(null));
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import com.americanexpress.span.core.database.ExecutionStats.Phase;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutionStatsTest {
+
+    @After
+    public void tearDown() {
+        ExecutionListeners.clear();
+    }
+
+    @Test
+    public void testPhases() {
+        List<String> events = new ArrayList<>();
+        ExecutionListener listener = new ExecutionListener() {
+            @Override
+            public void onStart(final ExecutionStats stats) {
+                events.add("start " + stats.getSpUserDefineKey());
+            }
+
+            @Override
+            public void onPhaseStart(final ExecutionStats stats, final Phase phase) {
+                events.add("begin " + phase);
+            }
+
+            @Override
+            public void onPhaseEnd(final ExecutionStats stats, final Phase phase, final long durationNanos) {
+                events.add("end " + phase);
+            }
+
+            @Override
+            public void onEnd(final ExecutionStats stats) {
+                events.add("end " + stats.getException());
+            }
+        };
+        ExecutionStats stats = new ExecutionStats();
+        assertFalse(stats.isExecuted());
+
+        stats.start("SP-1", new ExecutionListener[]{listener});
+        stats.end(Phase.EXECUTE, stats.begin(Phase.EXECUTE));
+        stats.end(Phase.RESULT_SET_MAPPING, stats.begin(Phase.RESULT_SET_MAPPING));
+        stats.end(Phase.EXECUTE, stats.begin(Phase.EXECUTE));
+        stats.end(Phase.RESULT_SET_MAPPING, stats.begin(Phase.RESULT_SET_MAPPING));
+        SQLException exception = new SQLException("Failed");
+        stats.finish(1_000_000_000L, exception);
+
+        assertEquals(Arrays.asList("start SP-1", "begin EXECUTE", "end EXECUTE", "begin RESULT_SET_MAPPING", "end RESULT_SET_MAPPING",
+                "begin EXECUTE", "end EXECUTE", "begin RESULT_SET_MAPPING", "end RESULT_SET_MAPPING", "end " + exception), events);
+        assertTrue(stats.isExecuted());
+        assertEquals(2, stats.getResultSetDurations().size());
+        assertEquals(stats.getResultSetDurations().get(0) + stats.getResultSetDurations().get(1), stats.getDuration(Phase.RESULT_SET_MAPPING));
+        assertEquals(0, stats.getDuration(Phase.CONNECTION_ACQUIRE));
+        assertEquals(1000, stats.getTotalDuration() / 1_000_000);
+        assertSame(exception, stats.getException());
+
+        // The stats are reset by the next call
+        stats.start("SP-2", new ExecutionListener[0]);
+        assertEquals("SP-2", stats.getSpUserDefineKey());
+        assertTrue(stats.getResultSetDurations().isEmpty());
+        assertEquals(0, stats.getDuration(Phase.EXECUTE));
+        assertNull(stats.getException());
+    }
+
+    @Test
+    public void testListenerException() {
+        ExecutionListener failing = new ExecutionListener() {
+            @Override
+            public void onPhaseStart(final ExecutionStats stats, final Phase phase) {
+                throw new IllegalStateException("Tracer failed");
+            }
+        };
+        ExecutionStats stats = new ExecutionStats();
+        stats.start("SP-1", new ExecutionListener[]{failing});
+        stats.end(Phase.PREPARE_CALL, stats.begin(Phase.PREPARE_CALL));
+        stats.finish(10, null);
+        assertNull(stats.getException());
+    }
+
+    @Test
+    public void testListeners() {
+        ExecutionListener first = new ExecutionListener() {
+        };
+        ExecutionListener second = new ExecutionListener() {
+        };
+        assertEquals(0, ExecutionListeners.getListeners().length);
+        ExecutionListeners.addListener(first);
+        ExecutionListeners.addListener(second);
+        assertArrayEquals(new ExecutionListener[]{first, second}, ExecutionListeners.getListeners());
+        assertTrue(ExecutionListeners.removeListener(first));
+        assertFalse(ExecutionListeners.removeListener(first));
+        assertArrayEquals(new ExecutionListener[]{second}, ExecutionListeners.getListeners());
+    }
+}
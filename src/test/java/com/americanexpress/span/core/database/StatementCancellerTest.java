@@ -0,0 +1,77 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatementCancellerTest {
+
+    @Mock
+    private CallableStatement callableStatement;
+
+    @Test
+    public void testCancelRegisteredStatement() throws SQLException {
+        StatementCanceller canceller = new StatementCanceller();
+        canceller.register(callableStatement);
+
+        canceller.cancel();
+
+        assertTrue(canceller.isCancelled());
+        verify(callableStatement).cancel();
+    }
+
+    @Test
+    public void testRegisterAfterCancel() throws SQLException {
+        StatementCanceller canceller = new StatementCanceller();
+        canceller.cancel();
+
+        canceller.register(callableStatement);
+
+        verify(callableStatement).cancel();
+    }
+
+    @Test
+    public void testCancelUnregisteredStatement() throws SQLException {
+        StatementCanceller canceller = new StatementCanceller();
+        canceller.register(callableStatement);
+        canceller.unregister();
+
+        canceller.cancel();
+
+        verify(callableStatement, never()).cancel();
+    }
+
+    @Test
+    public void testCancelFailure() throws SQLException {
+        doThrow(new SQLException("closed")).when(callableStatement).cancel();
+        StatementCanceller canceller = new StatementCanceller();
+        canceller.register(callableStatement);
+
+        canceller.cancel();
+
+        assertTrue(canceller.isCancelled());
+    }
+}
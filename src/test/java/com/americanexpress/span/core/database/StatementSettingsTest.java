@@ -0,0 +1,80 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database;
+
+import com.americanexpress.span.models.DataSourceDetails;
+import com.americanexpress.span.models.SPUserDefineKey;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatementSettingsTest {
+
+    @Mock
+    private CallableStatement callableStatement;
+
+    @Test
+    public void testSPDetailsOverrideDataSourceDetails() {
+        DataSourceDetails dataSourceDetails = new DataSourceDetails();
+        dataSourceDetails.setFetchSize(500);
+        dataSourceDetails.setQueryTimeout(60);
+        SPUserDefineKey spUserDefineKey = new SPUserDefineKey();
+        spUserDefineKey.setQueryTimeout(5);
+        spUserDefineKey.setFetchDirection("reverse");
+
+        StatementSettings statementSettings = StatementSettings.of(spUserDefineKey, dataSourceDetails);
+
+        assertEquals(Integer.valueOf(500), statementSettings.getFetchSize());
+        assertEquals(Integer.valueOf(5), statementSettings.getQueryTimeout());
+        assertNull(statementSettings.getMaxRows());
+        assertEquals(Integer.valueOf(ResultSet.FETCH_REVERSE), statementSettings.getFetchDirection());
+    }
+
+    @Test
+    public void testApply() throws SQLException {
+        SPUserDefineKey spUserDefineKey = new SPUserDefineKey();
+        spUserDefineKey.setFetchSize(1000);
+        spUserDefineKey.setMaxRows(10);
+
+        StatementSettings.of(spUserDefineKey, new DataSourceDetails()).apply(callableStatement);
+
+        verify(callableStatement).setFetchSize(1000);
+        verify(callableStatement).setMaxRows(10);
+        // Driver defaults are kept for the settings which are not set
+        verify(callableStatement, never()).setQueryTimeout(anyInt());
+        verify(callableStatement, never()).setFetchDirection(anyInt());
+    }
+
+    @Test
+    public void testIsValidFetchDirection() {
+        assertTrue(StatementSettings.isValidFetchDirection(null));
+        assertTrue(StatementSettings.isValidFetchDirection("FORWARD"));
+        assertTrue(StatementSettings.isValidFetchDirection("Unknown"));
+        assertFalse(StatementSettings.isValidFetchDirection("SIDEWAYS"));
+    }
+}
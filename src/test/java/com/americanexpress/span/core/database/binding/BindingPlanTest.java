@@ -0,0 +1,162 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.binding;
+
+import com.americanexpress.span.annotation.Field;
+import com.americanexpress.span.annotation.ResultSet;
+import com.americanexpress.span.exceptions.DuplicateFieldException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BindingPlanTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    public static class RowClass {
+
+        @Field(name = "rowInt", default_value = "99")
+        private int rowInt;
+
+        @Field(name = "rowString")
+        private String rowString;
+
+        private long rowLong;
+
+        @Field(name = "rowLong")
+        public void setRowLong(long rowLong) {
+            this.rowLong = rowLong;
+        }
+    }
+
+    public static class OutputClass {
+
+        @Field(name = "outDate", default_value = "NotADate")
+        private java.time.LocalDate outDate;
+
+        @ResultSet(seqNum = 2)
+        private List<RowClass> secondRS;
+
+        @ResultSet
+        private List<RowClass> firstRS;
+    }
+
+    public static class InvalidSeqClass {
+
+        @ResultSet(seqNum = 2)
+        private List<RowClass> secondRS;
+
+        @ResultSet(seqNum = 3)
+        private List<RowClass> thirdRS;
+    }
+
+    public static class DuplicateRowClass {
+
+        @Field(name = "duplicate")
+        private int first;
+
+        @Field(name = "duplicate")
+        private int second;
+    }
+
+    public static class DuplicateInResultSetClass {
+
+        @ResultSet
+        private List<DuplicateRowClass> rows;
+    }
+
+    @Test
+    public void testPlanIsCached() {
+        assertSame(BindingPlan.of(RowClass.class), BindingPlan.of(RowClass.class));
+    }
+
+    @Test
+    public void testFieldBindings() {
+        BindingPlan<RowClass> plan = BindingPlan.of(RowClass.class);
+
+        assertEquals(3, plan.getFieldBindings().size());
+        assertEquals(3, plan.getParameterCount());
+
+        FieldBinding rowInt = plan.getFieldBindings().get(0);
+        assertEquals("rowInt", rowInt.getName());
+        assertEquals("int rowInt", rowInt.getDescription());
+        assertTrue(rowInt.isDeclaredOnField());
+        assertTrue(rowInt.isDefaultValueParsed());
+        assertEquals(99, rowInt.getParsedDefaultValue());
+
+        FieldBinding rowLong = plan.getFieldBindings().get(2);
+        assertEquals("rowLong", rowLong.getName());
+        assertFalse(rowLong.isDeclaredOnField());
+        assertEquals(0L, rowLong.getParsedDefaultValue());
+    }
+
+    @Test
+    public void testResultSetBindings() {
+        BindingPlan<OutputClass> plan = BindingPlan.of(OutputClass.class);
+
+        assertTrue(plan.isResultSetSequenceValid());
+        assertEquals(2, plan.getResultSetBindings().size());
+        assertEquals("firstRS", plan.getResultSetBindings().get(0).getField().getName());
+        assertEquals("secondRS", plan.getResultSetBindings().get(1).getField().getName());
+        assertEquals(RowClass.class, plan.getResultSetBindings().get(0).getRowType());
+
+        // Invalid default values are left to the handlers, so that the error is reported when the value is used.
+        assertFalse(plan.getFieldBindings().get(0).isDefaultValueParsed());
+    }
+
+    @Test
+    public void testInvalidSequence() {
+        BindingPlan<InvalidSeqClass> plan = BindingPlan.of(InvalidSeqClass.class);
+
+        assertFalse(plan.isResultSetSequenceValid());
+        assertEquals("@ResultSet should have unique Sequence numbers starting at 1. [2, 3]", plan.getResultSetSequenceError());
+    }
+
+    @Test
+    public void testDuplicateFieldsInResultSet() {
+        expectedException.expect(DuplicateFieldException.class);
+        expectedException.expectMessage("Duplicate fields in DuplicateRowClass");
+
+        BindingPlan.of(DuplicateInResultSetClass.class);
+    }
+
+    @Test
+    public void testCopy() {
+        RowClass row = new RowClass();
+        row.rowInt = 1;
+        row.rowString = "row";
+        row.setRowLong(2L);
+        OutputClass output = new OutputClass();
+        output.outDate = java.time.LocalDate.of(2020, 1, 1);
+        output.firstRS = new java.util.ArrayList<>(java.util.Arrays.asList(row));
+
+        OutputClass copy = BindingPlan.of(OutputClass.class).copy(output);
+
+        assertNotSame(output, copy);
+        assertEquals(output.outDate, copy.outDate);
+        assertNull(copy.secondRS);
+        assertNotSame(output.firstRS, copy.firstRS);
+        assertEquals(1, copy.firstRS.size());
+        assertNotSame(row, copy.firstRS.get(0));
+        assertEquals("row", copy.firstRS.get(0).rowString);
+        assertEquals(1, copy.firstRS.get(0).rowInt);
+        assertEquals(2L, copy.firstRS.get(0).rowLong);
+        assertNull(BindingPlan.of(OutputClass.class).copy(null));
+    }
+}
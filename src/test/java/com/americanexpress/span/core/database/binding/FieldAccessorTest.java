@@ -0,0 +1,118 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.binding;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.*;
+
+public class FieldAccessorTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    public static class Bean {
+
+        private int intField;
+
+        private long longField;
+
+        private double doubleField;
+
+        private boolean booleanField;
+
+        private String stringField;
+
+        private Bean() {
+        }
+    }
+
+    public abstract static class AbstractBean {
+    }
+
+    public static class NoDefaultConstructorBean {
+
+        public NoDefaultConstructorBean(String value) {
+        }
+    }
+
+    private static FieldAccessor accessor(String name) throws NoSuchFieldException {
+        return FieldAccessor.of(Bean.class.getDeclaredField(name));
+    }
+
+    @Test
+    public void testGetAndSet() throws Exception {
+        Bean bean = Instantiator.of(Bean.class).newInstance();
+
+        accessor("stringField").set(bean, "value");
+        accessor("intField").set(bean, 10);
+        accessor("longField").set(bean, 20);
+
+        assertEquals("value", bean.stringField);
+        assertEquals(10, bean.intField);
+        assertEquals(20L, bean.longField);
+        assertEquals("value", accessor("stringField").get(bean));
+        assertEquals(10, accessor("intField").get(bean));
+    }
+
+    @Test
+    public void testPrimitiveSetters() throws Exception {
+        Bean bean = Instantiator.of(Bean.class).newInstance();
+
+        accessor("intField").setInt(bean, 1);
+        accessor("longField").setLong(bean, 2L);
+        accessor("doubleField").setDouble(bean, 3.5d);
+        accessor("booleanField").setBoolean(bean, true);
+        // Widening to the type of the datamember
+        accessor("doubleField").setInt(bean, 4);
+
+        assertEquals(1, bean.intField);
+        assertEquals(2L, bean.longField);
+        assertEquals(4d, bean.doubleField, 0d);
+        assertTrue(bean.booleanField);
+    }
+
+    @Test
+    public void testSetNullToPrimitive() throws Exception {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Can not set private int");
+
+        accessor("intField").set(Instantiator.of(Bean.class).newInstance(), null);
+    }
+
+    @Test
+    public void testSetInvalidType() throws Exception {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("to java.lang.Integer");
+
+        accessor("stringField").set(Instantiator.of(Bean.class).newInstance(), 1);
+    }
+
+    @Test
+    public void testInstantiateAbstractClass() throws Exception {
+        expectedException.expect(InstantiationException.class);
+
+        Instantiator.of(AbstractBean.class).newInstance();
+    }
+
+    @Test
+    public void testInstantiateWithoutDefaultConstructor() throws Exception {
+        expectedException.expect(InstantiationException.class);
+        expectedException.expectMessage(NoDefaultConstructorBean.class.getName());
+
+        Instantiator.of(NoDefaultConstructorBean.class).newInstance();
+    }
+}
@@ -0,0 +1,251 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.cache;
+
+import com.americanexpress.span.annotation.Field;
+import com.americanexpress.span.annotation.ResultSet;
+import com.americanexpress.span.models.CacheDetails;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class ResultCacheTest {
+
+    public static class Input {
+
+        @Field(name = "in_str")
+        String inString;
+
+        public Input() {
+        }
+
+        Input(String inString) {
+            this.inString = inString;
+        }
+    }
+
+    public static class Row {
+
+        @Field(name = "rs_str")
+        String rsString;
+    }
+
+    public static class Output {
+
+        @Field(name = "out_int")
+        int outInt;
+
+        @ResultSet
+        List<Row> rows;
+    }
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final Queue<Runnable> refreshes = new ArrayDeque<>();
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private final ResultCache.Loader<Input, Output> loader = spInput -> {
+        Output output = new Output();
+        output.outInt = loadCount.incrementAndGet();
+        output.rows = new ArrayList<>(Collections.singletonList(new Row()));
+        return output;
+    };
+
+    private ResultCache newCache(long ttl, long staleWhileRevalidate, int maxEntries, Long maxWeight, String eviction) {
+        CacheDetails cacheDetails = new CacheDetails();
+        cacheDetails.setTtl(ttl);
+        cacheDetails.setStaleWhileRevalidate(staleWhileRevalidate);
+        cacheDetails.setMaxEntries(maxEntries);
+        cacheDetails.setMaxWeight(maxWeight);
+        cacheDetails.setEviction(eviction);
+        return new ResultCache("SP-KEY", cacheDetails, clock::get, refreshes::add);
+    }
+
+    private int get(ResultCache cache, String inString) throws SQLException {
+        return cache.get(new Input(inString), Output.class, loader).outInt;
+    }
+
+    @Test
+    public void testHitAndExpiry() throws SQLException {
+        ResultCache cache = newCache(10, 0, 10, null, "LRU");
+
+        assertEquals(1, get(cache, "A"));
+        assertEquals(1, get(cache, "A"));
+        assertEquals(2, get(cache, "B"));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(3, get(cache, "A"));
+
+        CacheStats cacheStats = cache.getStats();
+        assertEquals(1, cacheStats.getHitCount());
+        assertEquals(3, cacheStats.getMissCount());
+        assertEquals(1, cacheStats.getExpirationCount());
+        assertEquals(2, cacheStats.getSize());
+        assertEquals(4, cacheStats.getWeight());
+    }
+
+    @Test
+    public void testCopiesAreReturned() throws SQLException {
+        ResultCache cache = newCache(10, 0, 10, null, "LRU");
+
+        Output first = cache.get(new Input("A"), Output.class, loader);
+        first.rows.clear();
+        Output second = cache.get(new Input("A"), Output.class, loader);
+        Output third = cache.get(new Input("A"), Output.class, loader);
+
+        assertEquals(1, second.rows.size());
+        assertNotSame(second, third);
+        assertNotSame(second.rows.get(0), third.rows.get(0));
+    }
+
+    @Test
+    public void testLruEviction() throws SQLException {
+        ResultCache cache = newCache(10, 0, 2, null, "LRU");
+
+        get(cache, "A");
+        get(cache, "B");
+        get(cache, "A");
+        get(cache, "C");
+
+        // B is the least recently used entry
+        assertEquals(1, get(cache, "A"));
+        assertEquals(4, get(cache, "B"));
+        assertEquals(2, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void testLfuEviction() throws SQLException {
+        ResultCache cache = newCache(10, 0, 2, null, "lfu");
+
+        get(cache, "A");
+        get(cache, "A");
+        get(cache, "B");
+        get(cache, "B");
+        get(cache, "B");
+        get(cache, "C");
+
+        // A is used less often than B and older than C
+        assertEquals(2, get(cache, "B"));
+        assertEquals(3, get(cache, "C"));
+        assertEquals(4, get(cache, "A"));
+    }
+
+    @Test
+    public void testMaxWeight() throws SQLException {
+        ResultCache cache = newCache(10, 0, 10, 5L, "LRU");
+
+        get(cache, "A");
+        get(cache, "B");
+        get(cache, "C");
+
+        CacheStats cacheStats = cache.getStats();
+        assertEquals(2, cacheStats.getSize());
+        assertEquals(4, cacheStats.getWeight());
+        assertEquals(1, cacheStats.getEvictionCount());
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws SQLException {
+        ResultCache cache = newCache(10, 5, 10, null, "LRU");
+
+        get(cache, "A");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+
+        // Stale results are returned while a single refresh is pending
+        assertEquals(1, get(cache, "A"));
+        assertEquals(1, get(cache, "A"));
+        assertEquals(1, refreshes.size());
+
+        refreshes.poll().run();
+
+        assertEquals(2, get(cache, "A"));
+        CacheStats cacheStats = cache.getStats();
+        assertEquals(2, cacheStats.getStaleHitCount());
+        assertEquals(1, cacheStats.getRefreshCount());
+        assertEquals(1, cacheStats.getHitCount());
+    }
+
+    @Test
+    public void testRefreshLoader() throws SQLException {
+        ResultCache cache = newCache(10, 5, 10, null, "LRU");
+        ResultCache.Loader<Input, Output> refreshLoader = spInput -> {
+            Output output = loader.load(spInput);
+            output.outInt = -output.outInt;
+            return output;
+        };
+
+        assertEquals(1, cache.get(new Input("A"), Output.class, loader, refreshLoader).outInt);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+        assertEquals(1, cache.get(new Input("A"), Output.class, loader, refreshLoader).outInt);
+        refreshes.poll().run();
+
+        // The stale entry is refreshed by the refresh loader, not by the loader of the caller
+        assertEquals(-2, get(cache, "A"));
+    }
+
+    @Test
+    public void testRefreshFailureKeepsStaleEntry() throws SQLException {
+        CacheDetails cacheDetails = new CacheDetails();
+        cacheDetails.setTtl(10);
+        cacheDetails.setStaleWhileRevalidate(5);
+        ResultCache cache = new ResultCache("SP-KEY", cacheDetails, clock::get, Runnable::run);
+        cache.get(new Input("A"), Output.class, loader);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+
+        Output output = cache.get(new Input("A"), Output.class, spInput -> {
+            throw new SQLException("Database unavailable");
+        });
+
+        assertEquals(1, output.outInt);
+        assertEquals(1, cache.getStats().getRefreshFailureCount());
+        assertEquals(1, cache.get(new Input("A"), Output.class, loader).outInt);
+        assertEquals(1, cache.getStats().getRefreshCount());
+    }
+
+    @Test
+    public void testInvalidateAll() throws SQLException {
+        ResultCache cache = newCache(10, 5, 10, null, "LRU");
+
+        get(cache, "A");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+        get(cache, "A");
+        cache.invalidateAll();
+        // The refresh started before the invalidation doesn't add its result
+        refreshes.poll().run();
+
+        assertEquals(0, cache.getStats().getSize());
+        assertEquals(3, get(cache, "A"));
+    }
+
+    @Test
+    public void testIsValidEviction() {
+        assertTrue(ResultCache.isValidEviction(null));
+        assertTrue(ResultCache.isValidEviction("LRU"));
+        assertTrue(ResultCache.isValidEviction("lfu"));
+        assertFalse(ResultCache.isValidEviction("FIFO"));
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.cache;
+
+import com.americanexpress.span.core.database.cache.ResultCacheTest.Input;
+import com.americanexpress.span.core.database.cache.ResultCacheTest.Output;
+import com.americanexpress.span.core.database.cache.ResultCacheTest.Row;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class SingleFlightTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    private final SingleFlight singleFlight = new SingleFlight("SP-KEY");
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private Future<Output> submit(String inString, ResultCache.Loader<Input, Output> loader) {
+        return executorService.submit(() -> singleFlight.execute(new Input(inString), Output.class, loader));
+    }
+
+    private Output blockingLoad(Input spInput) throws SQLException {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new SQLException(e);
+        }
+        Output output = new Output();
+        output.outInt = loadCount.incrementAndGet();
+        output.rows = new ArrayList<>(Collections.singletonList(new Row()));
+        return output;
+    }
+
+    private void awaitCoalesced(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (singleFlight.getCoalescedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    public void testConcurrentCallsAreCoalesced() throws Exception {
+        List<Future<Output>> calls = new ArrayList<>();
+        calls.add(submit("A", this::blockingLoad));
+        while (singleFlight.getInFlightCount() == 0) {
+            Thread.sleep(5);
+        }
+        calls.add(submit("A", this::blockingLoad));
+        calls.add(submit("A", this::blockingLoad));
+        awaitCoalesced(2);
+        release.countDown();
+
+        Output first = calls.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<Output> call : calls) {
+            Output output = call.get(10, TimeUnit.SECONDS);
+            assertEquals(1, output.outInt);
+            // Every waiter gets its own copy
+            if (call != calls.get(0)) {
+                assertNotSame(first, output);
+                assertNotSame(first.rows, output.rows);
+            }
+        }
+        assertEquals(1, loadCount.get());
+        assertEquals(0, singleFlight.getInFlightCount());
+
+        // The call is complete, the next call executes the Stored Procedure again
+        assertEquals(2, singleFlight.execute(new Input("A"), Output.class, this::blockingLoad).outInt);
+    }
+
+    @Test
+    public void testDifferentInputsAreNotCoalesced() throws Exception {
+        release.countDown();
+        assertEquals(1, submit("A", this::blockingLoad).get(10, TimeUnit.SECONDS).outInt);
+        assertEquals(2, submit("B", this::blockingLoad).get(10, TimeUnit.SECONDS).outInt);
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    public void testExceptionIsSharedWithWaiters() throws Exception {
+        SQLException exception = new SQLException("Database unavailable");
+        Future<Output> leader = submit("A", spInput -> {
+            blockingLoad(spInput);
+            throw exception;
+        });
+        while (singleFlight.getInFlightCount() == 0) {
+            Thread.sleep(5);
+        }
+        Future<Output> waiter = submit("A", this::blockingLoad);
+        awaitCoalesced(1);
+        release.countDown();
+
+        for (Future<Output> call : new Future[]{leader, waiter}) {
+            try {
+                call.get(10, TimeUnit.SECONDS);
+                fail("SQLException expected");
+            } catch (ExecutionException e) {
+                assertSame(exception, e.getCause());
+            }
+        }
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+}
@@ -14,16 +14,35 @@
 package com.americanexpress.span.core.database.comptest;
 
 import com.americanexpress.span.core.SPANInitialization;
+import com.americanexpress.span.core.database.SPCursor;
+import com.americanexpress.span.core.database.ExecutionListener;
+import com.americanexpress.span.core.database.ExecutionListeners;
+import com.americanexpress.span.core.database.ExecutionStats;
 import com.americanexpress.span.core.database.SPExecutor;
+import com.americanexpress.span.core.database.SPRequest;
+import com.americanexpress.span.core.database.SPResults;
+import com.americanexpress.span.core.database.cache.CacheStats;
+import com.americanexpress.span.core.database.cache.SPANCaches;
+import com.americanexpress.span.core.database.comptest.generatedmapper.SPInputSPANMapper;
+import com.americanexpress.span.core.database.comptest.generatedmapper.SPOutputSPANMapper;
+import com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSetSPANMapper;
 import com.americanexpress.span.core.database.comptest.simple.SPInput;
 import com.americanexpress.span.core.database.comptest.simple.SPOutput;
+import com.americanexpress.span.core.database.comptest.simple.SPResultSet;
 import com.americanexpress.span.core.database.comptest.transformationclass.RangeEnum;
+import com.americanexpress.span.core.database.connection.PoolStatistics;
 import com.americanexpress.span.core.database.connection.SPANDataSource;
+import com.americanexpress.span.core.database.connection.SPANExecutors;
 import com.americanexpress.span.core.database.handlers.impl.InputHandlerImpl;
 import com.americanexpress.span.core.database.handlers.impl.OutputHandlerImpl;
 import com.americanexpress.span.core.database.handlers.impl.ResultSetHandlerImpl;
+import com.americanexpress.span.core.database.mapper.SPANMappers;
+import com.americanexpress.span.core.database.metrics.CallStats;
+import com.americanexpress.span.core.database.metrics.InMemoryMetrics;
+import com.americanexpress.span.core.database.metrics.SPANMetricsRegistry;
 import com.americanexpress.span.exceptions.SPANException;
 import com.americanexpress.span.utility.PropertyConfiguration;
+import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Rule;
@@ -35,12 +54,24 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.americanexpress.span.core.SPANConfigHolderTest.resetHoldSPANConfigForTesting;
 import static org.junit.Assert.*;
@@ -50,6 +81,12 @@ public class SPExecutorCompTest {
     private static final String COMP_TEST_USER_DEF_KEY = "COMP-TEST-SP-KEY";
     private static final String COMP_TEST_NORS_USER_DEF_KEY = "COMP-TEST-NO-RS-SP-KEY";
     private static final String MULTI_RS_USER_DEF_KEY = "MULTIRS-KEY";
+    private static final String BATCH_USER_DEF_KEY = "BATCH-KEY";
+    private static final String BATCH_RS_USER_DEF_KEY = "BATCH-RS-KEY";
+    private static final String BATCH_CHECK_USER_DEF_KEY = "BATCH-CHECK-KEY";
+    private static final String CACHED_USER_DEF_KEY = "CACHED-KEY";
+    private static final String COALESCED_USER_DEF_KEY = "COALESCED-KEY";
+    private static final String SPAN_USER_DEF_KEY = "SPAN-DB_ID_1";
 
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
@@ -425,6 +462,18 @@ public class SPExecutorCompTest {
                 com.americanexpress.span.core.database.comptest.rsnotinseqlast.SPOutput.class);
     }
 
+    @Test
+    public void testInvalidRSSeqNumDoesNotBorrowConnection() throws SQLException {
+        long borrows = SPANDataSource.getInstance().getPoolStatistics(SPAN_USER_DEF_KEY).getBorrowLatency().getCount();
+        try {
+            new SPExecutor().execute(MULTI_RS_USER_DEF_KEY, new com.americanexpress.span.core.database.comptest.rsnotinseq.SPInput(),
+                    com.americanexpress.span.core.database.comptest.rsnotinseq.SPOutput.class);
+            fail("The invalid @ResultSet sequence must be rejected");
+        } catch (SPANException e) {
+            assertEquals(borrows, SPANDataSource.getInstance().getPoolStatistics(SPAN_USER_DEF_KEY).getBorrowLatency().getCount());
+        }
+    }
+
     //Test
     /**
      * This test executes new SPExecutor().execute() method for the Stored Procedure present in component-test-setup.sql.
@@ -481,6 +530,466 @@ public class SPExecutorCompTest {
     }
 
 
+    @Test
+    /**
+     * This test executes new SPExecutor().stream() method and maps the rows of the first ResultSet on demand.
+     */
+    public void testStream() throws SQLException {
+        try (Stream<com.americanexpress.span.core.database.comptest.multirs.SPResultSet> rows = new SPExecutor()
+                .stream(MULTI_RS_USER_DEF_KEY, new com.americanexpress.span.core.database.comptest.multirs.SPInput(),
+                        com.americanexpress.span.core.database.comptest.multirs.SPResultSet.class)) {
+            List<String> rsStrings = rows.map(com.americanexpress.span.core.database.comptest.multirs.SPResultSet::getRsString)
+                    .collect(Collectors.toList());
+            assertEquals(Arrays.asList("2-RS", "3-RS"), rsStrings);
+        }
+    }
+
+    @Test
+    /**
+     * This test executes new SPExecutor().openCursor() method, reads the output parameters and then every ResultSet in order.
+     */
+    public void testCursor() throws SQLException {
+        SPInput inputObject = createInputClass();
+
+        try (SPCursor<SPOutput> cursor = new SPExecutor().openCursor(COMP_TEST_USER_DEF_KEY, inputObject, SPOutput.class)) {
+            assertEquals(inputObject.getInString(), cursor.getOutput().getOutString());
+            assertEquals(inputObject.getInInteger(), cursor.getOutput().getOutInteger());
+            // The ResultSets are read through the cursor
+            assertNull(cursor.getOutput().getListRSObj());
+
+            assertTrue(cursor.hasNextResultSet());
+            Iterator<SPResultSet> rows = cursor.nextResultSet(SPResultSet.class).iterator();
+            assertEquals(1, cursor.getSeqNum());
+            assertTrue(rows.hasNext());
+            assertEquals("2-RS", rows.next().getRsString());
+            assertEquals("3-RS", rows.next().getRsString());
+            assertFalse(rows.hasNext());
+
+            assertFalse(cursor.hasNextResultSet());
+        }
+    }
+
+    @Test
+    public void testCursorNotEnoughResultSets() throws SQLException {
+        try (SPCursor<Void> cursor = new SPExecutor().openCursor(MULTI_RS_USER_DEF_KEY,
+                new com.americanexpress.span.core.database.comptest.multirs.SPInput(), Void.class)) {
+            assertNull(cursor.getOutput());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(2, cursor.nextResultSet(com.americanexpress.span.core.database.comptest.multirs.SPResultSet.class).count());
+            }
+            expectedException.expect(SPANException.class);
+            expectedException.expectMessage("Stored Procedure didn't return enough resultSets. Expected: 4. Actual: 3.");
+            cursor.nextResultSet(com.americanexpress.span.core.database.comptest.multirs.SPResultSet.class);
+        }
+    }
+
+    @Test
+    /**
+     * The rows are mapped after the cursor is opened, the values converted are still counted for the Stored Procedure.
+     */
+    public void testCursorMetrics() throws SQLException {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        SPANMetricsRegistry.setMetrics(metrics);
+        try (SPCursor<Void> cursor = new SPExecutor().openCursor(MULTI_RS_USER_DEF_KEY,
+                new com.americanexpress.span.core.database.comptest.multirs.SPInput(), Void.class)) {
+            assertEquals(2, cursor.nextResultSet(com.americanexpress.span.core.database.comptest.multirs.SPResultSet.class).count());
+        } finally {
+            SPANMetricsRegistry.setMetrics(null);
+        }
+
+        assertTrue(metrics.getProcedureStats(MULTI_RS_USER_DEF_KEY).getConvertedValues() > 0);
+    }
+
+    @Test
+    public void testCursorClosed() throws SQLException {
+        SPCursor<Void> cursor = new SPExecutor().openCursor(MULTI_RS_USER_DEF_KEY,
+                new com.americanexpress.span.core.database.comptest.multirs.SPInput(), Void.class);
+        Iterator<com.americanexpress.span.core.database.comptest.multirs.SPResultSet> rows = cursor
+                .nextResultSet(com.americanexpress.span.core.database.comptest.multirs.SPResultSet.class).iterator();
+        cursor.close();
+        cursor.close();
+
+        expectedException.expect(SPANException.class);
+        expectedException.expectMessage("Cursor is closed.");
+        rows.hasNext();
+    }
+
+    @Test
+    /**
+     * This test executes new SPExecutor().executeAsync() method on the default Executor of the DataSource.
+     */
+    public void testExecuteAsync() throws Exception {
+        SPInput inputObject = createInputClass();
+
+        CompletableFuture<SPOutput> future = new SPExecutor().executeAsync(COMP_TEST_USER_DEF_KEY, inputObject, SPOutput.class);
+
+        validateOutputClass(inputObject, future.get(30, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDefaultExecutor() {
+        Executor executor = SPANExecutors.getExecutor(COMP_TEST_USER_DEF_KEY);
+
+        assertTrue(executor instanceof ThreadPoolExecutor);
+        // Sized from the default maxActive of the DataSource
+        assertEquals(1028, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+        // Every Stored Procedure of the DataSource shares the Executor
+        assertSame(executor, SPANExecutors.getExecutor(MULTI_RS_USER_DEF_KEY));
+    }
+
+    @Test
+    public void testExecuteAsyncCancelled() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        SPANExecutors.setExecutor(SPAN_USER_DEF_KEY, tasks::add);
+        try {
+            CompletableFuture<SPOutput> future = new SPExecutor().executeAsync(COMP_TEST_USER_DEF_KEY, createInputClass(), SPOutput.class);
+            assertEquals(1, tasks.size());
+
+            assertTrue(future.cancel(true));
+            // The cancelled call is not executed
+            tasks.get(0).run();
+            assertTrue(future.isCancelled());
+        } finally {
+            SPANExecutors.removeExecutor(SPAN_USER_DEF_KEY);
+        }
+    }
+
+    @Test
+    public void testExecuteAsyncFailure() throws Exception {
+        CompletableFuture<com.americanexpress.span.core.database.comptest.invalidrstype.SPOutput> future = new SPExecutor()
+                .executeAsync(MULTI_RS_USER_DEF_KEY, new com.americanexpress.span.core.database.comptest.multirs.SPInput(),
+                        com.americanexpress.span.core.database.comptest.invalidrstype.SPOutput.class);
+
+        expectedException.expect(ExecutionException.class);
+        expectedException.expectCause(CoreMatchers.instanceOf(SPANException.class));
+        future.get(30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testExecuteAsyncUnknownKey() throws Exception {
+        CompletableFuture<SPOutput> future = new SPExecutor().executeAsync("UNKNOWN-KEY", createInputClass(), SPOutput.class);
+
+        expectedException.expect(ExecutionException.class);
+        expectedException.expectCause(CoreMatchers.instanceOf(SPANException.class));
+        future.get(30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testExecuteAllInvalidRequestCancelsSubmittedCalls() throws SQLException {
+        List<Runnable> tasks = new ArrayList<>();
+        SPANExecutors.setExecutor(SPAN_USER_DEF_KEY, tasks::add);
+        long borrows = SPANDataSource.getInstance().getPoolStatistics(SPAN_USER_DEF_KEY).getBorrowLatency().getCount();
+        try {
+            new SPExecutor().executeAll(Arrays.asList(SPRequest.of(COMP_TEST_USER_DEF_KEY, createInputClass(), SPOutput.class), null),
+                    30, TimeUnit.SECONDS);
+            fail("NullPointerException expected");
+        } catch (NullPointerException e) {
+            assertEquals(1, tasks.size());
+            // The call submitted before the failure is cancelled, it doesn't borrow a Connection
+            tasks.get(0).run();
+            assertEquals(borrows, SPANDataSource.getInstance().getPoolStatistics(SPAN_USER_DEF_KEY).getBorrowLatency().getCount());
+        } finally {
+            SPANExecutors.removeExecutor(SPAN_USER_DEF_KEY);
+        }
+    }
+
+    @Test
+    /**
+     * This test executes new SPExecutor().executeAll() method, the Stored Procedures are executed concurrently.
+     */
+    public void testExecuteAll() throws SQLException {
+        SPInput inputObject = createInputClass();
+        SPRequest<SPInput, SPOutput> simpleRequest = SPRequest.of(COMP_TEST_USER_DEF_KEY, inputObject, SPOutput.class);
+        SPRequest<?, com.americanexpress.span.core.database.comptest.multirs.SPOutput> multiRSRequest = SPRequest.of(MULTI_RS_USER_DEF_KEY,
+                new com.americanexpress.span.core.database.comptest.multirs.SPInput(), com.americanexpress.span.core.database.comptest.multirs.SPOutput.class);
+
+        SPResults results = new SPExecutor().executeAll(Arrays.asList(simpleRequest, multiRSRequest), 30, TimeUnit.SECONDS);
+
+        assertTrue(results.isComplete());
+        validateOutputClass(inputObject, results.get(simpleRequest));
+        assertEquals(2, results.get(multiRSRequest).getListRSObj3().size());
+    }
+
+    @Test
+    public void testExecuteAllFailFast() throws SQLException {
+        SPRequest<?, ?> invalidRequest = SPRequest.of(MULTI_RS_USER_DEF_KEY, new com.americanexpress.span.core.database.comptest.multirs.SPInput(),
+                com.americanexpress.span.core.database.comptest.invalidrstype.SPOutput.class);
+
+        expectedException.expect(SPANException.class);
+        expectedException.expectMessage("ResultSet Field should be a List.");
+        new SPExecutor().executeAll(Arrays.asList(SPRequest.of(COMP_TEST_USER_DEF_KEY, createInputClass(), SPOutput.class), invalidRequest),
+                30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testExecuteAllPartial() {
+        SPRequest<SPInput, SPOutput> simpleRequest = SPRequest.of(COMP_TEST_USER_DEF_KEY, createInputClass(), SPOutput.class);
+        SPRequest<?, ?> invalidRequest = SPRequest.of(MULTI_RS_USER_DEF_KEY, new com.americanexpress.span.core.database.comptest.multirs.SPInput(),
+                com.americanexpress.span.core.database.comptest.invalidrstype.SPOutput.class);
+
+        SPResults results = new SPExecutor().executeAllPartial(Arrays.asList(simpleRequest, invalidRequest), 30, TimeUnit.SECONDS);
+
+        assertFalse(results.isComplete());
+        assertTrue(results.isSuccess(simpleRequest));
+        assertNotNull(results.get(simpleRequest));
+        assertFalse(results.isSuccess(invalidRequest));
+        assertTrue(results.getException(invalidRequest) instanceof SPANException);
+    }
+
+    @Test
+    public void testExecuteAllTimeout() throws SQLException {
+        SPANExecutors.setExecutor(SPAN_USER_DEF_KEY, runnable -> { });
+        try {
+            SPRequest<SPInput, SPOutput> request = SPRequest.of(COMP_TEST_USER_DEF_KEY, createInputClass(), SPOutput.class);
+            SPResults results = new SPExecutor().executeAllPartial(Arrays.asList(request), 10, TimeUnit.MILLISECONDS);
+            assertFalse(results.isSuccess(request));
+            assertTrue(results.getException(request).getMessage().startsWith("Stored Procedure call was cancelled before it completed."));
+
+            expectedException.expect(SPANException.class);
+            expectedException.expectMessage("Stored Procedures didn't complete within 10 MILLISECONDS.");
+            new SPExecutor().executeAll(Arrays.asList(request), 10, TimeUnit.MILLISECONDS);
+        } finally {
+            SPANExecutors.removeExecutor(SPAN_USER_DEF_KEY);
+        }
+    }
+
+    @Test
+    /**
+     * This test executes new SPExecutor().executeBatch() method, the inserts are sent with JDBC batches of 2 calls.
+     */
+    public void testExecuteBatch() throws SQLException {
+        List<com.americanexpress.span.core.database.comptest.batch.SPInput> inputs = Arrays.asList(
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("BATCH", 1),
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("BATCH", 2),
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("BATCH", 3));
+
+        int[] updateCounts = new SPExecutor().executeBatch(BATCH_USER_DEF_KEY, inputs, 2);
+
+        assertEquals(3, updateCounts.length);
+        assertEquals(3, countBatchRows("BATCH"));
+    }
+
+    @Test
+    /**
+     * The second call violates a constraint: the driver stops the batch at it, the calls are not executed one by one.
+     */
+    public void testExecuteBatchFailingRow() throws SQLException {
+        List<com.americanexpress.span.core.database.comptest.batch.SPInput> inputs = Arrays.asList(
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("BATCH-CHECK", 1),
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("BATCH-CHECK", -2),
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("BATCH-CHECK", 3));
+
+        try {
+            new SPExecutor().executeBatch(BATCH_CHECK_USER_DEF_KEY, inputs, 3);
+            fail("The batch should fail on the second call");
+        } catch (BatchUpdateException e) {
+            assertEquals(1, e.getUpdateCounts().length);
+        }
+        try (Connection conn = SPANDataSource.getInstance().getDataSource(BATCH_CHECK_USER_DEF_KEY).getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT b_int FROM SCHEMA_ID.BATCHCHECKTEST WHERE b_str = 'BATCH-CHECK'");
+             java.sql.ResultSet rs = stmt.executeQuery()) {
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt(1));
+            assertFalse(rs.next());
+        }
+    }
+
+    @Test
+    /**
+     * The Stored Procedure returns a ResultSet, so the calls are executed one by one.
+     */
+    public void testExecuteBatchWithResultSet() throws SQLException {
+        List<com.americanexpress.span.core.database.comptest.batch.SPInput> inputs = Arrays.asList(
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("BATCH-RS", 1),
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("BATCH-RS", 2),
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("BATCH-RS", 3));
+
+        int[] updateCounts = new SPExecutor().executeBatch(BATCH_RS_USER_DEF_KEY, inputs);
+
+        assertEquals(3, updateCounts.length);
+        assertEquals(3, countBatchRows("BATCH-RS"));
+    }
+
+    @Test
+    public void testExecuteBatchMixedClasses() throws SQLException {
+        expectedException.expect(SPANException.class);
+        expectedException.expectMessage("Input Objects of a batch should be of the same class.");
+        new SPExecutor().executeBatch(BATCH_USER_DEF_KEY, Arrays.asList(
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("BATCH-MIXED", 1), createInputClass()));
+    }
+
+    @Test
+    /**
+     * The Stored Procedure inserts a row on every call, so the number of rows shows whether the result came from the cache.
+     */
+    public void testExecuteCached() throws SQLException {
+        com.americanexpress.span.core.database.comptest.batch.SPInput inputObject =
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("CACHED", 1);
+
+        ExecutionStats stats = new ExecutionStats();
+        com.americanexpress.span.core.database.comptest.cache.SPOutput first = new SPExecutor().execute(CACHED_USER_DEF_KEY, inputObject,
+                com.americanexpress.span.core.database.comptest.cache.SPOutput.class, stats);
+        assertTrue(stats.isExecuted());
+        first.getListRSObj().clear();
+        com.americanexpress.span.core.database.comptest.cache.SPOutput second = new SPExecutor().execute(CACHED_USER_DEF_KEY,
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("CACHED", 1),
+                com.americanexpress.span.core.database.comptest.cache.SPOutput.class, stats);
+
+        assertEquals(1, countBatchRows("CACHED"));
+        // The measures of the first call are cleared by the cache hit
+        assertFalse(stats.isExecuted());
+        assertEquals(0, stats.getTotalDuration());
+        assertEquals(0, stats.getDuration(ExecutionStats.Phase.EXECUTE));
+        // The caller modified its own copy, not the cached result
+        assertEquals(1, second.getListRSObj().size());
+        assertEquals("CACHED", second.getListRSObj().get(0).getBString());
+        CacheStats cacheStats = SPANCaches.getStats(CACHED_USER_DEF_KEY);
+        assertEquals(1, cacheStats.getHitCount());
+        assertEquals(1, cacheStats.getMissCount());
+        assertEquals(2, cacheStats.getWeight());
+
+        SPANCaches.invalidate(CACHED_USER_DEF_KEY);
+        com.americanexpress.span.core.database.comptest.cache.SPOutput third = new SPExecutor().execute(CACHED_USER_DEF_KEY, inputObject,
+                com.americanexpress.span.core.database.comptest.cache.SPOutput.class);
+
+        assertEquals(2, countBatchRows("CACHED"));
+        assertEquals(2, third.getListRSObj().size());
+    }
+
+    @Test
+    public void testExecuteAsyncCached() throws Exception {
+        new SPExecutor().execute(CACHED_USER_DEF_KEY, new com.americanexpress.span.core.database.comptest.batch.SPInput("ASYNC-CACHED", 1),
+                com.americanexpress.span.core.database.comptest.cache.SPOutput.class);
+        long hits = SPANCaches.getStats(CACHED_USER_DEF_KEY).getHitCount();
+        long borrows = SPANDataSource.getInstance().getPoolStatistics(SPAN_USER_DEF_KEY).getBorrowLatency().getCount();
+
+        com.americanexpress.span.core.database.comptest.cache.SPOutput outputObject = new SPExecutor().executeAsync(CACHED_USER_DEF_KEY,
+                new com.americanexpress.span.core.database.comptest.batch.SPInput("ASYNC-CACHED", 1),
+                com.americanexpress.span.core.database.comptest.cache.SPOutput.class).get(30, TimeUnit.SECONDS);
+
+        // The cache hit doesn't borrow a Connection
+        assertEquals(borrows, SPANDataSource.getInstance().getPoolStatistics(SPAN_USER_DEF_KEY).getBorrowLatency().getCount());
+        assertEquals(hits + 1, SPANCaches.getStats(CACHED_USER_DEF_KEY).getHitCount());
+        assertEquals(1, countBatchRows("ASYNC-CACHED"));
+        assertEquals(1, outputObject.getListRSObj().size());
+    }
+
+    @Test
+    /**
+     * Calls which don't overlap are not coalesced, every call executes the Stored Procedure.
+     */
+    public void testExecuteCoalesced() throws SQLException {
+        for (int i = 1; i <= 2; i++) {
+            com.americanexpress.span.core.database.comptest.cache.SPOutput outputObject = new SPExecutor().execute(COALESCED_USER_DEF_KEY,
+                    new com.americanexpress.span.core.database.comptest.batch.SPInput("COALESCED", i),
+                    com.americanexpress.span.core.database.comptest.cache.SPOutput.class);
+            assertEquals(i, outputObject.getListRSObj().size());
+        }
+        assertEquals(2, countBatchRows("COALESCED"));
+        assertEquals(0, SPANCaches.getSingleFlight(COALESCED_USER_DEF_KEY).getCoalescedCount());
+        assertNull(SPANCaches.getSingleFlight(CACHED_USER_DEF_KEY));
+    }
+
+    @Test
+    public void testExecuteMetrics() throws SQLException {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        SPANMetricsRegistry.setMetrics(metrics);
+        try {
+            new SPExecutor().execute(COMP_TEST_USER_DEF_KEY, createInputClass(), SPOutput.class);
+            try {
+                new SPExecutor().execute(COMP_TEST_NORS_USER_DEF_KEY, new com.americanexpress.span.core.database.comptest.noresultset.SPInput(),
+                        com.americanexpress.span.core.database.comptest.noresultset.SPOutput.class);
+                fail("SPANException expected");
+            } catch (SPANException e) {
+                // Stored Procedure didn't return enough resultSets
+            }
+        } finally {
+            SPANMetricsRegistry.setMetrics(null);
+        }
+
+        CallStats procedureStats = metrics.getProcedureStats(COMP_TEST_USER_DEF_KEY);
+        assertEquals(1, procedureStats.getCallCount());
+        assertEquals(0, procedureStats.getErrorCount());
+        assertEquals(1, procedureStats.getLatency().getCount());
+        assertEquals(Long.valueOf(2), procedureStats.getRowsByResultSet().get(1));
+        assertTrue(procedureStats.getConvertedValues() > 0);
+        assertEquals(1, metrics.getProcedureStats(COMP_TEST_NORS_USER_DEF_KEY).getErrorCount());
+        CallStats dataSourceStats = metrics.getDataSourceStats(SPAN_USER_DEF_KEY);
+        assertEquals(2, dataSourceStats.getCallCount());
+        assertEquals(1, dataSourceStats.getErrorCount());
+        assertFalse(SPANMetricsRegistry.isEnabled());
+    }
+
+    @Test
+    public void testExecuteStats() throws SQLException {
+        ExecutionStats stats = new ExecutionStats();
+        List<ExecutionStats.Phase> phases = new ArrayList<>();
+        ExecutionListener listener = new ExecutionListener() {
+            @Override
+            public void onPhaseEnd(ExecutionStats callStats, ExecutionStats.Phase phase, long durationNanos) {
+                // Asynchronous calls of the other tests may still be running
+                if (callStats == stats) {
+                    phases.add(phase);
+                }
+            }
+        };
+        ExecutionListeners.addListener(listener);
+        try {
+            SPOutput outputObject = new SPExecutor().execute(COMP_TEST_USER_DEF_KEY, createInputClass(), SPOutput.class, stats);
+            assertEquals(2, outputObject.getListRSObj().size());
+        } finally {
+            ExecutionListeners.removeListener(listener);
+        }
+
+        assertTrue(stats.isExecuted());
+        assertEquals(COMP_TEST_USER_DEF_KEY, stats.getSpUserDefineKey());
+        assertNull(stats.getException());
+        assertEquals(ExecutionStats.Phase.DATASOURCE_LOOKUP, phases.get(0));
+        assertEquals(ExecutionStats.Phase.CONNECTION_ACQUIRE, phases.get(1));
+        assertEquals(ExecutionStats.Phase.PREPARE_CALL, phases.get(2));
+        assertTrue(phases.containsAll(Arrays.asList(ExecutionStats.Phase.values())));
+        assertEquals(1, stats.getResultSetDurations().size());
+        long phasesDuration = 0;
+        for (ExecutionStats.Phase phase : ExecutionStats.Phase.values()) {
+            assertTrue(phase.name(), stats.getDuration(phase) > 0);
+            phasesDuration += stats.getDuration(phase);
+        }
+        assertTrue(stats.getTotalDuration() >= phasesDuration);
+
+        try {
+            new SPExecutor().execute(COMP_TEST_NORS_USER_DEF_KEY, new com.americanexpress.span.core.database.comptest.noresultset.SPInput(),
+                    com.americanexpress.span.core.database.comptest.noresultset.SPOutput.class, stats);
+            fail("SPANException expected");
+        } catch (SPANException e) {
+            assertSame(e, stats.getException());
+            assertEquals(COMP_TEST_NORS_USER_DEF_KEY, stats.getSpUserDefineKey());
+        }
+    }
+
+    @Test
+    public void testPoolStatistics() throws SQLException {
+        new SPExecutor().execute(COMP_TEST_USER_DEF_KEY, createInputClass(), SPOutput.class);
+
+        PoolStatistics statistics = SPANDataSource.getInstance().getPoolStatistics(SPAN_USER_DEF_KEY);
+        assertEquals(SPAN_USER_DEF_KEY, statistics.getSpanUserDefinedKey());
+        assertTrue(statistics.getBorrowLatency().getCount() > 0);
+        assertTrue(statistics.getConnectionsCreated() > 0);
+        assertEquals(0, statistics.getBorrowTimeouts());
+        assertTrue(SPANDataSource.getInstance().getPoolStatistics().containsKey(SPAN_USER_DEF_KEY));
+        assertNull(SPANDataSource.getInstance().getPoolStatistics("UNKNOWN-KEY"));
+    }
+
+    private int countBatchRows(String bString) throws SQLException {
+        try (Connection conn = SPANDataSource.getInstance().getDataSource(BATCH_USER_DEF_KEY).getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM SCHEMA_ID.BATCHTEST WHERE b_str = ?")) {
+            stmt.setString(1, bString);
+            try (java.sql.ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
     private SPInput createInputClass() {
         SPInput inputObject = new SPInput();
         inputObject.setInString("ABC");
@@ -535,4 +1044,59 @@ public class SPExecutorCompTest {
 
     }
 
+    @Test
+    /**
+     * This test executes new SPExecutor().execute() method with the mappers generated by the SPAN annotation processor.
+     * The classes of package generatedmapper are copies of the classes of package simple, with their generated mappers.
+     */
+    public void testGeneratedMapper() throws SQLException {
+        assertTrue(SPANMappers.find(com.americanexpress.span.core.database.comptest.generatedmapper.SPInput.class) instanceof SPInputSPANMapper);
+        assertTrue(SPANMappers.find(com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput.class) instanceof SPOutputSPANMapper);
+        assertTrue(SPANMappers.find(com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet.class) instanceof SPResultSetSPANMapper);
+        assertNull(SPANMappers.find(SPInput.class));
+
+        com.americanexpress.span.core.database.comptest.generatedmapper.SPInput inputObject = new com.americanexpress.span.core.database.comptest.generatedmapper.SPInput();
+        inputObject.setInString("ABC");
+        inputObject.setInInt(100);
+        inputObject.setInInteger(1000);
+        inputObject.setInLong(1_000_000);
+        inputObject.setInLongObj(10_000_000L);
+        inputObject.setInFloat(10_000F);
+        inputObject.setInFloatObj(100_000F);
+        inputObject.setInDouble(10_000_000.0D);
+        inputObject.setInDoubleObj(1_000_000.0D);
+        inputObject.setInBigInteger(BigInteger.valueOf(100_000_000));
+        inputObject.setInDecimal(BigDecimal.valueOf(1000_000_000.0D));
+        inputObject.setInBoolean(true);
+        inputObject.setInBooleanObj(true);
+        inputObject.setInTimestamp(LocalDateTime.now());
+
+        com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput outputObject =
+                new SPExecutor().execute(COMP_TEST_USER_DEF_KEY, inputObject, com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput.class);
+
+        assertEquals("ABC", outputObject.getOutString());
+        assertEquals(100, outputObject.getOutInt());
+        assertEquals(Integer.valueOf(1000), outputObject.getOutInteger());
+        assertEquals(1_000_000, outputObject.getOutLong());
+        assertEquals(Double.valueOf(1_000_000.0D), outputObject.getOutDoubleObj());
+        assertEquals(0, inputObject.getInDecimal().compareTo(outputObject.getOutDecimal()));
+        assertTrue(outputObject.isOutBoolean());
+        assertEquals(2, outputObject.getListRSObj().size());
+
+        AtomicBoolean foundRequiredRow = new AtomicBoolean(false);
+        outputObject.getListRSObj().stream().forEach(resultSetClass -> {
+            if (resultSetClass.getRsString().equals("2-RS")) {
+                foundRequiredRow.set(true);
+                assertEquals(2, resultSetClass.getRsInt());
+                assertEquals(Integer.valueOf(20), resultSetClass.getRsInteger());
+                assertEquals(BigInteger.valueOf(2000000), resultSetClass.getRsBigInteger());
+                assertEquals(400, resultSetClass.getRsLong());
+            }
+        });
+
+        if (!foundRequiredRow.get()) {
+            fail("Couldn't find resultset with rs_string: 2-RS");
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.comptest.batch;
+
+import com.americanexpress.span.annotation.Field;
+
+public class SPInput {
+
+    @Field(name = "in_str")
+    private String inString;
+
+    @Field(name = "in_int")
+    private int inInt;
+
+    public SPInput() {
+    }
+
+    public SPInput(String inString, int inInt) {
+        this.inString = inString;
+        this.inInt = inInt;
+    }
+
+    public String getInString() {
+        return inString;
+    }
+
+    public void setInString(String inString) {
+        this.inString = inString;
+    }
+
+    public int getInInt() {
+        return inInt;
+    }
+
+    public void setInInt(int inInt) {
+        this.inInt = inInt;
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.comptest.cache;
+
+import com.americanexpress.span.annotation.Field;
+
+public class SPResultSet {
+
+    @Field(name = "b_str")
+    private String bString;
+
+    @Field(name = "b_int")
+    private int bInt;
+
+    public String getBString() {
+        return bString;
+    }
+
+    public void setBString(String bString) {
+        this.bString = bString;
+    }
+
+    public int getBInt() {
+        return bInt;
+    }
+
+    public void setBInt(int bInt) {
+        this.bInt = bInt;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.comptest.generatedmapper;
+
+/**
+ * SPAN mapper of {@link com.americanexpress.span.core.database.comptest.generatedmapper.SPInput}.
+ * Generated by com.americanexpress.span.processor.SPANMapperProcessor, do not edit.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class SPInputSPANMapper extends com.americanexpress.span.core.database.mapper.SPANMapper<com.americanexpress.span.core.database.comptest.generatedmapper.SPInput> {
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.String> FIELD_0 = com.americanexpress.span.core.database.mapper.MappedField.of("in_str", "inString", java.lang.String.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Integer> FIELD_1 = com.americanexpress.span.core.database.mapper.MappedField.of("in_int", "inInt", int.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Integer> FIELD_2 = com.americanexpress.span.core.database.mapper.MappedField.of("in_integer", "inInteger", java.lang.Integer.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Long> FIELD_3 = com.americanexpress.span.core.database.mapper.MappedField.of("in_long", "inLong", long.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Long> FIELD_4 = com.americanexpress.span.core.database.mapper.MappedField.of("in_longObj", "inLongObj", java.lang.Long.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Float> FIELD_5 = com.americanexpress.span.core.database.mapper.MappedField.of("in_float", "inFloat", float.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Float> FIELD_6 = com.americanexpress.span.core.database.mapper.MappedField.of("in_floatObj", "inFloatObj", java.lang.Float.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Double> FIELD_7 = com.americanexpress.span.core.database.mapper.MappedField.of("in_double", "inDouble", double.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Double> FIELD_8 = com.americanexpress.span.core.database.mapper.MappedField.of("in_doubleObj", "inDoubleObj", java.lang.Double.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.math.BigInteger> FIELD_9 = com.americanexpress.span.core.database.mapper.MappedField.of("in_bigint", "inBigInteger", java.math.BigInteger.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.math.BigDecimal> FIELD_10 = com.americanexpress.span.core.database.mapper.MappedField.of("in_decimal", "inDecimal", java.math.BigDecimal.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Boolean> FIELD_11 = com.americanexpress.span.core.database.mapper.MappedField.of("in_boolean", "inBoolean", boolean.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Boolean> FIELD_12 = com.americanexpress.span.core.database.mapper.MappedField.of("in_booleanObj", "inBooleanObj", java.lang.Boolean.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.time.LocalDateTime> FIELD_13 = com.americanexpress.span.core.database.mapper.MappedField.of("in_timestamp", "inTimestamp", java.time.LocalDateTime.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    public SPInputSPANMapper() {
+        super(com.americanexpress.span.core.database.comptest.generatedmapper.SPInput.class);
+    }
+
+    @Override
+    public void processSPInputParameters(java.sql.CallableStatement callableStatement, com.americanexpress.span.core.database.comptest.generatedmapper.SPInput inputObject) {
+        bind(callableStatement, FIELD_0, inputObject.getInString());
+        bind(callableStatement, FIELD_1, inputObject.getInInt());
+        bind(callableStatement, FIELD_2, inputObject.getInInteger());
+        bind(callableStatement, FIELD_3, inputObject.getInLong());
+        bind(callableStatement, FIELD_4, inputObject.getInLongObj());
+        bind(callableStatement, FIELD_5, inputObject.getInFloat());
+        bind(callableStatement, FIELD_6, inputObject.getInFloatObj());
+        bind(callableStatement, FIELD_7, inputObject.getInDouble());
+        bind(callableStatement, FIELD_8, inputObject.getInDoubleObj());
+        bind(callableStatement, FIELD_9, inputObject.getInBigInteger());
+        bind(callableStatement, FIELD_10, inputObject.getInDecimal());
+        bind(callableStatement, FIELD_11, inputObject.isInBoolean());
+        bind(callableStatement, FIELD_12, inputObject.getInBooleanObj());
+        bind(callableStatement, FIELD_13, inputObject.getInTimestamp());
+        recordConvertedValues(14);
+    }
+
+    @Override
+    public void registerOutputParameters(java.sql.CallableStatement callableStatement, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPInput> classT) {
+        register(callableStatement, FIELD_0);
+        register(callableStatement, FIELD_1);
+        register(callableStatement, FIELD_2);
+        register(callableStatement, FIELD_3);
+        register(callableStatement, FIELD_4);
+        register(callableStatement, FIELD_5);
+        register(callableStatement, FIELD_6);
+        register(callableStatement, FIELD_7);
+        register(callableStatement, FIELD_8);
+        register(callableStatement, FIELD_9);
+        register(callableStatement, FIELD_10);
+        register(callableStatement, FIELD_11);
+        register(callableStatement, FIELD_12);
+        register(callableStatement, FIELD_13);
+    }
+
+    @Override
+    public com.americanexpress.span.core.database.comptest.generatedmapper.SPInput processSPOutputParameters(java.sql.CallableStatement callableStatement, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPInput> clazzT) {
+        com.americanexpress.span.core.database.comptest.generatedmapper.SPInput outputObject = new com.americanexpress.span.core.database.comptest.generatedmapper.SPInput();
+        outputObject.setInString(read(callableStatement, FIELD_0));
+        outputObject.setInInt(read(callableStatement, FIELD_1));
+        outputObject.setInInteger(read(callableStatement, FIELD_2));
+        outputObject.setInLong(read(callableStatement, FIELD_3));
+        outputObject.setInLongObj(read(callableStatement, FIELD_4));
+        outputObject.setInFloat(read(callableStatement, FIELD_5));
+        outputObject.setInFloatObj(read(callableStatement, FIELD_6));
+        outputObject.setInDouble(read(callableStatement, FIELD_7));
+        outputObject.setInDoubleObj(read(callableStatement, FIELD_8));
+        outputObject.setInBigInteger(read(callableStatement, FIELD_9));
+        outputObject.setInDecimal(read(callableStatement, FIELD_10));
+        outputObject.setInBoolean(read(callableStatement, FIELD_11));
+        outputObject.setInBooleanObj(read(callableStatement, FIELD_12));
+        outputObject.setInTimestamp(read(callableStatement, FIELD_13));
+        recordConvertedValues(14);
+        return outputObject;
+    }
+
+    @Override
+    public java.util.List<com.americanexpress.span.core.database.comptest.generatedmapper.SPInput> processResultSet(java.sql.ResultSet resultSet, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPInput> clazzT) {
+        return readRows(resultSet, newRowMapper(resultSet, clazzT));
+    }
+
+    @Override
+    public com.americanexpress.span.core.database.comptest.generatedmapper.SPInput processRow(java.sql.ResultSet resultSet, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPInput> clazzT) {
+        return newRowMapper(resultSet, clazzT).apply(resultSet);
+    }
+
+    @Override
+    public java.util.function.Function<java.sql.ResultSet, com.americanexpress.span.core.database.comptest.generatedmapper.SPInput> newRowMapper(java.sql.ResultSet resultSet, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPInput> clazzT) {
+        com.americanexpress.span.core.database.mapper.MappedColumns columns = resolveColumns(resultSet, FIELD_0, FIELD_1, FIELD_2, FIELD_3, FIELD_4, FIELD_5, FIELD_6, FIELD_7, FIELD_8, FIELD_9, FIELD_10, FIELD_11, FIELD_12, FIELD_13);
+        return row -> {
+            com.americanexpress.span.core.database.comptest.generatedmapper.SPInput rowObject = new com.americanexpress.span.core.database.comptest.generatedmapper.SPInput();
+            rowObject.setInString(read(row, columns, 0, FIELD_0));
+            rowObject.setInInt(read(row, columns, 1, FIELD_1));
+            rowObject.setInInteger(read(row, columns, 2, FIELD_2));
+            rowObject.setInLong(read(row, columns, 3, FIELD_3));
+            rowObject.setInLongObj(read(row, columns, 4, FIELD_4));
+            rowObject.setInFloat(read(row, columns, 5, FIELD_5));
+            rowObject.setInFloatObj(read(row, columns, 6, FIELD_6));
+            rowObject.setInDouble(read(row, columns, 7, FIELD_7));
+            rowObject.setInDoubleObj(read(row, columns, 8, FIELD_8));
+            rowObject.setInBigInteger(read(row, columns, 9, FIELD_9));
+            rowObject.setInDecimal(read(row, columns, 10, FIELD_10));
+            rowObject.setInBoolean(read(row, columns, 11, FIELD_11));
+            rowObject.setInBooleanObj(read(row, columns, 12, FIELD_12));
+            rowObject.setInTimestamp(read(row, columns, 13, FIELD_13));
+            recordConvertedValues(14);
+            return rowObject;
+        };
+    }
+}
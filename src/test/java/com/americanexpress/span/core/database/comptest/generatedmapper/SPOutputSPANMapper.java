@@ -0,0 +1,146 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.comptest.generatedmapper;
+
+/**
+ * SPAN mapper of {@link com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput}.
+ * Generated by com.americanexpress.span.processor.SPANMapperProcessor, do not edit.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class SPOutputSPANMapper extends com.americanexpress.span.core.database.mapper.SPANMapper<com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput> {
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.String> FIELD_0 = com.americanexpress.span.core.database.mapper.MappedField.of("out_str", "outString", java.lang.String.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Integer> FIELD_1 = com.americanexpress.span.core.database.mapper.MappedField.of("out_int", "outInt", int.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Integer> FIELD_2 = com.americanexpress.span.core.database.mapper.MappedField.of("out_integer", "outInteger", java.lang.Integer.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Long> FIELD_3 = com.americanexpress.span.core.database.mapper.MappedField.of("out_long", "outLong", long.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Long> FIELD_4 = com.americanexpress.span.core.database.mapper.MappedField.of("out_longObj", "outLongObj", java.lang.Long.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Float> FIELD_5 = com.americanexpress.span.core.database.mapper.MappedField.of("out_float", "outFloat", float.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Float> FIELD_6 = com.americanexpress.span.core.database.mapper.MappedField.of("out_floatObj", "outFloatObj", java.lang.Float.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Float> FIELD_7 = com.americanexpress.span.core.database.mapper.MappedField.of("out_double", "outDouble", float.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Double> FIELD_8 = com.americanexpress.span.core.database.mapper.MappedField.of("out_doubleObj", "outDoubleObj", java.lang.Double.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.math.BigInteger> FIELD_9 = com.americanexpress.span.core.database.mapper.MappedField.of("out_bigint", "outBigInteger", java.math.BigInteger.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.math.BigDecimal> FIELD_10 = com.americanexpress.span.core.database.mapper.MappedField.of("out_decimal", "outDecimal", java.math.BigDecimal.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Boolean> FIELD_11 = com.americanexpress.span.core.database.mapper.MappedField.of("out_boolean", "outBoolean", boolean.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Boolean> FIELD_12 = com.americanexpress.span.core.database.mapper.MappedField.of("out_booleanObj", "outBooleanObj", java.lang.Boolean.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.time.LocalDateTime> FIELD_13 = com.americanexpress.span.core.database.mapper.MappedField.of("out_timestamp", "outTimestamp", java.time.LocalDateTime.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    public SPOutputSPANMapper() {
+        super(com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput.class);
+    }
+
+    @Override
+    public void processSPInputParameters(java.sql.CallableStatement callableStatement, com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput inputObject) {
+        bind(callableStatement, FIELD_0, inputObject.getOutString());
+        bind(callableStatement, FIELD_1, inputObject.getOutInt());
+        bind(callableStatement, FIELD_2, inputObject.getOutInteger());
+        bind(callableStatement, FIELD_3, inputObject.getOutLong());
+        bind(callableStatement, FIELD_4, inputObject.getOutLongObj());
+        bind(callableStatement, FIELD_5, inputObject.getOutFloat());
+        bind(callableStatement, FIELD_6, inputObject.getOutFloatObj());
+        bind(callableStatement, FIELD_7, inputObject.getOutDouble());
+        bind(callableStatement, FIELD_8, inputObject.getOutDoubleObj());
+        bind(callableStatement, FIELD_9, inputObject.getOutBigInteger());
+        bind(callableStatement, FIELD_10, inputObject.getOutDecimal());
+        bind(callableStatement, FIELD_11, inputObject.isOutBoolean());
+        bind(callableStatement, FIELD_12, inputObject.getOutBooleanObj());
+        bind(callableStatement, FIELD_13, inputObject.getOutTimestamp());
+        recordConvertedValues(14);
+    }
+
+    @Override
+    public void registerOutputParameters(java.sql.CallableStatement callableStatement, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput> classT) {
+        register(callableStatement, FIELD_0);
+        register(callableStatement, FIELD_1);
+        register(callableStatement, FIELD_2);
+        register(callableStatement, FIELD_3);
+        register(callableStatement, FIELD_4);
+        register(callableStatement, FIELD_5);
+        register(callableStatement, FIELD_6);
+        register(callableStatement, FIELD_7);
+        register(callableStatement, FIELD_8);
+        register(callableStatement, FIELD_9);
+        register(callableStatement, FIELD_10);
+        register(callableStatement, FIELD_11);
+        register(callableStatement, FIELD_12);
+        register(callableStatement, FIELD_13);
+    }
+
+    @Override
+    public com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput processSPOutputParameters(java.sql.CallableStatement callableStatement, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput> clazzT) {
+        com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput outputObject = new com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput();
+        outputObject.setOutString(read(callableStatement, FIELD_0));
+        outputObject.setOutInt(read(callableStatement, FIELD_1));
+        outputObject.setOutInteger(read(callableStatement, FIELD_2));
+        outputObject.setOutLong(read(callableStatement, FIELD_3));
+        outputObject.setOutLongObj(read(callableStatement, FIELD_4));
+        outputObject.setOutFloat(read(callableStatement, FIELD_5));
+        outputObject.setOutFloatObj(read(callableStatement, FIELD_6));
+        outputObject.setOutDouble(read(callableStatement, FIELD_7));
+        outputObject.setOutDoubleObj(read(callableStatement, FIELD_8));
+        outputObject.setOutBigInteger(read(callableStatement, FIELD_9));
+        outputObject.setOutDecimal(read(callableStatement, FIELD_10));
+        outputObject.setOutBoolean(read(callableStatement, FIELD_11));
+        outputObject.setOutBooleanObj(read(callableStatement, FIELD_12));
+        outputObject.setOutTimestamp(read(callableStatement, FIELD_13));
+        recordConvertedValues(14);
+        return outputObject;
+    }
+
+    @Override
+    public java.util.List<com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput> processResultSet(java.sql.ResultSet resultSet, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput> clazzT) {
+        return readRows(resultSet, newRowMapper(resultSet, clazzT));
+    }
+
+    @Override
+    public com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput processRow(java.sql.ResultSet resultSet, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput> clazzT) {
+        return newRowMapper(resultSet, clazzT).apply(resultSet);
+    }
+
+    @Override
+    public java.util.function.Function<java.sql.ResultSet, com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput> newRowMapper(java.sql.ResultSet resultSet, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput> clazzT) {
+        com.americanexpress.span.core.database.mapper.MappedColumns columns = resolveColumns(resultSet, FIELD_0, FIELD_1, FIELD_2, FIELD_3, FIELD_4, FIELD_5, FIELD_6, FIELD_7, FIELD_8, FIELD_9, FIELD_10, FIELD_11, FIELD_12, FIELD_13);
+        return row -> {
+            com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput rowObject = new com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput();
+            rowObject.setOutString(read(row, columns, 0, FIELD_0));
+            rowObject.setOutInt(read(row, columns, 1, FIELD_1));
+            rowObject.setOutInteger(read(row, columns, 2, FIELD_2));
+            rowObject.setOutLong(read(row, columns, 3, FIELD_3));
+            rowObject.setOutLongObj(read(row, columns, 4, FIELD_4));
+            rowObject.setOutFloat(read(row, columns, 5, FIELD_5));
+            rowObject.setOutFloatObj(read(row, columns, 6, FIELD_6));
+            rowObject.setOutDouble(read(row, columns, 7, FIELD_7));
+            rowObject.setOutDoubleObj(read(row, columns, 8, FIELD_8));
+            rowObject.setOutBigInteger(read(row, columns, 9, FIELD_9));
+            rowObject.setOutDecimal(read(row, columns, 10, FIELD_10));
+            rowObject.setOutBoolean(read(row, columns, 11, FIELD_11));
+            rowObject.setOutBooleanObj(read(row, columns, 12, FIELD_12));
+            rowObject.setOutTimestamp(read(row, columns, 13, FIELD_13));
+            recordConvertedValues(14);
+            return rowObject;
+        };
+    }
+}
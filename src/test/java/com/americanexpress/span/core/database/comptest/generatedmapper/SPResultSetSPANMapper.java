@@ -0,0 +1,140 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.comptest.generatedmapper;
+
+/**
+ * SPAN mapper of {@link com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet}.
+ * Generated by com.americanexpress.span.processor.SPANMapperProcessor, do not edit.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class SPResultSetSPANMapper extends com.americanexpress.span.core.database.mapper.SPANMapper<com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet> {
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.String> FIELD_0 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_str", "rsString", java.lang.String.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Integer> FIELD_1 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_int", "rsInt", int.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Integer> FIELD_2 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_integer", "rsInteger", java.lang.Integer.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Long> FIELD_3 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_long", "rsLong", long.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Long> FIELD_4 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_longObj", "rsLongObj", java.lang.Long.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Float> FIELD_5 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_float", "rsFloat", float.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Float> FIELD_6 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_floatObj", "rsFloatObj", java.lang.Float.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Float> FIELD_7 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_double", "rsDouble", float.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Double> FIELD_8 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_doubleObj", "rsDoubleObj", java.lang.Double.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.math.BigInteger> FIELD_9 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_bigint", "rsBigInteger", java.math.BigInteger.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.math.BigDecimal> FIELD_10 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_decimal", "rsDecimal", java.math.BigDecimal.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Boolean> FIELD_11 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_boolean", "rsBoolean", boolean.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    private static final com.americanexpress.span.core.database.mapper.MappedField<java.lang.Boolean> FIELD_12 = com.americanexpress.span.core.database.mapper.MappedField.of("rs_booleanObj", "rsBooleanObj", java.lang.Boolean.class, com.americanexpress.span.core.database.handlers.impl.FieldTransformationImpl.class, "");
+
+    public SPResultSetSPANMapper() {
+        super(com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet.class);
+    }
+
+    @Override
+    public void processSPInputParameters(java.sql.CallableStatement callableStatement, com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet inputObject) {
+        bind(callableStatement, FIELD_0, inputObject.getRsString());
+        bind(callableStatement, FIELD_1, inputObject.getRsInt());
+        bind(callableStatement, FIELD_2, inputObject.getRsInteger());
+        bind(callableStatement, FIELD_3, inputObject.getRsLong());
+        bind(callableStatement, FIELD_4, inputObject.getRsLongObj());
+        bind(callableStatement, FIELD_5, inputObject.getRsFloat());
+        bind(callableStatement, FIELD_6, inputObject.getRsFloatObj());
+        bind(callableStatement, FIELD_7, inputObject.getRsDouble());
+        bind(callableStatement, FIELD_8, inputObject.getRsDoubleObj());
+        bind(callableStatement, FIELD_9, inputObject.getRsBigInteger());
+        bind(callableStatement, FIELD_10, inputObject.getRsDecimal());
+        bind(callableStatement, FIELD_11, inputObject.isRsBoolean());
+        bind(callableStatement, FIELD_12, inputObject.getRsBooleanObj());
+        recordConvertedValues(13);
+    }
+
+    @Override
+    public void registerOutputParameters(java.sql.CallableStatement callableStatement, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet> classT) {
+        register(callableStatement, FIELD_0);
+        register(callableStatement, FIELD_1);
+        register(callableStatement, FIELD_2);
+        register(callableStatement, FIELD_3);
+        register(callableStatement, FIELD_4);
+        register(callableStatement, FIELD_5);
+        register(callableStatement, FIELD_6);
+        register(callableStatement, FIELD_7);
+        register(callableStatement, FIELD_8);
+        register(callableStatement, FIELD_9);
+        register(callableStatement, FIELD_10);
+        register(callableStatement, FIELD_11);
+        register(callableStatement, FIELD_12);
+    }
+
+    @Override
+    public com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet processSPOutputParameters(java.sql.CallableStatement callableStatement, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet> clazzT) {
+        com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet outputObject = new com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet();
+        outputObject.setRsString(read(callableStatement, FIELD_0));
+        outputObject.setRsInt(read(callableStatement, FIELD_1));
+        outputObject.setRsInteger(read(callableStatement, FIELD_2));
+        outputObject.setRsLong(read(callableStatement, FIELD_3));
+        outputObject.setRsLongObj(read(callableStatement, FIELD_4));
+        outputObject.setRsFloat(read(callableStatement, FIELD_5));
+        outputObject.setRsFloatObj(read(callableStatement, FIELD_6));
+        outputObject.setRsDouble(read(callableStatement, FIELD_7));
+        outputObject.setRsDoubleObj(read(callableStatement, FIELD_8));
+        outputObject.setRsBigInteger(read(callableStatement, FIELD_9));
+        outputObject.setRsDecimal(read(callableStatement, FIELD_10));
+        outputObject.setRsBoolean(read(callableStatement, FIELD_11));
+        outputObject.setRsBooleanObj(read(callableStatement, FIELD_12));
+        recordConvertedValues(13);
+        return outputObject;
+    }
+
+    @Override
+    public java.util.List<com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet> processResultSet(java.sql.ResultSet resultSet, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet> clazzT) {
+        return readRows(resultSet, newRowMapper(resultSet, clazzT));
+    }
+
+    @Override
+    public com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet processRow(java.sql.ResultSet resultSet, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet> clazzT) {
+        return newRowMapper(resultSet, clazzT).apply(resultSet);
+    }
+
+    @Override
+    public java.util.function.Function<java.sql.ResultSet, com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet> newRowMapper(java.sql.ResultSet resultSet, Class<com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet> clazzT) {
+        com.americanexpress.span.core.database.mapper.MappedColumns columns = resolveColumns(resultSet, FIELD_0, FIELD_1, FIELD_2, FIELD_3, FIELD_4, FIELD_5, FIELD_6, FIELD_7, FIELD_8, FIELD_9, FIELD_10, FIELD_11, FIELD_12);
+        return row -> {
+            com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet rowObject = new com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet();
+            rowObject.setRsString(read(row, columns, 0, FIELD_0));
+            rowObject.setRsInt(read(row, columns, 1, FIELD_1));
+            rowObject.setRsInteger(read(row, columns, 2, FIELD_2));
+            rowObject.setRsLong(read(row, columns, 3, FIELD_3));
+            rowObject.setRsLongObj(read(row, columns, 4, FIELD_4));
+            rowObject.setRsFloat(read(row, columns, 5, FIELD_5));
+            rowObject.setRsFloatObj(read(row, columns, 6, FIELD_6));
+            rowObject.setRsDouble(read(row, columns, 7, FIELD_7));
+            rowObject.setRsDoubleObj(read(row, columns, 8, FIELD_8));
+            rowObject.setRsBigInteger(read(row, columns, 9, FIELD_9));
+            rowObject.setRsDecimal(read(row, columns, 10, FIELD_10));
+            rowObject.setRsBoolean(read(row, columns, 11, FIELD_11));
+            rowObject.setRsBooleanObj(read(row, columns, 12, FIELD_12));
+            recordConvertedValues(13);
+            return rowObject;
+        };
+    }
+}
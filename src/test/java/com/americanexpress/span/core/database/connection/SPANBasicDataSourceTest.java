@@ -0,0 +1,142 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.connection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SPANBasicDataSourceTest {
+
+    private SPANBasicDataSource dataSource;
+
+    @Before
+    public void setUp() {
+        dataSource = newDataSource(1);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        SPANDataSource.setPoolAlertListener(null);
+        dataSource.close();
+    }
+
+    @Test
+    public void testBorrowStatistics() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try {
+                dataSource.getConnection();
+                fail("SQLException expected");
+            } catch (SQLException e) {
+                // Timeout waiting for idle object
+            }
+            PoolStatistics statistics = dataSource.getStatistics();
+            assertEquals("POOL-TEST", statistics.getSpanUserDefinedKey());
+            assertEquals(1, statistics.getNumActive());
+            assertEquals(0, statistics.getNumWaiters());
+            assertEquals(1, statistics.getMaxTotal());
+            assertEquals(2, statistics.getBorrowLatency().getCount());
+            assertTrue(statistics.getBorrowLatency().getMax() >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertEquals(1, statistics.getBorrowTimeouts());
+            assertEquals(1, statistics.getConnectionsCreated());
+        }
+        assertEquals(1, dataSource.getStatistics().getNumIdle());
+    }
+
+    @Test
+    public void testAbandonedRemoval() throws SQLException, InterruptedException {
+        dataSource.setRemoveAbandonedOnBorrow(true);
+        dataSource.setRemoveAbandonedTimeout(1);
+        Connection abandoned = dataSource.getConnection();
+        Thread.sleep(1100);
+        try (Connection connection = dataSource.getConnection()) {
+            PoolStatistics statistics = dataSource.getStatistics();
+            assertEquals(1, statistics.getAbandonedRemovals());
+            assertEquals(2, statistics.getConnectionsCreated());
+            assertEquals(1, statistics.getConnectionsDestroyed());
+        }
+        assertTrue(abandoned.isClosed());
+    }
+
+    @Test
+    public void testWaitersAlert() throws Exception {
+        AtomicInteger alerts = new AtomicInteger();
+        CountDownLatch alerted = new CountDownLatch(1);
+        SPANDataSource.setPoolAlertListener((statistics, threshold) -> {
+            assertEquals(1, threshold);
+            assertTrue(statistics.getNumWaiters() > threshold);
+            alerts.incrementAndGet();
+            alerted.countDown();
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        dataSource.setMaxWaitMillis(2000);
+        try (Connection connection = dataSource.getConnection()) {
+            Future<?>[] waiters = new Future<?>[3];
+            for (int i = 0; i < waiters.length; i++) {
+                // The threads blocked in the pool are counted, every waiter is queued before the next one arrives
+                awaitNumWaiters(i);
+                waiters[i] = executorService.submit(() -> {
+                    try (Connection waiting = dataSource.getConnection()) {
+                        return waiting;
+                    } catch (SQLException e) {
+                        return null;
+                    }
+                });
+            }
+            assertTrue(alerted.await(5, TimeUnit.SECONDS));
+            for (Future<?> waiter : waiters) {
+                waiter.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        // One alert until the waiters drop to half of the threshold
+        assertEquals(1, alerts.get());
+        assertEquals(1, dataSource.getStatistics().getWaitersAlerts());
+        assertEquals(3, dataSource.getStatistics().getBorrowTimeouts());
+    }
+
+    private void awaitNumWaiters(final int numWaiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dataSource.getStatistics().getNumWaiters() < numWaiters && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(numWaiters, dataSource.getStatistics().getNumWaiters());
+    }
+
+    private static SPANBasicDataSource newDataSource(final int waitersAlertThreshold) {
+        SPANBasicDataSource basicDataSource = new SPANBasicDataSource("POOL-TEST", waitersAlertThreshold);
+        basicDataSource.setDriverClassName("org.hsqldb.jdbc.JDBCDriver");
+        basicDataSource.setUrl("jdbc:hsqldb:mem:pooltest");
+        basicDataSource.setUsername("SA");
+        basicDataSource.setPassword("");
+        basicDataSource.setMaxTotal(1);
+        basicDataSource.setInitialSize(0);
+        basicDataSource.setMaxWaitMillis(100);
+        return basicDataSource;
+    }
+}
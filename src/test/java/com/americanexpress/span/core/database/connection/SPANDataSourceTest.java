@@ -24,6 +24,13 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.americanexpress.span.core.SPANConfigHolderTest.resetHoldSPANConfigForTesting;
 
@@ -81,4 +88,55 @@ public class SPANDataSourceTest {
 
     }
 
+    @Test
+    public void testResolve() throws Exception {
+        resetHoldSPANConfigForTesting();
+        SPANInitialization.initialize(new PropertyConfiguration() {
+            public String getSPANConfigFileName(){
+                return "SPANConfigWithDriverClass.yaml";
+           }
+        });
+
+        SPRegistration registration = SPANDataSource.getInstance().resolve("PROC_ID_3");
+
+        Assert.assertEquals("PROC_ID_3", registration.getSpUserDefinedKey());
+        Assert.assertEquals("SPAN-DB_ID_1", registration.getSpanUserDefinedKey());
+        Assert.assertEquals("PROC_NAME_2", registration.getSPUserDefineKey().getProcedure());
+        Assert.assertEquals("DB1", registration.getDataSourceDetails().getDatabase());
+        // Stored Procedures of the same SPAN User Defined key share the pool
+        Assert.assertSame(registration.getDataSource(), SPANDataSource.getInstance().getDataSource("PROC_ID_4"));
+        Assert.assertNull(SPANDataSource.getInstance().resolve("UNKNOWN-KEY"));
+        Assert.assertNull(SPANDataSource.getInstance().resolve(null));
+    }
+
+    @Test
+    public void testGetInstanceCreatesSingleInstance() throws Exception {
+        resetHoldSPANConfigForTesting();
+        SPANInitialization.initialize(new PropertyConfiguration() {
+            public String getSPANConfigFileName(){
+                return "SPANConfigWithDriverClass.yaml";
+           }
+        });
+
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<SPANDataSource>> instances = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Callable<SPANDataSource> getInstance = () -> {
+                    start.await();
+                    return SPANDataSource.getInstance();
+                };
+                instances.add(executor.submit(getInstance));
+            }
+            start.countDown();
+            for (Future<SPANDataSource> instance : instances) {
+                Assert.assertSame(SPANDataSource.getInstance(), instance.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers.impl;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.americanexpress.span.core.database.SPExecutor;
+import com.americanexpress.span.core.database.handlers.Converter;
+import com.americanexpress.span.utility.ThreadContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConversionStatisticsTest {
+
+    private final FieldTransformationImpl fieldTransformation = new FieldTransformationImpl();
+
+    @Before
+    public void setUp() {
+        ConversionStatistics.reset();
+        ThreadContext.set(SPExecutor.MDC_SP_KEY, "TEST-SP-KEY");
+    }
+
+    @After
+    public void tearDown() {
+        ThreadContext.removeKey(SPExecutor.MDC_SP_KEY);
+        ThreadContext.removeKey(SPExecutor.MDC_FIELD);
+        ConversionStatistics.setSummaryInterval(1, TimeUnit.MINUTES);
+        ConversionStatistics.reset();
+    }
+
+    @Test
+    public void testLossyConversionsAreCounted() {
+        ThreadContext.set(SPExecutor.MDC_FIELD, "fieldA");
+        for (int i = 0; i < 3; i++) {
+            fieldTransformation.transform(5L, Integer.class);
+        }
+        ThreadContext.set(SPExecutor.MDC_FIELD, "fieldB");
+        fieldTransformation.transform(BigDecimal.ONE, Double.class);
+        // Exact conversions are not counted
+        fieldTransformation.transform(5, Long.class);
+
+        List<ConversionCount> counts = ConversionStatistics.getCounts();
+        assertEquals(2, counts.size());
+        for (ConversionCount count : counts) {
+            assertEquals("TEST-SP-KEY", count.getSpUserDefineKey());
+            if ("fieldA".equals(count.getField())) {
+                assertEquals(Long.class, count.getSourceType());
+                assertEquals(Integer.class, count.getTargetType());
+                assertEquals(3, count.getCount());
+            } else {
+                assertEquals(BigDecimal.class, count.getSourceType());
+                assertEquals(Double.class, count.getTargetType());
+                assertEquals(1, count.getCount());
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentConversions() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                ThreadContext.set(SPExecutor.MDC_SP_KEY, "TEST-SP-KEY");
+                ThreadContext.set(SPExecutor.MDC_FIELD, "fieldA");
+                for (int i = 0; i < 1000; i++) {
+                    fieldTransformation.transform(1.5d, Long.class);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<ConversionCount> counts = ConversionStatistics.getCounts();
+        assertEquals(1, counts.size());
+        assertEquals(4000, counts.get(0).getCount());
+        assertTrue(counts.get(0).toString().contains("sourceType=Double, targetType=Long"));
+    }
+
+    @Test
+    public void testColumnConverterCountsWithResolvedCounter() {
+        Converter<Object, Object> converter = Converters.find(Long.class, Integer.class, "TEST-SP-KEY", "fieldC");
+        // The counter of the column is resolved once, the ThreadContext is not read for every value
+        ThreadContext.set(SPExecutor.MDC_FIELD, "fieldD");
+        for (int i = 0; i < 3; i++) {
+            assertEquals(5, converter.convert(5L));
+        }
+        // Exact conversions have no counter
+        assertEquals(5L, Converters.find(Long.class, Long.class, "TEST-SP-KEY", "fieldC").convert(5L));
+
+        List<ConversionCount> counts = ConversionStatistics.getCounts();
+        assertEquals(1, counts.size());
+        assertEquals("fieldC", counts.get(0).getField());
+        assertEquals(3, counts.get(0).getCount());
+    }
+
+    @Test
+    public void testSummaryIsLoggedEveryInterval() throws InterruptedException {
+        Logger logger = (Logger) LoggerFactory.getLogger(FieldTransformationImpl.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            ConversionStatistics.setSummaryInterval(50, TimeUnit.MILLISECONDS);
+            ThreadContext.set(SPExecutor.MDC_FIELD, "fieldA");
+            fieldTransformation.transform(5L, Integer.class);
+
+            // The last conversion is reported without any further conversion
+            long deadline = System.currentTimeMillis() + 10_000L;
+            while (!hasSummary(appender)) {
+                assertTrue("Summary not logged within 10 seconds", System.currentTimeMillis() < deadline);
+                Thread.sleep(20);
+            }
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    private static boolean hasSummary(final ListAppender<ILoggingEvent> appender) {
+        synchronized (appender) {
+            return appender.list.stream().anyMatch(event -> event.getLevel() == Level.WARN
+                    && event.getFormattedMessage().contains("fieldA") && event.getFormattedMessage().contains("count=1"));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers.impl;
+
+import com.americanexpress.span.exceptions.SPANException;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ConvertersTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private final FieldTransformationImpl fieldTransformation = new FieldTransformationImpl();
+
+    @After
+    public void tearDown() {
+        Converters.unregister(String.class, UUID.class);
+        Converters.unregister(Number.class, Instant.class);
+        Converters.unregister(String.class, Integer.class);
+    }
+
+    @Test
+    public void testLongToBigDecimalIsExact() {
+        long value = (1L << 53) + 1;
+        assertEquals(BigDecimal.valueOf(value), fieldTransformation.transform(value, BigDecimal.class));
+        assertEquals(BigInteger.valueOf(value), fieldTransformation.transform(value, BigInteger.class));
+    }
+
+    @Test
+    public void testConverterIsResolvedOnce() {
+        assertSame(Converters.find(Long.class, BigDecimal.class), Converters.find(Long.class, BigDecimal.class));
+        assertSame(Converters.find(Integer.class, int.class), Converters.find(Integer.class, int.class));
+    }
+
+    @Test
+    public void testRegisteredConverter() {
+        UUID uuid = UUID.randomUUID();
+        Converters.register(String.class, UUID.class, UUID::fromString);
+
+        assertEquals(uuid, fieldTransformation.transform(uuid.toString(), UUID.class));
+    }
+
+    @Test
+    public void testRegisteredConverterForSupertype() {
+        Converters.register(Number.class, Instant.class, value -> Instant.ofEpochMilli(value.longValue()));
+
+        assertEquals(Instant.ofEpochMilli(1000), fieldTransformation.transform(1000L, Instant.class));
+        assertEquals(Instant.ofEpochMilli(1000), fieldTransformation.transform(BigDecimal.valueOf(1000), Instant.class));
+    }
+
+    @Test
+    public void testRegisteredConverterReplacesBuiltIn() {
+        Converters.register(String.class, Integer.class, value -> Integer.valueOf(value.trim()));
+        assertEquals(Integer.valueOf(10), fieldTransformation.transform(" 10 ", int.class));
+
+        Converters.unregister(String.class, Integer.class);
+        expectedException.expect(NumberFormatException.class);
+        fieldTransformation.transform(" 10 ", int.class);
+    }
+
+    @Test
+    public void testUnsupportedTarget() {
+        expectedException.expect(SPANException.class);
+        expectedException.expectMessage("SPAN framework only support following types: Integer, Float, Double, String, BigDecimal, BigInteger, Boolean. "
+                + "class java.util.UUID is not supported");
+        fieldTransformation.transform("not registered", UUID.class);
+    }
+}
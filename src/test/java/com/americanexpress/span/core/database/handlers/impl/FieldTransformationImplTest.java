@@ -91,8 +91,8 @@ public class FieldTransformationImplTest {
 
     @Test
     public void testBigDecimal() {
-        assertEquals(BigDecimal.valueOf(10.0), fieldTransformation.transform(Integer.valueOf(10), BigDecimal.class));
-        assertEquals(BigDecimal.valueOf(10.0), fieldTransformation.transform(Long.valueOf(10L), BigDecimal.class));
+        assertEquals(BigDecimal.valueOf(10), fieldTransformation.transform(Integer.valueOf(10), BigDecimal.class));
+        assertEquals(BigDecimal.valueOf(10), fieldTransformation.transform(Long.valueOf(10L), BigDecimal.class));
         assertThat("Float to BigDecimal Value",
                 Math.abs(BigDecimal.valueOf(10.1).subtract((BigDecimal) fieldTransformation.transform(Float.valueOf(10.1F), BigDecimal.class)).doubleValue()),
                 lessThanOrEqualTo(0.00001D));
@@ -222,5 +222,31 @@ public class FieldTransformationImplTest {
         fieldTransformation.transform("", LocalDateTime.class);
     }
 
+    @Test
+    public void testTransformColumn() {
+        FieldTransformationImpl<Integer> intTransformation = new FieldTransformationImpl<>();
+        int[] ints = (int[]) intTransformation.transformColumn(new Object[]{1, 2L, null, "4", 0}, 4, int.class);
+        assertEquals(4, ints.length);
+        assertEquals(1, ints[0]);
+        assertEquals(2, ints[1]);
+        assertEquals(4, ints[3]);
+
+        FieldTransformationImpl<Double> doubleTransformation = new FieldTransformationImpl<>();
+        double[] doubles = (double[]) doubleTransformation.transformColumn(new Object[]{1.5d, BigDecimal.ONE}, 2, double.class);
+        assertEquals(1.5d, doubles[0]);
+        assertEquals(1d, doubles[1]);
+
+        FieldTransformationImpl<BigDecimal> bigDecimalTransformation = new FieldTransformationImpl<>();
+        BigDecimal[] bigDecimals = (BigDecimal[]) bigDecimalTransformation.transformColumn(new Object[]{10L, null, "2.5"}, 3, BigDecimal.class);
+        assertEquals(BigDecimal.valueOf(10), bigDecimals[0]);
+        assertNull(bigDecimals[1]);
+        assertEquals(new BigDecimal("2.5"), bigDecimals[2]);
+    }
 
+    @Test
+    public void testTransformColumnExcep() {
+        expectedException.expect(SPANException.class);
+        expectedException.expectMessage("Cannot transform type class java.lang.String to LocalDate.");
+        new FieldTransformationImpl<LocalDate>().transformColumn(new Object[]{LocalDate.now(), ""}, 2, LocalDate.class);
+    }
 }
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.handlers.impl;
+
+import com.americanexpress.span.annotation.ThreadSafe;
+import com.americanexpress.span.core.database.handlers.FieldTransformation;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class FieldTransformationsTest {
+
+    @Test
+    public void testDefaultTransformationIsShared() throws ReflectiveOperationException {
+        assertTrue(FieldTransformations.isShared(FieldTransformationImpl.class));
+        assertSame(FieldTransformations.get(FieldTransformationImpl.class), FieldTransformations.get(FieldTransformationImpl.class));
+    }
+
+    @Test
+    public void testStatelessTransformationIsShared() throws ReflectiveOperationException {
+        assertTrue(FieldTransformations.isShared(Stateless.class));
+        assertSame(FieldTransformations.get(Stateless.class), FieldTransformations.get(Stateless.class));
+    }
+
+    @Test
+    public void testStatefulTransformationIsCreatedPerCall() throws ReflectiveOperationException {
+        assertFalse(FieldTransformations.isShared(Stateful.class));
+        @SuppressWarnings("unchecked")
+        FieldTransformation<String> first = FieldTransformations.get(Stateful.class);
+        @SuppressWarnings("unchecked")
+        FieldTransformation<String> second = FieldTransformations.get(Stateful.class);
+        assertNotSame(first, second);
+        assertEquals("1", first.transform("a", String.class));
+        assertEquals("1", second.transform("b", String.class));
+    }
+
+    @Test
+    public void testThreadSafeTransformationIsShared() throws ReflectiveOperationException {
+        assertTrue(FieldTransformations.isShared(AnnotatedStateful.class));
+        assertSame(FieldTransformations.get(AnnotatedStateful.class), FieldTransformations.get(AnnotatedStateful.class));
+    }
+
+    @Test(expected = InstantiationException.class)
+    public void testTransformationWithoutNoArgConstructor() throws ReflectiveOperationException {
+        FieldTransformations.get(NoArgConstructorMissing.class);
+    }
+
+    public static class Stateless implements FieldTransformation<String> {
+
+        @Override
+        public String transform(final Object fieldValue, final Class<String> targetClass) {
+            return String.valueOf(fieldValue);
+        }
+    }
+
+    public static class Stateful implements FieldTransformation<String> {
+
+        private int calls;
+
+        @Override
+        public String transform(final Object fieldValue, final Class<String> targetClass) {
+            return String.valueOf(++calls);
+        }
+    }
+
+    @ThreadSafe
+    public static class AnnotatedStateful extends Stateful {
+    }
+
+    public static class NoArgConstructorMissing implements FieldTransformation<String> {
+
+        public NoArgConstructorMissing(final String value) {
+        }
+
+        @Override
+        public String transform(final Object fieldValue, final Class<String> targetClass) {
+            return null;
+        }
+    }
+}
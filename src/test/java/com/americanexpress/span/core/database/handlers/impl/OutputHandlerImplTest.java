@@ -37,7 +37,9 @@ import java.util.Map;
 import static com.americanexpress.span.core.SPANConfigHolderTest.resetHoldSPANConfigForTesting;
 import static junit.framework.TestCase.assertEquals;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /***
@@ -818,6 +820,14 @@ public class OutputHandlerImplTest {
         when(callableStatement.getObject("outputParameterBigDecimal")).thenReturn(new BigDecimal(1_000_000_000D));
         when(callableStatement.getObject("outputParameterBoolean")).thenReturn(true);
         when(callableStatement.getObject("outputParameterBooleanObj")).thenReturn(Boolean.TRUE);
+        // Output parameters registered with the SQL type of their datamember are read with the typed getter
+        when(callableStatement.getString("outputParamString")).thenReturn("fieldAValue");
+        when(callableStatement.getInt("outputParamInt")).thenReturn(100);
+        when(callableStatement.getInt("outputParamInteger")).thenReturn(1000);
+        when(callableStatement.getDouble("outputParameterDouble")).thenReturn(1_000_000.0);
+        when(callableStatement.getDouble("outputParameterDoubleObj")).thenReturn(10_000_000.0);
+        when(callableStatement.getBoolean("outputParameterBoolean")).thenReturn(true);
+        when(callableStatement.getBoolean("outputParameterBooleanObj")).thenReturn(true);
     }
 
     @Test
@@ -972,6 +982,7 @@ public class OutputHandlerImplTest {
     public void testOutputHandlerSQLException() throws SQLException {
         reset(callableStatement);
         when(callableStatement.getObject(anyString())).thenThrow(new SQLException("Simulating db failure."));
+        when(callableStatement.getString(anyString())).thenThrow(new SQLException("Simulating db failure."));
         expectedEx.expect(SPANException.class);
         expectedEx.expectMessage("Exception while setting object of class: class com.americanexpress.span.core.database.handlers.impl.OutputHandlerImplTest$SPOutputTestClass. " +
                 "Exception Type: class java.sql.SQLException. Exception Message: Simulating db failure. Query: null Field: class java.lang.String fieldString");
@@ -1086,5 +1097,38 @@ public class OutputHandlerImplTest {
 
     }
 
+    public static class SPOutputTypedTestClass {
 
-}
\ No newline at end of file
+        @Field(name = "outputParamInt")
+        private int fieldInt;
+
+        @Field(name = "outputParamInteger", default_value = "99")
+        private Integer fieldInteger;
+
+        @Field(name = "outputParameterBigDecimal")
+        private BigDecimal fieldBigDecimal;
+    }
+
+    /**
+     * Output parameters registered with the SQL type of their datamember are read with the getter of that type.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testOutputHandlerTypedGetters() throws SQLException {
+        when(callableStatement.getInt("outputParamInt")).thenReturn(100);
+        when(callableStatement.getInt("outputParamInteger")).thenReturn(0);
+        when(callableStatement.wasNull()).thenReturn(false, true);
+
+        SPOutputTypedTestClass outputParameterTestObj = new OutputHandlerImpl<SPOutputTypedTestClass>()
+                .processSPOutputParameters(callableStatement, SPOutputTypedTestClass.class);
+
+        assertEquals(100, outputParameterTestObj.fieldInt);
+        assertEquals(Integer.valueOf(99), outputParameterTestObj.fieldInteger);
+        // BigDecimal is registered as DOUBLE, it is read with getObject and transformed
+        assertEquals(0, BigDecimal.valueOf(1_000_000_000D).compareTo(outputParameterTestObj.fieldBigDecimal));
+        verify(callableStatement, never()).getObject("outputParamInt");
+        // The SQL type is known from the registration, the driver is not asked to describe the parameters
+        verify(callableStatement, never()).getParameterMetaData();
+    }
+}
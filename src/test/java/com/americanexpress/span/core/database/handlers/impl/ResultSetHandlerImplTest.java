@@ -32,13 +32,23 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /***
@@ -880,5 +890,150 @@ public class ResultSetHandlerImplTest {
 
     }
 
+    public static class ResultSetTypedTestClass {
 
-}
\ No newline at end of file
+        @Field(name = "resultSetInt")
+        private int fieldInt;
+
+        @Field(name = "resultSetString")
+        private String fieldString;
+
+        @Field(name = "resultSetBigDecimal", default_value = "7")
+        private BigDecimal fieldBigDecimal;
+
+        @Field(name = "resultSetMissing", default_value = "42")
+        private Integer fieldMissing;
+    }
+
+    /**
+     * The columns are resolved once per ResultSet through ResultSetMetaData and read with the getter of their type.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testResultSetHandlerTypedGetters() throws SQLException {
+        reset(resultSet);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, true, false);
+        mockColumnLabels(metaData, "RESULTSETINT", "resultSetString", "resultSetBigDecimal");
+        when(metaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(metaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(metaData.getColumnType(3)).thenReturn(Types.DECIMAL);
+        when(resultSet.getInt(1)).thenReturn(100, 200);
+        when(resultSet.getString(2)).thenReturn("fieldAValue");
+        when(resultSet.getBigDecimal(3)).thenReturn(BigDecimal.TEN, null);
+
+        List<ResultSetTypedTestClass> listRs = new ResultSetHandlerImpl<ResultSetTypedTestClass>()
+                .processResultSet(resultSet, ResultSetTypedTestClass.class);
+
+        assertEquals(100, listRs.get(0).fieldInt);
+        assertEquals(200, listRs.get(1).fieldInt);
+        assertEquals("fieldAValue", listRs.get(1).fieldString);
+        assertEquals(BigDecimal.TEN, listRs.get(0).fieldBigDecimal);
+        // SQL NULL and missing columns get the default value
+        assertEquals(0, BigDecimal.valueOf(7).compareTo(listRs.get(1).fieldBigDecimal));
+        assertEquals(Integer.valueOf(42), listRs.get(0).fieldMissing);
+        assertEquals(Integer.valueOf(42), listRs.get(1).fieldMissing);
+        verify(metaData, times(1)).getColumnCount();
+        verify(resultSet, never()).findColumn(anyString());
+        verify(resultSet, never()).getObject(anyString());
+        verify(resultSet, never()).getObject(anyInt());
+    }
+
+    /**
+     * A failure to read the ResultSetMetaData fails the ResultSet, the columns are not reported as missing.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testResultSetHandlerMetaDataFailure() throws SQLException {
+        reset(resultSet);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenThrow(new SQLException("ResultSet is closed"));
+
+        try {
+            new ResultSetHandlerImpl<ResultSetTypedTestClass>().processResultSet(resultSet, ResultSetTypedTestClass.class);
+            fail("SPANException expected");
+        } catch (SPANException e) {
+            assertTrue(e.getMessage().contains("ResultSet is closed"));
+        }
+        verify(resultSet, never()).next();
+    }
+
+    private static void mockColumnLabels(final ResultSetMetaData metaData, final String... labels) throws SQLException {
+        when(metaData.getColumnCount()).thenReturn(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            when(metaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+        }
+    }
+
+    /**
+     * The row mapper of a ResultSet resolves its columns once, and is independent of the mappers of other ResultSets.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testNewRowMapper() throws SQLException {
+        ResultSet other = mock(ResultSet.class);
+        when(other.getObject("resultSetInt")).thenReturn(5);
+        reset(resultSet);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        mockColumnLabels(metaData, "RESULTSETINT", "resultSetString", "resultSetBigDecimal");
+        when(metaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(metaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(metaData.getColumnType(3)).thenReturn(Types.DECIMAL);
+        when(resultSet.getInt(1)).thenReturn(100, 200);
+
+        ResultSetHandlerImpl<ResultSetTypedTestClass> handler = new ResultSetHandlerImpl<>();
+        Function<ResultSet, ResultSetTypedTestClass> rowMapper = handler.newRowMapper(resultSet, ResultSetTypedTestClass.class);
+        Function<ResultSet, ResultSetTypedTestClass> otherRowMapper = handler.newRowMapper(other, ResultSetTypedTestClass.class);
+
+        assertEquals(100, rowMapper.apply(resultSet).fieldInt);
+        assertEquals(5, otherRowMapper.apply(other).fieldInt);
+        assertEquals(200, rowMapper.apply(resultSet).fieldInt);
+        verify(resultSet, times(1)).getMetaData();
+        verify(metaData, times(1)).getColumnCount();
+    }
+
+    /**
+     * In block mode the columns read with getObject are transformed column by column at the end of every block.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testResultSetHandlerBlockMode() throws SQLException {
+        reset(resultSet);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        mockColumnLabels(metaData, "RESULTSETINT", "resultSetString", "resultSetBigDecimal");
+        when(metaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+        when(metaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(metaData.getColumnType(3)).thenReturn(Types.DOUBLE);
+        when(resultSet.getObject(1)).thenReturn("100", "200", "300");
+        when(resultSet.getString(2)).thenReturn("a", "b", "c");
+        when(resultSet.getObject(3)).thenReturn(1.5d, null, 2.5d);
+
+        ResultSetHandlerImpl<ResultSetTypedTestClass> handler = new ResultSetHandlerImpl<>(2);
+        List<ResultSetTypedTestClass> listRs = handler.processResultSet(resultSet, ResultSetTypedTestClass.class);
+
+        assertEquals(2, handler.getBlockSize());
+        assertEquals(3, listRs.size());
+        assertEquals(100, listRs.get(0).fieldInt);
+        assertEquals(300, listRs.get(2).fieldInt);
+        assertEquals("b", listRs.get(1).fieldString);
+        assertEquals(BigDecimal.valueOf(1.5d), listRs.get(0).fieldBigDecimal);
+        assertEquals(0, BigDecimal.valueOf(7).compareTo(listRs.get(1).fieldBigDecimal));
+        assertEquals(BigDecimal.valueOf(2.5d), listRs.get(2).fieldBigDecimal);
+        assertEquals(Integer.valueOf(42), listRs.get(2).fieldMissing);
+        verify(resultSet, times(4)).next();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testResultSetHandlerInvalidBlockSize() {
+        new ResultSetHandlerImpl<ResultSetTypedTestClass>(0);
+    }
+}
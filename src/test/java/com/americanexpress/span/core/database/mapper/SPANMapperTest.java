@@ -0,0 +1,124 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.mapper;
+
+import com.americanexpress.span.core.database.comptest.generatedmapper.SPOutput;
+import com.americanexpress.span.core.database.comptest.generatedmapper.SPOutputSPANMapper;
+import com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSet;
+import com.americanexpress.span.core.database.comptest.generatedmapper.SPResultSetSPANMapper;
+import com.americanexpress.span.core.database.SPExecutor;
+import com.americanexpress.span.core.database.metrics.InMemoryMetrics;
+import com.americanexpress.span.core.database.metrics.SPANMetricsRegistry;
+import com.americanexpress.span.utility.ThreadContext;
+import org.junit.Test;
+
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SPANMapperTest {
+
+    /**
+     * The columns are resolved once per ResultSet and read with the typed getters, a missing column gets the default value.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testProcessResultSet() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("RS_INT");
+        when(metaData.getColumnLabel(2)).thenReturn("rs_str");
+        when(metaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(metaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSet.getInt(1)).thenReturn(100, 200);
+        when(resultSet.getString(2)).thenReturn("a", null);
+
+        List<SPResultSet> rows = new SPResultSetSPANMapper().processResultSet(resultSet, SPResultSet.class);
+
+        assertEquals(2, rows.size());
+        assertEquals(100, rows.get(0).getRsInt());
+        assertEquals("a", rows.get(0).getRsString());
+        assertEquals(200, rows.get(1).getRsInt());
+        assertEquals("", rows.get(1).getRsString());
+        assertEquals(Integer.valueOf(0), rows.get(0).getRsInteger());
+        verify(resultSet, times(1)).getMetaData();
+        verify(metaData, times(1)).getColumnCount();
+        verify(resultSet, never()).findColumn(anyString());
+        verify(resultSet, never()).getObject(anyString());
+        verify(resultSet, never()).getObject(anyInt());
+    }
+
+    /**
+     * The output parameters are read with the typed getter of the SQL type they are registered with.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testProcessSPOutputParameters() throws SQLException {
+        CallableStatement callableStatement = mock(CallableStatement.class);
+        when(callableStatement.getInt("out_int")).thenReturn(100);
+        when(callableStatement.getString("out_str")).thenReturn("a");
+        when(callableStatement.getObject("out_timestamp")).thenReturn(LocalDateTime.of(2020, 1, 1, 0, 0));
+
+        SPOutput output = new SPOutputSPANMapper().processSPOutputParameters(callableStatement, SPOutput.class);
+
+        assertEquals(100, output.getOutInt());
+        assertEquals("a", output.getOutString());
+        verify(callableStatement, never()).getObject("out_int");
+        verify(callableStatement, never()).getObject("out_str");
+    }
+
+    /**
+     * The values converted by the generated mappers are recorded the same way as the reflection based handlers.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testRecordConvertedValues() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        CallableStatement callableStatement = mock(CallableStatement.class);
+        when(callableStatement.getObject("out_timestamp")).thenReturn(LocalDateTime.of(2020, 1, 1, 0, 0));
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        SPANMetricsRegistry.setMetrics(metrics);
+        ThreadContext.set(SPExecutor.MDC_SP_KEY, "SP-1");
+        try {
+            new SPResultSetSPANMapper().processResultSet(resultSet, SPResultSet.class);
+            new SPOutputSPANMapper().processSPOutputParameters(callableStatement, SPOutput.class);
+        } finally {
+            ThreadContext.removeKey(SPExecutor.MDC_SP_KEY);
+            SPANMetricsRegistry.setMetrics(null);
+        }
+
+        // 2 rows of 13 datamembers and the 14 datamembers of the output parameters
+        assertEquals(40, metrics.getProcedureStats("SP-1").getConvertedValues());
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.metrics;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class InMemoryMetricsTest {
+
+    @After
+    public void tearDown() {
+        SPANMetricsRegistry.setMetrics(null);
+    }
+
+    @Test
+    public void testRecord() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        metrics.recordCall("SP-1", "DB-1", 1_000, true);
+        metrics.recordCall("SP-1", "DB-1", 3_000, false);
+        metrics.recordCall("SP-2", "DB-1", 2_000, true);
+        metrics.recordCall("SP-3", null, 2_000, true);
+        metrics.recordRows("SP-1", 1, 10);
+        metrics.recordRows("SP-1", 1, 5);
+        metrics.recordRows("SP-1", 2, 1);
+        metrics.recordConvertedValues("SP-1", 32);
+        metrics.recordConvertedValues(null, 8);
+
+        CallStats procedureStats = metrics.getProcedureStats("SP-1");
+        assertEquals(2, procedureStats.getCallCount());
+        assertEquals(1, procedureStats.getErrorCount());
+        assertEquals(3_000, procedureStats.getLatency().getMax());
+        assertEquals(Long.valueOf(15), procedureStats.getRowsByResultSet().get(1));
+        assertEquals(Long.valueOf(1), procedureStats.getRowsByResultSet().get(2));
+        assertEquals(32, procedureStats.getConvertedValues());
+
+        CallStats dataSourceStats = metrics.getDataSourceStats("DB-1");
+        assertEquals(3, dataSourceStats.getCallCount());
+        assertEquals(1, dataSourceStats.getErrorCount());
+        assertTrue(dataSourceStats.getRowsByResultSet().isEmpty());
+
+        metrics.reset();
+        assertNull(metrics.getProcedureStats("SP-1"));
+        assertNull(metrics.getDataSourceStats("DB-1"));
+    }
+
+    @Test
+    public void testRegistry() {
+        assertSame(NoOpMetrics.INSTANCE, SPANMetricsRegistry.getMetrics());
+        assertFalse(SPANMetricsRegistry.isEnabled());
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        SPANMetricsRegistry.setMetrics(metrics);
+        assertSame(metrics, SPANMetricsRegistry.getMetrics());
+        assertTrue(SPANMetricsRegistry.isEnabled());
+        SPANMetricsRegistry.setMetrics(null);
+        assertSame(NoOpMetrics.INSTANCE, SPANMetricsRegistry.getMetrics());
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright 2020 American Express Travel Related Services Company, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.americanexpress.span.core.database.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        for (long value : new long[]{0, 1, 7, 8, 15, 16, 17, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue("value " + value, value <= LatencyHistogram.upperBoundOf(bucket));
+            assertTrue("value " + value, bucket == 0 || value > LatencyHistogram.upperBoundOf(bucket - 1));
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), snapshot.getMax());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), snapshot.getPercentile(100));
+        assertWithin(TimeUnit.MILLISECONDS.toNanos(500), snapshot.getPercentile(50));
+        assertWithin(TimeUnit.MILLISECONDS.toNanos(990), snapshot.getPercentile(99));
+        assertWithin(TimeUnit.MILLISECONDS.toNanos(1), snapshot.getPercentile(0));
+        assertEquals(500, snapshot.getMean() / TimeUnit.MILLISECONDS.toNanos(1), 1);
+        assertEquals(0, new LatencyHistogram().snapshot().getPercentile(99));
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, histogram.snapshot().getCount());
+        assertEquals(9_999, histogram.snapshot().getMax());
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        assertTrue("expected " + expected + " actual " + actual, actual >= expected && actual <= expected + expected / 8);
+    }
+}
@@ -13,6 +13,7 @@
  */
 package com.americanexpress.span.utility;
 
+import com.americanexpress.span.core.database.SPExecutor;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -49,5 +50,25 @@ public class ThreadContextTest {
         assertNull(ThreadContext.get(key));
     }
 
+    @Test
+    public void slotKeys() {
+        ThreadContext.set(null, value);
+        assertEquals(value, ThreadContext.get(null));
+        ThreadContext.set(SPExecutor.MDC_SQL_QUERY, "query");
+        ThreadContext.set(SPExecutor.MDC_FIELD, "field");
+        ThreadContext.set(SPExecutor.MDC_SP_KEY, "spKey");
+        ThreadContext.set(key, value);
+        assertEquals("query", ThreadContext.get(SPExecutor.MDC_SQL_QUERY));
+        assertEquals("field", ThreadContext.get(SPExecutor.MDC_FIELD));
+        assertEquals("spKey", ThreadContext.get(SPExecutor.MDC_SP_KEY));
+        ThreadContext.removeKey(SPExecutor.MDC_FIELD);
+        assertNull(ThreadContext.get(SPExecutor.MDC_FIELD));
+        assertEquals("query", ThreadContext.get(SPExecutor.MDC_SQL_QUERY));
+        assertEquals(value, ThreadContext.get(key));
+        ThreadContext.remove();
+        assertNull(ThreadContext.get(SPExecutor.MDC_SQL_QUERY));
+        assertNull(ThreadContext.get(key));
+    }
+
 
 }
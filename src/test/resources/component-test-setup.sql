@@ -113,3 +113,45 @@ P1: BEGIN ATOMIC
    OPEN clientcur2;
    OPEN clientcur3;
 END P1;
+---
+CREATE TABLE SCHEMA_ID.BATCHTEST(
+b_str VARCHAR(100),
+b_int INT
+)
+---
+CREATE PROCEDURE SCHEMA_ID.INSERT_BATCH (
+IN in_str VARCHAR(100),
+IN in_int INT
+)
+LANGUAGE SQL
+MODIFIES SQL DATA
+BEGIN ATOMIC
+   INSERT INTO SCHEMA_ID.BATCHTEST(b_str, b_int) VALUES (in_str, in_int);
+END
+---
+CREATE TABLE SCHEMA_ID.BATCHCHECKTEST(
+b_str VARCHAR(100),
+b_int INT CHECK (b_int > 0)
+)
+---
+CREATE PROCEDURE SCHEMA_ID.INSERT_BATCH_CHECK (
+IN in_str VARCHAR(100),
+IN in_int INT
+)
+LANGUAGE SQL
+MODIFIES SQL DATA
+BEGIN ATOMIC
+   INSERT INTO SCHEMA_ID.BATCHCHECKTEST(b_str, b_int) VALUES (in_str, in_int);
+END
+---
+CREATE PROCEDURE SCHEMA_ID.INSERT_BATCH_RS (
+IN in_str VARCHAR(100),
+IN in_int INT
+)
+LANGUAGE SQL
+MODIFIES SQL DATA DYNAMIC RESULT SETS 1
+P1: BEGIN ATOMIC
+   DECLARE clientcur CURSOR FOR SELECT * FROM SCHEMA_ID.BATCHTEST WHERE b_str = in_str;
+   INSERT INTO SCHEMA_ID.BATCHTEST(b_str, b_int) VALUES (in_str, in_int);
+   OPEN clientcur;
+END P1;